@@ -0,0 +1,678 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.configurable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+
+import io.helidon.config.Config;
+
+/**
+ * Bounded cache optimized for concurrent access.
+ * <p>
+ * Records are stored in a {@link java.util.concurrent.ConcurrentHashMap}, so lookups never block. The least recently used
+ * order is maintained in a separate list guarded by a lock that is only acquired by writers. Cache hits are recorded in
+ * small striped buffers and replayed against the list in batches, when the lock can be acquired without waiting. When
+ * these buffers are full, hits are not recorded at all - the eviction order is therefore an approximation of LRU under
+ * heavy concurrent load, and exact when the cache is used from a single thread.
+ * <p>
+ * Each record has a weight (defaults to {@code 1}, so capacity is a number of records). When the total weight exceeds
+ * the configured capacity, least recently used records are evicted.
+ * Records may optionally expire after a fixed time since they were written and/or since they were last read.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+public final class ConcurrentCache<K, V> {
+    /**
+     * Default capacity of the cache: {@value}.
+     */
+    public static final long DEFAULT_CAPACITY = 10000;
+
+    // last access time is only updated when older than this, so hot records do not bounce their cache line
+    private static final long ACCESS_TIME_TOLERANCE_NANOS = 1_000_000;
+    private static final int MAX_STRIPES = 64;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final int stripeMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final long capacity;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final boolean expiring;
+
+    // guarded by evictionLock
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private volatile long weight;
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentCache(Builder<K, V> builder) {
+        this.capacity = builder.capacity;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? 0 : builder.expireAfterWrite.toNanos();
+        this.expireAfterAccessNanos = builder.expireAfterAccess == null ? 0 : builder.expireAfterAccess.toNanos();
+        this.expiring = expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        this.stripeMask = stripes - 1;
+        this.readBuffers = new ReadBuffer[stripes];
+        for (int i = 0; i < stripes; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return a new fluent API builder instance
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Create an instance with default configuration.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return a new cache instance
+     * @see #DEFAULT_CAPACITY
+     */
+    public static <K, V> ConcurrentCache<K, V> create() {
+        Builder<K, V> builder = builder();
+        return builder.build();
+    }
+
+    /**
+     * Get a value from the cache.
+     * This method never blocks.
+     *
+     * @param key key to retrieve
+     * @return value if present and not expired, or empty
+     */
+    public Optional<V> get(K key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        if (expiring) {
+            long now = System.nanoTime();
+            if (isExpired(node, now)) {
+                expire(node);
+                misses.increment();
+                return Optional.empty();
+            }
+            if (expireAfterAccessNanos > 0 && now - node.accessTime > ACCESS_TIME_TOLERANCE_NANOS) {
+                node.accessTime = now;
+            }
+        }
+        hits.increment();
+        afterRead(node);
+        return Optional.of(node.value);
+    }
+
+    /**
+     * Put a value to the cache.
+     * If the total weight of the cache exceeds its capacity, least recently used records are evicted.
+     *
+     * @param key   key to add
+     * @param value value to add
+     * @return value that was already mapped or empty if the value was not mapped (or was expired)
+     */
+    public Optional<V> put(K key, V value) {
+        Objects.requireNonNull(key, "Key must not be null");
+        Objects.requireNonNull(value, "Value must not be null");
+
+        long recordWeight = weigher.applyAsLong(key, value);
+        if (recordWeight < 0) {
+            throw new IllegalArgumentException("Weight of a record must not be negative, but is " + recordWeight);
+        }
+        long now = expiring ? System.nanoTime() : 0;
+        Node<K, V> node = new Node<>(key, value, recordWeight, now);
+        Node<K, V> previous = map.put(key, node);
+
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            if (previous != null) {
+                unlink(previous);
+            }
+            // the record may have been removed or replaced by another thread in the meantime
+            if (map.get(key) == node) {
+                link(node);
+            }
+            evict(now);
+        } finally {
+            evictionLock.unlock();
+        }
+
+        if (previous == null || (expiring && isExpired(previous, now))) {
+            return Optional.empty();
+        }
+        return Optional.of(previous.value);
+    }
+
+    /**
+     * Remove a value from the cache.
+     *
+     * @param key key of the record to remove
+     * @return the value that was mapped to the key, or empty if none was (or was expired)
+     */
+    public Optional<V> remove(K key) {
+        Node<K, V> node = map.remove(key);
+        if (node == null) {
+            return Optional.empty();
+        }
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        if (expiring && isExpired(node, System.nanoTime())) {
+            return Optional.empty();
+        }
+        return Optional.of(node.value);
+    }
+
+    /**
+     * Remove all records matching the predicate.
+     *
+     * @param predicate predicate to test keys and values, returns {@code true} for records to remove
+     * @return number of removed records
+     */
+    public int removeIf(BiPredicate<? super K, ? super V> predicate) {
+        int removed = 0;
+        for (Node<K, V> node : map.values()) {
+            if (predicate.test(node.key, node.value) && removeNode(node)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Either return a cached value or compute it and cache it.
+     * In case this method is called in parallel for the same key, the value actually present in the map may be from
+     * any of the calls.
+     * This method always returns either the existing value from the map, or the value provided by the supplier. It
+     * never returns a result from another thread's supplier.
+     *
+     * @param key           key to check/insert value for
+     * @param valueSupplier supplier called if the value is not yet cached, or is invalid
+     * @return current value from the cache, or computed value from the supplier
+     */
+    public Optional<V> computeValue(K key, Supplier<Optional<V>> valueSupplier) {
+        Optional<V> currentValue = get(key);
+        if (currentValue.isPresent()) {
+            return currentValue;
+        }
+        Optional<V> newValue = valueSupplier.get();
+        newValue.ifPresent(theValue -> put(key, theValue));
+
+        return newValue;
+    }
+
+    /**
+     * Remove expired records and apply pending recorded reads to the eviction order.
+     * Expired records are otherwise removed lazily when accessed or evicted.
+     */
+    public void cleanUp() {
+        if (expiring) {
+            long now = System.nanoTime();
+            for (Node<K, V> node : map.values()) {
+                if (isExpired(node, now)) {
+                    expire(node);
+                }
+            }
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all records from the cache.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            map.clear();
+            Node<K, V> node = head;
+            while (node != null) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.linked = false;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            weight = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Current number of records in the cache.
+     *
+     * @return number of records currently cached (including expired records not yet removed)
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Current total weight of records in the cache.
+     *
+     * @return weight of all records, equals to {@link #size()} when no weigher is configured
+     */
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Capacity of this cache.
+     *
+     * @return maximal total weight of records in this cache
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Statistics of this cache.
+     *
+     * @return current statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // for unit testing and for LruCache
+    V directGet(K key) {
+        Node<K, V> node = map.get(key);
+        return node == null ? null : node.value;
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[stripe()];
+        if (buffer.offer(node) >= ReadBuffer.DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        // spread sequential thread ids across stripes
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & stripeMask;
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private void expire(Node<K, V> node) {
+        if (removeNode(node)) {
+            evictions.increment();
+        }
+    }
+
+    private boolean removeNode(Node<K, V> node) {
+        if (!map.remove(node.key, node)) {
+            // already removed or replaced by another thread, which takes care of the eviction order
+            return false;
+        }
+        evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            evictionLock.unlock();
+        }
+        return true;
+    }
+
+    // guarded by evictionLock
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drain(this);
+        }
+    }
+
+    // guarded by evictionLock
+    private void evict(long now) {
+        while (head != null && (weight > capacity || (expireAfterAccessNanos > 0 && isExpired(head, now)))) {
+            Node<K, V> victim = head;
+            unlink(victim);
+            if (map.remove(victim.key, victim)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    // guarded by evictionLock
+    private void moveToTail(Node<K, V> node) {
+        if (!node.linked || node == tail) {
+            return;
+        }
+        unlink(node);
+        link(node);
+    }
+
+    // guarded by evictionLock
+    private void link(Node<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        node.linked = true;
+        weight += node.weight;
+    }
+
+    // guarded by evictionLock
+    private void unlink(Node<K, V> node) {
+        if (!node.linked) {
+            return;
+        }
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        weight -= node.weight;
+    }
+
+    /**
+     * Statistics of a {@link ConcurrentCache}.
+     * Values are collected without synchronization and may be slightly inaccurate under concurrent access.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        private Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * Number of successful lookups.
+         *
+         * @return hit count
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Number of lookups of absent or expired records.
+         *
+         * @return miss count
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * Number of records evicted because the capacity of the cache was exceeded, or because they expired.
+         * Records removed explicitly are not counted.
+         *
+         * @return eviction count
+         */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Ratio of successful lookups to all lookups.
+         *
+         * @return hit rate, {@code 1.0} if there was no lookup yet
+         */
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{"
+                    + "hitCount=" + hitCount
+                    + ", missCount=" + missCount
+                    + ", evictionCount=" + evictionCount
+                    + '}';
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.common.configurable.ConcurrentCache}.
+     *
+     * @param <K> type of keys
+     * @param <V> type of values
+     */
+    public static class Builder<K, V> implements io.helidon.common.Builder<ConcurrentCache<K, V>> {
+        private long capacity = DEFAULT_CAPACITY;
+        private ToLongBiFunction<? super K, ? super V> weigher = (key, value) -> 1;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+
+        private Builder() {
+        }
+
+        @Override
+        public ConcurrentCache<K, V> build() {
+            return new ConcurrentCache<>(this);
+        }
+
+        /**
+         * Load configuration of this cache from configuration.
+         * <table class="config">
+         * <caption>Optional configuration parameters</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>capacity</td>
+         *     <td>{@value #DEFAULT_CAPACITY}</td>
+         *     <td>Maximal total weight of records in the cache, see {@link #capacity(long)}</td>
+         * </tr>
+         * <tr>
+         *     <td>expire-after-write</td>
+         *     <td>&nbsp;</td>
+         *     <td>Duration a record is valid after it was written, see {@link #expireAfterWrite(java.time.Duration)}</td>
+         * </tr>
+         * <tr>
+         *     <td>expire-after-access</td>
+         *     <td>&nbsp;</td>
+         *     <td>Duration a record is valid after it was last read, see {@link #expireAfterAccess(java.time.Duration)}</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration
+         * @return updated builder instance
+         */
+        public Builder<K, V> config(Config config) {
+            config.get("capacity").asLong().ifPresent(this::capacity);
+            config.get("expire-after-write").as(Duration.class).ifPresent(this::expireAfterWrite);
+            config.get("expire-after-access").as(Duration.class).ifPresent(this::expireAfterAccess);
+            return this;
+        }
+
+        /**
+         * Configure capacity of the cache.
+         *
+         * @param capacity maximal total weight of records in the cache before the least recently used ones are removed;
+         *                 without a {@link #weigher(java.util.function.ToLongBiFunction) weigher}, this is the maximal
+         *                 number of records
+         * @return updated builder instance
+         */
+        public Builder<K, V> capacity(long capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Configure a function to compute weight of each record.
+         * The weight is computed once when the record is added and must not be negative.
+         *
+         * @param weigher function to compute weight of a record
+         * @return updated builder instance
+         */
+        public Builder<K, V> weigher(ToLongBiFunction<? super K, ? super V> weigher) {
+            this.weigher = Objects.requireNonNull(weigher);
+            return this;
+        }
+
+        /**
+         * Configure records to expire after a fixed duration since they were added or replaced.
+         *
+         * @param duration time to live of a record
+         * @return updated builder instance
+         */
+        public Builder<K, V> expireAfterWrite(Duration duration) {
+            this.expireAfterWrite = duration;
+            return this;
+        }
+
+        /**
+         * Configure records to expire after a fixed duration since they were last read or written.
+         *
+         * @param duration maximal idle time of a record
+         * @return updated builder instance
+         */
+        public Builder<K, V> expireAfterAccess(Duration duration) {
+            this.expireAfterAccess = duration;
+            return this;
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long weight;
+        private final long writeTime;
+        private volatile long accessTime;
+
+        // guarded by evictionLock
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private boolean linked;
+
+        private Node(K key, V value, long weight, long now) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    /**
+     * A lossy single-stripe buffer of recorded reads.
+     * Any thread may offer, only the thread holding the eviction lock drains.
+     */
+    private static final class ReadBuffer<K, V> {
+        private static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+        private static final int DRAIN_THRESHOLD = SIZE / 2;
+
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        /**
+         * Record a read, dropping it if the buffer is full or contended.
+         *
+         * @return number of pending reads in the buffer
+         */
+        int offer(Node<K, V> node) {
+            long read = readCounter;
+            long write = writeCounter.get();
+            long pending = write - read;
+            if (pending >= SIZE) {
+                return SIZE;
+            }
+            if (writeCounter.compareAndSet(write, write + 1)) {
+                buffer.lazySet((int) (write & MASK), node);
+                return (int) pending + 1;
+            }
+            return (int) pending;
+        }
+
+        void drain(ConcurrentCache<K, V> cache) {
+            long read = readCounter;
+            long write = writeCounter.get();
+            while (read < write) {
+                int index = (int) (read & MASK);
+                Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // slot claimed, but not yet published
+                    break;
+                }
+                buffer.lazySet(index, null);
+                cache.moveToTail(node);
+                read++;
+            }
+            readCounter = read;
+        }
+    }
+}
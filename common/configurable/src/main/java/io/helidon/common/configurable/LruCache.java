@@ -15,20 +15,18 @@
  */
 package io.helidon.common.configurable;
 
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Optional;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import io.helidon.config.Config;
 
 /**
  * Least recently used cache.
- * This cache has a capacity. When the capacity is reached, the oldest record is removed from the cache when a new one
- * is added.
+ * This cache has a capacity. When the capacity is reached, the least recently used record is removed from the cache
+ * when a new one is added.
+ * <p>
+ * The cache is backed by a {@link io.helidon.common.configurable.ConcurrentCache}, so reads do not block. Under
+ * concurrent access, the eviction order is an approximation of LRU.
  *
  * @param <K> type of the keys of the map
  * @param <V> type of the values of the map
@@ -39,15 +37,14 @@ public final class LruCache<K, V> {
      */
     public static final int DEFAULT_CAPACITY = 10000;
 
-    private final LinkedHashMap<K, V> backingMap = new LinkedHashMap<>();
-    private final ReadWriteLock rwLock = new ReentrantReadWriteLock(true);
-    private final Lock readLock = rwLock.readLock();
-    private final Lock writeLock = rwLock.writeLock();
-
+    private final ConcurrentCache<K, V> delegate;
     private final int capacity;
 
     private LruCache(Builder<K, V> builder) {
         this.capacity = builder.capacity;
+        this.delegate = ConcurrentCache.<K, V>builder()
+                .capacity(capacity)
+                .build();
     }
 
     /**
@@ -81,37 +78,7 @@ public final class LruCache<K, V> {
      * @return value if present or empty
      */
     public Optional<V> get(K key) {
-        readLock.lock();
-
-        V value;
-        try {
-            value = backingMap.get(key);
-        } finally {
-            readLock.unlock();
-        }
-
-        if (null == value) {
-            return Optional.empty();
-        }
-
-        writeLock.lock();
-        try {
-            // make sure the value is the last in the map (I do ignore a race here, as it is not significant)
-            // if some other thread moved another record to the front, we just move ours before it
-
-            // TODO this hurts - we just need to move the key to the last position
-            // maybe this should be replaced with a list and a map?
-            value = backingMap.get(key);
-            if (null == value) {
-                return Optional.empty();
-            }
-            backingMap.remove(key);
-            backingMap.put(key, value);
-
-            return Optional.of(value);
-        } finally {
-            writeLock.unlock();
-        }
+        return delegate.get(key);
     }
 
     /**
@@ -121,13 +88,7 @@ public final class LruCache<K, V> {
      * @return the value that was mapped to the key, or empty if none was
      */
     public Optional<V> remove(K key) {
-
-        writeLock.lock();
-        try {
-            return Optional.ofNullable(backingMap.remove(key));
-        } finally {
-            writeLock.unlock();
-        }
+        return delegate.remove(key);
     }
 
     /**
@@ -138,23 +99,7 @@ public final class LruCache<K, V> {
      * @return value that was already mapped or empty if the value was not mapped
      */
     public Optional<V> put(K key, V value) {
-        writeLock.lock();
-        try {
-            V currentValue = backingMap.remove(key);
-            if (null == currentValue) {
-                // need to free space - we did not make the map smaller
-                if (backingMap.size() >= capacity) {
-                    Iterator<V> iterator = backingMap.values().iterator();
-                    iterator.next();
-                    iterator.remove();
-                }
-            }
-
-            backingMap.put(key, value);
-            return Optional.ofNullable(currentValue);
-        } finally {
-            writeLock.unlock();
-        }
+        return delegate.put(key, value);
     }
 
     /**
@@ -169,17 +114,7 @@ public final class LruCache<K, V> {
      * @return current value from the cache, or computed value from the supplier
      */
     public Optional<V> computeValue(K key, Supplier<Optional<V>> valueSupplier) {
-        // get is properly synchronized
-        Optional<V> currentValue = get(key);
-        if (currentValue.isPresent()) {
-            return currentValue;
-        }
-        Optional<V> newValue = valueSupplier.get();
-        // put is also properly synchronized - nevertheless we may replace the value more then once
-        // if called from parallel threads
-        newValue.ifPresent(theValue -> put(key, theValue));
-
-        return newValue;
+        return delegate.computeValue(key, valueSupplier);
     }
 
     /**
@@ -188,12 +123,7 @@ public final class LruCache<K, V> {
      * @return number of records currently cached
      */
     public int size() {
-        readLock.lock();
-        try {
-            return backingMap.size();
-        } finally {
-            readLock.unlock();
-        }
+        return delegate.size();
     }
 
     /**
@@ -205,9 +135,18 @@ public final class LruCache<K, V> {
         return capacity;
     }
 
+    /**
+     * Statistics of this cache.
+     *
+     * @return current statistics
+     */
+    public ConcurrentCache.Stats stats() {
+        return delegate.stats();
+    }
+
     // for unit testing
     V directGet(K key) {
-        return backingMap.get(key);
+        return delegate.directGet(key);
     }
 
     /**
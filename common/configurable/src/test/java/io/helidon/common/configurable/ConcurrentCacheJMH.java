@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.configurable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares throughput of cache hits of {@link ConcurrentCache} with an access ordered {@link LinkedHashMap}
+ * guarded by a single lock (which is how {@link LruCache} was implemented before).
+ * Run with different thread counts, e.g. {@code -t 1}, {@code -t 8}, to see how hits scale.
+ */
+@State(Scope.Benchmark)
+public class ConcurrentCacheJMH {
+
+    private static final int SIZE = 1024;
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 4, 16}) {
+            Options opt = new OptionsBuilder()
+                    .include(ConcurrentCacheJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    @Param({"concurrent", "synchronized"})
+    String type;
+
+    private ConcurrentCache<Integer, Integer> concurrentCache;
+    private Map<Integer, Integer> synchronizedMap;
+
+    @Setup
+    public void setup() {
+        concurrentCache = ConcurrentCache.<Integer, Integer>builder()
+                .capacity(SIZE)
+                .build();
+        synchronizedMap = Collections.synchronizedMap(new LinkedHashMap<>(SIZE, 0.75f, true));
+        for (int i = 0; i < SIZE; i++) {
+            concurrentCache.put(i, i);
+            synchronizedMap.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public Object hit() {
+        Integer key = ThreadLocalRandom.current().nextInt(SIZE);
+        if ("concurrent".equals(type)) {
+            return concurrentCache.get(key);
+        }
+        return synchronizedMap.get(key);
+    }
+}
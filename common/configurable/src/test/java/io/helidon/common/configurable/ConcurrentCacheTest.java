@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.configurable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Unit test for {@link ConcurrentCache}.
+ */
+class ConcurrentCacheTest {
+    @Test
+    void testLruBehavior() {
+        ConcurrentCache<Integer, Integer> theCache = ConcurrentCache.<Integer, Integer>builder().capacity(10).build();
+        for (int i = 0; i < 10; i++) {
+            theCache.put(i, i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(theCache.get(i), is(Optional.of(i)));
+        }
+        assertThat(theCache.get(0), is(Optional.of(0)));
+
+        theCache.put(10, 10);
+
+        assertThat(theCache.directGet(0), is(0));
+        assertThat(theCache.get(1), is(Optional.empty()));
+        assertThat(theCache.size(), is(10));
+    }
+
+    @Test
+    void testWeigher() {
+        ConcurrentCache<Integer, String> theCache = ConcurrentCache.<Integer, String>builder()
+                .capacity(10)
+                .weigher((key, value) -> value.length())
+                .build();
+
+        theCache.put(1, "aaaa");
+        theCache.put(2, "bbbb");
+        assertThat(theCache.weight(), is(8L));
+
+        theCache.put(3, "cccc");
+        assertThat(theCache.weight(), is(8L));
+        assertThat(theCache.get(1), is(Optional.empty()));
+
+        theCache.put(2, "b");
+        assertThat(theCache.weight(), is(5L));
+
+        // larger than the whole cache
+        theCache.put(4, "dddddddddddd");
+        assertThat(theCache.get(4), is(Optional.empty()));
+    }
+
+    @Test
+    void testExpireAfterWrite() throws InterruptedException {
+        ConcurrentCache<String, String> theCache = ConcurrentCache.<String, String>builder()
+                .expireAfterWrite(Duration.ofMillis(50))
+                .build();
+
+        theCache.put("one", "1");
+        assertThat(theCache.get("one"), is(Optional.of("1")));
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(theCache.get("one"), is(Optional.empty()));
+        assertThat(theCache.size(), is(0));
+    }
+
+    @Test
+    void testExpireAfterAccess() throws InterruptedException {
+        ConcurrentCache<String, String> theCache = ConcurrentCache.<String, String>builder()
+                .expireAfterAccess(Duration.ofMillis(50))
+                .build();
+
+        theCache.put("one", "1");
+        theCache.put("two", "2");
+        TimeUnit.MILLISECONDS.sleep(100);
+        theCache.cleanUp();
+        assertThat(theCache.size(), is(0));
+        assertThat(theCache.stats().evictionCount(), is(2L));
+    }
+
+    @Test
+    void testStats() {
+        ConcurrentCache<String, String> theCache = ConcurrentCache.<String, String>builder()
+                .capacity(1)
+                .build();
+
+        theCache.computeValue("one", () -> Optional.of("1"));
+        theCache.computeValue("one", () -> Optional.of("2"));
+        theCache.put("two", "2");
+
+        ConcurrentCache.Stats stats = theCache.stats();
+        assertThat(stats.hitCount(), is(1L));
+        assertThat(stats.missCount(), is(1L));
+        assertThat(stats.evictionCount(), is(1L));
+        assertThat(stats.hitRate(), is(0.5));
+    }
+
+    @Test
+    void testRemoveIfAndClear() {
+        ConcurrentCache<Integer, Integer> theCache = ConcurrentCache.create();
+        for (int i = 0; i < 10; i++) {
+            theCache.put(i, i);
+        }
+        assertThat(theCache.removeIf((key, value) -> value % 2 == 0), is(5));
+        assertThat(theCache.size(), is(5));
+        assertThat(theCache.weight(), is(5L));
+
+        theCache.clear();
+        assertThat(theCache.size(), is(0));
+        assertThat(theCache.weight(), is(0L));
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        ConcurrentCache<Integer, Integer> theCache = ConcurrentCache.<Integer, Integer>builder()
+                .capacity(100)
+                .build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    Random random = new Random();
+                    for (int j = 0; j < 20_000; j++) {
+                        int key = random.nextInt(300);
+                        switch (random.nextInt(4)) {
+                        case 0:
+                            theCache.put(key, key);
+                            break;
+                        case 1:
+                            theCache.remove(key);
+                            break;
+                        default:
+                            theCache.get(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(theCache.size(), lessThanOrEqualTo(100));
+        assertThat(theCache.weight(), is((long) theCache.size()));
+    }
+}
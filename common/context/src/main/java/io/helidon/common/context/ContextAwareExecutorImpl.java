@@ -16,9 +16,7 @@
 package io.helidon.common.context;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
@@ -35,8 +33,9 @@ import io.helidon.common.serviceloader.HelidonServiceLoader;
 class ContextAwareExecutorImpl implements ContextAwareExecutorService {
 
     @SuppressWarnings("rawtypes")
-    private static final List<DataPropagationProvider> PROVIDERS = HelidonServiceLoader
-            .builder(ServiceLoader.load(DataPropagationProvider.class)).build().asList();
+    private static final DataPropagationProvider[] PROVIDERS = HelidonServiceLoader
+            .builder(ServiceLoader.load(DataPropagationProvider.class)).build().asList()
+            .toArray(new DataPropagationProvider[0]);
 
     private final ExecutorService delegate;
 
@@ -123,18 +122,20 @@ class ContextAwareExecutorImpl implements ContextAwareExecutorService {
 
     }
 
-    @SuppressWarnings(value = "unchecked")
     protected <T> Callable<T> wrap(Callable<T> task) {
         Optional<Context> context = Contexts.context();
         if (context.isPresent()) {
-            Map<Class<?>, Object> properties = new HashMap<>();
-            PROVIDERS.forEach(provider -> properties.put(provider.getClass(), provider.data()));
+            Context ctx = context.get();
+            if (PROVIDERS.length == 0) {
+                return () -> Contexts.runInContext(ctx, task);
+            }
+            Object[] data = data();
             return () -> {
                 try {
-                    PROVIDERS.forEach(provider -> provider.propagateData(properties.get(provider.getClass())));
-                    return Contexts.runInContext(context.get(), task);
+                    propagateData(data);
+                    return Contexts.runInContext(ctx, task);
                 } finally {
-                    PROVIDERS.forEach(provider -> provider.clearData(properties.get(provider.getClass())));
+                    clearData(data);
                 }
             };
         } else {
@@ -142,22 +143,46 @@ class ContextAwareExecutorImpl implements ContextAwareExecutorService {
         }
     }
 
-    @SuppressWarnings(value = "unchecked")
     protected Runnable wrap(Runnable command) {
         Optional<Context> context = Contexts.context();
         if (context.isPresent()) {
-            Map<Class<?>, Object> properties = new HashMap<>();
-            PROVIDERS.forEach(provider -> properties.put(provider.getClass(), provider.data()));
+            Context ctx = context.get();
+            if (PROVIDERS.length == 0) {
+                return () -> Contexts.runInContext(ctx, command);
+            }
+            Object[] data = data();
             return () -> {
                 try {
-                    PROVIDERS.forEach(provider -> provider.propagateData(properties.get(provider.getClass())));
-                    Contexts.runInContext(context.get(), command);
+                    propagateData(data);
+                    Contexts.runInContext(ctx, command);
                 } finally {
-                    PROVIDERS.forEach(provider -> provider.clearData(properties.get(provider.getClass())));
+                    clearData(data);
                 }
             };
         } else {
             return command;
         }
     }
+
+    private static Object[] data() {
+        Object[] data = new Object[PROVIDERS.length];
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            data[i] = PROVIDERS[i].data();
+        }
+        return data;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void propagateData(Object[] data) {
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            PROVIDERS[i].propagateData(data[i]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void clearData(Object[] data) {
+        for (int i = 0; i < PROVIDERS.length; i++) {
+            PROVIDERS[i].clearData(data[i]);
+        }
+    }
 }
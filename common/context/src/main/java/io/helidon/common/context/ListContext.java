@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,21 +16,20 @@
 
 package io.helidon.common.context;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import io.helidon.common.LazyValue;
 
 /**
  * A {@link Context} implementation with deque registry.
+ * <p>
+ * Registries are copy-on-write, so lookups do not lock. Parent contexts of this type are traversed in a loop
+ * rather than by recursive calls.
  */
 class ListContext implements Context {
     private final AtomicLong contextCounter = new AtomicLong(1);
@@ -62,15 +61,21 @@ class ListContext implements Context {
 
     @Override
     public <T> Optional<T> get(Class<T> type) {
-        T result = registry.get(type);
-        if (result == null) {
-            if (parent == null) {
+        Objects.requireNonNull(type, "Parameter 'type' is null!");
+        ListContext current = this;
+        while (true) {
+            T result = current.registry.get(type);
+            if (result != null) {
+                return Optional.of(result);
+            }
+            Context next = current.parent;
+            if (next == null) {
                 return Optional.empty();
-            } else {
-                return parent.get(type);
             }
-        } else {
-            return Optional.of(result);
+            if (!(next instanceof ListContext)) {
+                return next.get(type);
+            }
+            current = (ListContext) next;
         }
     }
 
@@ -91,20 +96,24 @@ class ListContext implements Context {
     @Override
     public <T> Optional<T> get(Object classifier, Class<T> type) {
         Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
-        ClassifiedRegistry cr = classifiers.get(classifier);
-        if (cr != null) {
-            T result = cr.get(type);
-            if ((result == null) && (parent != null)) {
-                return parent.get(classifier, type);
-            } else {
-                return Optional.ofNullable(result);
+        Objects.requireNonNull(type, "Parameter 'type' is null!");
+        ListContext current = this;
+        while (true) {
+            ClassifiedRegistry cr = current.classifiers.get(classifier);
+            if (cr != null) {
+                T result = cr.get(type);
+                if (result != null) {
+                    return Optional.of(result);
+                }
             }
-        } else {
-            if (parent != null) {
-                return parent.get(classifier, type);
-            } else {
+            Context next = current.parent;
+            if (next == null) {
                 return Optional.empty();
             }
+            if (!(next instanceof ListContext)) {
+                return next.get(classifier, type);
+            }
+            current = (ListContext) next;
         }
     }
 
@@ -118,28 +127,29 @@ class ListContext implements Context {
         Class<T> getType();
     }
 
+    /**
+     * Copy-on-write registry. Each snapshot has its own cache of lookups by the requested type, so a lookup
+     * computed from an older snapshot can never be visible after a registration.
+     */
     private static class ClassifiedRegistry {
-        private final ReadWriteLock lock = new ReentrantReadWriteLock();
-        private final List<RegisteredItem<?>> content = new ArrayList<>();
+        private volatile Snapshot snapshot = Snapshot.EMPTY;
 
         // we actually want to do an instance equality
         @SuppressWarnings("ObjectEquality")
-        private void registerItem(RegisteredItem<?> item) {
-            Lock l = lock.writeLock();
-            try {
-                Class<?> c = item.getType();
-                l.lock();
-                for (int i = 0; i < content.size(); i++) {
-                    RegisteredItem<?> reg = content.get(i);
-                    if (c == reg.getType()) {
-                        content.remove(i);
-                        break;
-                    }
+        private synchronized void registerItem(RegisteredItem<?> item) {
+            RegisteredItem<?>[] content = snapshot.content;
+            Class<?> c = item.getType();
+            int size = content.length;
+            RegisteredItem<?>[] newContent = new RegisteredItem<?>[size + 1];
+            int index = 0;
+            for (RegisteredItem<?> reg : content) {
+                if (c == reg.getType()) {
+                    continue;
                 }
-                content.add(item);
-            } finally {
-                l.unlock();
+                newContent[index++] = reg;
             }
+            newContent[index++] = item;
+            snapshot = new Snapshot(index == newContent.length ? newContent : Arrays.copyOf(newContent, index));
         }
 
         <T> void register(T instance) {
@@ -154,20 +164,41 @@ class ListContext implements Context {
         }
 
         <T> T get(Class<T> type) {
-            Objects.requireNonNull(type, "Parameter 'type' is null!");
-            Lock l = lock.readLock();
-            try {
-                l.lock();
-                for (int i = content.size() - 1; i >= 0; i--) {
-                    RegisteredItem<?> item = content.get(i);
-                    if (type.isAssignableFrom(item.getType())) {
-                        return type.cast(item.get());
+            RegisteredItem<?> item = snapshot.find(type);
+            return (item == null) ? null : type.cast(item.get());
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new RegisteredItem<?>[0]);
+        // marks a type with no registered item
+        private static final RegisteredItem<?> NONE = new RegisteredInstance<>(Snapshot.class);
+
+        private final RegisteredItem<?>[] content;
+        private final ConcurrentHashMap<Class<?>, RegisteredItem<?>> resolved = new ConcurrentHashMap<>();
+
+        private Snapshot(RegisteredItem<?>[] content) {
+            this.content = content;
+        }
+
+        private RegisteredItem<?> find(Class<?> type) {
+            if (content.length == 0) {
+                return null;
+            }
+            RegisteredItem<?> item = resolved.get(type);
+            if (item == null) {
+                item = NONE;
+                // the last registered wins
+                for (int i = content.length - 1; i >= 0; i--) {
+                    RegisteredItem<?> candidate = content[i];
+                    if (type.isAssignableFrom(candidate.getType())) {
+                        item = candidate;
+                        break;
                     }
                 }
-            } finally {
-                l.unlock();
+                resolved.put(type, item);
             }
-            return null;
+            return (item == NONE) ? null : item;
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -185,4 +185,18 @@ public class ListContextTest {
         assertThat(context.get(classifier, String.class), is(Optional.of("bbb")));
         assertThat(counter.get(), is(1));
     }
+
+    @Test
+    public void registerAfterLookup() {
+        Context parent = Context.create();
+        Context context = Context.create(parent);
+        assertThat(context.get(CharSequence.class), is(Optional.empty()));
+        parent.register("parent");
+        assertThat(context.get(CharSequence.class), is(Optional.of("parent")));
+        context.register("aaa");
+        assertThat(context.get(CharSequence.class), is(Optional.of("aaa")));
+        context.register(new StringBuilder("bbb"));
+        assertThat(context.get(CharSequence.class).map(CharSequence::toString), is(Optional.of("bbb")));
+        assertThat(context.get(String.class), is(Optional.of("aaa")));
+    }
 }
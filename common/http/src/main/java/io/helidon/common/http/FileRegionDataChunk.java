@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link DataChunk} representing a region of a file.
+ * <p>
+ * Transports able to transfer file content directly (e.g. using {@code sendfile}) should
+ * check for this type and write the region without copying it through the heap. Other
+ * consumers can still access the region via {@link #data()}; in such case the whole region
+ * is read into memory on first access.
+ * <p>
+ * The underlying channel is closed when this chunk is {@link #release() released}.
+ */
+public final class FileRegionDataChunk implements DataChunk {
+
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+    private ByteBuffer[] data;
+    private boolean isReleased;
+    private CompletableFuture<DataChunk> writeFuture;
+
+    private FileRegionDataChunk(FileChannel channel, long position, long count) {
+        this.channel = Objects.requireNonNull(channel, "channel is null");
+        if (position < 0) {
+            throw new IllegalArgumentException("position must not be negative: " + position);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Create a new data chunk for a region of a file.
+     *
+     * @param channel  file channel, closed when the chunk is released
+     * @param position position of the first byte of the region
+     * @param count    number of bytes of the region
+     * @return a new data chunk
+     */
+    public static FileRegionDataChunk create(FileChannel channel, long position, long count) {
+        return new FileRegionDataChunk(channel, position, count);
+    }
+
+    /**
+     * The file channel of this region.
+     *
+     * @return file channel
+     */
+    public FileChannel channel() {
+        return channel;
+    }
+
+    /**
+     * Position of the first byte of this region in the file.
+     *
+     * @return position in the file
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Number of bytes of this region.
+     *
+     * @return number of bytes
+     */
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public ByteBuffer[] data() {
+        if (data == null) {
+            if (count > Integer.MAX_VALUE) {
+                throw new IllegalStateException("File region of " + count + " bytes cannot be read into memory");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) count);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            data = new ByteBuffer[] {buffer.flip()};
+        }
+        return data;
+    }
+
+    @Override
+    public <T> boolean isBackedBy(Class<T> clazz) {
+        return FileChannel.class.isAssignableFrom(clazz) || DataChunk.super.isBackedBy(clazz);
+    }
+
+    @Override
+    public int remaining() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isReleased() {
+        return isReleased;
+    }
+
+    @Override
+    public void release() {
+        if (!isReleased) {
+            isReleased = true;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing to do, the region has been consumed already
+            }
+        }
+    }
+
+    @Override
+    public void writeFuture(CompletableFuture<DataChunk> writeFuture) {
+        this.writeFuture = writeFuture;
+    }
+
+    @Override
+    public Optional<CompletableFuture<DataChunk>> writeFuture() {
+        return Optional.ofNullable(writeFuture);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.http;
+
+/**
+ * Well-known HTTP header names with precomputed case-insensitive hashes.
+ * <p>
+ * Names defined in {@link Http.Header} are found by their (cached) {@link String#hashCode()}, so no character of such
+ * a name is read to compute its case-insensitive hash; equal names are replaced by the constant instance, so later
+ * comparisons are mostly identity checks.
+ */
+final class HeaderNames {
+
+    private static final String[] KNOWN = {
+            Http.Header.ACCEPT,
+            Http.Header.ACCEPT_CHARSET,
+            Http.Header.ACCEPT_ENCODING,
+            Http.Header.ACCEPT_LANGUAGE,
+            Http.Header.ACCEPT_DATETIME,
+            Http.Header.AUTHORIZATION,
+            Http.Header.COOKIE,
+            Http.Header.EXPECT,
+            Http.Header.FORWARDED,
+            Http.Header.FROM,
+            Http.Header.HOST,
+            Http.Header.IF_MATCH,
+            Http.Header.IF_MODIFIED_SINCE,
+            Http.Header.IF_NONE_MATCH,
+            Http.Header.IF_RANGE,
+            Http.Header.IF_UNMODIFIED_SINCE,
+            Http.Header.MAX_FORWARDS,
+            Http.Header.ORIGIN,
+            Http.Header.RANGE,
+            Http.Header.REFERER,
+            Http.Header.TE,
+            Http.Header.USER_AGENT,
+            Http.Header.VIA,
+            Http.Header.ACCEPT_PATCH,
+            Http.Header.ACCEPT_RANGES,
+            Http.Header.AGE,
+            Http.Header.ALLOW,
+            Http.Header.ALT_SVC,
+            Http.Header.CACHE_CONTROL,
+            Http.Header.CONNECTION,
+            Http.Header.CONTENT_DISPOSITION,
+            Http.Header.CONTENT_ENCODING,
+            Http.Header.CONTENT_LANGUAGE,
+            Http.Header.CONTENT_LENGTH,
+            Http.Header.CONTENT_LOCATION,
+            Http.Header.CONTENT_RANGE,
+            Http.Header.CONTENT_TYPE,
+            Http.Header.DATE,
+            Http.Header.ETAG,
+            Http.Header.EXPIRES,
+            Http.Header.LAST_MODIFIED,
+            Http.Header.LINK,
+            Http.Header.LOCATION,
+            Http.Header.PRAGMA,
+            Http.Header.PUBLIC_KEY_PINS,
+            Http.Header.RETRY_AFTER,
+            Http.Header.SERVER,
+            Http.Header.SET_COOKIE,
+            Http.Header.STRICT_TRANSPORT_SECURITY,
+            Http.Header.TRAILER,
+            Http.Header.TRANSFER_ENCODING,
+            Http.Header.TSV,
+            Http.Header.UPGRADE,
+            Http.Header.VARY,
+            Http.Header.WARNING,
+            Http.Header.WWW_AUTHENTICATE,
+            Http.Header.X_HELIDON_CN
+    };
+
+    private static final int MASK = 127;
+    private static final String[] NAMES = new String[MASK + 1];
+    private static final int[] HASHES = new int[MASK + 1];
+
+    static {
+        for (String name : KNOWN) {
+            int index = name.hashCode() & MASK;
+            while (NAMES[index] != null) {
+                index = (index + 1) & MASK;
+            }
+            NAMES[index] = name;
+            HASHES[index] = computeHash(name);
+        }
+    }
+
+    private HeaderNames() {
+    }
+
+    /**
+     * Returns the constant instance of a well-known name with the same spelling, or the name itself.
+     *
+     * @param name header name
+     * @return interned header name
+     */
+    static String intern(String name) {
+        int index = indexOf(name);
+        return index < 0 ? name : NAMES[index];
+    }
+
+    /**
+     * Case-insensitive hash of a header name.
+     *
+     * @param name header name
+     * @return hash that is equal for names differing only in case
+     */
+    static int hash(String name) {
+        int index = indexOf(name);
+        return index < 0 ? computeHash(name) : HASHES[index];
+    }
+
+    private static int indexOf(String name) {
+        int index = name.hashCode() & MASK;
+        String known;
+        while ((known = NAMES[index]) != null) {
+            if (known == name || known.equals(name)) {
+                return index;
+            }
+            index = (index + 1) & MASK;
+        }
+        return -1;
+    }
+
+    private static int computeHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Ascii.toLowerCase(name.charAt(i));
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A {@link Parameters} implementation specialized for HTTP headers.
+ * <p>
+ * Names are case insensitive. Each value is stored as a single entry of flat arrays of names, name hashes and values,
+ * in the order of insertion, so no per-name collection is allocated. Well-known names (see {@link Http.Header}) are
+ * interned and have their hashes precomputed. Lookups are linear, which is faster than hashing for the usual number
+ * of headers of a request or response.
+ * <p>
+ * All methods are thread safe.
+ */
+public class HeaderParameters implements Parameters {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // all guarded by this
+    private String[] names;
+    private int[] hashes;
+    private String[] values;
+    private int size;
+
+    /**
+     * Creates a new instance.
+     */
+    protected HeaderParameters() {
+        this.names = new String[INITIAL_CAPACITY];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.values = new String[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a new instance from provided data.
+     * Initial data is copied.
+     *
+     * @param initialContent initial content
+     */
+    protected HeaderParameters(Map<String, List<String>> initialContent) {
+        this();
+        if (initialContent != null) {
+            initialContent.forEach(this::add);
+        }
+    }
+
+    /**
+     * Creates a new empty instance.
+     *
+     * @return a new instance
+     */
+    public static HeaderParameters create() {
+        return new HeaderParameters();
+    }
+
+    /**
+     * Creates a new instance from provided data. Initial data is copied.
+     *
+     * @param initialContent initial content
+     * @return a new instance initialized with the given content
+     */
+    public static HeaderParameters create(Map<String, List<String>> initialContent) {
+        return new HeaderParameters(initialContent);
+    }
+
+    @Override
+    public Optional<String> first(String name) {
+        Objects.requireNonNull(name, "Parameter 'name' is null!");
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            int index = indexOf(name, hash, 0);
+            return index < 0 ? Optional.empty() : Optional.ofNullable(values[index]);
+        }
+    }
+
+    @Override
+    public List<String> all(String name) {
+        Objects.requireNonNull(name, "Parameter 'name' is null!");
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            return valuesOf(name, hash);
+        }
+    }
+
+    @Override
+    public List<String> put(String key, String... values) {
+        return put(key, values == null ? null : Arrays.asList(values));
+    }
+
+    @Override
+    public List<String> put(String key, Iterable<String> values) {
+        String name = HeaderNames.intern(key);
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            List<String> result = removeAll(name, hash);
+            append(name, hash, values);
+            return result;
+        }
+    }
+
+    @Override
+    public List<String> putIfAbsent(String key, String... values) {
+        return putIfAbsent(key, values == null ? null : Arrays.asList(values));
+    }
+
+    @Override
+    public List<String> putIfAbsent(String key, Iterable<String> values) {
+        String name = HeaderNames.intern(key);
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            List<String> result = valuesOf(name, hash);
+            if (result.isEmpty()) {
+                append(name, hash, values);
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public List<String> computeIfAbsent(String key, Function<String, Iterable<String>> values) {
+        String name = HeaderNames.intern(key);
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            List<String> result = valuesOf(name, hash);
+            if (!result.isEmpty()) {
+                return result;
+            }
+            append(name, hash, values.apply(key));
+            return valuesOf(name, hash);
+        }
+    }
+
+    @Override
+    public List<String> computeSingleIfAbsent(String key, Function<String, String> value) {
+        String name = HeaderNames.intern(key);
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            List<String> result = valuesOf(name, hash);
+            if (!result.isEmpty()) {
+                return result;
+            }
+            String v = value.apply(key);
+            if (v == null) {
+                return Collections.emptyList();
+            }
+            append(name, hash, v);
+            return Collections.singletonList(v);
+        }
+    }
+
+    @Override
+    public void putAll(Parameters parameters) {
+        if (parameters == null) {
+            return;
+        }
+        for (Map.Entry<String, List<String>> entry : parameters.toMap().entrySet()) {
+            List<String> values = entry.getValue();
+            if (values != null && !values.isEmpty()) {
+                put(entry.getKey(), values);
+            }
+        }
+    }
+
+    @Override
+    public void add(String key, String... values) {
+        Objects.requireNonNull(key, "Parameter 'key' is null!");
+        if (values == null || values.length == 0) {
+            return;
+        }
+        add(key, Arrays.asList(values));
+    }
+
+    @Override
+    public void add(String key, Iterable<String> values) {
+        Objects.requireNonNull(key, "Parameter 'key' is null!");
+        if (values == null) {
+            return;
+        }
+        String name = HeaderNames.intern(key);
+        int hash = HeaderNames.hash(name);
+        synchronized (this) {
+            append(name, hash, values);
+        }
+    }
+
+    @Override
+    public void addAll(Parameters parameters) {
+        if (parameters == null) {
+            return;
+        }
+        for (Map.Entry<String, List<String>> entry : parameters.toMap().entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public List<String> remove(String key) {
+        int hash = HeaderNames.hash(key);
+        synchronized (this) {
+            return removeAll(key, hash);
+        }
+    }
+
+    @Override
+    public Map<String, List<String>> toMap() {
+        Map<String, List<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                result.computeIfAbsent(names[i], it -> new ArrayList<>(1)).add(values[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HeaderParameters)) {
+            return false;
+        }
+        HeaderParameters that = (HeaderParameters) o;
+        return toMap().equals(that.toMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return toMap().hashCode();
+    }
+
+    private int indexOf(String name, int hash, int from) {
+        for (int i = from; i < size; i++) {
+            if (hashes[i] == hash) {
+                String candidate = names[i];
+                if (candidate == name || candidate.equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private List<String> valuesOf(String name, int hash) {
+        int index = indexOf(name, hash, 0);
+        if (index < 0) {
+            return Collections.emptyList();
+        }
+        int next = indexOf(name, hash, index + 1);
+        if (next < 0) {
+            return Collections.singletonList(values[index]);
+        }
+        List<String> result = new ArrayList<>(4);
+        result.add(values[index]);
+        for (; next >= 0; next = indexOf(name, hash, next + 1)) {
+            result.add(values[next]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private List<String> removeAll(String name, int hash) {
+        int index = indexOf(name, hash, 0);
+        if (index < 0) {
+            return Collections.emptyList();
+        }
+        List<String> removed = new ArrayList<>(1);
+        int kept = index;
+        for (int i = index; i < size; i++) {
+            String candidate = names[i];
+            if (hashes[i] == hash && (candidate == name || candidate.equalsIgnoreCase(name))) {
+                removed.add(values[i]);
+            } else {
+                names[kept] = candidate;
+                hashes[kept] = hashes[i];
+                values[kept] = values[i];
+                kept++;
+            }
+        }
+        Arrays.fill(names, kept, size, null);
+        Arrays.fill(values, kept, size, null);
+        size = kept;
+        return Collections.unmodifiableList(removed);
+    }
+
+    private void append(String name, int hash, Iterable<String> newValues) {
+        if (newValues == null) {
+            return;
+        }
+        for (String value : newValues) {
+            append(name, hash, value);
+        }
+    }
+
+    private void append(String name, int hash, String value) {
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        names[size] = name;
+        hashes[size] = hash;
+        values[size] = value;
+        size++;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.http;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link HeaderParameters}.
+ */
+class HeaderParametersTest {
+
+    @Test
+    void testCaseInsensitive() {
+        HeaderParameters headers = HeaderParameters.create();
+        headers.add("content-type", "text/plain");
+        headers.add("X-Custom", "a");
+        headers.add("x-custom", "b");
+
+        assertThat(headers.first(Http.Header.CONTENT_TYPE).get(), is("text/plain"));
+        assertThat(headers.first("CONTENT-TYPE").get(), is("text/plain"));
+        assertThat(headers.all("X-CUSTOM"), contains("a", "b"));
+    }
+
+    @Test
+    void testPutReplacesAllValues() {
+        HeaderParameters headers = HeaderParameters.create();
+        headers.add("a", "v1", "v2");
+        headers.add("b", "v3");
+        headers.add("A", "v4");
+
+        assertThat(headers.put("a", "v5"), contains("v1", "v2", "v4"));
+        assertThat(headers.all("a"), contains("v5"));
+        assertThat(headers.all("b"), contains("v3"));
+
+        assertThat(headers.put("a"), contains("v5"));
+        assertThat(headers.all("a"), is(empty()));
+    }
+
+    @Test
+    void testPutIfAbsent() {
+        HeaderParameters headers = HeaderParameters.create();
+
+        assertThat(headers.putIfAbsent("a", "v1"), is(empty()));
+        assertThat(headers.putIfAbsent("A", "v2"), contains("v1"));
+        assertThat(headers.computeSingleIfAbsent("a", it -> "v3"), contains("v1"));
+        assertThat(headers.computeIfAbsent("b", it -> List.of("v4", "v5")), contains("v4", "v5"));
+        assertThat(headers.computeSingleIfAbsent("c", it -> null), is(empty()));
+        assertThat(headers.all("c"), is(empty()));
+    }
+
+    @Test
+    void testRemove() {
+        HeaderParameters headers = HeaderParameters.create();
+        for (int i = 0; i < 40; i++) {
+            headers.add("h" + (i % 4), String.valueOf(i));
+        }
+
+        assertThat(headers.remove("H1").size(), is(10));
+        assertThat(headers.all("h1"), is(empty()));
+        assertThat(headers.all("h2").size(), is(10));
+        assertThat(headers.first("h3").get(), is("3"));
+        assertThat(headers.remove("h1"), is(empty()));
+    }
+
+    @Test
+    void testToMap() {
+        HeaderParameters headers = HeaderParameters.create(Map.of("a", List.of("v1", "v2")));
+        headers.add("A", "v3");
+        headers.add("b", "v4");
+
+        Map<String, List<String>> map = headers.toMap();
+        assertThat(map.get("a"), contains("v1", "v2", "v3"));
+        assertThat(map.get("B"), contains("v4"));
+        assertThat(map.size(), is(2));
+        assertThat(headers, is(HeaderParameters.create(map)));
+    }
+
+    @Test
+    void testUnmodifiableValues() {
+        HeaderParameters headers = HeaderParameters.create();
+        headers.add("a", "v1", "v2");
+
+        assertThrows(UnsupportedOperationException.class, () -> headers.all("a").add("v3"));
+    }
+
+    @Test
+    void testKnownNames() {
+        String name = new String(Http.Header.CONTENT_TYPE.toCharArray());
+
+        assertThat(HeaderNames.intern(name), sameInstance(Http.Header.CONTENT_TYPE));
+        assertThat(HeaderNames.intern("x-unknown"), is("x-unknown"));
+        assertThat(HeaderNames.hash(Http.Header.CONTENT_TYPE), is(HeaderNames.hash("content-type")));
+        assertThat(HeaderNames.hash("X-Unknown"), is(HeaderNames.hash("x-unknown")));
+    }
+}
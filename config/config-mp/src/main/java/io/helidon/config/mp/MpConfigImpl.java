@@ -33,6 +33,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -83,6 +85,9 @@ public class MpConfigImpl implements Config {
     private final boolean valueResolving;
     private final List<MpConfigFilter> filters = new ArrayList<>();
     private final String configProfile;
+    // resolved, filtered and converted values by type and property name
+    private final Map<Class<?>, Map<String, CachedValue>> valueCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Converter<?>> converterCache = new ConcurrentHashMap<>();
 
     MpConfigImpl(List<ConfigSource> sources,
                  HashMap<Class<?>, Converter<?>> converters,
@@ -173,12 +178,45 @@ public class MpConfigImpl implements Config {
                 return Optional.empty();
             }
         } else {
-            return getStringValue(propertyName)
-                    .flatMap(it -> applyFilters(propertyName, it))
-                    .map(it -> convert(propertyName, propertyType, it));
+            return cachedValue(propertyName, propertyType);
         }
     }
 
+    /*
+     * Config sources may change their values at any time (system properties, map sources, Helidon config),
+     * so the value is always looked up in the sources. Resolving references, filters and conversion are only
+     * done again when the value found, or the value of a referenced property, differs from the cached one.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> cachedValue(String propertyName, Class<T> propertyType) {
+        String rawValue = findValue(propertyName);
+        if (rawValue == null) {
+            return Optional.empty();
+        }
+
+        Map<String, CachedValue> values = valueCache.computeIfAbsent(propertyType, it -> new ConcurrentHashMap<>());
+        CachedValue cached = values.get(propertyName);
+        ValueTemplate template;
+        if (cached != null && cached.rawValue.equals(rawValue)) {
+            if (!cached.template.hasReferences()) {
+                return (Optional<T>) cached.value;
+            }
+            template = cached.template;
+        } else {
+            template = valueResolving ? ValueTemplate.create(rawValue) : ValueTemplate.constant(rawValue);
+        }
+
+        String resolved = resolveReferences(propertyName, template);
+        if (cached != null && cached.template == template && cached.resolved.equals(resolved)) {
+            return (Optional<T>) cached.value;
+        }
+
+        Optional<T> value = applyFilters(propertyName, resolved)
+                .map(it -> convert(propertyName, propertyType, it));
+        values.put(propertyName, new CachedValue(rawValue, template, resolved, value));
+        return value;
+    }
+
     @Override
     public Iterable<String> getPropertyNames() {
         Set<String> names = new LinkedHashSet<>();
@@ -310,7 +348,7 @@ public class MpConfigImpl implements Config {
         }
     }
 
-    private Optional<String> getStringValue(String propertyName) {
+    private String findValue(String propertyName) {
         for (ConfigSource source : sources) {
             String value = source.getValue(propertyName);
 
@@ -319,11 +357,13 @@ public class MpConfigImpl implements Config {
                 continue;
             }
 
-            LOGGER.finest("Found property " + propertyName + " in source " + source.getName());
-            return Optional.of(resolveReferences(propertyName, value));
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.finest("Found property " + propertyName + " in source " + source.getName());
+            }
+            return value;
         }
 
-        return Optional.empty();
+        return null;
     }
 
     private Optional<String> applyFilters(String propertyName, String stringValue) {
@@ -349,42 +389,32 @@ public class MpConfigImpl implements Config {
         return array;
     }
 
-    private String resolveReferences(String key, String value) {
-        if (!valueResolving) {
-            return value;
+    private String resolveReferences(String key, ValueTemplate template) {
+        if (!template.hasReferences()) {
+            return template.value;
         }
         if (!UNRESOLVED_KEYS.get().add(key)) {
             UNRESOLVED_KEYS.get().clear();
-            throw new IllegalStateException("Recursive resolving of references for key " + key + ", value: " + value);
+            throw new IllegalStateException("Recursive resolving of references for key " + key + ", value: "
+                                                    + template.value);
         }
         try {
-            return format(value);
+            return template.resolve(propertyName -> getOptionalValue(propertyName, String.class)
+                    .orElseGet(() -> "${" + propertyName + "}"));
         } catch (NoSuchElementException e) {
-            LOGGER.log(Level.FINER, e, () -> String.format("Reference for key %s not found. Value: %s", key, value));
-            return value;
+            LOGGER.log(Level.FINER, e, () -> String.format("Reference for key %s not found. Value: %s", key, template.value));
+            return template.value;
         } finally {
             UNRESOLVED_KEYS.get().remove(key);
         }
     }
 
-    private String format(String value) {
-        Matcher m = PATTERN_REFERENCE.matcher(value);
-        final StringBuffer sb = new StringBuffer();
-        while (m.find()) {
-            String propertyName = m.group(1);
-            m.appendReplacement(sb,
-                                Matcher.quoteReplacement(getOptionalValue(propertyName, String.class)
-                                                                 .orElseGet(() -> "${" + propertyName + "}")));
-        }
-        m.appendTail(sb);
-        // remove all backslash that encodes ${...}
-        m = PATTERN_BACKSLASH.matcher(sb.toString());
-
-        return m.replaceAll("");
-    }
-
     @SuppressWarnings("unchecked")
     <T> Converter<T> obtainConverter(Class<T> type) {
+        return (Converter<T>) converterCache.computeIfAbsent(type, this::findConverter);
+    }
+
+    private <T> Converter<T> findConverter(Class<T> type) {
         return getConverter(type)
                 .orElseGet(() -> new FailingConverter<>(type));
     }
@@ -473,6 +503,81 @@ public class MpConfigImpl implements Config {
         return values;
     }
 
+    /**
+     * A config value with references to other properties (such as {@code ${other.property}}) parsed in advance.
+     */
+    private static final class ValueTemplate {
+        // value of the template without references, or the original value
+        private final String value;
+        // literal parts, there is one more than references
+        private final String[] literals;
+        private final String[] references;
+
+        private ValueTemplate(String value, String[] literals, String[] references) {
+            this.value = value;
+            this.literals = literals;
+            this.references = references;
+        }
+
+        static ValueTemplate constant(String value) {
+            return new ValueTemplate(value, null, null);
+        }
+
+        static ValueTemplate create(String value) {
+            if (!value.contains("${")) {
+                return constant(value);
+            }
+            Matcher m = PATTERN_REFERENCE.matcher(value);
+            List<String> literals = new ArrayList<>();
+            List<String> references = new ArrayList<>();
+            int end = 0;
+            while (m.find()) {
+                literals.add(value.substring(end, m.start()));
+                references.add(m.group(1));
+                end = m.end();
+            }
+            if (references.isEmpty()) {
+                // only escaped references, remove all backslash that encodes ${...}
+                return constant(PATTERN_BACKSLASH.matcher(value).replaceAll(""));
+            }
+            literals.add(value.substring(end));
+            return new ValueTemplate(value, literals.toArray(new String[0]), references.toArray(new String[0]));
+        }
+
+        boolean hasReferences() {
+            return references != null;
+        }
+
+        String resolve(Function<String, String> resolver) {
+            StringBuilder sb = new StringBuilder(value.length());
+            for (int i = 0; i < references.length; i++) {
+                sb.append(literals[i])
+                        .append(resolver.apply(references[i]));
+            }
+            sb.append(literals[references.length]);
+            String result = sb.toString();
+            if (result.indexOf('\\') < 0) {
+                return result;
+            }
+            // remove all backslash that encodes ${...}
+            return PATTERN_BACKSLASH.matcher(result).replaceAll("");
+        }
+    }
+
+    private static final class CachedValue {
+        private final String rawValue;
+        private final ValueTemplate template;
+        private final String resolved;
+        private final Optional<?> value;
+
+        private CachedValue(String rawValue, ValueTemplate template, String resolved, Optional<?> value) {
+            this.rawValue = rawValue;
+            this.template = template;
+            this.resolved = resolved;
+            this.value = value;
+        }
+    }
+
     private static class FailingConverter<T> implements Converter<T> {
         private final Class<T> type;
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.config.mp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures {@link Config#getValue(String, Class)} and {@link Config#getOptionalValue(String, Class)} of a config
+ * with ten map sources, system properties and environment variables, with the property defined in the source with
+ * the lowest ordinal, as when injecting config into request scoped beans.
+ */
+@State(Scope.Benchmark)
+public class MpConfigJMH {
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 8}) {
+            Options opt = new OptionsBuilder()
+                    .include(MpConfigJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    @Param({"app.plain", "app.reference"})
+    String property;
+
+    private Config config;
+
+    @Setup
+    public void setup() {
+        List<ConfigSource> sources = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sources.add(MpConfigSources.create("map-" + i, Map.of("map-" + i + ".key", "value-" + i,
+                                                                  "config_ordinal", String.valueOf(200 + i))));
+        }
+        sources.add(MpConfigSources.create("lowest", Map.of("app.plain", "8080",
+                                                            "app.base-port", "8000",
+                                                            "app.reference", "${app.base-port}",
+                                                            "config_ordinal", "1")));
+        sources.add(MpConfigSources.systemProperties());
+        sources.add(MpConfigSources.environmentVariables());
+
+        config = ConfigProviderResolver.instance()
+                .getBuilder()
+                .withSources(sources.toArray(new ConfigSource[0]))
+                .build();
+    }
+
+    @Benchmark
+    public Integer getValue() {
+        return config.getValue(property, Integer.class);
+    }
+
+    @Benchmark
+    public Optional<Integer> getOptionalValue() {
+        return config.getOptionalValue(property, Integer.class);
+    }
+}
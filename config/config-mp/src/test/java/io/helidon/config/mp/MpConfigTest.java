@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.config.mp;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -131,6 +132,30 @@ public class MpConfigTest {
         assertThat(value, is(updated));
     }
 
+    @Test
+    void mutableReferenceTest() {
+        // resolved and converted values are cached, yet changes of both the value and referenced values must be visible
+        Map<String, String> values = new HashMap<>();
+        values.put("port", "${base-port}");
+        values.put("base-port", "8080");
+
+        Config config = ConfigProviderResolver.instance().getBuilder()
+                .withSources(MpConfigSources.create(values))
+                .build();
+
+        assertThat(config.getValue("port", Integer.class), is(8080));
+
+        values.put("base-port", "8081");
+        assertThat(config.getValue("port", Integer.class), is(8081));
+
+        values.put("port", "9090");
+        assertThat(config.getValue("port", Integer.class), is(9090));
+        assertThat(config.getValue("port", String.class), is("9090"));
+
+        values.remove("port");
+        assertThat(config.getOptionalValue("port", Integer.class), is(Optional.empty()));
+    }
+
     @Test
     void arrayTest() {
         MutableConfigSource cs = new MutableConfigSource();
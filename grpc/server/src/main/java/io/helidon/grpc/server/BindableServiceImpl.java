@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -51,9 +52,17 @@ class BindableServiceImpl implements BindableService {
      */
     private final PriorityBag<ServerInterceptor> globalInterceptors;
 
-    private BindableServiceImpl(ServiceDescriptor descriptor, PriorityBag<ServerInterceptor> interceptors) {
+    /**
+     * The executor of the server, may be {@code null}.
+     */
+    private final Executor serverExecutor;
+
+    private BindableServiceImpl(ServiceDescriptor descriptor,
+                                PriorityBag<ServerInterceptor> interceptors,
+                                Executor serverExecutor) {
         this.descriptor = descriptor;
         this.globalInterceptors = interceptors.copyMe();
+        this.serverExecutor = serverExecutor;
     }
 
     /**
@@ -65,7 +74,23 @@ class BindableServiceImpl implements BindableService {
      * @return a {@link BindableServiceImpl} for the gRPC service
      */
     static BindableServiceImpl create(ServiceDescriptor descriptor, PriorityBag<ServerInterceptor> interceptors) {
-        return new BindableServiceImpl(descriptor, interceptors);
+        return create(descriptor, interceptors, null);
+    }
+
+    /**
+     * Create a {@link BindableServiceImpl} for a gRPC service.
+     *
+     * @param descriptor      the service descriptor
+     * @param interceptors    the bag of interceptors to apply to the service
+     * @param serverExecutor  the executor for methods that do not specify an executor, {@code null} to call
+     *                        them on the transport threads
+     *
+     * @return a {@link BindableServiceImpl} for the gRPC service
+     */
+    static BindableServiceImpl create(ServiceDescriptor descriptor,
+                                      PriorityBag<ServerInterceptor> interceptors,
+                                      Executor serverExecutor) {
+        return new BindableServiceImpl(descriptor, interceptors, serverExecutor);
     }
 
     // ---- BindableService implementation ----------------------------------
@@ -114,6 +139,19 @@ class BindableServiceImpl implements BindableService {
             }
         }
 
+        // the method executor overrides the service executor, which overrides the server executor
+        Executor executor = method.executor();
+        if (executor == null) {
+            executor = descriptor.executor();
+        }
+        if (executor == null) {
+            executor = serverExecutor;
+        }
+        if (executor != null && executor != ServiceDescriptor.DIRECT_EXECUTOR) {
+            // outermost, so that interceptors run on the executor as well
+            handler = OffloadingCallHandler.create(executor, handler);
+        }
+
         return handler;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,11 @@
  */
 package io.helidon.grpc.server;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import io.helidon.common.configurable.ThreadPoolSupplier;
 import io.helidon.common.context.Context;
 import io.helidon.config.Config;
 import io.helidon.grpc.core.GrpcTlsDescriptor;
@@ -106,6 +108,17 @@ public interface GrpcServerConfiguration {
      */
     GrpcTlsDescriptor tlsConfig();
 
+    /**
+     * Returns the executor service that runs the handlers of services and methods that do not
+     * specify their own executor. If {@code null}, handlers are called directly on the gRPC transport
+     * threads, so a handler that blocks delays all other calls served by the same thread.
+     *
+     * @return the executor service for handlers, or {@code null} to call handlers directly
+     */
+    default Supplier<? extends ExecutorService> executor() {
+        return null;
+    }
+
     /**
      * Creates new instance with default values for all configuration properties.
      *
@@ -166,6 +179,8 @@ public interface GrpcServerConfiguration {
 
         private Context context;
 
+        private Supplier<? extends ExecutorService> executor;
+
         private Builder() {
         }
 
@@ -178,6 +193,7 @@ public interface GrpcServerConfiguration {
             port = config.get("port").asInt().orElse(DEFAULT_PORT);
             useNativeTransport = config.get("native").asBoolean().orElse(false);
             config.get("workers").asInt().ifPresent(this::workersCount);
+            config.get("executor").ifExists(it -> executor(ThreadPoolSupplier.create(it)));
 
             return this;
         }
@@ -278,6 +294,22 @@ public interface GrpcServerConfiguration {
             return this;
         }
 
+        /**
+         * Sets the executor service that runs the handlers of services and methods that do not
+         * specify their own executor. By default, handlers are called directly on the gRPC transport threads,
+         * which is the fastest option for handlers that never block.
+         * <p>
+         * Configuration key: {@code executor}, a {@link ThreadPoolSupplier} configuration; set
+         * {@code executor.virtual-threads} to use virtual threads when supported by the JVM.
+         *
+         * @param executor supplier of the executor service for handlers
+         * @return an updated builder
+         */
+        public Builder executor(Supplier<? extends ExecutorService> executor) {
+            this.executor = executor;
+            return this;
+        }
+
         String name() {
             return name;
         }
@@ -310,6 +342,10 @@ public interface GrpcServerConfiguration {
             return workers;
         }
 
+        Supplier<? extends ExecutorService> executor() {
+            return executor;
+        }
+
         @Override
         public GrpcServerConfiguration build() {
             if (name == null || name.isEmpty()) {
@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -126,6 +127,12 @@ public class GrpcServerImpl implements GrpcServer {
 
     private final Context context;
 
+    /**
+     * The executor for service handlers, {@code null} to call them on the transport threads.
+     * Shut down with the server.
+     */
+    private final ExecutorService executor;
+
     // ---- constructors ----------------------------------------------------
 
     /**
@@ -136,7 +143,7 @@ public class GrpcServerImpl implements GrpcServer {
     private GrpcServerImpl(GrpcServerConfiguration config) {
         this.config = config;
         this.context = config.context();
-
+        this.executor = config.executor() == null ? null : config.executor().get();
     }
 
     /**
@@ -217,6 +224,9 @@ public class GrpcServerImpl implements GrpcServer {
                 inProcessServer.shutdown();
                 server.awaitTermination();
                 inProcessServer.awaitTermination();
+                if (executor != null) {
+                    executor.shutdown();
+                }
 
                 LOGGER.log(Level.INFO, () -> format("gRPC server [%s]: server stopped", name));
                 server = null;
@@ -309,7 +319,7 @@ public class GrpcServerImpl implements GrpcServer {
         globalInterceptors.add(new ContextAwareServerInterceptor());
 
         String serverName = config.name();
-        BindableService service = serviceDescriptor.bindableService(globalInterceptors);
+        BindableService service = serviceDescriptor.bindableService(globalInterceptors, executor);
         ServerServiceDefinition ssd = service.bindService();
         String serviceName = ssd.getServiceDescriptor().getName();
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import io.helidon.grpc.core.InterceptorPriorities;
 import io.helidon.grpc.core.MarshallerSupplier;
@@ -42,17 +43,20 @@ public class MethodDescriptor<ReqT, ResT> {
     private final ServerCallHandler<ReqT, ResT> callHandler;
     private final Map<Context.Key, Object> context;
     private final PriorityBag<ServerInterceptor> interceptors;
+    private final Executor executor;
 
     private MethodDescriptor(String name,
                              io.grpc.MethodDescriptor<ReqT, ResT> descriptor,
                              ServerCallHandler<ReqT, ResT> callHandler,
                              Map<Context.Key, Object> context,
-                             PriorityBag<ServerInterceptor> interceptors) {
+                             PriorityBag<ServerInterceptor> interceptors,
+                             Executor executor) {
         this.name = name;
         this.descriptor = descriptor;
         this.callHandler = callHandler;
         this.context = context;
         this.interceptors = interceptors.copyMe();
+        this.executor = executor;
     }
 
     /**
@@ -99,6 +103,15 @@ public class MethodDescriptor<ReqT, ResT> {
         return interceptors.readOnly();
     }
 
+    /**
+     * Obtain the {@link java.util.concurrent.Executor} that runs the handler of this method.
+     *
+     * @return the executor of this method, or {@code null} to use the executor of the service
+     */
+    public Executor executor() {
+        return executor;
+    }
+
     static <ReqT, ResT> Builder<ReqT, ResT> builder(String serviceName,
                                                     String name,
                                                     io.grpc.MethodDescriptor.Builder<ReqT, ResT> descriptor,
@@ -162,6 +175,17 @@ public class MethodDescriptor<ReqT, ResT> {
          */
         Rules<ReqT, ResT> intercept(int priority, ServerInterceptor... interceptors);
 
+        /**
+         * Set the {@link java.util.concurrent.Executor} that runs the handler of this method,
+         * overriding the executor of the service and of the server. Use an executor service for
+         * methods that block, such as methods accessing a database, so they do not delay other calls.
+         * Use {@link ServiceDescriptor#DIRECT_EXECUTOR} to call the handler on the gRPC transport thread.
+         *
+         * @param executor the executor of this method
+         * @return this builder to allow fluent method chaining
+         */
+        Rules<ReqT, ResT> executor(Executor executor);
+
         /**
          * Register the {@link MarshallerSupplier} for the method.
          * <p>
@@ -245,6 +269,8 @@ public class MethodDescriptor<ReqT, ResT> {
         private MarshallerSupplier defaultMarshallerSupplier = MarshallerSupplier.defaultInstance();
         private MarshallerSupplier marshallerSupplier;
 
+        private Executor executor;
+
         Builder(String serviceName,
                 String name,
                 io.grpc.MethodDescriptor.Builder<ReqT, ResT> descriptor,
@@ -295,6 +321,12 @@ public class MethodDescriptor<ReqT, ResT> {
             return this;
         }
 
+        @Override
+        public Builder<ReqT, ResT> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public <Rnew> Builder<Rnew, ResT> requestType(Class<Rnew> requestType) {
@@ -330,7 +362,8 @@ public class MethodDescriptor<ReqT, ResT> {
                                           descriptor.build(),
                                           callHandler,
                                           context,
-                                          interceptors);
+                                          interceptors,
+                                          executor);
         }
 
         @SuppressWarnings("unchecked")
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.grpc.server;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * A {@link ServerCallHandler} that starts calls and delivers all listener events of a call
+ * on an {@link Executor}, instead of the gRPC transport thread.
+ * <p>
+ * Events of a single call are delivered one at a time and in order, though not always on the same thread.
+ * The gRPC {@link io.grpc.Context} and the Helidon {@link Context} of the transport thread are propagated
+ * to the executor.
+ *
+ * @param <ReqT>   the request type
+ * @param <RespT>  the response type
+ */
+final class OffloadingCallHandler<ReqT, RespT> implements ServerCallHandler<ReqT, RespT> {
+    private static final Logger LOGGER = Logger.getLogger(OffloadingCallHandler.class.getName());
+
+    private final Executor executor;
+    private final ServerCallHandler<ReqT, RespT> delegate;
+
+    private OffloadingCallHandler(Executor executor, ServerCallHandler<ReqT, RespT> delegate) {
+        this.executor = executor;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Create a handler running the specified handler on an executor.
+     *
+     * @param executor  the executor to run the handler on
+     * @param delegate  the handler to run
+     * @param <ReqT>    the request type
+     * @param <RespT>   the response type
+     * @return a new handler
+     */
+    static <ReqT, RespT> ServerCallHandler<ReqT, RespT> create(Executor executor, ServerCallHandler<ReqT, RespT> delegate) {
+        return new OffloadingCallHandler<>(executor, delegate);
+    }
+
+    @Override
+    public ServerCall.Listener<ReqT> startCall(ServerCall<ReqT, RespT> call, Metadata headers) {
+        OffloadingListener<ReqT, RespT> listener = new OffloadingListener<>(executor, call);
+        listener.execute(() -> listener.delegate = delegate.startCall(call, headers));
+        return listener;
+    }
+
+    /**
+     * A listener that serializes events of a call on the executor.
+     */
+    private static final class OffloadingListener<ReqT, RespT> extends ServerCall.Listener<ReqT> implements Runnable {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Executor executor;
+        private final ServerCall<ReqT, RespT> call;
+        private final io.grpc.Context grpcContext;
+        private final Optional<Context> helidonContext;
+
+        // only accessed by tasks, which never run concurrently
+        private ServerCall.Listener<ReqT> delegate;
+        // set once the call was closed because of a rejection or a failure
+        private volatile boolean rejected;
+
+        private OffloadingListener(Executor executor, ServerCall<ReqT, RespT> call) {
+            this.executor = executor;
+            this.call = call;
+            this.grpcContext = io.grpc.Context.current();
+            this.helidonContext = Contexts.context();
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            execute(() -> delegate.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            execute(() -> delegate.onHalfClose());
+        }
+
+        @Override
+        public void onCancel() {
+            execute(() -> delegate.onCancel());
+        }
+
+        @Override
+        public void onComplete() {
+            execute(() -> delegate.onComplete());
+        }
+
+        @Override
+        public void onReady() {
+            execute(() -> delegate.onReady());
+        }
+
+        @Override
+        public void run() {
+            io.grpc.Context previous = grpcContext.attach();
+            try {
+                if (helidonContext.isPresent()) {
+                    Contexts.runInContext(helidonContext.get(), this::drain);
+                } else {
+                    drain();
+                }
+            } finally {
+                grpcContext.detach(previous);
+            }
+        }
+
+        private void execute(Runnable task) {
+            if (rejected) {
+                return;
+            }
+            tasks.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    rejected = true;
+                    tasks.clear();
+                    LOGGER.log(Level.FINE, "gRPC call rejected by executor", e);
+                    closeQuietly(Status.RESOURCE_EXHAUSTED.withDescription("Executor rejected the call"));
+                }
+            }
+        }
+
+        private void closeQuietly(Status status) {
+            try {
+                call.close(status, new Metadata());
+            } catch (IllegalStateException e) {
+                // the call has already been closed
+                LOGGER.log(Level.FINEST, "gRPC call already closed", e);
+            }
+        }
+
+        private void drain() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                if (rejected) {
+                    continue;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    rejected = true;
+                    LOGGER.log(Level.WARNING, "Exception while processing a gRPC call", e);
+                    closeQuietly(Status.fromThrowable(e));
+                }
+            }
+            scheduled.set(false);
+            if (!tasks.isEmpty()) {
+                // a task was added after the queue was drained, but before the flag was cleared
+                schedule();
+            }
+        }
+    }
+}
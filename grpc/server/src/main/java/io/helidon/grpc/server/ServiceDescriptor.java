@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import io.helidon.grpc.core.InterceptorPriorities;
 import io.helidon.grpc.core.MarshallerSupplier;
@@ -52,25 +53,35 @@ public class ServiceDescriptor {
     public static final Context.Key<ServiceDescriptor> SERVICE_DESCRIPTOR_KEY =
             Context.key("Helidon.ServiceDescriptor");
 
+    /**
+     * An {@link java.util.concurrent.Executor} that calls handlers directly on the gRPC transport thread.
+     * Use it for services or methods that never block, to avoid the cost of switching threads
+     * when the server is configured with an executor.
+     */
+    public static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     private final String name;
     private final Map<String, MethodDescriptor> methods;
     private final PriorityBag<ServerInterceptor> interceptors;
     private final Map<Context.Key<?>, Object> context;
     private final HealthCheck healthCheck;
     private final Descriptors.FileDescriptor proto;
+    private final Executor executor;
 
     private ServiceDescriptor(String name,
                               Map<String, MethodDescriptor> methods,
                               PriorityBag<ServerInterceptor> interceptors,
                               Map<Context.Key<?>, Object> context,
                               HealthCheck healthCheck,
-                              Descriptors.FileDescriptor proto) {
+                              Descriptors.FileDescriptor proto,
+                              Executor executor) {
         this.name = Objects.requireNonNull(name);
         this.methods = methods;
         this.context = Collections.unmodifiableMap(context);
         this.healthCheck = healthCheck;
         this.interceptors = interceptors.copyMe();
         this.proto = proto;
+        this.executor = executor;
     }
 
     /**
@@ -131,8 +142,22 @@ public class ServiceDescriptor {
         return proto;
     }
 
+    /**
+     * Return the {@link java.util.concurrent.Executor} that runs the handlers of the methods of this service
+     * that do not specify their own executor.
+     *
+     * @return the executor of this service, or {@code null} to use the executor of the server
+     */
+    public Executor executor() {
+        return executor;
+    }
+
     BindableService bindableService(PriorityBag<ServerInterceptor> interceptors) {
-        return BindableServiceImpl.create(this, interceptors);
+        return bindableService(interceptors, null);
+    }
+
+    BindableService bindableService(PriorityBag<ServerInterceptor> interceptors, Executor serverExecutor) {
+        return BindableServiceImpl.create(this, interceptors, serverExecutor);
     }
 
     @Override
@@ -398,6 +423,17 @@ public class ServiceDescriptor {
          * @return this {@link io.helidon.grpc.server.ServiceDescriptor.Rules} instance for fluent call chaining
          */
         Rules healthCheck(HealthCheck healthCheck);
+
+        /**
+         * Set the {@link java.util.concurrent.Executor} that runs the handlers of the methods of this service,
+         * overriding the executor of the server. Use an executor service for services with methods that block,
+         * such as methods accessing a database, so they do not delay other calls. Use {@link #DIRECT_EXECUTOR}
+         * to call the handlers on the gRPC transport threads.
+         *
+         * @param executor the executor of this service
+         * @return this {@link io.helidon.grpc.server.ServiceDescriptor.Rules} instance for fluent call chaining
+         */
+        Rules executor(Executor executor);
     }
 
     // ---- inner class: Configurer -----------------------------------------
@@ -446,6 +482,7 @@ public class ServiceDescriptor {
         private PriorityBag<ServerInterceptor> interceptors = PriorityBag.withDefaultPriority(InterceptorPriorities.USER);
         private Map<Context.Key<?>, Object> context = new HashMap<>();
         private HealthCheck healthCheck;
+        private Executor executor;
 
         Builder(Class<?> serviceClass, String name) {
             this.name         = name == null || name.trim().isEmpty() ? serviceClass.getSimpleName() : name.trim();
@@ -636,6 +673,12 @@ public class ServiceDescriptor {
             return this;
         }
 
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         @Override
         public ServiceDescriptor build() {
             Map<String, MethodDescriptor> methods = new LinkedHashMap<>();
@@ -644,7 +687,7 @@ public class ServiceDescriptor {
                 methods.put(entry.getKey(), entry.getValue().build());
             }
 
-            return new ServiceDescriptor(name, methods, interceptors, context, healthCheck, proto);
+            return new ServiceDescriptor(name, methods, interceptors, context, healthCheck, proto, executor);
         }
 
         @Override
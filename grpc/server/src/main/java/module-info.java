@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ module io.helidon.grpc.server {
     exports io.helidon.grpc.server;
 
     requires io.helidon.common;
+    requires io.helidon.common.configurable;
     requires io.helidon.common.context;
     requires io.helidon.common.pki;
     requires io.helidon.config;
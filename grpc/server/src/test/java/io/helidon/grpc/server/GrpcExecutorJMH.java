@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.grpc.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.configurable.ThreadPoolSupplier;
+import io.helidon.grpc.server.test.Echo;
+import io.helidon.grpc.server.test.EchoServiceGrpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static io.helidon.grpc.core.ResponseHelper.complete;
+
+/**
+ * Measures the latency distribution (see the p0.99 percentile) of a fast gRPC method,
+ * while other clients keep calling a method of the same service that blocks for {@value #BLOCK_MILLIS} ms.
+ * <p>
+ * With the {@code direct} executor both methods run on the event loop threads, so fast calls wait behind the
+ * blocking ones. With the {@code pool} executor the handlers are offloaded and fast calls are not delayed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrpcExecutorJMH {
+
+    private static final long BLOCK_MILLIS = 20;
+    private static final int BLOCKING_CLIENTS = 4;
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 8}) {
+            Options opt = new OptionsBuilder()
+                    .include(GrpcExecutorJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    @Param({"direct", "pool"})
+    private String executor;
+
+    private GrpcServer grpcServer;
+    private ManagedChannel channel;
+    private EchoServiceGrpc.EchoServiceBlockingStub stub;
+    private ExecutorService blockingClients;
+    private volatile boolean running;
+
+    @Setup
+    public void setup() throws Exception {
+        GrpcRouting routing = GrpcRouting.builder()
+                .register(new BlockingEchoService())
+                .build();
+
+        GrpcServerConfiguration.Builder builder = GrpcServerConfiguration.builder()
+                .port(0)
+                .workersCount(2);
+        if ("pool".equals(executor)) {
+            builder.executor(ThreadPoolSupplier.builder()
+                                     .corePoolSize(BLOCKING_CLIENTS * 2)
+                                     .threadNamePrefix("grpc-jmh-")
+                                     .build());
+        }
+
+        grpcServer = GrpcServer.create(builder.build(), routing)
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.port())
+                .usePlaintext()
+                .build();
+        stub = EchoServiceGrpc.newBlockingStub(channel);
+
+        running = true;
+        blockingClients = Executors.newFixedThreadPool(BLOCKING_CLIENTS);
+        for (int i = 0; i < BLOCKING_CLIENTS; i++) {
+            blockingClients.submit(() -> {
+                // a channel per client, so the blocking calls are spread over the event loops
+                ManagedChannel blockingChannel = ManagedChannelBuilder.forAddress("localhost", grpcServer.port())
+                        .usePlaintext()
+                        .build();
+                EchoServiceGrpc.EchoServiceBlockingStub blockingStub = EchoServiceGrpc.newBlockingStub(blockingChannel);
+                Echo.EchoRequest request = Echo.EchoRequest.newBuilder().setMessage("block").build();
+                try {
+                    while (running) {
+                        blockingStub.echo(request);
+                    }
+                } finally {
+                    blockingChannel.shutdownNow();
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        running = false;
+        blockingClients.shutdown();
+        blockingClients.awaitTermination(10, TimeUnit.SECONDS);
+        channel.shutdownNow();
+        grpcServer.shutdown()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public String fast() {
+        return stub.echo(Echo.EchoRequest.newBuilder().setMessage("fast").build()).getMessage();
+    }
+
+    /**
+     * An echo service that blocks when asked to.
+     */
+    private static class BlockingEchoService implements GrpcService {
+
+        @Override
+        public void update(ServiceDescriptor.Rules rules) {
+            rules.proto(Echo.getDescriptor())
+                 .name("EchoService")
+                 .unary("Echo", this::echo);
+        }
+
+        private void echo(Echo.EchoRequest request, StreamObserver<Echo.EchoResponse> observer) {
+            if ("block".equals(request.getMessage())) {
+                try {
+                    Thread.sleep(BLOCK_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            complete(observer, Echo.EchoResponse.newBuilder().setMessage(request.getMessage()).build());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.grpc.server;
 
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import io.helidon.config.Config;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -224,4 +227,42 @@ public class GrpcServerConfigurationTest {
         assertThat(serverConfig.useNativeTransport(), is(true));
         assertThat(serverConfig.workers(), is(51));
     }
+
+    @Test
+    public void shouldHaveNoExecutorByDefault() {
+        GrpcServerConfiguration configuration = GrpcServerConfiguration.builder()
+                .build();
+
+        assertThat(configuration.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetExecutor() {
+        ExecutorService executorService = mock(ExecutorService.class);
+        Supplier<ExecutorService> executor = () -> executorService;
+        GrpcServerConfiguration configuration = GrpcServerConfiguration.builder()
+                .executor(executor)
+                .build();
+
+        assertThat(configuration.executor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldBuildExecutorFromConfig() throws Exception {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of("grpcserver.executor.core-pool-size", "3",
+                                                     "grpcserver.executor.thread-name-prefix", "grpc-test-")))
+                .build();
+        GrpcServerConfiguration serverConfig = config.get("grpcserver").as(GrpcServerConfiguration::create).get();
+
+        assertThat(serverConfig.executor(), is(notNullValue()));
+
+        ExecutorService executorService = serverConfig.executor().get();
+        try {
+            String threadName = executorService.submit(() -> Thread.currentThread().getName()).get();
+            assertThat(threadName.startsWith("grpc-test-"), is(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.grpc.server;
 
+import java.util.concurrent.Executor;
+
 import io.helidon.grpc.server.test.EchoServiceGrpc;
 
 import io.grpc.Context;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
@@ -160,4 +163,38 @@ public class MethodDescriptorTest {
         assertThat(descriptor.name(), is("foo"));
         assertThat(descriptor.descriptor().getFullMethodName(), is("Test/bar"));
     }
+
+    @Test
+    public void shouldHaveNoExecutorByDefault() {
+        ServerCallHandler handler = mock(ServerCallHandler.class);
+        io.grpc.MethodDescriptor grpcDescriptor = EchoServiceGrpc.getServiceDescriptor()
+                .getMethods()
+                .stream()
+                .filter(md -> md.getFullMethodName().equals("EchoService/Echo"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Could not find echo method"));
+
+        MethodDescriptor<?, ?> descriptor = MethodDescriptor.create("EchoService", "foo", grpcDescriptor.toBuilder(), handler);
+
+        assertThat(descriptor.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetExecutor() {
+        ServerCallHandler handler = mock(ServerCallHandler.class);
+        Executor executor = mock(Executor.class);
+        io.grpc.MethodDescriptor grpcDescriptor = EchoServiceGrpc.getServiceDescriptor()
+                .getMethods()
+                .stream()
+                .filter(md -> md.getFullMethodName().equals("EchoService/Echo"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Could not find echo method"));
+
+        MethodDescriptor<?, ?> descriptor = MethodDescriptor
+                .builder("EchoService", "foo", grpcDescriptor.toBuilder(), handler)
+                .executor(executor)
+                .build();
+
+        assertThat(descriptor.executor(), is(sameInstance(executor)));
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.grpc.server;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link OffloadingCallHandler} unit tests.
+ */
+@SuppressWarnings("unchecked")
+public class OffloadingCallHandlerTest {
+
+    private static final String THREAD_NAME = "offloading-test";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(2, r -> new Thread(r, THREAD_NAME));
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldDeliverEventsInOrderOnExecutor() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        ServerCallHandler<String, String> handler = (call, headers) -> {
+            record(events, threads, "start");
+            return new ServerCall.Listener<>() {
+                @Override
+                public void onMessage(String message) {
+                    record(events, threads, message);
+                }
+
+                @Override
+                public void onHalfClose() {
+                    record(events, threads, "halfClose");
+                }
+
+                @Override
+                public void onComplete() {
+                    record(events, threads, "complete");
+                    latch.countDown();
+                }
+            };
+        };
+
+        ServerCall<String, String> call = mock(ServerCall.class);
+        ServerCall.Listener<String> listener = OffloadingCallHandler.create(executor, handler)
+                .startCall(call, new Metadata());
+
+        for (int i = 0; i < 100; i++) {
+            listener.onMessage("m" + i);
+        }
+        listener.onHalfClose();
+        listener.onComplete();
+
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(events.size(), is(103));
+        assertThat(events.get(0), is("start"));
+        assertThat(events.get(50), is("m49"));
+        assertThat(events.subList(101, 103), contains("halfClose", "complete"));
+        assertThat(threads.stream().allMatch(THREAD_NAME::equals), is(true));
+    }
+
+    @Test
+    public void shouldPropagateContexts() throws Exception {
+        io.grpc.Context.Key<String> key = io.grpc.Context.key("test");
+        Context helidonContext = Context.create();
+        CountDownLatch latch = new CountDownLatch(1);
+        Object[] seen = new Object[2];
+
+        ServerCallHandler<String, String> handler = (call, headers) -> {
+            seen[0] = key.get();
+            seen[1] = Contexts.context().orElse(null);
+            latch.countDown();
+            return new ServerCall.Listener<>() { };
+        };
+
+        ServerCall<String, String> call = mock(ServerCall.class);
+        io.grpc.Context grpcContext = io.grpc.Context.current().withValue(key, "value");
+        io.grpc.Context previous = grpcContext.attach();
+        try {
+            Contexts.runInContext(helidonContext, () -> {
+                OffloadingCallHandler.create(executor, handler).startCall(call, new Metadata());
+            });
+        } finally {
+            grpcContext.detach(previous);
+        }
+
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(seen[0], is("value"));
+        assertThat(seen[1], is(sameInstance(helidonContext)));
+    }
+
+    @Test
+    public void shouldCloseCallWhenRejected() {
+        ServerCallHandler<String, String> handler = mock(ServerCallHandler.class);
+        ServerCall<String, String> call = mock(ServerCall.class);
+
+        OffloadingCallHandler.create(r -> {
+            throw new RejectedExecutionException("test");
+        }, handler).startCall(call, new Metadata());
+
+        ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+        verify(call).close(status.capture(), any(Metadata.class));
+        assertThat(status.getValue().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+    }
+
+    @Test
+    public void shouldNotRunOnCallerThread() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread[] thread = new Thread[1];
+
+        ServerCallHandler<String, String> handler = (call, headers) -> {
+            thread[0] = Thread.currentThread();
+            latch.countDown();
+            return new ServerCall.Listener<>() { };
+        };
+
+        OffloadingCallHandler.create(executor, handler).startCall(mock(ServerCall.class), new Metadata());
+
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(thread[0], is(not(sameInstance(Thread.currentThread()))));
+    }
+
+    private static void record(List<String> events, List<String> threads, String event) {
+        events.add(event);
+        threads.add(Thread.currentThread().getName());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.grpc.server;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import io.helidon.grpc.core.JavaMarshaller;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
@@ -556,6 +558,35 @@ public class ServiceDescriptorTest {
     }
 
 
+    @Test
+    public void shouldHaveNoExecutorByDefault() {
+        ServiceDescriptor descriptor = ServiceDescriptor.builder(createMockService())
+                .build();
+
+        assertThat(descriptor.executor(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldSetExecutor() {
+        Executor executor = mock(Executor.class);
+        ServiceDescriptor descriptor = ServiceDescriptor.builder(createMockService())
+                .executor(executor)
+                .build();
+
+        assertThat(descriptor.executor(), is(sameInstance(executor)));
+    }
+
+    @Test
+    public void shouldSetMethodExecutor() {
+        Executor executor = mock(Executor.class);
+        ServiceDescriptor descriptor = ServiceDescriptor.builder(createMockService())
+                .unary("methodOne", this::dummyServerStreaming, rules -> rules.executor(executor))
+                .build();
+
+        assertThat(descriptor.executor(), is(nullValue()));
+        assertThat(descriptor.method("methodOne").executor(), is(sameInstance(executor)));
+    }
+
     private StreamObserver<String> dummyBiDi(StreamObserver<String> observer) {
         return null;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,12 +21,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -39,6 +42,7 @@ import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.json.JsonStructure;
 
+import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
 import io.helidon.common.http.Http;
 import io.helidon.common.reactive.Single;
 import io.helidon.config.Config;
@@ -85,8 +89,10 @@ public final class HealthSupport implements Service {
     private final boolean backwardCompatible;
     private final CorsEnabledServiceHelper corsEnabledServiceHelper;
     private final MessageBodyWriter<JsonStructure> jsonpWriter = JsonpSupport.writer();
+    private final Map<HealthCheck, HealthCheckCall> healthCheckCalls = new IdentityHashMap<>();
     private final Timeout timeout;
     private final Async async;
+    private ScheduledExecutorService refreshExecutor;
 
     private HealthSupport(Builder builder) {
         this.enabled = builder.enabled;
@@ -123,6 +129,12 @@ public final class HealthSupport implements Service {
 
         this.timeout = Timeout.create(Duration.ofMillis(builder.timeoutMillis));
         this.async = Async.create();
+
+        // global cache and refresh are defaults of checks added without their own
+        CallPolicy defaultPolicy = new CallPolicy(builder.cacheMillis, builder.refreshMillis);
+        for (HealthCheck hc : allChecks) {
+            healthCheckCalls.put(hc, new HealthCheckCall(hc, builder.callPolicies.getOrDefault(hc, defaultPolicy)));
+        }
     }
 
     @Override
@@ -131,6 +143,7 @@ public final class HealthSupport implements Service {
             // do not register anything if health check is disabled
             return;
         }
+        startRefresh();
         rules.any(webContext, corsEnabledServiceHelper.processor())
                 .get(webContext, this::callAll)
                 .get(webContext + "/live", this::callLiveness)
@@ -149,11 +162,31 @@ public final class HealthSupport implements Service {
         invoke(res, readinessChecks);
     }
 
+    private synchronized void startRefresh() {
+        List<HealthCheckCall> refreshed = healthCheckCalls.values()
+                .stream()
+                .filter(HealthCheckCall::refreshed)
+                .collect(Collectors.toList());
+        if (refreshExecutor != null || refreshed.isEmpty()) {
+            return;
+        }
+        refreshExecutor = ScheduledThreadPoolSupplier.builder()
+                .threadNamePrefix("health-refresh-")
+                .corePoolSize(1)
+                .daemon(true)
+                .build()
+                .get();
+        // calls are asynchronous, refresh thread only starts them
+        refreshed.forEach(call -> refreshExecutor.scheduleWithFixedDelay(call::call,
+                                                                        0,
+                                                                        call.policy.refreshMillis,
+                                                                        TimeUnit.MILLISECONDS));
+    }
+
     void invoke(ServerResponse res, List<HealthCheck> healthChecks) {
-        // timeout on the asynchronous execution
-        Single<HealthResponse> result = timeout.invoke(() -> async.invoke(() -> callHealthChecks(healthChecks)));
+        Single<HealthResponse> result = invokeHealthChecks(healthChecks);
 
-        // handle timeouts and failures in execution
+        // handle failures in execution
         result = result.onErrorResume(throwable -> {
             LOGGER.log(Level.SEVERE, "Failed to call health checks", throwable);
             HcResponse response = new HcResponse(HealthCheckResponse.down("InternalError"), true);
@@ -168,8 +201,30 @@ public final class HealthSupport implements Service {
     }
 
     HealthResponse callHealthChecks(List<HealthCheck> healthChecks) {
-        List<HcResponse> responses = healthChecks.stream()
-                .map(this::callHealthChecks)
+        return invokeHealthChecks(healthChecks).await();
+    }
+
+    private Single<HealthResponse> invokeHealthChecks(List<HealthCheck> healthChecks) {
+        // all health checks run in parallel, each with its own timeout
+        List<CompletableFuture<HcResponse>> calls = healthChecks.stream()
+                .map(this::healthCheckCall)
+                .map(HealthCheckCall::response)
+                .collect(Collectors.toList());
+
+        return Single.create(CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]))
+                                     .thenApply(it -> toHealthResponse(calls.stream()
+                                                                               .map(CompletableFuture::join)
+                                                                               .collect(Collectors.toList()))));
+    }
+
+    private HealthCheckCall healthCheckCall(HealthCheck hc) {
+        HealthCheckCall call = healthCheckCalls.get(hc);
+        // health check not registered with this instance is neither cached nor refreshed
+        return call == null ? new HealthCheckCall(hc, CallPolicy.NONE) : call;
+    }
+
+    private HealthResponse toHealthResponse(List<HcResponse> allResponses) {
+        List<HcResponse> responses = allResponses.stream()
                 .filter(this::notExcluded)
                 .filter(this::allOrIncluded)
                 .sorted(Comparator.comparing(HcResponse::name))
@@ -240,6 +295,97 @@ public final class HealthSupport implements Service {
         }
     }
 
+    /**
+     * Asynchronous call of a single health check with its own timeout.
+     * Concurrent requests share the running call, the last response is reused
+     * when caching or background refresh is configured.
+     */
+    private final class HealthCheckCall {
+        private final HealthCheck hc;
+        private final CallPolicy policy;
+        private volatile HcResponse last;
+        private volatile long lastNanos;
+        // guarded by this
+        private CompletableFuture<HcResponse> running;
+
+        private HealthCheckCall(HealthCheck hc, CallPolicy policy) {
+            this.hc = hc;
+            this.policy = policy;
+        }
+
+        boolean refreshed() {
+            return policy.refreshMillis > 0;
+        }
+
+        CompletableFuture<HcResponse> response() {
+            HcResponse response = last;
+            if (response != null && (refreshed() || System.nanoTime() - lastNanos < policy.cacheNanos)) {
+                return CompletableFuture.completedFuture(response);
+            }
+            return call();
+        }
+
+        synchronized CompletableFuture<HcResponse> call() {
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<HcResponse> result = new CompletableFuture<>();
+            running = result;
+            timeout.invoke(() -> async.invoke(() -> callHealthChecks(hc)))
+                    .onErrorResume(this::failed)
+                    .thenAccept(response -> completed(result, response));
+            return result;
+        }
+
+        private void completed(CompletableFuture<HcResponse> result, HcResponse response) {
+            synchronized (this) {
+                // written before the response, so the response is never seen with an older timestamp
+                lastNanos = System.nanoTime();
+                last = response;
+                running = null;
+            }
+            result.complete(response);
+        }
+
+        private HcResponse failed(Throwable throwable) {
+            LOGGER.log(Level.SEVERE, "Failed to compute health check for " + hc.getClass().getName(), throwable);
+
+            HcResponse previous = last;
+            return new HcResponse(HealthCheckResponse
+                                          .named(previous == null ? hc.getClass().getName() : previous.name())
+                                          .withData("message", "Failed to compute health in time. Error logged")
+                                          .down()
+                                          .build(),
+                                  true);
+        }
+    }
+
+    /**
+     * Caching and background refresh of a single health check.
+     */
+    private static final class CallPolicy {
+        private static final CallPolicy NONE = new CallPolicy(0, 0);
+
+        private final long cacheNanos;
+        private final long refreshMillis;
+
+        private CallPolicy(long cacheMillis, long refreshMillis) {
+            this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(cacheMillis);
+            this.refreshMillis = refreshMillis;
+        }
+
+        private static CallPolicy create(Duration cacheTtl, boolean refresh) {
+            Objects.requireNonNull(cacheTtl, "Cache TTL must be non-null");
+            if (refresh) {
+                if (cacheTtl.isNegative() || cacheTtl.isZero()) {
+                    throw new IllegalArgumentException("Refresh period must be positive, but is " + cacheTtl);
+                }
+                return new CallPolicy(0, cacheTtl.toMillis());
+            }
+            return new CallPolicy(cacheTtl.toMillis(), 0);
+        }
+    }
+
     /**
      * Get a builder to configure health support instance.
      *
@@ -284,11 +430,14 @@ public final class HealthSupport implements Service {
         private final Set<Class<?>> excludedClasses = new HashSet<>();
         private final Set<String> includedHealthChecks = new HashSet<>();
         private final Set<String> excludedHealthChecks = new HashSet<>();
+        private final Map<HealthCheck, CallPolicy> callPolicies = new IdentityHashMap<>();
         private String webContext = DEFAULT_WEB_CONTEXT;
         private boolean enabled = true;
         private boolean backwardCompatible = true;
         private CrossOriginConfig crossOriginConfig;
         private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+        private long cacheMillis;
+        private long refreshMillis;
 
         private Builder() {
         }
@@ -399,6 +548,8 @@ public final class HealthSupport implements Service {
             config.get("exclude-classes").asList(Class.class).ifPresent(list -> list.forEach(this::addExcludedClass));
             config.get("backward-compatible").asBoolean().ifPresent(this::backwardCompatible);
             config.get("timeout-millis").asLong().ifPresent(this::timeoutMillis);
+            config.get("cache-millis").asLong().ifPresent(this::cacheMillis);
+            config.get("refresh-millis").asLong().ifPresent(this::refreshMillis);
             config.get(CORS_CONFIG_KEY)
                     .as(CrossOriginConfig::create)
                     .ifPresent(this::crossOriginConfig);
@@ -409,8 +560,18 @@ public final class HealthSupport implements Service {
             this.timeoutMillis = aLong;
         }
 
+        private void cacheMillis(long aLong) {
+            this.cacheMillis = aLong;
+        }
+
+        private void refreshMillis(long aLong) {
+            this.refreshMillis = aLong;
+        }
+
         /**
-         * Configure overall timeout of health check call.
+         * Configure timeout of each health check call.
+         * Health checks are called in parallel, a health check that does not respond in time is reported
+         * as {@code DOWN}.
          *
          * @param timeout timeout value
          * @param unit timeout time unit
@@ -421,6 +582,36 @@ public final class HealthSupport implements Service {
             return this;
         }
 
+        /**
+         * Configure how long the response of each health check is reused before the health check is called again.
+         * Defaults to {@code 0}, health checks are called for each request.
+         * Health checks added with their own cache TTL are not affected.
+         *
+         * @param cache time to reuse the response
+         * @param unit cache time unit
+         * @return updated builder instance
+         */
+        public Builder cache(long cache, TimeUnit unit) {
+            cacheMillis(unit.toMillis(cache));
+            return this;
+        }
+
+        /**
+         * Configure period of calling health checks in background.
+         * When configured, requests are served with the last response of each health check,
+         * and call a health check only if it has not responded yet.
+         * Defaults to {@code 0}, health checks are not called in background.
+         * Health checks added with their own cache TTL are not affected.
+         *
+         * @param refresh period of background calls
+         * @param unit refresh time unit
+         * @return updated builder instance
+         */
+        public Builder refresh(long refresh, TimeUnit unit) {
+            refreshMillis(unit.toMillis(refresh));
+            return this;
+        }
+
         /**
          * A class may be excluded from invoking health checks on it.
          * This allows configurable approach to disabling broken health-checks.
@@ -456,6 +647,20 @@ public final class HealthSupport implements Service {
             return this;
         }
 
+        /**
+         * Add a liveness health check with its own caching, overriding {@link #cache(long, java.util.concurrent.TimeUnit)}
+         * and {@link #refresh(long, java.util.concurrent.TimeUnit)}.
+         *
+         * @param healthCheck health check to add
+         * @param cacheTtl how long the response is reused, or the period of background calls if {@code refresh} is set
+         * @param refresh whether to call the health check in background, requests are then served with its last response
+         * @return updated builder instance
+         */
+        public Builder addLiveness(HealthCheck healthCheck, Duration cacheTtl, boolean refresh) {
+            this.callPolicies.put(healthCheck, CallPolicy.create(cacheTtl, refresh));
+            return addLiveness(healthCheck);
+        }
+
         /**
          * Add readiness health check(s).
          *
@@ -479,6 +684,20 @@ public final class HealthSupport implements Service {
             return this;
         }
 
+        /**
+         * Add a readiness health check with its own caching, overriding {@link #cache(long, java.util.concurrent.TimeUnit)}
+         * and {@link #refresh(long, java.util.concurrent.TimeUnit)}.
+         *
+         * @param healthCheck health check to add
+         * @param cacheTtl how long the response is reused, or the period of background calls if {@code refresh} is set
+         * @param refresh whether to call the health check in background, requests are then served with its last response
+         * @return updated builder instance
+         */
+        public Builder addReadiness(HealthCheck healthCheck, Duration cacheTtl, boolean refresh) {
+            this.callPolicies.put(healthCheck, CallPolicy.create(cacheTtl, refresh));
+            return addReadiness(healthCheck);
+        }
+
         /**
          * HealthSupport can be disabled by invoking this method.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ module io.helidon.health {
     requires java.logging;
 
     requires io.helidon.common;
+    requires io.helidon.common.configurable;
     requires transitive microprofile.health.api;
     requires io.helidon.webserver;
     requires io.helidon.webserver.cors;
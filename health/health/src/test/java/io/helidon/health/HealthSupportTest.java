@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,12 @@
 
 package io.helidon.health;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -44,6 +48,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class HealthSupportTest {
     private static Stream<List<HealthCheck>> goodChecks() {
@@ -220,6 +225,100 @@ class HealthSupportTest {
         assertThat(json.getJsonArray("checks"), hasSize(brokenChecks.size()));
     }
 
+    @Test
+    void slowHealthCheckDoesNotDelayOthers() {
+        CountDownLatch release = new CountDownLatch(1);
+        HealthCheck slow = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            return HealthCheckResponse.named("slow").up().build();
+        };
+        List<HealthCheck> checks = List.of(new GoodHealthCheck("good1"), slow);
+        HealthSupport support = HealthSupport.builder()
+                .addLiveness(checks)
+                .timeout(200, TimeUnit.MILLISECONDS)
+                .build();
+
+        try {
+            HealthSupport.HealthResponse response = support.callHealthChecks(checks);
+
+            assertThat(response.status(), is(Http.Status.INTERNAL_SERVER_ERROR_500));
+            final JsonObject json = response.json();
+            assertThat(json.getString("outcome"), is("DOWN"));
+            assertThat(json.getJsonArray("checks"), hasSize(2));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void cachedHealthCheckIsCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        HealthCheck counting = () -> {
+            calls.incrementAndGet();
+            return HealthCheckResponse.named("counting").up().build();
+        };
+        List<HealthCheck> checks = List.of(counting);
+        HealthSupport support = HealthSupport.builder()
+                .addLiveness(checks)
+                .cache(1, TimeUnit.MINUTES)
+                .build();
+
+        support.callHealthChecks(checks);
+        HealthSupport.HealthResponse response = support.callHealthChecks(checks);
+
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void healthCheckWithOwnCacheTtl() {
+        AtomicInteger cachedCalls = new AtomicInteger();
+        AtomicInteger uncachedCalls = new AtomicInteger();
+        HealthCheck cached = () -> {
+            cachedCalls.incrementAndGet();
+            return HealthCheckResponse.named("cached").up().build();
+        };
+        HealthCheck uncached = () -> {
+            uncachedCalls.incrementAndGet();
+            return HealthCheckResponse.named("uncached").up().build();
+        };
+        List<HealthCheck> checks = List.of(cached, uncached);
+        HealthSupport support = HealthSupport.builder()
+                .addReadiness(cached, Duration.ofMinutes(1), false)
+                .addReadiness(uncached)
+                .build();
+
+        support.callHealthChecks(checks);
+        support.callHealthChecks(checks);
+
+        assertThat(cachedCalls.get(), is(1));
+        assertThat(uncachedCalls.get(), is(2));
+    }
+
+    @Test
+    void healthCheckWithOwnRefreshOverridesGlobalCache() {
+        AtomicInteger calls = new AtomicInteger();
+        HealthCheck counting = () -> {
+            calls.incrementAndGet();
+            return HealthCheckResponse.named("counting").up().build();
+        };
+        List<HealthCheck> checks = List.of(counting);
+        HealthSupport support = HealthSupport.builder()
+                .addLiveness(counting, Duration.ofMinutes(1), true)
+                .cache(0, TimeUnit.MILLISECONDS)
+                .build();
+
+        support.callHealthChecks(checks);
+        support.callHealthChecks(checks);
+
+        assertThat(calls.get(), is(1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> HealthSupport.builder().addLiveness(counting, Duration.ZERO, true));
+    }
+
     private static final class GoodHealthCheck implements HealthCheck {
         private final String name;
 
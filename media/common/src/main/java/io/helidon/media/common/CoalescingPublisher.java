@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+/**
+ * Publisher of chunks containing the items of a stream serialized one after another,
+ * with a prefix, delimiters and a suffix, such as a JSON array.
+ * <p>
+ * Items are requested one by one. The items that upstream delivers while being requested are already
+ * available, and are serialized into the same chunk. The chunk is emitted once upstream has no item ready,
+ * or once it reaches {@link DataChunkOutputStream#BUFFER_SIZE}, so a stream of small items results in a few
+ * large chunks, while items of a slow stream are emitted as soon as they arrive.
+ *
+ * @param <T> type of the items
+ */
+public final class CoalescingPublisher<T> implements Multi<DataChunk> {
+
+    private final Flow.Publisher<? extends T> source;
+    private final BiConsumer<? super T, DataChunkOutputStream> writer;
+    private final byte[] prefix;
+    private final byte[] delimiter;
+    private final byte[] suffix;
+    private final boolean flush;
+
+    private CoalescingPublisher(Flow.Publisher<? extends T> source,
+                                BiConsumer<? super T, DataChunkOutputStream> writer,
+                                byte[] prefix,
+                                byte[] delimiter,
+                                byte[] suffix,
+                                boolean flush) {
+        this.source = source;
+        this.writer = writer;
+        this.prefix = prefix;
+        this.delimiter = delimiter;
+        this.suffix = suffix;
+        this.flush = flush;
+    }
+
+    /**
+     * Create a new publisher.
+     *
+     * @param source    publisher of the items
+     * @param writer    serializes an item into the stream, and discards the written content if it fails
+     * @param prefix    bytes written before the first item
+     * @param delimiter bytes written between two items
+     * @param suffix    bytes written after the last item
+     * @param flush     whether the emitted chunks should be flushed
+     * @param <T>       type of the items
+     * @return new publisher
+     */
+    public static <T> CoalescingPublisher<T> create(Flow.Publisher<? extends T> source,
+                                                    BiConsumer<? super T, DataChunkOutputStream> writer,
+                                                    byte[] prefix,
+                                                    byte[] delimiter,
+                                                    byte[] suffix,
+                                                    boolean flush) {
+        return new CoalescingPublisher<>(Objects.requireNonNull(source),
+                                         Objects.requireNonNull(writer),
+                                         prefix,
+                                         delimiter,
+                                         suffix,
+                                         flush);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super DataChunk> subscriber) {
+        Objects.requireNonNull(subscriber);
+        source.subscribe(new CoalescingSubscriber<>(subscriber, this));
+    }
+
+    private static final class CoalescingSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super DataChunk> downstream;
+        private final CoalescingPublisher<T> parent;
+        private final Queue<T> items = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean subscribed = new AtomicBoolean();
+        private final DataChunkOutputStream out = new DataChunkOutputStream();
+
+        private volatile Flow.Subscription upstream;
+        private volatile boolean upstreamDone;
+        private volatile Throwable error;
+        private volatile boolean canceled;
+
+        // only accessed in drain()
+        private boolean first = true;
+        private boolean pending;
+        private boolean suffixWritten;
+        private boolean terminated;
+
+        CoalescingSubscriber(Flow.Subscriber<? super DataChunk> downstream, CoalescingPublisher<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription);
+            if (!subscribed.compareAndSet(false, true)) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.offer(Objects.requireNonNull(item));
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = Objects.requireNonNull(throwable);
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                upstream.cancel();
+                onError(new IllegalArgumentException("Rule §3.9 violated: non-positive request amount is forbidden"));
+                return;
+            }
+            requested.getAndUpdate(r -> Long.MAX_VALUE - r > n ? r + n : Long.MAX_VALUE);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            upstream.cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    try {
+                        drainLoop();
+                    } catch (RuntimeException e) {
+                        terminated = true;
+                        upstream.cancel();
+                        items.clear();
+                        out.discard();
+                        downstream.onError(e);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            for (;;) {
+                if (canceled) {
+                    terminated = true;
+                    items.clear();
+                    out.discard();
+                    return;
+                }
+                T item;
+                while ((item = items.poll()) != null) {
+                    pending = false;
+                    write(first ? parent.prefix : parent.delimiter);
+                    first = false;
+                    parent.writer.accept(item, out);
+                }
+                // an item is queued before upstream completes
+                if (upstreamDone && items.isEmpty()) {
+                    complete();
+                    return;
+                }
+                if (requested.get() == 0) {
+                    return;
+                }
+                if (out.size() >= DataChunkOutputStream.BUFFER_SIZE) {
+                    emit();
+                    continue;
+                }
+                if (pending) {
+                    // upstream has no item ready, do not hold back what is written
+                    if (out.size() > 0) {
+                        emit();
+                    }
+                    return;
+                }
+                pending = true;
+                // items delivered during the request are queued and coalesced by the next iteration
+                upstream.request(1);
+            }
+        }
+
+        private void complete() {
+            Throwable throwable = error;
+            if (throwable != null) {
+                terminated = true;
+                out.discard();
+                downstream.onError(throwable);
+                return;
+            }
+            if (!suffixWritten) {
+                if (first) {
+                    write(parent.prefix);
+                    first = false;
+                }
+                write(parent.suffix);
+                suffixWritten = true;
+            }
+            if (out.size() > 0) {
+                if (requested.get() == 0) {
+                    // the last chunk is emitted on the next request
+                    return;
+                }
+                emit();
+            }
+            terminated = true;
+            downstream.onComplete();
+        }
+
+        private void write(byte[] bytes) {
+            if (bytes != null) {
+                out.write(bytes);
+            }
+        }
+
+        private void emit() {
+            requested.decrementAndGet();
+            downstream.onNext(out.toChunk(parent.flush));
+        }
+    }
+}
@@ -16,9 +16,11 @@
 
 package io.helidon.media.common;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Objects;
@@ -26,6 +28,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileRegionDataChunk;
 import io.helidon.common.reactive.IoMulti;
 import io.helidon.common.reactive.RetrySchema;
 import io.helidon.common.reactive.Single;
@@ -116,6 +119,44 @@ public final class ContentWriters {
         return returnValue;
     }
 
+    /**
+     * Create a publisher of {@link DataChunk} with a region of the given
+     * {@link FileChannel}.
+     * <p>
+     * If the context supports file regions, a single
+     * {@link FileRegionDataChunk} is published so that the region can be
+     * transferred without copying. Otherwise the region is read in chunks.
+     * The channel is closed once the region is written.
+     *
+     * @param channel the file channel
+     * @param position position of the first byte of the region
+     * @param count number of bytes of the region
+     * @param context the writer context
+     * @return Publisher
+     */
+    public static Publisher<DataChunk> writeFileRegion(FileChannel channel,
+                                                       long position,
+                                                       long count,
+                                                       MessageBodyWriterContext context) {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(context);
+
+        if (context.fileRegionSupport()) {
+            return Single.<DataChunk>just(FileRegionDataChunk.create(channel, position, count));
+        }
+        try {
+            channel.position(position);
+        } catch (IOException ex) {
+            try {
+                channel.close();
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            return Single.<DataChunk>error(ex);
+        }
+        return IoMulti.multiFromByteChannel(new BoundedByteChannel(channel, count)).map(DataChunk::create);
+    }
+
     /**
      * Returns a writer function for {@code byte[]}.
      * <p>
@@ -199,4 +240,49 @@ public final class ContentWriters {
         return channel -> IoMulti.multiFromByteChannel(channel).map(DataChunk::create);
     }
 
+    /**
+     * A {@link ReadableByteChannel} reading at most given number of bytes
+     * from a delegate channel.
+     */
+    private static final class BoundedByteChannel implements ReadableByteChannel {
+
+        private final ReadableByteChannel delegate;
+        private long remaining;
+
+        BoundedByteChannel(ReadableByteChannel delegate, long count) {
+            this.delegate = delegate;
+            this.remaining = count;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int limit = dst.limit();
+            if (dst.remaining() > remaining) {
+                dst.limit(dst.position() + (int) remaining);
+            }
+            int read;
+            try {
+                read = delegate.read(dst);
+            } finally {
+                dst.limit(limit);
+            }
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.DataChunk;
+
+/**
+ * An output stream that writes into heap {@link ByteBuffer}s and hands the written
+ * content over as a {@link DataChunk}.
+ * <p>
+ * The content is serialized straight into the buffers of the chunk, with no intermediate array.
+ * The first buffer of a chunk is sized to the previous chunk, further buffers double in size up to
+ * {@link #BUFFER_SIZE}, so small entities take little memory. Buffers of {@link #BUFFER_SIZE} are taken
+ * from a bounded pool, and are returned to it once the chunk is released. Copying into direct memory is left to
+ * the pooled allocator of the transport.
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ */
+public class DataChunkOutputStream extends OutputStream {
+
+    /**
+     * Maximal size of a buffer, which is also the size writers coalesce small writes to.
+     */
+    public static final int BUFFER_SIZE = 8192;
+
+    private static final int INITIAL_SIZE = 256;
+    private static final int POOL_SIZE = 64;
+    private static final Deque<ByteBuffer> POOL = new ConcurrentLinkedDeque<>();
+    // upper bound of the pool size, incremented before a buffer is pushed and decremented after it is polled
+    private static final AtomicInteger POOLED = new AtomicInteger();
+
+    private final List<ByteBuffer> buffers = new ArrayList<>(1);
+    private ByteBuffer current;
+    private int size;
+    private int firstSize = INITIAL_SIZE;
+
+    /**
+     * Constructor.
+     */
+    public DataChunkOutputStream() {
+    }
+
+    @Override
+    public void write(int b) {
+        if (current == null || !current.hasRemaining()) {
+            next();
+        }
+        current.put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b) {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            if (current == null || !current.hasRemaining()) {
+                next();
+            }
+            int count = Math.min(len, current.remaining());
+            current.put(b, off, count);
+            off += count;
+            len -= count;
+            size += count;
+        }
+    }
+
+    /**
+     * Returns the number of bytes written since the last chunk was created.
+     *
+     * @return the number of bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates a chunk of all bytes written since the last chunk was created.
+     * The stream can be used to write the next chunk afterwards.
+     *
+     * @param flush whether the chunk should be flushed
+     * @return a chunk of the written bytes
+     */
+    public DataChunk toChunk(boolean flush) {
+        ByteBuffer[] data = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = buffers.get(i).flip();
+        }
+        if (size > 0) {
+            firstSize = Math.min(Math.max(size, INITIAL_SIZE), BUFFER_SIZE);
+        }
+        buffers.clear();
+        current = null;
+        size = 0;
+        if (data.length == 0) {
+            return DataChunk.create(flush, ByteBuffer.allocate(0));
+        }
+        // the buffers are not written again until the chunk is released, so the chunk can be retained as is
+        return DataChunk.create(flush, true, () -> recycleAll(data), data);
+    }
+
+    /**
+     * Discards the bytes written since the last chunk was created.
+     */
+    public void discard() {
+        buffers.forEach(DataChunkOutputStream::recycle);
+        buffers.clear();
+        current = null;
+        size = 0;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void next() {
+        int capacity = current == null ? firstSize : Math.min(current.capacity() * 2, BUFFER_SIZE);
+        ByteBuffer pooled = capacity == BUFFER_SIZE ? POOL.pollFirst() : null;
+        if (pooled == null) {
+            current = ByteBuffer.allocate(capacity);
+        } else {
+            POOLED.decrementAndGet();
+            current = pooled;
+        }
+        buffers.add(current);
+    }
+
+    private static void recycleAll(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            recycle(buffer);
+        }
+    }
+
+    private static void recycle(ByteBuffer buffer) {
+        if (buffer.capacity() != BUFFER_SIZE) {
+            return;
+        }
+        if (POOLED.getAndIncrement() < POOL_SIZE) {
+            POOL.offerFirst(buffer.clear());
+        } else {
+            POOLED.decrementAndGet();
+        }
+    }
+}
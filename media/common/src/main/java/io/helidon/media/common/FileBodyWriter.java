@@ -80,9 +80,10 @@ final class FileBodyWriter implements MessageBodyWriter<File> {
             try {
                 Path path = file.toPath();
                 context.contentType(MediaType.APPLICATION_OCTET_STREAM);
-                context.contentLength(Files.size(path));
+                long size = Files.size(path);
+                context.contentLength(size);
                 FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
-                return ContentWriters.byteChannelWriter().apply(fc);
+                return ContentWriters.writeFileRegion(fc, 0, size, context);
             } catch (IOException ex) {
                 return Single.<DataChunk>error(ex);
             }
@@ -91,6 +91,26 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
         }
     }
 
+    /**
+     * Check whether this registry and all its parents are empty.
+     * @return {@code true} if no operator is registered
+     */
+    boolean isEmpty() {
+        MessageBodyOperators<T> current = this;
+        while (current != null) {
+            try {
+                current.lock.readLock().lock();
+                if (!current.operators.isEmpty()) {
+                    return false;
+                }
+            } finally {
+                current.lock.readLock().unlock();
+            }
+            current = current.parent;
+        }
+        return true;
+    }
+
     /**
      * Select an operator using {@link MessageBodyOperator#accept}.
      * @param type the type representation
@@ -28,6 +28,7 @@ import java.util.function.Predicate;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileRegionDataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.http.Parameters;
@@ -59,6 +60,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
     private Optional<MediaType> contentTypeCache;
     private boolean charsetCached;
     private Charset charsetCache;
+    private boolean fileRegionSupport;
 
     /**
      * Private to enforce the use of the static factory methods.
@@ -122,6 +124,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.contentTypeCached = writerContext.contentTypeCached;
         this.charsetCache = writerContext.charsetCache;
         this.charsetCached = writerContext.charsetCached;
+        this.fileRegionSupport = writerContext.fileRegionSupport;
     }
 
     /**
@@ -394,6 +397,26 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         return headers;
     }
 
+    /**
+     * Indicates whether file content can be published as {@link FileRegionDataChunk}. This is the case
+     * if the consumer of this context declared it can transfer file regions directly and no filters
+     * are registered.
+     *
+     * @return {@code true} if file regions can be published
+     */
+    public boolean fileRegionSupport() {
+        return fileRegionSupport && !hasFilters();
+    }
+
+    /**
+     * Declare whether the consumer of this context can transfer {@link FileRegionDataChunk} directly.
+     *
+     * @param fileRegionSupport {@code true} if file regions are supported
+     */
+    public void fileRegionSupport(boolean fileRegionSupport) {
+        this.fileRegionSupport = fileRegionSupport;
+    }
+
     /**
      * Get the {@code Content-Type} header.
      *
@@ -77,9 +77,10 @@ final class PathBodyWriter implements MessageBodyWriter<Path> {
         public Publisher<DataChunk> map(Path path) {
             try {
                 context.contentType(MediaType.APPLICATION_OCTET_STREAM);
-                context.contentLength(Files.size(path));
+                long size = Files.size(path);
+                context.contentLength(size);
                 FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
-                return ContentWriters.byteChannelWriter().apply(fc);
+                return ContentWriters.writeFileRegion(fc, 0, size, context);
             } catch (IOException ex) {
                 return Single.<DataChunk>error(ex);
             }
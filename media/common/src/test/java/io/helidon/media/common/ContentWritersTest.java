@@ -16,14 +16,22 @@
 
 package io.helidon.media.common;
 
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeUnit;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileRegionDataChunk;
+import io.helidon.common.reactive.Multi;
 
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -64,4 +72,52 @@ public class ContentWritersTest {
         byte[] result = ContentReaders.readBytes(publisher).get(5, TimeUnit.SECONDS);
         assertThat(new String(result, StandardCharsets.UTF_8), is(data));
     }
+
+    @Test
+    public void fileRegionWriter() throws Exception {
+        Path file = Files.createTempFile("content-writers", ".txt");
+        try {
+            Files.writeString(file, "0123456789");
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            Publisher<DataChunk> publisher = ContentWriters.writeFileRegion(channel, 2, 5, MessageBodyWriterContext.create());
+            byte[] result = ContentReaders.readBytes(publisher).get(5, TimeUnit.SECONDS);
+            assertThat(new String(result, StandardCharsets.UTF_8), is("23456"));
+            assertThat(channel.isOpen(), is(false));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void fileRegionChunk() throws Exception {
+        Path file = Files.createTempFile("content-writers", ".txt");
+        try {
+            Files.writeString(file, "0123456789");
+            MessageBodyWriterContext context = MessageBodyWriterContext.create();
+            context.fileRegionSupport(true);
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            List<DataChunk> chunks = Multi.create(ContentWriters.writeFileRegion(channel, 2, 5, context))
+                    .collectList()
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(chunks.size(), is(1));
+            assertThat(chunks.get(0), instanceOf(FileRegionDataChunk.class));
+            FileRegionDataChunk region = (FileRegionDataChunk) chunks.get(0);
+            assertThat(region.position(), is(2L));
+            assertThat(region.count(), is(5L));
+            assertThat(new String(region.bytes(), StandardCharsets.UTF_8), is("23456"));
+            region.release();
+            assertThat(channel.isOpen(), is(false));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void fileRegionDisabledByFilters() {
+        MessageBodyWriterContext context = MessageBodyWriterContext.create();
+        context.fileRegionSupport(true);
+        assertThat(context.fileRegionSupport(), is(true));
+        context.registerFilter(publisher -> publisher);
+        assertThat(context.fileRegionSupport(), is(false));
+    }
 }
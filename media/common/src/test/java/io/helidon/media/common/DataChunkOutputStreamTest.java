@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.helidon.common.http.DataChunk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Tests {@link DataChunkOutputStream}.
+ */
+public class DataChunkOutputStreamTest {
+
+    @Test
+    public void singleBuffer() {
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        out.write('{');
+        out.write("\"a\":1".getBytes(StandardCharsets.UTF_8));
+        out.write('}');
+        assertThat(out.size(), is(7));
+
+        DataChunk chunk = out.toChunk(true);
+        assertThat(chunk.data().length, is(1));
+        assertThat(chunk.flush(), is(true));
+        assertThat(chunk.isReadOnly(), is(true));
+        assertThat(new String(chunk.bytes(), StandardCharsets.UTF_8), is("{\"a\":1}"));
+        assertThat(out.size(), is(0));
+        chunk.release();
+        assertThat(chunk.isReleased(), is(true));
+    }
+
+    @Test
+    public void multipleBuffers() {
+        byte[] bytes = new byte[DataChunkOutputStream.BUFFER_SIZE * 2 + 10];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        out.write(bytes, 0, 5);
+        out.write(bytes, 5, bytes.length - 5);
+
+        DataChunk chunk = out.toChunk(false);
+        assertThat(chunk.data().length, greaterThan(1));
+        for (ByteBuffer buffer : chunk.data()) {
+            assertThat(buffer.capacity(), lessThanOrEqualTo(DataChunkOutputStream.BUFFER_SIZE));
+            assertThat(buffer.hasArray(), is(true));
+        }
+        assertThat(chunk.remaining(), is(bytes.length));
+        assertThat(Arrays.equals(chunk.bytes(), bytes), is(true));
+        chunk.release();
+    }
+
+    @Test
+    public void reuseAfterChunk() {
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        out.write("first".getBytes(StandardCharsets.UTF_8));
+        DataChunk first = out.toChunk(false);
+        out.write("second".getBytes(StandardCharsets.UTF_8));
+        DataChunk second = out.toChunk(false);
+
+        assertThat(new String(first.bytes(), StandardCharsets.UTF_8), is("first"));
+        assertThat(new String(second.bytes(), StandardCharsets.UTF_8), is("second"));
+        first.release();
+        second.release();
+    }
+
+    @Test
+    public void firstBufferSizedToPreviousChunk() {
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        out.write(new byte[5000]);
+        DataChunk first = out.toChunk(false);
+        out.write(new byte[4000]);
+        DataChunk second = out.toChunk(false);
+
+        assertThat(second.data().length, is(1));
+        assertThat(second.data()[0].capacity(), is(5000));
+        first.release();
+        second.release();
+    }
+
+    @Test
+    public void fullBuffersReusedAfterRelease() {
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        out.write(new byte[DataChunkOutputStream.BUFFER_SIZE * 3]);
+        DataChunk first = out.toChunk(false);
+        ByteBuffer[] buffers = first.data();
+        ByteBuffer last = buffers[buffers.length - 1];
+        assertThat(last.capacity(), is(DataChunkOutputStream.BUFFER_SIZE));
+        first.release();
+
+        out.write("second".getBytes(StandardCharsets.UTF_8));
+        DataChunk second = out.toChunk(false);
+
+        assertThat(second.data()[0], sameInstance(last));
+        assertThat(new String(second.bytes(), StandardCharsets.UTF_8), is("second"));
+        second.release();
+    }
+
+    @Test
+    public void emptyChunk() {
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        DataChunk chunk = out.toChunk(false);
+        assertThat(chunk.remaining(), is(0));
+    }
+
+    @Test
+    public void discard() {
+        DataChunkOutputStream out = new DataChunkOutputStream();
+        out.write("discarded".getBytes(StandardCharsets.UTF_8));
+        out.discard();
+        assertThat(out.size(), is(0));
+        out.write("kept".getBytes(StandardCharsets.UTF_8));
+        assertThat(new String(out.toChunk(false).bytes(), StandardCharsets.UTF_8), is("kept"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,17 +15,21 @@
  */
 package io.helidon.media.jackson;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
+import io.helidon.common.reactive.Collector;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
-import io.helidon.media.common.ContentReaders;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
 
@@ -35,14 +39,19 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
  * Message body reader supporting object binding with Jackson.
+ * <p>
+ * UTF-8 content is parsed incrementally by {@link JacksonDecoder} as chunks arrive. Content in other charsets
+ * is collected and parsed once complete.
  */
 final class JacksonBodyReader implements MessageBodyReader<Object> {
 
     private final ObjectMapper objectMapper;
+    private final long maxSize;
 
-    private JacksonBodyReader(ObjectMapper objectMapper) {
+    private JacksonBodyReader(ObjectMapper objectMapper, long maxSize) {
         Objects.requireNonNull(objectMapper);
         this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
     }
 
     @Override
@@ -58,7 +67,20 @@ final class JacksonBodyReader implements MessageBodyReader<Object> {
     public <U extends Object> Single<U> read(Publisher<DataChunk> publisher,
             GenericType<U> type, MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher).map(new BytesToObject<>(type, objectMapper));
+        if (!isUtf8(context)) {
+            // the non-blocking parser only supports UTF-8
+            return readBytes(publisher, maxSize).map(new BytesToObject<>(type, objectMapper));
+        }
+        JavaType javaType = objectMapper.getTypeFactory().constructType(type.type());
+        return Multi.<U>defer(() -> {
+            JacksonDecoder<U> decoder = JacksonDecoder.create(objectMapper, javaType, maxSize);
+            return Multi.create(publisher)
+                    .flatMapIterable(decoder::feed)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.create(decoder.finish())));
+        })
+                // read the whole content, the decoder rejects anything after the value
+                .collectList()
+                .map(values -> values.get(0));
     }
 
     /**
@@ -67,7 +89,80 @@ final class JacksonBodyReader implements MessageBodyReader<Object> {
      * @return JacksonBodyWriter
      */
     public static JacksonBodyReader create(ObjectMapper objectMapper) {
-        return new JacksonBodyReader(objectMapper);
+        return create(objectMapper, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create a new {@link JacksonBodyReader} instance.
+     * @param objectMapper object mapper to use
+     * @param maxSize maximum size of the content in bytes
+     * @return JacksonBodyWriter
+     */
+    static JacksonBodyReader create(ObjectMapper objectMapper, long maxSize) {
+        return new JacksonBodyReader(objectMapper, maxSize);
+    }
+
+    /**
+     * Whether the content is UTF-8, which is the default charset of JSON.
+     *
+     * @param context reader context
+     * @return {@code true} if the content type does not specify a charset or specifies UTF-8
+     */
+    static boolean isUtf8(MessageBodyReaderContext context) {
+        return context.contentType()
+                .flatMap(MediaType::charset)
+                .map("UTF-8"::equalsIgnoreCase)
+                .orElse(true);
+    }
+
+    /**
+     * Collect the content into a byte array, failing once it exceeds the maximum size.
+     *
+     * @param publisher content
+     * @param maxSize   maximum size of the content in bytes
+     * @return the content
+     */
+    static Single<byte[]> readBytes(Publisher<DataChunk> publisher, long maxSize) {
+        return Multi.create(publisher).collect(new BytesCollector(maxSize));
+    }
+
+    /**
+     * Collects the bytes of the chunks and releases them, enforcing the maximum size.
+     */
+    private static final class BytesCollector implements Collector<DataChunk, byte[]> {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final long maxSize;
+
+        BytesCollector(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public void collect(DataChunk chunk) {
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    int length = byteBuffer.remaining();
+                    if (bytes.size() + (long) length > maxSize) {
+                        throw new JacksonRuntimeException("JSON content exceeds the maximum size of " + maxSize + " bytes");
+                    }
+                    if (byteBuffer.hasArray()) {
+                        bytes.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length);
+                    } else {
+                        byte[] array = new byte[length];
+                        byteBuffer.duplicate().get(array);
+                        bytes.write(array, 0, length);
+                    }
+                }
+            } finally {
+                chunk.release();
+            }
+        }
+
+        @Override
+        public byte[] value() {
+            return bytes.toByteArray();
+        }
     }
 
     private static final class BytesToObject<T> implements Mapper<byte[], T> {
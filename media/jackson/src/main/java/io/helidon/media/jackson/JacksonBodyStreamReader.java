@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Message body stream reader supporting object binding with Jackson.
+ * <p>
+ * Each element of a top-level JSON array is published as a separate object, as soon as it has been received.
+ * Chunks are requested from the content only when the published objects are requested, so the whole array
+ * is never held in memory. A top-level value that is not an array is published as a single object.
+ */
+final class JacksonBodyStreamReader implements MessageBodyStreamReader<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final long maxSize;
+
+    private JacksonBodyStreamReader(ObjectMapper objectMapper, long maxSize) {
+        Objects.requireNonNull(objectMapper);
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        Class<?> clazz = type.rawType();
+        return !CharSequence.class.isAssignableFrom(clazz)
+                && objectMapper.canDeserialize(objectMapper.constructType(clazz))
+                ? PredicateResult.COMPATIBLE
+                : PredicateResult.NOT_SUPPORTED;
+    }
+
+    @Override
+    public <U> Publisher<U> read(Publisher<DataChunk> publisher,
+                                 GenericType<U> type,
+                                 MessageBodyReaderContext context) {
+
+        JavaType javaType = objectMapper.getTypeFactory().constructType(type.type());
+        if (!JacksonBodyReader.isUtf8(context)) {
+            // the non-blocking parser only supports UTF-8
+            return JacksonBodyReader.readBytes(publisher, maxSize)
+                    .flatMapIterable(bytes -> {
+                        try {
+                            return objectMapper.readerFor(javaType).<U>readValues(bytes).readAll();
+                        } catch (IOException e) {
+                            throw new JacksonRuntimeException(e.getMessage(), e);
+                        }
+                    });
+        }
+        return Multi.defer(() -> {
+            JacksonDecoder<U> decoder = JacksonDecoder.createUnwrapping(objectMapper, javaType, maxSize);
+            return Multi.create(publisher)
+                    .flatMapIterable(decoder::feed)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.create(decoder.finish())));
+        });
+    }
+
+    /**
+     * Create a new {@link JacksonBodyStreamReader} instance.
+     *
+     * @param objectMapper object mapper to use
+     * @param maxSize maximum size of the content in bytes
+     * @return JacksonBodyStreamReader
+     */
+    static JacksonBodyStreamReader create(ObjectMapper objectMapper, long maxSize) {
+        return new JacksonBodyStreamReader(objectMapper, maxSize);
+    }
+}
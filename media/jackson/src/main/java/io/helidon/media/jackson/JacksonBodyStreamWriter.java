@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,15 +15,14 @@
  */
 package io.helidon.media.jackson;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.Flow;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.CoalescingPublisher;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -31,12 +30,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Message body stream writer supporting object binding with Jackson.
+ * <p>
+ * The elements are written as a JSON array. Elements that are ready at once are serialized into the same
+ * chunk, see {@link CoalescingPublisher}.
  */
 class JacksonBodyStreamWriter implements MessageBodyStreamWriter<Object> {
 
-    private static final byte[] ARRAY_JSON_END_BYTES = "]".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] ARRAY_JSON_BEGIN_BYTES = "[".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] COMMA_BYTES = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_DELIMITER = {','};
+    private static final byte[] ARRAY_END = {']'};
 
     private final ObjectMapper objectMapper;
 
@@ -61,20 +63,13 @@ class JacksonBodyStreamWriter implements MessageBodyStreamWriter<Object> {
         MediaType contentType = context.findAccepted(MediaType.JSON_PREDICATE, MediaType.APPLICATION_JSON);
         context.contentType(contentType);
 
-        AtomicBoolean first = new AtomicBoolean(true);
         JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
 
-        return Multi.create(publisher)
-                .flatMap(objectToChunks)
-                .flatMap(it -> {
-                    if (first.getAndSet(false)) {
-                        // first record, do not prepend a comma
-                        return Multi.just(DataChunk.create(ARRAY_JSON_BEGIN_BYTES), it);
-                    } else {
-                        // any subsequent record starts with a comma
-                        return Multi.just(DataChunk.create(COMMA_BYTES), it);
-                    }
-                })
-                .onCompleteResume(DataChunk.create(ARRAY_JSON_END_BYTES));
+        return CoalescingPublisher.create(publisher,
+                                          objectToChunks::write,
+                                          ARRAY_START,
+                                          ARRAY_DELIMITER,
+                                          ARRAY_END,
+                                          false);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 package io.helidon.media.jackson;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
 
@@ -25,8 +27,7 @@ import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
-import io.helidon.media.common.CharBuffer;
-import io.helidon.media.common.ContentWriters;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -82,11 +83,27 @@ final class JacksonBodyWriter implements MessageBodyWriter<Object> {
 
         @Override
         public Publisher<DataChunk> map(Object content) {
+            DataChunkOutputStream out = new DataChunkOutputStream();
+            write(content, out);
+            return Single.just(out.toChunk(false));
+        }
+
+        /**
+         * Serialize the content into the given stream, in the configured charset.
+         * The content written to the stream is discarded if serialization fails.
+         *
+         * @param content content to serialize
+         * @param out     stream to write to
+         */
+        void write(Object content, DataChunkOutputStream out) {
             try {
-                CharBuffer buffer = new CharBuffer();
-                objectMapper.writeValue(buffer, content);
-                return ContentWriters.writeCharBuffer(buffer, charset);
+                if (StandardCharsets.UTF_8.equals(charset)) {
+                    objectMapper.writeValue(out, content);
+                } else {
+                    objectMapper.writeValue(new OutputStreamWriter(out, charset), content);
+                }
             } catch (IOException wrapMe) {
+                out.discard();
                 throw new JacksonRuntimeException(wrapMe.getMessage(), wrapMe);
             }
         }
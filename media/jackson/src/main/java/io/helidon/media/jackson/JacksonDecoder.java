@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.helidon.common.http.DataChunk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Incremental decoder of JSON values, fed with {@link DataChunk}s as they arrive.
+ * <p>
+ * The bytes of each chunk are passed to a Jackson non-blocking parser and the chunk is released.
+ * Tokens are copied to a {@link TokenBuffer} until a value is complete, then the value is bound
+ * with the {@link ObjectMapper}. The body is never copied into a single byte array.
+ * <p>
+ * When unwrapping arrays, every element of a top-level array is decoded as a separate value.
+ * A top-level value that is not an array is decoded as a single value.
+ * When decoding a single value, any content after the value is rejected.
+ * <p>
+ * Instances are not thread safe, chunks must be fed serially.
+ *
+ * @param <T> type of the decoded values
+ */
+final class JacksonDecoder<T> {
+
+    private static final int SCRATCH_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+    private final JavaType type;
+    private final boolean unwrapArray;
+    private final long maxSize;
+    private final boolean useBigDecimal;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private byte[] scratch;
+    private TokenBuffer buffer;
+    private long size;
+    private int depth;
+    private boolean rootArray;
+    private boolean decoded;
+
+    private JacksonDecoder(ObjectMapper objectMapper, JavaType type, boolean unwrapArray, long maxSize) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.unwrapArray = unwrapArray;
+        this.maxSize = maxSize;
+        this.useBigDecimal = objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new JacksonRuntimeException("Cannot create a non-blocking JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Create a decoder of a single value.
+     *
+     * @param objectMapper object mapper to bind values with
+     * @param type         type of the value
+     * @param maxSize      maximum number of bytes to accept
+     * @param <T>          type of the value
+     * @return new decoder
+     */
+    static <T> JacksonDecoder<T> create(ObjectMapper objectMapper, JavaType type, long maxSize) {
+        return new JacksonDecoder<>(objectMapper, type, false, maxSize);
+    }
+
+    /**
+     * Create a decoder of the elements of a top-level array.
+     *
+     * @param objectMapper object mapper to bind values with
+     * @param type         type of the elements
+     * @param maxSize      maximum number of bytes to accept
+     * @param <T>          type of the elements
+     * @return new decoder
+     */
+    static <T> JacksonDecoder<T> createUnwrapping(ObjectMapper objectMapper, JavaType type, long maxSize) {
+        return new JacksonDecoder<>(objectMapper, type, true, maxSize);
+    }
+
+    /**
+     * Feed the decoder with a chunk. The chunk is released.
+     *
+     * @param chunk chunk to decode
+     * @return values completed by this chunk, usually empty or a singleton
+     * @throws JacksonRuntimeException if the JSON is malformed, cannot be bound, has content after a single value,
+     *                                 or the maximum size is exceeded
+     */
+    List<T> feed(DataChunk chunk) {
+        try {
+            List<T> result = Collections.emptyList();
+            for (ByteBuffer byteBuffer : chunk.data()) {
+                int length = byteBuffer.remaining();
+                if (length == 0) {
+                    continue;
+                }
+                size += length;
+                if (size > maxSize) {
+                    throw new JacksonRuntimeException("JSON content exceeds the maximum size of " + maxSize + " bytes");
+                }
+                if (byteBuffer.hasArray()) {
+                    int start = byteBuffer.arrayOffset() + byteBuffer.position();
+                    feeder.feedInput(byteBuffer.array(), start, start + length);
+                } else {
+                    if (scratch == null || scratch.length < length) {
+                        scratch = new byte[Math.max(length, SCRATCH_SIZE)];
+                    }
+                    byteBuffer.duplicate().get(scratch, 0, length);
+                    feeder.feedInput(scratch, 0, length);
+                }
+                result = drain(result);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        } finally {
+            chunk.release();
+        }
+    }
+
+    /**
+     * Signal the end of the content.
+     *
+     * @return values completed by the end of the content
+     * @throws JacksonRuntimeException if the content is empty when decoding a single value, or ends within a value
+     */
+    List<T> finish() {
+        try {
+            feeder.endOfInput();
+            List<T> result = drain(Collections.emptyList());
+            if (depth > 0 || buffer != null) {
+                throw new JacksonRuntimeException("Unexpected end of JSON content");
+            }
+            if (!unwrapArray && !decoded) {
+                throw new JacksonRuntimeException("No JSON content to map");
+            }
+            return result;
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        } finally {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // nothing to release, the parser does not own any input
+            }
+        }
+    }
+
+    private List<T> drain(List<T> result) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (unwrapArray && depth == 0 && token == JsonToken.START_ARRAY) {
+                // the top-level array itself is not buffered
+                rootArray = true;
+                depth = 1;
+                continue;
+            }
+            if (rootArray && depth == 1 && token == JsonToken.END_ARRAY) {
+                rootArray = false;
+                depth = 0;
+                continue;
+            }
+            if (buffer == null) {
+                if (!unwrapArray && decoded) {
+                    throw new JacksonRuntimeException("Unexpected content after the JSON value");
+                }
+                buffer = new TokenBuffer(parser);
+                // floating point numbers are bound the same way as when the mapper reads the whole content
+                buffer.forceUseOfBigDecimal(useBigDecimal);
+            }
+            buffer.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == (rootArray ? 1 : 0)) {
+                if (result.isEmpty()) {
+                    result = new ArrayList<>(1);
+                }
+                result.add(bind());
+            }
+        }
+        return result;
+    }
+
+    private T bind() throws IOException {
+        TokenBuffer completed = buffer;
+        buffer = null;
+        decoded = true;
+        try (JsonParser valueParser = completed.asParser(objectMapper)) {
+            return objectMapper.readValue(valueParser, type);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -70,12 +71,14 @@ class JacksonEsBodyStreamWriter implements MessageBodyStreamWriter<Object> {
         context.contentType(contentType);
         JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
         return Multi.create(publisher)
-                .flatMap(objectToChunks)
-                .flatMap(chunk -> Multi.just(
-                        DataChunk.create(DATA),
-                        chunk,
-                        DataChunk.create(NL))
-                );
+                .map(object -> {
+                    // one chunk per event
+                    DataChunkOutputStream out = new DataChunkOutputStream();
+                    out.write(DATA);
+                    objectToChunks.write(object, out);
+                    out.write(NL);
+                    return out.toChunk(false);
+                });
     }
 
     private Optional<MediaType> findMediaType(MessageBodyWriterContext context) {
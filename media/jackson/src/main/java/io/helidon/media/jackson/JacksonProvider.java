@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,7 +46,10 @@ public class JacksonProvider implements MediaSupportProvider {
                 .registerModule(new Jdk8Module())
                 .registerModule(new JavaTimeModule());
         configureJackson(objectMapper, config);
-        return JacksonSupport.create(objectMapper);
+        JacksonSupport.Builder builder = JacksonSupport.builder()
+                .objectMapper(objectMapper);
+        config.get("max-payload-size").asLong().ifPresent(builder::maxPayloadSize);
+        return builder.build();
     }
 
     private void configureJackson(ObjectMapper objectMapper, Config config) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,13 @@ package io.helidon.media.jackson;
  */
 public class JacksonRuntimeException extends RuntimeException {
 
+    /**
+     * Creates a new {@link JacksonRuntimeException}.
+     */
+    JacksonRuntimeException(final String message) {
+        super(message);
+    }
+
     /**
      * Creates a new {@link JacksonRuntimeException}.
      */
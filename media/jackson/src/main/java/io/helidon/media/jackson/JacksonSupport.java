@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.Objects;
 import io.helidon.common.LazyValue;
 import io.helidon.media.common.MediaSupport;
 import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 
@@ -41,16 +42,18 @@ public final class JacksonSupport implements MediaSupport {
             .registerModule(new ParameterNamesModule())
             .registerModule(new Jdk8Module())
             .registerModule(new JavaTimeModule());
-    private static final LazyValue<JacksonSupport> DEFAULT = LazyValue.create(() -> new JacksonSupport(MAPPER));
+    private static final LazyValue<JacksonSupport> DEFAULT = LazyValue.create(() -> new JacksonSupport(MAPPER, Long.MAX_VALUE));
 
     private final JacksonBodyReader reader;
+    private final JacksonBodyStreamReader streamReader;
     private final JacksonBodyWriter writer;
     private final JacksonBodyStreamWriter streamWriter;
     private final JacksonEsBodyStreamWriter esStreamWriter;
     private final JacksonNdBodyStreamWriter ndStreamWriter;
 
-    private JacksonSupport(final ObjectMapper objectMapper) {
-        this.reader = JacksonBodyReader.create(objectMapper);
+    private JacksonSupport(final ObjectMapper objectMapper, final long maxPayloadSize) {
+        this.reader = JacksonBodyReader.create(objectMapper, maxPayloadSize);
+        this.streamReader = JacksonBodyStreamReader.create(objectMapper, maxPayloadSize);
         this.writer = JacksonBodyWriter.create(objectMapper);
         this.streamWriter = JacksonBodyStreamWriter.create(objectMapper);
         this.esStreamWriter = JacksonEsBodyStreamWriter.create(objectMapper);
@@ -74,7 +77,16 @@ public final class JacksonSupport implements MediaSupport {
      */
     public static JacksonSupport create(ObjectMapper objectMapper) {
         Objects.requireNonNull(objectMapper);
-        return new JacksonSupport(objectMapper);
+        return new JacksonSupport(objectMapper, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link JacksonSupport} builder.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     /**
@@ -97,6 +109,28 @@ public final class JacksonSupport implements MediaSupport {
         return JacksonBodyReader.create(objectMapper);
     }
 
+    /**
+     * Return a default Jackson entity stream reader.
+     * The stream reader publishes each element of a top-level JSON array as soon as it is received.
+     *
+     * @return default Jackson body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Create a new Jackson entity stream reader based on {@link ObjectMapper} instance.
+     * The stream reader publishes each element of a top-level JSON array as soon as it is received.
+     *
+     * @param objectMapper object mapper instance
+     * @return new Jackson body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader(ObjectMapper objectMapper) {
+        Objects.requireNonNull(objectMapper);
+        return JacksonBodyStreamReader.create(objectMapper, Long.MAX_VALUE);
+    }
+
     /**
      * Return a default Jackson entity writer.
      *
@@ -190,6 +224,15 @@ public final class JacksonSupport implements MediaSupport {
         return reader;
     }
 
+    /**
+     * Return Jackson stream reader instance.
+     *
+     * @return Jackson stream reader instance
+     */
+    public MessageBodyStreamReader<Object> streamReaderInstance() {
+        return streamReader;
+    }
+
     /**
      * Return Jackson writer instance.
      *
@@ -231,6 +274,11 @@ public final class JacksonSupport implements MediaSupport {
         return List.of(reader);
     }
 
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
     @Override
     public Collection<MessageBodyWriter<?>> writers() {
         return List.of(writer);
@@ -240,4 +288,48 @@ public final class JacksonSupport implements MediaSupport {
     public Collection<MessageBodyStreamWriter<?>> streamWriters() {
         return List.of(streamWriter, ndStreamWriter, esStreamWriter);
     }
+
+    /**
+     * Fluent API builder for {@link JacksonSupport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<JacksonSupport> {
+
+        private ObjectMapper objectMapper = MAPPER;
+        private long maxPayloadSize = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        @Override
+        public JacksonSupport build() {
+            return new JacksonSupport(objectMapper, maxPayloadSize);
+        }
+
+        /**
+         * Sets the {@link ObjectMapper} to use.
+         *
+         * @param objectMapper object mapper, must not be {@code null}
+         * @return updated builder instance
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = Objects.requireNonNull(objectMapper);
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of JSON content read by the readers, in bytes.
+         * Reading content that exceeds this size fails with {@link JacksonRuntimeException}.
+         * Unlimited by default.
+         *
+         * @param maxPayloadSize maximum size in bytes
+         * @return updated builder instance
+         */
+        public Builder maxPayloadSize(long maxPayloadSize) {
+            if (maxPayloadSize <= 0) {
+                throw new IllegalArgumentException("Maximum payload size must be positive: " + maxPayloadSize);
+            }
+            this.maxPayloadSize = maxPayloadSize;
+            return this;
+        }
+    }
 }
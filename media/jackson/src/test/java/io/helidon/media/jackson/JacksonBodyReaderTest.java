@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,20 +15,32 @@
  */
 package io.helidon.media.jackson;
 
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyReaderContext;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonBodyReaderTest {
 
@@ -44,6 +56,119 @@ public class JacksonBodyReaderTest {
         assertThat(books.get(0), notNullValue());
     }
 
+    @Test
+    void testDeserializeSplitContent() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        Book book = reader.read(chunks("{\"title\":\"The Stand\"}", 3), GenericType.create(Book.class),
+                                MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(book.getTitle(), is("The Stand"));
+    }
+
+    @Test
+    void testIncompleteContent() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> reader.read(chunks("{\"title\":\"The", 2),
+                                                              GenericType.create(Book.class),
+                                                              MessageBodyReaderContext.create())
+                                                    .get());
+
+        assertThat(e.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
+    @Test
+    void testMaxSizeExceeded() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper(), 10);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> reader.read(chunks("{\"title\":\"The Stand\"}", 4),
+                                                              GenericType.create(Book.class),
+                                                              MessageBodyReaderContext.create())
+                                                    .get());
+
+        assertThat(e.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
+    @Test
+    void testMaxSizeExceededNonUtf8() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper(), 10);
+        MessageBodyReaderContext context = MessageBodyReaderContext.create(
+                null, null, ReadOnlyParameters.empty(), Optional.of(MediaType.APPLICATION_JSON.withCharset("UTF-16")));
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> reader.read(chunks("{\"title\":\"The Stand\"}", 4),
+                                                              GenericType.create(Book.class),
+                                                              context)
+                                                    .get());
+
+        assertThat(e.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
+    @Test
+    void testDecimalsBoundLikeObjectMapper() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JacksonBodyReader reader = JacksonBodyReader.create(objectMapper);
+        String content = "{\"price\":10.25}";
+
+        JsonNode node = reader.read(chunks(content, 3), GenericType.create(JsonNode.class),
+                                    MessageBodyReaderContext.create())
+                .get();
+        assertThat(node, is(objectMapper.readTree(content)));
+        assertThat(node.get("price").isDouble(), is(true));
+
+        Map<String, Object> map = reader.read(chunks(content, 3), new GenericType<Map<String, Object>>() { },
+                                              MessageBodyReaderContext.create())
+                .get();
+        assertThat(map.get("price"), is(10.25));
+    }
+
+    @Test
+    void testDecimalsWithBigDecimalFeature() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        JacksonBodyReader reader = JacksonBodyReader.create(objectMapper);
+
+        Map<String, Object> map = reader.read(chunks("{\"price\":10.25}", 3), new GenericType<Map<String, Object>>() { },
+                                              MessageBodyReaderContext.create())
+                .get();
+        assertThat(map.get("price"), is(new BigDecimal("10.25")));
+    }
+
+    @Test
+    void testSecondValueRejected() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> reader.read(chunks("{\"title\":\"A\"} {\"title\":\"B\"}", 4),
+                                                              GenericType.create(Book.class),
+                                                              MessageBodyReaderContext.create())
+                                                    .get());
+
+        assertThat(e.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
+    @Test
+    void testTrailingGarbageRejected() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> reader.read(chunks("{\"title\":\"A\"}garbage", 4),
+                                                              GenericType.create(Book.class),
+                                                              MessageBodyReaderContext.create())
+                                                    .get());
+
+        assertThat(e.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+
+    static Multi<DataChunk> chunks(String content, int chunkSize) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        List<DataChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - i);
+            byte[] part = new byte[length];
+            System.arraycopy(bytes, i, part, 0, length);
+            chunks.add(DataChunk.create(part));
+        }
+        return Multi.create(chunks);
+    }
+
     public static class Book {
         private String title;
 
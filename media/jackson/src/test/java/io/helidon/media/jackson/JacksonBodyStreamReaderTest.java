@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.media.jackson.JacksonBodyReaderTest.chunks;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JacksonBodyStreamReaderTest {
+
+    private static final String BOOKS = "[{\"title\":\"The Stand\"}, {\"title\":\"It\"}, {\"title\":\"Misery\"}]";
+
+    @Test
+    void testReadArrayElements() throws Exception {
+        JacksonBodyStreamReader reader = JacksonBodyStreamReader.create(new ObjectMapper(), Long.MAX_VALUE);
+        for (int chunkSize : new int[] {1, 5, BOOKS.length()}) {
+            List<String> titles = Multi.create(reader.read(chunks(BOOKS, chunkSize),
+                                                           GenericType.create(JacksonBodyReaderTest.Book.class),
+                                                           MessageBodyReaderContext.create()))
+                    .map(JacksonBodyReaderTest.Book::getTitle)
+                    .collectList()
+                    .get();
+
+            assertThat(titles, contains("The Stand", "It", "Misery"));
+        }
+    }
+
+    @Test
+    void testReadEmptyArray() throws Exception {
+        JacksonBodyStreamReader reader = JacksonBodyStreamReader.create(new ObjectMapper(), Long.MAX_VALUE);
+        List<JacksonBodyReaderTest.Book> books = Multi.create(reader.read(chunks("[ ]", 1),
+                                                                          GenericType.create(JacksonBodyReaderTest.Book.class),
+                                                                          MessageBodyReaderContext.create()))
+                .collectList()
+                .get();
+
+        assertThat(books, is(empty()));
+    }
+
+    @Test
+    void testMaxSizeExceeded() {
+        JacksonBodyStreamReader reader = JacksonBodyStreamReader.create(new ObjectMapper(), 20);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> Multi.create(reader.read(chunks(BOOKS, 8),
+                                                                           GenericType.create(JacksonBodyReaderTest.Book.class),
+                                                                           MessageBodyReaderContext.create()))
+                                                    .collectList()
+                                                    .get());
+
+        assertThat(e.getCause(), instanceOf(JacksonRuntimeException.class));
+    }
+}
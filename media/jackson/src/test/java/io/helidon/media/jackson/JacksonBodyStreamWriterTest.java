@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.reactive.EmittingPublisher;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyWriterContext;
+import io.helidon.media.jackson.JacksonBodyReaderTest.Book;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests {@link JacksonBodyStreamWriter}.
+ */
+public class JacksonBodyStreamWriterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JacksonBodyStreamWriter WRITER = JacksonBodyStreamWriter.create(MAPPER);
+    private static final GenericType<Book> BOOK = GenericType.create(Book.class);
+
+    @Test
+    void emptyStream() {
+        List<DataChunk> chunks = write(Multi.empty());
+
+        assertThat(chunks, hasSize(1));
+        assertThat(content(chunks), is("[]"));
+    }
+
+    @Test
+    void manyObjectsCoalesced() throws Exception {
+        int count = 1000;
+        List<DataChunk> chunks = write(Multi.range(0, count).map(JacksonBodyStreamWriterTest::book));
+
+        assertThat(chunks.size(), is(lessThan(count / 10)));
+        List<Book> books = MAPPER.readValue(content(chunks), new TypeReference<List<Book>>() { });
+        assertThat(books, hasSize(count));
+        IntStream.range(0, count)
+                .forEach(i -> assertThat(books.get(i).getTitle(), is("Book " + i)));
+    }
+
+    @Test
+    void slowStreamNotHeldBack() {
+        EmittingPublisher<Book> emitter = EmittingPublisher.create();
+        List<DataChunk> chunks = new CopyOnWriteArrayList<>();
+        WRITER.write(emitter, BOOK, MessageBodyWriterContext.create(HashParameters.create())).forEach(chunks::add);
+
+        assertThat(emitter.emit(book(0)), is(true));
+        assertThat(chunks, hasSize(1));
+        assertThat(emitter.emit(book(1)), is(true));
+        assertThat(chunks, hasSize(2));
+        emitter.complete();
+
+        assertThat(content(chunks), is("[{\"title\":\"Book 0\"},{\"title\":\"Book 1\"}]"));
+    }
+
+    private static List<DataChunk> write(Multi<Book> publisher) {
+        return WRITER.write(publisher, BOOK, MessageBodyWriterContext.create(HashParameters.create()))
+                .collectList()
+                .await();
+    }
+
+    private static String content(List<DataChunk> chunks) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (DataChunk chunk : chunks) {
+            baos.writeBytes(chunk.bytes());
+            chunk.release();
+        }
+        return baos.toString();
+    }
+
+    private static Book book(int index) {
+        Book book = new Book();
+        book.setTitle("Book " + index);
+        return book;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,8 @@
  */
 package io.helidon.media.jsonb;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.Flow;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.json.bind.Jsonb;
 
@@ -26,6 +24,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.CoalescingPublisher;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -33,12 +32,15 @@ import static io.helidon.media.jsonb.JsonbBodyWriter.ObjectToChunks;
 
 /**
  * Message body stream writer supporting object binding with JSON-B.
+ * <p>
+ * The elements are written as a JSON array. Elements that are ready at once are serialized into the same
+ * chunk, see {@link CoalescingPublisher}.
  */
 class JsonbBodyStreamWriter implements MessageBodyStreamWriter<Object> {
 
-    private static final byte[] ARRAY_JSON_END_BYTES = "]".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] ARRAY_JSON_BEGIN_BYTES = "[".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] COMMA_BYTES = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_DELIMITER = {','};
+    private static final byte[] ARRAY_END = {']'};
 
     private final Jsonb jsonb;
 
@@ -63,21 +65,13 @@ class JsonbBodyStreamWriter implements MessageBodyStreamWriter<Object> {
         MediaType contentType = context.findAccepted(MediaType.JSON_PREDICATE, MediaType.APPLICATION_JSON);
         context.contentType(contentType);
 
-        AtomicBoolean first = new AtomicBoolean(true);
-
         ObjectToChunks jsonToChunks = new ObjectToChunks(jsonb, context.charset());
 
-        return Multi.create(publisher)
-                .flatMap(jsonToChunks)
-                .flatMap(it -> {
-                    if (first.getAndSet(false)) {
-                        // first record, do not prepend a comma
-                        return Multi.just(DataChunk.create(ARRAY_JSON_BEGIN_BYTES), it);
-                    } else {
-                        // any subsequent record starts with a comma
-                        return Multi.just(DataChunk.create(COMMA_BYTES), it);
-                    }
-                })
-                .onCompleteResume(DataChunk.create(ARRAY_JSON_END_BYTES));
+        return CoalescingPublisher.create(publisher,
+                                          jsonToChunks::write,
+                                          ARRAY_START,
+                                          ARRAY_DELIMITER,
+                                          ARRAY_END,
+                                          false);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,7 +15,11 @@
  */
 package io.helidon.media.jsonb;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
 
@@ -27,8 +31,7 @@ import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
-import io.helidon.media.common.CharBuffer;
-import io.helidon.media.common.ContentWriters;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -86,13 +89,38 @@ class JsonbBodyWriter implements MessageBodyWriter<Object> {
 
         @Override
         public Publisher<DataChunk> map(Object item) {
-            CharBuffer buffer = new CharBuffer();
+            DataChunkOutputStream out = new DataChunkOutputStream();
             try {
-                jsonb.toJson(item, buffer);
-                return ContentWriters.writeCharBuffer(buffer, charset);
+                write(item, out);
+                return Single.just(out.toChunk(false));
             } catch (IllegalStateException | JsonbException ex) {
                 return Single.<DataChunk>error(ex);
             }
         }
+
+        /**
+         * Serialize the item into the given stream, in the configured charset.
+         * The content written to the stream is discarded if serialization fails.
+         *
+         * @param item item to serialize
+         * @param out  stream to write to
+         */
+        void write(Object item, DataChunkOutputStream out) {
+            try {
+                if (StandardCharsets.UTF_8.equals(charset)) {
+                    jsonb.toJson(item, out);
+                } else {
+                    Writer writer = new OutputStreamWriter(out, charset);
+                    jsonb.toJson(item, writer);
+                    writer.flush();
+                }
+            } catch (IOException ex) {
+                out.discard();
+                throw new JsonbException(ex.getMessage(), ex);
+            } catch (RuntimeException ex) {
+                out.discard();
+                throw ex;
+            }
+        }
     }
 }
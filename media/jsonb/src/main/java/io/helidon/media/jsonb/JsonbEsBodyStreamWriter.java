@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -69,11 +70,14 @@ class JsonbEsBodyStreamWriter implements MessageBodyStreamWriter<Object> {
                 .orElse(TEXT_EVENT_STREAM_JSON);
         context.contentType(contentType);
         return Multi.create(publisher)
-                .flatMap(m -> Multi.just(
-                        DataChunk.create(DATA),
-                        DataChunk.create(jsonb.toJson(m).getBytes(StandardCharsets.UTF_8)),
-                        DataChunk.create(NL))
-                );
+                .map(m -> {
+                    // one chunk per event
+                    DataChunkOutputStream out = new DataChunkOutputStream();
+                    out.write(DATA);
+                    jsonb.toJson(m, out);
+                    out.write(NL);
+                    return out.toChunk(false);
+                });
     }
 
     private Optional<MediaType> findMediaType(MessageBodyWriterContext context) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,7 +27,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
-import io.helidon.common.reactive.Single;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -69,14 +69,14 @@ class JsonbNdBodyStreamWriter implements MessageBodyStreamWriter<Object> {
         AtomicBoolean first = new AtomicBoolean(true);
 
         return Multi.create(publisher)
-                .map(object -> DataChunk.create(jsonb.toJson(object).getBytes(StandardCharsets.UTF_8)))
-                .flatMap(dataChunk -> {
-                    if (first.getAndSet(false)) {
-                        return Single.just(dataChunk);
-                    } else {
-                        return Multi.just(DataChunk.create(NL),
-                                          dataChunk);
+                .map(object -> {
+                    // one chunk per record, including the separator
+                    DataChunkOutputStream out = new DataChunkOutputStream();
+                    if (!first.getAndSet(false)) {
+                        out.write(NL);
                     }
+                    jsonb.toJson(object, out);
+                    return out.toChunk(false);
                 });
     }
 
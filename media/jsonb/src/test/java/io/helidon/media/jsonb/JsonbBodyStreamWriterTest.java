@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.media.jsonb;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.reactive.EmittingPublisher;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyWriterContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests {@link JsonbBodyStreamWriter}.
+ */
+public class JsonbBodyStreamWriterTest {
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+    private static final JsonbBodyStreamWriter WRITER = JsonbBodyStreamWriter.create(JSONB);
+    private static final GenericType<Book> BOOK = GenericType.create(Book.class);
+
+    @Test
+    void emptyStream() {
+        List<DataChunk> chunks = write(Multi.empty());
+
+        assertThat(chunks, hasSize(1));
+        assertThat(content(chunks), is("[]"));
+    }
+
+    @Test
+    void manyObjectsCoalesced() {
+        int count = 1000;
+        List<DataChunk> chunks = write(Multi.range(0, count).map(JsonbBodyStreamWriterTest::book));
+
+        assertThat(chunks.size(), is(lessThan(count / 10)));
+        List<Book> books = JSONB.fromJson(content(chunks), new ArrayList<Book>() { }.getClass().getGenericSuperclass());
+        assertThat(books, hasSize(count));
+        IntStream.range(0, count)
+                .forEach(i -> assertThat(books.get(i).getTitle(), is("Book " + i)));
+    }
+
+    @Test
+    void slowStreamNotHeldBack() {
+        EmittingPublisher<Book> emitter = EmittingPublisher.create();
+        List<DataChunk> chunks = new CopyOnWriteArrayList<>();
+        WRITER.write(emitter, BOOK, MessageBodyWriterContext.create(HashParameters.create())).forEach(chunks::add);
+
+        assertThat(emitter.emit(book(0)), is(true));
+        assertThat(chunks, hasSize(1));
+        assertThat(emitter.emit(book(1)), is(true));
+        assertThat(chunks, hasSize(2));
+        emitter.complete();
+
+        assertThat(content(chunks), is("[{\"title\":\"Book 0\"},{\"title\":\"Book 1\"}]"));
+    }
+
+    private static List<DataChunk> write(Multi<Book> publisher) {
+        return WRITER.write(publisher, BOOK, MessageBodyWriterContext.create(HashParameters.create()))
+                .collectList()
+                .await();
+    }
+
+    private static String content(List<DataChunk> chunks) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (DataChunk chunk : chunks) {
+            baos.writeBytes(chunk.bytes());
+            chunk.release();
+        }
+        return baos.toString();
+    }
+
+    private static Book book(int index) {
+        Book book = new Book();
+        book.setTitle("Book " + index);
+        return book;
+    }
+
+    public static final class Book {
+
+        private String title;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+}
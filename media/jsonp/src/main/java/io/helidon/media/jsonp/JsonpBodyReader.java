@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,13 @@
  */
 package io.helidon.media.jsonp;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
 
@@ -29,21 +33,32 @@ import javax.json.JsonStructure;
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.mapper.Mapper;
+import io.helidon.common.reactive.Collector;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
-import io.helidon.media.common.ContentReaders;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
 
 /**
  * Message body reader for {@link JsonStructure} sub-classes (JSON-P).
+ * <p>
+ * JSON-P has no non-blocking parser, so the content is collected before it is parsed.
+ * Each chunk is copied to an array of its own size, and the parser reads the arrays in sequence,
+ * so the content is never copied into one large array.
  */
 final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
 
     private final JsonReaderFactory jsonFactory;
+    private final long maxSize;
 
     JsonpBodyReader(JsonReaderFactory jsonFactory) {
+        this(jsonFactory, Long.MAX_VALUE);
+    }
+
+    JsonpBodyReader(JsonReaderFactory jsonFactory, long maxSize) {
         Objects.requireNonNull(jsonFactory);
         this.jsonFactory = jsonFactory;
+        this.maxSize = maxSize;
     }
 
     @Override
@@ -55,11 +70,52 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
     public <U extends JsonStructure> Single<U> read(Publisher<DataChunk> publisher, GenericType<U> type,
             MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher)
+        return Multi.create(publisher)
+                .collect(new ChunksCollector(maxSize))
                 .map(new BytesToJsonStructure<>(jsonFactory, type, context.charset()));
     }
 
-    private static final class BytesToJsonStructure<T extends JsonStructure> implements Mapper<byte[], T> {
+    /**
+     * Collects copies of the chunks and releases them, enforcing the maximum size.
+     */
+    private static final class ChunksCollector implements Collector<DataChunk, List<byte[]>> {
+
+        private final List<byte[]> arrays = new ArrayList<>();
+        private final long maxSize;
+        private long size;
+
+        ChunksCollector(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public void collect(DataChunk chunk) {
+            try {
+                for (ByteBuffer byteBuffer : chunk.data()) {
+                    int length = byteBuffer.remaining();
+                    if (length == 0) {
+                        continue;
+                    }
+                    size += length;
+                    if (size > maxSize) {
+                        throw new JsonException("JSON content exceeds the maximum size of " + maxSize + " bytes");
+                    }
+                    byte[] bytes = new byte[length];
+                    byteBuffer.duplicate().get(bytes);
+                    arrays.add(bytes);
+                }
+            } finally {
+                chunk.release();
+            }
+        }
+
+        @Override
+        public List<byte[]> value() {
+            return arrays;
+        }
+    }
+
+    private static final class BytesToJsonStructure<T extends JsonStructure> implements Mapper<List<byte[]>, T> {
 
         private final JsonReaderFactory jsonFactory;
         private final GenericType<T> type;
@@ -73,8 +129,8 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
 
         @Override
         @SuppressWarnings("unchecked")
-        public T map(byte[] bytes) {
-            InputStream is = new ByteArrayInputStream(bytes);
+        public T map(List<byte[]> arrays) {
+            InputStream is = new ArraysInputStream(arrays);
             JsonReader reader = jsonFactory.createReader(is, charset);
             JsonStructure json = reader.read();
             if (!type.rawType().isAssignableFrom(json.getClass())) {
@@ -83,4 +139,52 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
             return (T) json;
         }
     }
+
+    /**
+     * An input stream reading a list of arrays in sequence.
+     */
+    private static final class ArraysInputStream extends InputStream {
+
+        private final Iterator<byte[]> arrays;
+        private byte[] current;
+        private int position;
+
+        ArraysInputStream(List<byte[]> arrays) {
+            this.arrays = arrays.iterator();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!advance()) {
+                return -1;
+            }
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!advance()) {
+                return -1;
+            }
+            int count = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        private boolean advance() {
+            while (current == null || position == current.length) {
+                if (!arrays.hasNext()) {
+                    return false;
+                }
+                current = arrays.next();
+                position = 0;
+            }
+            return true;
+        }
+    }
 }
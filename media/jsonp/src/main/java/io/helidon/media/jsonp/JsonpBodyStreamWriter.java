@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,7 @@
  */
 package io.helidon.media.jsonp;
 
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Flow.Publisher;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.json.JsonStructure;
 import javax.json.JsonWriterFactory;
@@ -26,6 +24,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.CoalescingPublisher;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.jsonp.JsonpBodyWriter.JsonStructureToChunks;
@@ -34,9 +33,9 @@ import io.helidon.media.jsonp.JsonpBodyWriter.JsonStructureToChunks;
  * Message body writer for {@link javax.json.JsonStructure} sub-classes (JSON-P).
  */
 class JsonpBodyStreamWriter implements MessageBodyStreamWriter<JsonStructure> {
-    private static final byte[] ARRAY_JSON_END_BYTES = "]".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] ARRAY_JSON_BEGIN_BYTES = "[".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] COMMA_BYTES = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_DELIMITER = {','};
+    private static final byte[] ARRAY_END = {']'};
 
     private final JsonWriterFactory jsonWriterFactory;
 
@@ -57,24 +56,15 @@ class JsonpBodyStreamWriter implements MessageBodyStreamWriter<JsonStructure> {
         MediaType contentType = context.findAccepted(MediaType.JSON_PREDICATE, MediaType.APPLICATION_JSON);
         context.contentType(contentType);
 
-        // we do not have join operator
-        AtomicBoolean first = new AtomicBoolean(true);
-
         JsonStructureToChunks jsonToChunks = new JsonStructureToChunks(true,
                 jsonWriterFactory,
                 context.charset());
 
-        return Multi.create(publisher)
-                .map(jsonToChunks)
-                .flatMap(it -> {
-                    if (first.getAndSet(false)) {
-                        // first record, do not prepend a comma
-                        return Multi.just(DataChunk.create(ARRAY_JSON_BEGIN_BYTES), it);
-                    } else {
-                        // any subsequent record starts with a comma
-                        return Multi.just(DataChunk.create(COMMA_BYTES), it);
-                    }
-                })
-                .onCompleteResume(DataChunk.create(ARRAY_JSON_END_BYTES));
+        return CoalescingPublisher.create(publisher,
+                                          jsonToChunks::write,
+                                          ARRAY_START,
+                                          ARRAY_DELIMITER,
+                                          ARRAY_END,
+                                          jsonToChunks.flush());
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,7 +27,7 @@ import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
-import io.helidon.media.common.CharBuffer;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -75,11 +75,29 @@ class JsonpBodyWriter implements MessageBodyWriter<JsonStructure> {
 
         @Override
         public DataChunk map(JsonStructure item) {
-            CharBuffer buffer = new CharBuffer();
-            try (JsonWriter writer = factory.createWriter(buffer)) {
+            DataChunkOutputStream out = new DataChunkOutputStream();
+            write(item, out);
+            return out.toChunk(flush);
+        }
+
+        /**
+         * Serialize the item into the given stream, in the configured charset.
+         * The content written to the stream is discarded if serialization fails.
+         *
+         * @param item item to serialize
+         * @param out  stream to write to
+         */
+        void write(JsonStructure item, DataChunkOutputStream out) {
+            try (JsonWriter writer = factory.createWriter(out, charset)) {
                 writer.write(item);
-                return DataChunk.create(flush, buffer.encode(charset));
+            } catch (RuntimeException e) {
+                out.discard();
+                throw e;
             }
         }
+
+        boolean flush() {
+            return flush;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.jsonp.JsonpBodyWriter.JsonStructureToChunks;
@@ -76,11 +77,14 @@ class JsonpEsBodyStreamWriter implements MessageBodyStreamWriter<JsonStructure>
                                                                        context.charset());
 
         return Multi.create(publisher)
-                .map(jsonToChunks)
-                .flatMap(dataChunk -> Multi.just(
-                        DataChunk.create(DATA),
-                        dataChunk,
-                        DataChunk.create(NL)));
+                .map(item -> {
+                    // one chunk per event
+                    DataChunkOutputStream out = new DataChunkOutputStream();
+                    out.write(DATA);
+                    jsonToChunks.write(item, out);
+                    out.write(NL);
+                    return out.toChunk(jsonToChunks.flush());
+                });
     }
 
     private Optional<MediaType> findMediaType(MessageBodyWriterContext context) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,7 +28,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.reactive.Multi;
-import io.helidon.common.reactive.Single;
+import io.helidon.media.common.DataChunkOutputStream;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.jsonp.JsonpBodyWriter.JsonStructureToChunks;
@@ -77,14 +77,14 @@ class JsonpNdBodyStreamWriter implements MessageBodyStreamWriter<JsonStructure>
         AtomicBoolean first = new AtomicBoolean(true);
 
         return Multi.create(publisher)
-                .map(jsonToChunks)
-                .flatMap(dataChunk -> {
-                    if (first.getAndSet(false)) {
-                        return Single.just(dataChunk);
-                    } else {
-                        return Multi.just(DataChunk.create(NL),
-                                          dataChunk);
+                .map(item -> {
+                    // one chunk per record, including the separator
+                    DataChunkOutputStream out = new DataChunkOutputStream();
+                    if (!first.getAndSet(false)) {
+                        out.write(NL);
                     }
+                    jsonToChunks.write(item, out);
+                    return out.toChunk(jsonToChunks.flush());
                 });
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,10 @@ public class JsonpProvider implements MediaSupportProvider {
 
     @Override
     public MediaSupport create(Config config) {
-        return JsonpSupport.create(config.asMap().get());
+        JsonpSupport.Builder builder = JsonpSupport.builder()
+                .jsonProcessingConfig(config.asMap().get());
+        config.get("max-payload-size").asLong().ifPresent(builder::maxPayloadSize);
+        return builder.build();
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,7 +39,8 @@ import io.helidon.media.common.MessageBodyWriter;
 public final class JsonpSupport implements MediaSupport {
     private static final LazyValue<JsonpSupport> DEFAULT =
             LazyValue.create(() -> new JsonpSupport(Builder.readerFactory(null),
-                                                    Builder.writerFactory(null)));
+                                                    Builder.writerFactory(null),
+                                                    Long.MAX_VALUE));
 
     private final JsonpBodyReader reader;
     private final JsonpBodyWriter writer;
@@ -47,8 +48,8 @@ public final class JsonpSupport implements MediaSupport {
     private final JsonpEsBodyStreamWriter esStreamWriter;
     private final JsonpNdBodyStreamWriter ndStreamWriter;
 
-    private JsonpSupport(JsonReaderFactory readerFactory, JsonWriterFactory writerFactory) {
-        reader = new JsonpBodyReader(readerFactory);
+    private JsonpSupport(JsonReaderFactory readerFactory, JsonWriterFactory writerFactory, long maxPayloadSize) {
+        reader = new JsonpBodyReader(readerFactory, maxPayloadSize);
         writer = new JsonpBodyWriter(writerFactory);
         streamWriter = new JsonpBodyStreamWriter(writerFactory);
         esStreamWriter = new JsonpEsBodyStreamWriter(writerFactory);
@@ -276,10 +277,12 @@ public final class JsonpSupport implements MediaSupport {
         private JsonWriterFactory jsonWriterFactory;
         private JsonReaderFactory jsonReaderFactory;
         private Map<String, ?> jsonPConfig;
+        private long maxPayloadSize = Long.MAX_VALUE;
 
         @Override
         public JsonpSupport build() {
-            if ((null == jsonReaderFactory) && (null == jsonWriterFactory) && (null == jsonPConfig)) {
+            if ((null == jsonReaderFactory) && (null == jsonWriterFactory) && (null == jsonPConfig)
+                    && (maxPayloadSize == Long.MAX_VALUE)) {
                 return DEFAULT.get();
             }
 
@@ -295,7 +298,7 @@ public final class JsonpSupport implements MediaSupport {
                 jsonReaderFactory = readerFactory(jsonPConfig);
             }
 
-            return new JsonpSupport(jsonReaderFactory, jsonWriterFactory);
+            return new JsonpSupport(jsonReaderFactory, jsonWriterFactory, maxPayloadSize);
         }
 
         private static JsonReaderFactory readerFactory(Map<String, ?> jsonPConfig) {
@@ -340,5 +343,21 @@ public final class JsonpSupport implements MediaSupport {
             this.jsonReaderFactory = factory;
             return this;
         }
+
+        /**
+         * Maximal size of a JSON entity the reader accepts, in bytes.
+         * Reading a larger entity fails with {@link javax.json.JsonException}.
+         * Defaults to {@link Long#MAX_VALUE}.
+         *
+         * @param maxPayloadSize maximal size in bytes
+         * @return updated builder instance
+         */
+        public Builder maxPayloadSize(long maxPayloadSize) {
+            if (maxPayloadSize <= 0) {
+                throw new IllegalArgumentException("Maximum payload size must be positive: " + maxPayloadSize);
+            }
+            this.maxPayloadSize = maxPayloadSize;
+            return this;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,19 @@
 
 package io.helidon.media.jsonp;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
+import javax.json.Json;
+
 import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonStructure;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
@@ -69,6 +74,36 @@ public class JsonpReaderTest {
         assertThrows(ExecutionException.class, () -> readJsonObject("{ \"p\" : \"val\" "));
     }
 
+    @Test
+    public void splitJsonObject() throws Exception {
+        JsonObject jsonObject = READER.read(chunks("{ \"p\" : \"val\", \"q\" : [1, 2, 3] }", 3),
+                                            GenericType.create(JsonObject.class),
+                                            CONTEXT)
+                .get();
+        assertThat(jsonObject.getJsonString("p").getString(), is(equalTo("val")));
+        assertThat(jsonObject.getJsonArray("q").size(), is(3));
+    }
+
+    @Test
+    public void maxSizeExceeded() throws Exception {
+        MessageBodyReader<JsonStructure> reader = new JsonpBodyReader(Json.createReaderFactory(null), 8);
+        assertThrows(ExecutionException.class,
+                     () -> reader.read(chunks("{ \"p\" : \"val\" }", 4), GenericType.create(JsonObject.class), CONTEXT)
+                             .get());
+    }
+
+    private static Multi<DataChunk> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes();
+        List<DataChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - i);
+            byte[] part = new byte[length];
+            System.arraycopy(bytes, i, part, 0, length);
+            chunks.add(DataChunk.create(part));
+        }
+        return Multi.create(chunks);
+    }
+
     private static JsonObject readJsonObject(String json) throws Exception {
         return READER.read(Single.just(DataChunk.create(json.getBytes())), GenericType.create(JsonObject.class), CONTEXT).get();
     }
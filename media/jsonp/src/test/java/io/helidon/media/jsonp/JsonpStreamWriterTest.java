@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,10 @@ package io.helidon.media.jsonp;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
 
 import javax.json.Json;
 import javax.json.JsonArray;
@@ -32,6 +35,7 @@ import javax.json.JsonStructure;
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.HashParameters;
+import io.helidon.common.reactive.EmittingPublisher;
 import io.helidon.common.reactive.Multi;
 import io.helidon.media.common.MessageBodyOperator;
 import io.helidon.media.common.MessageBodyStreamWriter;
@@ -40,6 +44,7 @@ import io.helidon.media.common.MessageBodyWriterContext;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -121,6 +126,55 @@ public class JsonpStreamWriterTest {
 
     }
 
+    @Test
+    void emptyStream() {
+        JsonArray result = writeJsonObjects(Multi.empty());
+
+        assertThat(result, hasSize(0));
+    }
+
+    @Test
+    void manyJsonObjectsCoalesced() {
+        int count = 1000;
+        List<DataChunk> chunks = WRITER.write(Multi.range(0, count).map(JsonpStreamWriterTest::createObject),
+                                              JSON_OBJECT,
+                                              CONTEXT)
+                .collectList()
+                .await();
+
+        assertThat(chunks.size(), is(lessThan(count / 10)));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (DataChunk chunk : chunks) {
+            baos.writeBytes(chunk.bytes());
+            chunk.release();
+        }
+        JsonArray result = JSON_PARSER.createReader(new ByteArrayInputStream(baos.toByteArray())).readArray();
+        assertThat(result, hasSize(count));
+        IntStream.range(0, count)
+                .forEach(i -> assertThat(result.getJsonObject(i).getString("p"), is("val_" + i)));
+    }
+
+    @Test
+    void slowStreamNotHeldBack() {
+        EmittingPublisher<JsonObject> emitter = EmittingPublisher.create();
+        List<DataChunk> chunks = new CopyOnWriteArrayList<>();
+        WRITER.write(emitter, JSON_OBJECT, CONTEXT).forEach(chunks::add);
+
+        // every element is emitted and flushed as soon as it is written
+        assertThat(emitter.emit(createObject(0)), is(true));
+        assertThat(chunks, hasSize(1));
+        assertThat(emitter.emit(createObject(1)), is(true));
+        assertThat(chunks, hasSize(2));
+        emitter.complete();
+        assertThat(chunks, hasSize(3));
+        chunks.forEach(chunk -> assertThat(chunk.flush(), is(true)));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        chunks.forEach(chunk -> baos.writeBytes(chunk.bytes()));
+        JsonArray result = JSON_PARSER.createReader(new ByteArrayInputStream(baos.toByteArray())).readArray();
+        assertThat(result, hasSize(2));
+    }
+
     private static JsonArray[] createArray(int size) {
         JsonArray[] arrays = new JsonArray[size];
 
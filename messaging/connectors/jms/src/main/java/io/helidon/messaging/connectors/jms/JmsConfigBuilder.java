@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -245,6 +245,93 @@ public final class JmsConfigBuilder extends ConnectorConfigBuilder {
         return this;
     }
 
+    /**
+     * Receive messages pushed by JMS {@link javax.jms.MessageListener MessageListener} instead of polling.
+     * Delivery thread of the JMS session waits until there is demand for the message,
+     * {@code poll-timeout} and {@code period-executions} are not used for receiving.
+     *
+     * <ul>
+     * <li>Type: boolean</li>
+     * <li>Default: false</li>
+     * <li>Valid Values: true, false</li>
+     * </ul>
+     *
+     * @param messageListener true if so
+     * @return this builder
+     */
+    public JmsConfigBuilder messageListener(boolean messageListener) {
+        super.property("message-listener", String.valueOf(messageListener));
+        return this;
+    }
+
+    /**
+     * Number of JMS sessions concurrently receiving messages for the channel,
+     * used only with {@link #messageListener(boolean) message-listener}.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param sessionPoolSize number of sessions receiving messages
+     * @return this builder
+     */
+    public JmsConfigBuilder sessionPoolSize(int sessionPoolSize) {
+        super.property("session-pool-size", String.valueOf(sessionPoolSize));
+        return this;
+    }
+
+    /**
+     * Number of received messages buffered before downstream requests them,
+     * used only with {@link #messageListener(boolean) message-listener}.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 0</li>
+     * </ul>
+     *
+     * @param prefetch number of messages received ahead of demand
+     * @return this builder
+     */
+    public JmsConfigBuilder prefetch(int prefetch) {
+        super.property("prefetch", String.valueOf(prefetch));
+        return this;
+    }
+
+    /**
+     * Number of outgoing messages committed in one transaction of {@link #transacted(boolean) transacted} session.
+     * Messages are acknowledged when the transaction is committed.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param batchSize number of messages in one transaction
+     * @return this builder
+     */
+    public JmsConfigBuilder batchSize(int batchSize) {
+        super.property("batch-size", String.valueOf(batchSize));
+        return this;
+    }
+
+    /**
+     * Maximum time in millis before transaction with less than {@link #batchSize(int) batch-size}
+     * outgoing messages is committed.
+     *
+     * <ul>
+     * <li>Type: milliseconds</li>
+     * <li>Default: 100</li>
+     * </ul>
+     *
+     * @param batchTimeout time before incomplete batch is committed
+     * @return this builder
+     */
+    public JmsConfigBuilder batchTimeout(long batchTimeout) {
+        super.property("batch-timeout", String.valueOf(batchTimeout));
+        return this;
+    }
+
     /**
      * When multiple channels share same session-group-id,
      * they share same JMS session.
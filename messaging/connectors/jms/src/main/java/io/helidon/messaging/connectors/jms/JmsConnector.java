@@ -17,7 +17,9 @@
 
 package io.helidon.messaging.connectors.jms;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,10 +27,14 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,6 +50,7 @@ import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
 import javax.jms.MessageProducer;
 import javax.jms.Session;
 import javax.jms.TextMessage;
@@ -120,6 +127,11 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     static final String MESSAGE_SELECTOR_ATTRIBUTE = "message-selector";
     static final String POLL_TIMEOUT_ATTRIBUTE = "poll-timeout";
     static final String PERIOD_EXECUTIONS_ATTRIBUTE = "period-executions";
+    static final String MESSAGE_LISTENER_ATTRIBUTE = "message-listener";
+    static final String SESSION_POOL_SIZE_ATTRIBUTE = "session-pool-size";
+    static final String PREFETCH_ATTRIBUTE = "prefetch";
+    static final String BATCH_SIZE_ATTRIBUTE = "batch-size";
+    static final String BATCH_TIMEOUT_ATTRIBUTE = "batch-timeout";
     static final String TYPE_ATTRIBUTE = "type";
     static final String DESTINATION_ATTRIBUTE = "destination";
     static final String SESSION_GROUP_ID_ATTRIBUTE = "session-group-id";
@@ -133,6 +145,11 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     static final boolean AWAIT_ACK_DEFAULT = false;
     static final long POLL_TIMEOUT_DEFAULT = 50L;
     static final long PERIOD_EXECUTIONS_DEFAULT = 100L;
+    static final boolean MESSAGE_LISTENER_DEFAULT = false;
+    static final int SESSION_POOL_SIZE_DEFAULT = 1;
+    static final int PREFETCH_DEFAULT = 0;
+    static final int BATCH_SIZE_DEFAULT = 1;
+    static final long BATCH_TIMEOUT_DEFAULT = 100L;
     static final String TYPE_PROP_DEFAULT = "queue";
     static final String JNDI_JMS_FACTORY_DEFAULT = "ConnectionFactory";
 
@@ -145,6 +162,7 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     private final ExecutorService executor;
     private final Map<String, SessionMetadata> sessionRegister = new HashMap<>();
     private final Map<String, ConnectionFactory> connectionFactoryMap;
+    private volatile boolean stopped;
 
     /**
      * Provides a {@link JmsConnectorBuilder} for creating
@@ -214,6 +232,7 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
 
     @Override
     public void stop() {
+        stopped = true;
         scheduler.shutdown();
         executor.shutdown();
         try {
@@ -329,23 +348,6 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
             SessionMetadata sessionEntry = prepareSession(config, factory);
 
             Destination destination = createDestination(sessionEntry.session(), ctx);
-            String messageSelector = config.get(MESSAGE_SELECTOR_ATTRIBUTE).asString().orElse(null);
-            String subscriberName = config.get(SUBSCRIBER_NAME_ATTRIBUTE).asString().orElse(null);
-
-            MessageConsumer consumer;
-            if (config.get(DURABLE_ATTRIBUTE).asBoolean().orElse(false)) {
-                if (!(destination instanceof Topic)) {
-                    throw new MessagingException("Can't create durable consumer. Only topic can be durable!");
-                }
-                consumer = sessionEntry.session().createDurableSubscriber(
-                        (Topic) destination,
-                        subscriberName,
-                        messageSelector,
-                        config.get(NON_LOCAL_ATTRIBUTE).asBoolean().orElse(false));
-            } else {
-                consumer = sessionEntry.session().createConsumer(destination, messageSelector);
-            }
-
 
             BufferedEmittingPublisher<Message<?>> emitter = BufferedEmittingPublisher.create();
 
@@ -353,17 +355,25 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                     .asLong()
                     .orElse(POLL_TIMEOUT_DEFAULT);
 
-            AtomicReference<JmsMessage<?>> lastMessage = new AtomicReference<>();
+            Multi<Message<?>> messages = Multi.create(emitter);
+            if (config.get(MESSAGE_LISTENER_ATTRIBUTE).asBoolean().orElse(MESSAGE_LISTENER_DEFAULT)) {
+                Listeners listeners = listen(emitter, config, sessionEntry, destination, ackMode, awaitAck, pollTimeout);
+                messages = messages.onCancel(listeners::close);
+            } else {
+                MessageConsumer consumer = createConsumer(config, sessionEntry.session(), destination);
+
+                AtomicReference<JmsMessage<?>> lastMessage = new AtomicReference<>();
 
-            scheduler.scheduleAtFixedRate(
-                    () -> produce(emitter, sessionEntry, consumer, ackMode, awaitAck, pollTimeout, lastMessage),
-                    0,
-                    config.get(PERIOD_EXECUTIONS_ATTRIBUTE)
-                            .asLong()
-                            .orElse(PERIOD_EXECUTIONS_DEFAULT),
-                    TimeUnit.MILLISECONDS);
+                scheduler.scheduleAtFixedRate(
+                        () -> produce(emitter, sessionEntry, consumer, ackMode, awaitAck, pollTimeout, lastMessage),
+                        0,
+                        config.get(PERIOD_EXECUTIONS_ATTRIBUTE)
+                                .asLong()
+                                .orElse(PERIOD_EXECUTIONS_DEFAULT),
+                        TimeUnit.MILLISECONDS);
+            }
             sessionEntry.connection().start();
-            return ReactiveStreams.fromPublisher(FlowAdapters.toPublisher(Multi.create(emitter)));
+            return ReactiveStreams.fromPublisher(FlowAdapters.toPublisher(messages));
         } catch (JMSException e) {
             LOGGER.log(Level.SEVERE, e, () -> "Error during JMS publisher preparation");
             return ReactiveStreams.failed(e);
@@ -384,10 +394,21 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
             Destination destination = createDestination(session, ctx);
             MessageProducer producer = session.createProducer(destination);
             AtomicReference<MessageMappers.MessageMapper> mapper = new AtomicReference<>();
+            TransactedBatch batch = session.getTransacted() ? new TransactedBatch(session, config) : null;
             return ReactiveStreams.<Message<?>>builder()
-                    .flatMapCompletionStage(m -> consume(m, session, mapper, producer, config))
-                    .onError(t -> LOGGER.log(Level.SEVERE, t, () -> "Error intercepted from channel "
-                            + config.get(CHANNEL_NAME_ATTRIBUTE).asString().orElse("unknown")))
+                    .flatMapCompletionStage(m -> consume(m, session, mapper, producer, config, batch))
+                    .onError(t -> {
+                        LOGGER.log(Level.SEVERE, t, () -> "Error intercepted from channel "
+                                + config.get(CHANNEL_NAME_ATTRIBUTE).asString().orElse("unknown"));
+                        if (batch != null) {
+                            batch.rollback();
+                        }
+                    })
+                    .onComplete(() -> {
+                        if (batch != null) {
+                            batch.commitQuietly();
+                        }
+                    })
                     .ignore();
         } catch (JMSException e) {
             throw new MessagingException("Error when creating JMS producer.", e);
@@ -427,12 +448,47 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         }
     }
 
+    private Listeners listen(
+            BufferedEmittingPublisher<Message<?>> emitter,
+            io.helidon.config.Config config,
+            SessionMetadata sessionEntry,
+            Destination destination,
+            AcknowledgeMode ackMode,
+            Boolean awaitAck,
+            Long pollTimeout) throws JMSException {
+
+        int poolSize = config.get(SESSION_POOL_SIZE_ATTRIBUTE)
+                .asInt()
+                .orElse(SESSION_POOL_SIZE_DEFAULT);
+        int prefetch = config.get(PREFETCH_ATTRIBUTE)
+                .asInt()
+                .orElse(PREFETCH_DEFAULT);
+
+        if (poolSize > 1 && config.get(DURABLE_ATTRIBUTE).asBoolean().orElse(false)) {
+            throw new MessagingException("Can't create durable consumer with more than one session!");
+        }
+
+        Listeners listeners = new Listeners();
+        // listeners waiting for demand are woken up by every request from downstream
+        emitter.onRequest((n, demand) -> listeners.wakeUp());
+
+        for (int i = 0; i < poolSize; i++) {
+            // JMS session is single threaded, each pooled session has its own consumer and delivery thread
+            SessionMetadata entry = i == 0 ? sessionEntry : preparePooledSession(config, sessionEntry);
+            MessageConsumer consumer = createConsumer(config, entry.session(), destination);
+            listeners.add(consumer,
+                    new DemandListener(emitter, entry, ackMode, awaitAck, pollTimeout, prefetch, listeners));
+        }
+        return listeners;
+    }
+
     private CompletionStage<?> consume(
             Message<?> m,
             Session session,
             AtomicReference<MessageMappers.MessageMapper> mapper,
             MessageProducer producer,
-            io.helidon.config.Config config) {
+            io.helidon.config.Config config,
+            TransactedBatch batch) {
 
         //lookup mapper only the first time
         if (mapper.get() == null) {
@@ -442,17 +498,16 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         return CompletableFuture
                 .supplyAsync(() -> {
                     try {
-                        javax.jms.Message jmsMessage;
-
-                        if (m instanceof OutgoingJmsMessage) {
-                            // custom mapping, properties etc.
-                            jmsMessage = ((OutgoingJmsMessage<?>) m).toJmsMessage(session, mapper.get());
-                        } else {
-                            // default mappers
-                            jmsMessage = mapper.get().apply(session, m);
+                        if (batch != null) {
+                            // session is shared with batch commits scheduled on timeout
+                            synchronized (batch) {
+                                send(m, session, mapper.get(), producer);
+                                // acknowledged when the transaction is committed
+                                batch.add(m);
+                            }
+                            return CompletableFuture.completedFuture(null);
                         }
-                        // actual send
-                        producer.send(jmsMessage);
+                        send(m, session, mapper.get(), producer);
                         return m.ack();
                     } catch (JMSException e) {
                         sendingErrorHandler(config).accept(m, e);
@@ -462,6 +517,23 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                 .thenApply(aVoid -> m);
     }
 
+    private void send(Message<?> m,
+                      Session session,
+                      MessageMappers.MessageMapper mapper,
+                      MessageProducer producer) throws JMSException {
+        javax.jms.Message jmsMessage;
+
+        if (m instanceof OutgoingJmsMessage) {
+            // custom mapping, properties etc.
+            jmsMessage = ((OutgoingJmsMessage<?>) m).toJmsMessage(session, mapper);
+        } else {
+            // default mappers
+            jmsMessage = mapper.apply(session, m);
+        }
+        // actual send
+        producer.send(jmsMessage);
+    }
+
     /**
      * Customizable handler for errors during sending.
      *
@@ -495,22 +567,56 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                 connection.setClientID(userId.get());
             }
 
-            boolean transacted = config.get(TRANSACTED_ATTRIBUTE)
-                    .asBoolean()
-                    .orElse(TRANSACTED_DEFAULT);
-
-            int acknowledgeMode = config.get(ACK_MODE_ATTRIBUTE).asString()
-                    .map(AcknowledgeMode::parse)
-                    .orElse(ACK_MODE_DEFAULT)
-                    .getAckMode();
-
-            Session session = connection.createSession(transacted, acknowledgeMode);
+            Session session = createSession(config, connection);
             SessionMetadata sharedSessionEntry = new SessionMetadata(session, connection, factory);
             sessionRegister.put(sessionGroupId.orElseGet(() -> UUID.randomUUID().toString()), sharedSessionEntry);
             return sharedSessionEntry;
         }
     }
 
+    private SessionMetadata preparePooledSession(io.helidon.config.Config config,
+                                                 SessionMetadata sharedSessionEntry) throws JMSException {
+        Session session = createSession(config, sharedSessionEntry.connection());
+        SessionMetadata pooledSessionEntry = new SessionMetadata(session,
+                sharedSessionEntry.connection(),
+                sharedSessionEntry.connectionFactory());
+        sessionRegister.put(UUID.randomUUID().toString(), pooledSessionEntry);
+        return pooledSessionEntry;
+    }
+
+    private Session createSession(io.helidon.config.Config config, Connection connection) throws JMSException {
+        boolean transacted = config.get(TRANSACTED_ATTRIBUTE)
+                .asBoolean()
+                .orElse(TRANSACTED_DEFAULT);
+
+        int acknowledgeMode = config.get(ACK_MODE_ATTRIBUTE).asString()
+                .map(AcknowledgeMode::parse)
+                .orElse(ACK_MODE_DEFAULT)
+                .getAckMode();
+
+        return connection.createSession(transacted, acknowledgeMode);
+    }
+
+    private MessageConsumer createConsumer(io.helidon.config.Config config,
+                                           Session session,
+                                           Destination destination) throws JMSException {
+        String messageSelector = config.get(MESSAGE_SELECTOR_ATTRIBUTE).asString().orElse(null);
+        String subscriberName = config.get(SUBSCRIBER_NAME_ATTRIBUTE).asString().orElse(null);
+
+        if (config.get(DURABLE_ATTRIBUTE).asBoolean().orElse(false)) {
+            if (!(destination instanceof Topic)) {
+                throw new MessagingException("Can't create durable consumer. Only topic can be durable!");
+            }
+            return session.createDurableSubscriber(
+                    (Topic) destination,
+                    subscriberName,
+                    messageSelector,
+                    config.get(NON_LOCAL_ATTRIBUTE).asBoolean().orElse(false));
+        } else {
+            return session.createConsumer(destination, messageSelector);
+        }
+    }
+
     Destination createDestination(Session session, ConnectionContext ctx) {
         io.helidon.config.Config config = ctx.config();
 
@@ -548,6 +654,204 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
 
     }
 
+    /**
+     * Message listeners of an incoming channel.
+     * Once the channel is cancelled or terminated, the listeners are removed and their consumers closed,
+     * so no more messages are taken from the destination.
+     */
+    private class Listeners {
+
+        private final Object demandLock = new Object();
+        private final List<MessageConsumer> consumers = new ArrayList<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        void add(MessageConsumer consumer, MessageListener listener) throws JMSException {
+            consumers.add(consumer);
+            consumer.setMessageListener(listener);
+        }
+
+        void awaitDemand(BooleanSupplier ready, long timeout) throws InterruptedException {
+            synchronized (demandLock) {
+                while (!closed.get() && !ready.getAsBoolean()) {
+                    demandLock.wait(timeout);
+                }
+            }
+        }
+
+        void wakeUp() {
+            synchronized (demandLock) {
+                demandLock.notifyAll();
+            }
+        }
+
+        boolean isClosed() {
+            return closed.get();
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            // messages redelivered after a listener failed stay with the consumer until it is closed
+            for (MessageConsumer consumer : consumers) {
+                try {
+                    consumer.setMessageListener(null);
+                } catch (JMSException e) {
+                    LOGGER.log(Level.WARNING, e, () -> "Error when removing JMS message listener.");
+                }
+            }
+            wakeUp();
+            // close may be called by the delivery thread of a consumer, close consumers from another thread
+            try {
+                executor.execute(() -> consumers.forEach(consumer -> {
+                    try {
+                        consumer.close();
+                    } catch (JMSException e) {
+                        LOGGER.log(Level.WARNING, e, () -> "Error when closing JMS consumer.");
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                // connector is stopped, consumers are closed with their sessions
+                LOGGER.fine(() -> "JMS consumers are closed with their sessions.");
+            }
+        }
+    }
+
+    /**
+     * Pushes messages delivered by JMS session thread downstream,
+     * the delivery thread is blocked until there is demand for the message.
+     * A message that cannot be emitted, because the channel is cancelled or terminated, is not acknowledged
+     * and the broker delivers it again.
+     */
+    private class DemandListener implements MessageListener {
+
+        private final BufferedEmittingPublisher<Message<?>> emitter;
+        private final SessionMetadata sessionEntry;
+        private final boolean awaitAck;
+        private final long pollTimeout;
+        private final int prefetch;
+        private final Listeners listeners;
+        // accessed by single delivery thread of the session
+        private JmsMessage<?> lastMessage;
+
+        DemandListener(BufferedEmittingPublisher<Message<?>> emitter,
+                       SessionMetadata sessionEntry,
+                       AcknowledgeMode ackMode,
+                       Boolean awaitAck,
+                       Long pollTimeout,
+                       int prefetch,
+                       Listeners listeners) {
+            this.emitter = emitter;
+            this.sessionEntry = sessionEntry;
+            this.awaitAck = ackMode != AcknowledgeMode.AUTO_ACKNOWLEDGE && awaitAck;
+            this.pollTimeout = pollTimeout;
+            this.prefetch = prefetch;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void onMessage(javax.jms.Message message) {
+            try {
+                // acks are not signalled, re-check after poll timeout
+                listeners.awaitDemand(this::ready, pollTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.fail(e);
+                throw redelivered(e);
+            }
+            if (stopped || listeners.isClosed() || emitter.isCancelled() || emitter.isCompleted()) {
+                throw redelivered(null);
+            }
+            try {
+                LOGGER.fine(() -> "Received message: " + message.toString());
+                JmsMessage<?> preparedMessage = createMessage(message, executor, sessionEntry);
+                lastMessage = preparedMessage;
+                emitter.emit(preparedMessage);
+            } catch (Throwable e) {
+                emitter.fail(e);
+                throw redelivered(e);
+            }
+        }
+
+        /**
+         * Removes the listeners of the channel, so the message is not delivered to them again.
+         * The returned exception is thrown by the listener, which makes JMS deliver the message again.
+         */
+        private MessagingException redelivered(Throwable cause) {
+            listeners.close();
+            return new MessagingException("Message was not emitted and will be delivered again.", cause);
+        }
+
+        private boolean ready() {
+            if (stopped || emitter.isCancelled() || emitter.isCompleted()) {
+                return true;
+            }
+            // When await-ack is true, no message is emitted until previous one is acked
+            if (awaitAck && lastMessage != null && !lastMessage.isAck()) {
+                return false;
+            }
+            return emitter.hasRequests() || emitter.bufferSize() < prefetch;
+        }
+    }
+
+    /**
+     * Messages sent in a transacted session, committed by batches.
+     */
+    private class TransactedBatch {
+
+        private final Session session;
+        private final int size;
+        private final long timeout;
+        private final List<Message<?>> messages = new ArrayList<>();
+        private ScheduledFuture<?> timeoutTask;
+
+        TransactedBatch(Session session, io.helidon.config.Config config) {
+            this.session = session;
+            this.size = config.get(BATCH_SIZE_ATTRIBUTE).asInt().orElse(BATCH_SIZE_DEFAULT);
+            this.timeout = config.get(BATCH_TIMEOUT_ATTRIBUTE).asLong().orElse(BATCH_TIMEOUT_DEFAULT);
+        }
+
+        synchronized void add(Message<?> m) throws JMSException {
+            messages.add(m);
+            if (messages.size() >= size) {
+                commit();
+            } else if (messages.size() == 1 && timeout > 0) {
+                timeoutTask = scheduler.schedule(this::commitQuietly, timeout, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        synchronized void commit() throws JMSException {
+            if (timeoutTask != null) {
+                timeoutTask.cancel(false);
+                timeoutTask = null;
+            }
+            if (messages.isEmpty()) {
+                return;
+            }
+            List<Message<?>> committed = new ArrayList<>(messages);
+            messages.clear();
+            session.commit();
+            committed.forEach(Message::ack);
+        }
+
+        synchronized void commitQuietly() {
+            try {
+                commit();
+            } catch (JMSException e) {
+                LOGGER.log(Level.SEVERE, e, () -> "Error when committing JMS transaction.");
+            }
+        }
+
+        synchronized void rollback() {
+            messages.clear();
+            try {
+                session.rollback();
+            } catch (JMSException e) {
+                LOGGER.log(Level.SEVERE, e, () -> "Error when rolling back JMS transaction.");
+            }
+        }
+    }
+
     /**
      * Builder for {@link io.helidon.messaging.connectors.jms.JmsConnector}.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
 import javax.jms.MessageConsumer;
+import javax.jms.MessageListener;
 import javax.jms.MessageProducer;
 import javax.jms.Queue;
 import javax.jms.Session;
@@ -41,7 +42,9 @@ import io.helidon.config.mp.MpConfigSources;
 import io.helidon.messaging.MessagingException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
+import static org.hamcrest.collection.IsMapContaining.hasKey;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -57,6 +60,7 @@ import org.mockito.Mockito;
 public class ConfigTest {
 
     private static JmsConnector conn;
+    private static Session session;
     private static final HashMap<String, Object> results = new HashMap<>();
 
     @BeforeEach
@@ -65,7 +69,7 @@ public class ConfigTest {
         ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
         Instance<ConnectionFactory> instance = Mockito.mock(Instance.class);
         Connection jmsConnection = Mockito.mock(Connection.class);
-        Session session = Mockito.mock(Session.class);
+        session = Mockito.mock(Session.class);
         Queue queue = Mockito.mock(Queue.class);
         Topic topic = Mockito.mock(Topic.class);
         MessageConsumer consumer = Mockito.mock(MessageConsumer.class);
@@ -103,6 +107,10 @@ public class ConfigTest {
             results.put(JmsConnector.POLL_TIMEOUT_ATTRIBUTE, i.getArgument(0));
             return msg;
         });
+        Mockito.doAnswer(i -> {
+            results.put(JmsConnector.MESSAGE_LISTENER_ATTRIBUTE, i.getArgument(0));
+            return null;
+        }).when(consumer).setMessageListener(Mockito.any());
         Mockito.when(msg.getBody(Mockito.any())).thenReturn("test message");
 
         conn = new JmsConnector(Config.empty(), instance);
@@ -199,6 +207,46 @@ public class ConfigTest {
         assertThat(results, hasEntry(JmsConnector.TRANSACTED_ATTRIBUTE, JmsConnector.TRANSACTED_DEFAULT));
     }
 
+    @Test
+    void messageListenerPub() throws JMSException {
+        CompletionStage<?> first = conn.getPublisherBuilder(conf(Map.of(
+                JmsConnector.CHANNEL_NAME_ATTRIBUTE, "test-1",
+                JmsConnector.CONNECTOR_ATTRIBUTE, JmsConnector.CONNECTOR_NAME,
+                JmsConnector.NAMED_FACTORY_ATTRIBUTE, "test-factory",
+                JmsConnector.DESTINATION_ATTRIBUTE, "testQueue1",
+                JmsConnector.MESSAGE_LISTENER_ATTRIBUTE, "true",
+                JmsConnector.PREFETCH_ATTRIBUTE, "1"
+        ))).findFirst().run();
+
+        MessageListener listener = (MessageListener) results.get(JmsConnector.MESSAGE_LISTENER_ATTRIBUTE);
+        listener.onMessage(Mockito.mock(javax.jms.Message.class));
+        await(first);
+
+        assertThat(results, not(hasKey(JmsConnector.POLL_TIMEOUT_ATTRIBUTE)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transactedBatchSub() throws JMSException {
+        Mockito.when(session.getTransacted()).thenReturn(true);
+        SubscriberBuilder<Message<String>, Void> subscriberBuilder =
+                (SubscriberBuilder<Message<String>, Void>) conn.getSubscriberBuilder(conf(Map.of(
+                        JmsConnector.CHANNEL_NAME_ATTRIBUTE, "test-1",
+                        JmsConnector.CONNECTOR_ATTRIBUTE, JmsConnector.CONNECTOR_NAME,
+                        JmsConnector.NAMED_FACTORY_ATTRIBUTE, "test-factory",
+                        JmsConnector.DESTINATION_ATTRIBUTE, "testQueue1",
+                        JmsConnector.TRANSACTED_ATTRIBUTE, "true",
+                        JmsConnector.BATCH_SIZE_ATTRIBUTE, "2"
+                )));
+        await(ReactiveStreams
+                .of("test message 1", "test message 2", "test message 3")
+                .map(Message::of)
+                .to(subscriberBuilder).run());
+
+        // one full batch and the rest committed on completion
+        Mockito.verify(session, Mockito.times(2)).commit();
+    }
+
     @Test
     void missingDestinationPub() {
         assertThrows(MessagingException.class, () -> await(conn.getPublisherBuilder(conf(Map.of(
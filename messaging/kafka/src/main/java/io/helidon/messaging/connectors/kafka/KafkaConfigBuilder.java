@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -367,4 +367,70 @@ public final class KafkaConfigBuilder extends ConnectorConfigBuilder {
         super.property("retries", String.valueOf(retries));
         return this;
     }
+
+    /**
+     * Number of messages sent in one Kafka transaction, acknowledged together when the transaction is committed.
+     * Requires {@link #transactionalId(String)} to be configured.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 0, messages are not sent in transactions</li>
+     * </ul>
+     *
+     * @param transactionBatchSize number of messages in a transaction
+     * @return this builder
+     */
+    public KafkaConfigBuilder transactionBatchSize(int transactionBatchSize) {
+        super.property("transaction.batch.size", String.valueOf(transactionBatchSize));
+        return this;
+    }
+
+    /**
+     * Maximum time in milliseconds a transaction waits for more messages before it is committed.
+     *
+     * <ul>
+     * <li>Type: long</li>
+     * <li>Default: 0, transactions are committed only when full</li>
+     * </ul>
+     *
+     * @param transactionLinger time to wait for more messages in milliseconds
+     * @return this builder
+     */
+    public KafkaConfigBuilder transactionLinger(long transactionLinger) {
+        super.property("transaction.linger.millis", String.valueOf(transactionLinger));
+        return this;
+    }
+
+    /**
+     * Number of times a failed transaction is aborted and its messages are sent again in a new transaction.
+     * Messages of a transaction that still fails are not acknowledged, and the subscription is cancelled.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 3</li>
+     * </ul>
+     *
+     * @param transactionRetries number of retries of a failed transaction
+     * @return this builder
+     */
+    public KafkaConfigBuilder transactionRetries(int transactionRetries) {
+        super.property("transaction.retries", String.valueOf(transactionRetries));
+        return this;
+    }
+
+    /**
+     * The TransactionalId to use for transactional delivery, also enables idempotence of the producer.
+     *
+     * <ul>
+     * <li>Type: string</li>
+     * <li>Default: null</li>
+     * </ul>
+     *
+     * @param transactionalId transactional id
+     * @return this builder
+     */
+    public KafkaConfigBuilder transactionalId(String transactionalId) {
+        super.property("transactional.id", transactionalId);
+        return this;
+    }
 }
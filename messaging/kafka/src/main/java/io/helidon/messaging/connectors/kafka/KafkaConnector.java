@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,9 @@ package io.helidon.messaging.connectors.kafka;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -33,6 +35,7 @@ import io.helidon.config.Config;
 import io.helidon.config.mp.MpConfig;
 import io.helidon.messaging.Stoppable;
 
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.eclipse.microprofile.reactive.messaging.spi.Connector;
 import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
@@ -56,6 +59,7 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
 
     private final ScheduledExecutorService scheduler;
     private final Queue<KafkaPublisher<?, ?>> resources = new LinkedList<>();
+    private final Map<String, KafkaPublisher<?, ?>> channels = new ConcurrentHashMap<>();
 
     /**
      * Constructor to instance KafkaConnectorFactory.
@@ -92,12 +96,14 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
 
     @Override
     public PublisherBuilder<? extends Message<?>> getPublisherBuilder(org.eclipse.microprofile.config.Config config) {
+        Config helidonConfig = MpConfig.toHelidonConfig(config);
         KafkaPublisher<Object, Object> publisher = KafkaPublisher.builder()
-                .config(MpConfig.toHelidonConfig(config))
+                .config(helidonConfig)
                 .scheduler(scheduler)
                 .build();
         LOGGER.fine(() -> String.format("Resource %s added", publisher));
         resources.add(publisher);
+        helidonConfig.get(CHANNEL_NAME_ATTRIBUTE).asString().ifPresent(channel -> channels.put(channel, publisher));
         return ReactiveStreams.fromPublisher(publisher);
     }
 
@@ -106,6 +112,30 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
         return ReactiveStreams.fromSubscriber(KafkaSubscriber.create(MpConfig.toHelidonConfig(config)));
     }
 
+    /**
+     * Number of messages of each partition that the incoming channel emitted and that are not committed yet.
+     * Updated at most once a second. Always empty when {@code enable.auto.commit} is {@code true}.
+     *
+     * @param channelName name of an incoming channel of this connector
+     * @return in-flight messages by partition, empty if the connector has no such incoming channel
+     */
+    public Map<TopicPartition, Long> inFlight(String channelName) {
+        KafkaPublisher<?, ?> publisher = channels.get(channelName);
+        return publisher == null ? Map.of() : publisher.inFlight();
+    }
+
+    /**
+     * Number of records of each partition assigned to the incoming channel that are in Kafka and were not
+     * consumed yet, as reported by the Kafka consumer. Updated at most once a second.
+     *
+     * @param channelName name of an incoming channel of this connector
+     * @return consumer lag by partition, empty if the connector has no such incoming channel
+     */
+    public Map<TopicPartition, Long> lag(String channelName) {
+        KafkaPublisher<?, ?> publisher = channels.get(channelName);
+        return publisher == null ? Map.of() : publisher.lag();
+    }
+
     /**
      * Creates a new instance of KafkaConnector with the required configuration.
      *
@@ -132,6 +162,7 @@ public class KafkaConnector implements IncomingConnectorFactory, OutgoingConnect
         LOGGER.fine(() -> "Terminating KafkaConnector...");
         // Stops the scheduler first to make sure no new task will be triggered meanwhile consumers are closing
         scheduler.shutdown();
+        channels.clear();
         List<Exception> failed = new LinkedList<>();
         KafkaPublisher<?, ?> resource;
         while ((resource = resources.poll()) != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,20 +17,26 @@
 package io.helidon.messaging.connectors.kafka;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -48,6 +54,8 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.reactivestreams.FlowAdapters;
@@ -58,6 +66,10 @@ import org.reactivestreams.Subscriber;
  * This is an implementation of {@link org.reactivestreams.Publisher} that read messages from
  * Kafka and push them downstream to one subscriber.
  * Configurable by Helidon {@link io.helidon.config.Config Config},
+ * <p>
+ * Kafka is polled whenever there is demand from downstream, and every {@code period.executions} milliseconds otherwise.
+ * While records are buffered, the consumer is polled with its partitions paused, so results of asynchronous commits
+ * are still delivered.
  *
  * @param <K> Key type
  * @param <V> Value type
@@ -71,10 +83,18 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private static final String ENABLE_AUTOCOMMIT = "enable.auto.commit";
     private static final String ACK_TIMEOUT = "ack.timeout.millis";
     private static final String LIMIT_NO_ACK = "limit.no.ack";
+    private static final String COMMIT_BATCH_SIZE = "commit.batch.size";
+    private static final String COMMIT_INTERVAL = "commit.interval.millis";
+    private static final long METRICS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
 
     private final Lock taskLock = new ReentrantLock();
+    private final AtomicBoolean taskScheduled = new AtomicBoolean();
     private final Queue<ConsumerRecord<K, V>> backPressureBuffer = new LinkedList<>();
-    private final Map<TopicPartition, List<KafkaConsumerMessage<K, V>>> pendingCommits = new HashMap<>();
+    // emitted messages not yet acknowledged, in order of offsets
+    private final Map<TopicPartition, Deque<KafkaConsumerMessage<K, V>>> pendingCommits = new HashMap<>();
+    // acknowledged messages with contiguous offsets, waiting for the next commit
+    private final Map<TopicPartition, OffsetAndMetadata> readyOffsets = new HashMap<>();
+    private final List<KafkaConsumerMessage<K, V>> readyMessages = new ArrayList<>();
     private final PartitionsAssignedLatch partitionsAssignedLatch = new PartitionsAssignedLatch();
     private final ScheduledExecutorService scheduler;
     private final AtomicLong requests = new AtomicLong();
@@ -86,31 +106,41 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private final boolean autoCommit;
     private final long ackTimeout;
     private final int limitNoAck;
+    private final int commitBatchSize;
+    private final long commitIntervalNanos;
     private final Supplier<Consumer<K, V>> consumerSupplier;
 
-    private Consumer<K, V> kafkaConsumer;
+    private volatile Consumer<K, V> kafkaConsumer;
+    private ScheduledFuture<?> periodicTask;
     private boolean stopped;
-
-    private KafkaPublisher(ScheduledExecutorService scheduler, Supplier<Consumer<K, V>> consumerSupplier,
-            List<String> topics, Pattern topicPattern, long pollTimeout, long periodExecutions, boolean autoCommit,
-            long ackTimeout, int limitNoAck) {
-        this.scheduler = scheduler;
-        this.topics = topics;
-        this.topicPattern = topicPattern;
-        this.periodExecutions = periodExecutions;
-        this.pollTimeout = pollTimeout;
-        this.autoCommit = autoCommit;
-        this.ackTimeout = ackTimeout;
-        this.limitNoAck = limitNoAck;
-        this.consumerSupplier = consumerSupplier;
-        this.emitter.onRequest((n, demand) -> requests.updateAndGet(r -> Long.MAX_VALUE - r > n ? n + r : Long.MAX_VALUE));
+    private long lastCommitNanos = System.nanoTime();
+    private long lastMetricsNanos;
+    private volatile Map<TopicPartition, Long> inFlight = Map.of();
+    private volatile Map<TopicPartition, Long> lag = Map.of();
+
+    private KafkaPublisher(Builder<K, V> builder) {
+        this.scheduler = builder.scheduler;
+        this.topics = builder.topics;
+        this.topicPattern = builder.topicPattern;
+        this.periodExecutions = builder.periodExecutions;
+        this.pollTimeout = builder.pollTimeout;
+        this.autoCommit = builder.autoCommit;
+        this.ackTimeout = builder.ackTimeout;
+        this.limitNoAck = builder.limitNoAck;
+        this.commitBatchSize = builder.commitBatchSize;
+        this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.commitIntervalMillis);
+        this.consumerSupplier = builder.consumerSupplier;
+        this.emitter.onRequest((n, demand) -> {
+            requests.updateAndGet(r -> Long.MAX_VALUE - r > n ? n + r : Long.MAX_VALUE);
+            scheduleTask();
+        });
     }
 
     /**
      * Starts to consume events from Kafka to send them downstream till
      * {@link KafkaPublisher#stop()} is invoked.
      * A new KafkaConsumer will be instanced if it was not provided before.
-     * This execution runs in one thread that is triggered by the scheduler.
+     * The consumer is only used by one task at a time, triggered by downstream demand or by the scheduler.
      */
     private void start() {
         LOGGER.fine(() -> String.format("%s Start to consume", topics));
@@ -121,63 +151,8 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             } else {
                 kafkaConsumer.subscribe(topics, partitionsAssignedLatch);
             }
-            // This thread reads from Kafka topics and push in kafkaBufferedEvents
-            scheduler.scheduleAtFixedRate(() -> {
-                try {
-                    // Need to lock to avoid onClose() is executed meanwhile task is running
-                    taskLock.lock();
-                    if (!scheduler.isShutdown() && !(emitter.isCompleted() || emitter.isFailed())) {
-                        int currentNoAck = currentNoAck();
-                        if (currentNoAck < limitNoAck) {
-                            if (backPressureBuffer.isEmpty()) {
-                                try {
-                                    kafkaConsumer.poll(Duration.ofMillis(pollTimeout)).forEach(backPressureBuffer::add);
-                                    if (!backPressureBuffer.isEmpty()) {
-                                        LOGGER.fine(() -> String.format("%s Poll: %s", topics, backPressureBuffer));
-                                    }
-                                } catch (WakeupException e) {
-                                    LOGGER.fine(() -> String.format("%s It was requested to stop polling from channel", topics));
-                                }
-                            } else {
-                                long totalToEmit = requests.get();
-                                // Avoid index out bound exceptions
-                                long eventsToEmit = Math.min(totalToEmit, backPressureBuffer.size());
-                                if (eventsToEmit > 0) {
-                                    LOGGER.fine(() -> String.format("%s %s messages to emit. %s in buffer and %s requested",
-                                            topics, eventsToEmit, backPressureBuffer.size(), totalToEmit));
-                                }
-                                for (long i = 0; i < eventsToEmit; i++) {
-                                    ConsumerRecord<K, V> cr = backPressureBuffer.poll();
-                                    CompletableFuture<Void> kafkaCommit = new CompletableFuture<>();
-                                    KafkaConsumerMessage<K, V> kafkaMessage =
-                                            new KafkaConsumerMessage<>(cr, kafkaCommit, ackTimeout);
-                                    if (!autoCommit) {
-                                        TopicPartition key = new TopicPartition(cr.topic(), cr.partition());
-                                        pendingCommits.computeIfAbsent(key, k -> new LinkedList<>()).add(kafkaMessage);
-                                    } else {
-                                        kafkaCommit.complete(null);
-                                    }
-                                    requests.decrementAndGet();
-                                    runInNewContext(() ->  emitter.emit(kafkaMessage));
-                                }
-                            }
-                        } else {
-                            throw new IllegalStateException(
-                                    String.format("Current pending %s acks has overflown the limit of %s ",
-                                            currentNoAck, limitNoAck));
-                        }
-                    }
-                    cleanResourcesIfTerminated(emitter.isCompleted() || emitter.isFailed());
-                    if (!stopped && !autoCommit) {
-                        processACK();
-                    }
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "KafkaPublisher " + topics + " failed", e);
-                    emitter.fail(e);
-                } finally {
-                    taskLock.unlock();
-                }
-            }, 0, periodExecutions, TimeUnit.MILLISECONDS);
+            // Keeps polling and committing also when there is no demand
+            periodicTask = scheduler.scheduleAtFixedRate(this::scheduleTask, 0, periodExecutions, TimeUnit.MILLISECONDS);
         } catch (RuntimeException e) {
             partitionsAssignedLatch.countDown();
             // The failure must be emitted in a different thread or the rest of connectors
@@ -186,53 +161,241 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         }
     }
 
+    private void scheduleTask() {
+        if (kafkaConsumer != null && !scheduler.isShutdown() && taskScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::task);
+            } catch (RejectedExecutionException e) {
+                taskScheduled.set(false);
+                LOGGER.fine(() -> String.format("%s Scheduler does not accept more tasks", topics));
+            }
+        }
+    }
+
+    private void task() {
+        boolean polled = false;
+        boolean more = false;
+        // Need to lock to avoid onClose() is executed meanwhile task is running
+        taskLock.lock();
+        try {
+            if (!scheduler.isShutdown() && !(emitter.isCompleted() || emitter.isFailed())) {
+                int currentNoAck = currentNoAck();
+                if (currentNoAck >= limitNoAck) {
+                    throw new IllegalStateException(
+                            String.format("Current pending %s acks has overflown the limit of %s ",
+                                    currentNoAck, limitNoAck));
+                }
+                if (backPressureBuffer.isEmpty()) {
+                    polled = poll();
+                } else {
+                    pollPaused();
+                }
+                emit();
+            }
+            cleanResourcesIfTerminated(emitter.isCompleted() || emitter.isFailed());
+            if (!stopped && !autoCommit) {
+                processACK();
+            }
+            if (!stopped) {
+                updateMetrics();
+                // Continue while there is demand, a blocking poll waits for new records
+                more = polled || pollTimeout > 0 || !backPressureBuffer.isEmpty();
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "KafkaPublisher " + topics + " failed", e);
+            emitter.fail(e);
+        } finally {
+            taskLock.unlock();
+            taskScheduled.set(false);
+        }
+        if (more && requests.get() > 0) {
+            scheduleTask();
+        }
+    }
+
+    private boolean poll() {
+        try {
+            kafkaConsumer.poll(Duration.ofMillis(pollTimeout)).forEach(backPressureBuffer::add);
+            if (!backPressureBuffer.isEmpty()) {
+                LOGGER.fine(() -> String.format("%s Poll: %s", topics, backPressureBuffer));
+                return true;
+            }
+        } catch (WakeupException e) {
+            LOGGER.fine(() -> String.format("%s It was requested to stop polling from channel", topics));
+        }
+        return false;
+    }
+
+    /**
+     * Polls with all assigned partitions paused, no records are fetched.
+     * Keeps the consumer in its group and delivers the callbacks of asynchronous commits
+     * while buffered records wait for downstream demand.
+     */
+    private void pollPaused() {
+        Set<TopicPartition> assignment = kafkaConsumer.assignment();
+        kafkaConsumer.pause(assignment);
+        try {
+            // partitions assigned by a rebalance during this poll are not paused
+            kafkaConsumer.poll(Duration.ZERO).forEach(backPressureBuffer::add);
+        } catch (WakeupException e) {
+            LOGGER.fine(() -> String.format("%s It was requested to stop polling from channel", topics));
+        } finally {
+            kafkaConsumer.resume(kafkaConsumer.paused());
+        }
+    }
+
+    private void emit() {
+        long totalToEmit = requests.get();
+        // Avoid index out bound exceptions
+        long eventsToEmit = Math.min(totalToEmit, backPressureBuffer.size());
+        if (eventsToEmit > 0) {
+            LOGGER.fine(() -> String.format("%s %s messages to emit. %s in buffer and %s requested",
+                    topics, eventsToEmit, backPressureBuffer.size(), totalToEmit));
+        }
+        for (long i = 0; i < eventsToEmit; i++) {
+            ConsumerRecord<K, V> cr = backPressureBuffer.poll();
+            CompletableFuture<Void> kafkaCommit = new CompletableFuture<>();
+            KafkaConsumerMessage<K, V> kafkaMessage = new KafkaConsumerMessage<>(cr, kafkaCommit, ackTimeout);
+            if (!autoCommit) {
+                TopicPartition key = new TopicPartition(cr.topic(), cr.partition());
+                pendingCommits.computeIfAbsent(key, k -> new ArrayDeque<>()).add(kafkaMessage);
+            } else {
+                kafkaCommit.complete(null);
+            }
+            requests.decrementAndGet();
+            runInNewContext(() -> emitter.emit(kafkaMessage));
+        }
+    }
+
     private int currentNoAck() {
-        return pendingCommits.values().stream()
-                .map(List::size)
-                .reduce(Integer::sum)
-                .orElse(0);
+        int result = 0;
+        for (Deque<KafkaConsumerMessage<K, V>> byPartition : pendingCommits.values()) {
+            result += byPartition.size();
+        }
+        return result;
     }
 
     /**
      * Process the ACKs.
-     * This will search ACK events and it will commit them to Kafka.
+     * This will search ACK events and it will commit them to Kafka once there is at least
+     * {@code commit.batch.size} of them, or {@code commit.interval.millis} passed since the last commit.
      * Those events that are committed will complete KafkaMessage#ack().
      */
     private void processACK() {
-        Map<TopicPartition, OffsetAndMetadata> offsets = new LinkedHashMap<>();
-        List<KafkaConsumerMessage<K, V>> messagesToCommit = new LinkedList<>();
         // Commit highest offset + 1 of each partition that was ACK, and remove from pending
-        for (Entry<TopicPartition, List<KafkaConsumerMessage<K, V>>> entry : pendingCommits.entrySet()) {
+        for (Entry<TopicPartition, Deque<KafkaConsumerMessage<K, V>>> entry : pendingCommits.entrySet()) {
             // No need to sort it, offsets are consumed in order
-            List<KafkaConsumerMessage<K, V>> byPartition = entry.getValue();
-            Iterator<KafkaConsumerMessage<K, V>> iterator = byPartition.iterator();
+            Deque<KafkaConsumerMessage<K, V>> byPartition = entry.getValue();
             KafkaMessage<K, V> highest = null;
-            while (iterator.hasNext()) {
-                KafkaConsumerMessage<K, V> element = iterator.next();
-                if (element.isAck()) {
-                    messagesToCommit.add(element);
-                    highest = element;
-                    iterator.remove();
-                } else {
-                    break;
-                }
+            while (!byPartition.isEmpty() && byPartition.peekFirst().isAck()) {
+                KafkaConsumerMessage<K, V> element = byPartition.pollFirst();
+                readyMessages.add(element);
+                highest = element;
             }
             if (highest != null) {
                 OffsetAndMetadata offset = new OffsetAndMetadata(highest.getOffset().get() + 1);
                 LOGGER.fine(() -> String.format("%s Will commit %s %s", topics, entry.getKey(), offset));
-                offsets.put(entry.getKey(), offset);
+                readyOffsets.put(entry.getKey(), offset);
             }
         }
-        if (!messagesToCommit.isEmpty()) {
-            LOGGER.fine(() -> String.format("%s Offsets %s", topics, offsets));
+        if (readyMessages.isEmpty()
+                || (readyMessages.size() < commitBatchSize && System.nanoTime() - lastCommitNanos < commitIntervalNanos)) {
+            return;
+        }
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(readyOffsets);
+        List<KafkaConsumerMessage<K, V>> messagesToCommit = new ArrayList<>(readyMessages);
+        readyOffsets.clear();
+        readyMessages.clear();
+        lastCommitNanos = System.nanoTime();
+        LOGGER.fine(() -> String.format("%s Offsets %s", topics, offsets));
+        try {
+            // Callback is invoked by a later poll or commit of this consumer, commits are completed in order
+            kafkaConsumer.commitAsync(offsets, (committed, e) -> {
+                if (e == null) {
+                    messagesToCommit.forEach(message -> message.kafkaCommit().complete(null));
+                } else {
+                    LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + offsets, e);
+                    messagesToCommit.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+                }
+            });
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + offsets, e);
+            messagesToCommit.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Commits acknowledged messages that are waiting for the next commit.
+     */
+    private void commitReady() {
+        if (readyMessages.isEmpty()) {
+            return;
+        }
+        try {
             try {
-                kafkaConsumer.commitSync(offsets);
-                messagesToCommit.forEach(message -> message.kafkaCommit().complete(null));
-            } catch (RuntimeException e) {
-                LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + offsets, e);
-                messagesToCommit.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+                kafkaConsumer.commitSync(readyOffsets);
+            } catch (WakeupException e) {
+                // stop() wakes up the consumer, the wake up may not have been consumed by poll
+                kafkaConsumer.commitSync(readyOffsets);
+            }
+            readyMessages.forEach(message -> message.kafkaCommit().complete(null));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + readyOffsets, e);
+            readyMessages.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+        }
+        readyOffsets.clear();
+        readyMessages.clear();
+    }
+
+    private void updateMetrics() {
+        long now = System.nanoTime();
+        if (now - lastMetricsNanos < METRICS_INTERVAL_NANOS) {
+            return;
+        }
+        lastMetricsNanos = now;
+
+        Map<TopicPartition, Long> currentInFlight = new HashMap<>();
+        pendingCommits.forEach((partition, pending) -> currentInFlight.put(partition, (long) pending.size()));
+        inFlight = Collections.unmodifiableMap(currentInFlight);
+
+        // Kafka consumer reports lag of each assigned partition, topic names in tags have dots replaced
+        Map<String, TopicPartition> byTags = new HashMap<>();
+        kafkaConsumer.assignment()
+                .forEach(partition -> byTags.put(partition.topic().replace('.', '_') + ":" + partition.partition(),
+                                                 partition));
+        Map<TopicPartition, Long> currentLag = new HashMap<>();
+        for (Entry<MetricName, ? extends Metric> entry : kafkaConsumer.metrics().entrySet()) {
+            MetricName name = entry.getKey();
+            if (!"records-lag".equals(name.name())) {
+                continue;
+            }
+            TopicPartition partition = byTags.get(name.tags().get("topic") + ":" + name.tags().get("partition"));
+            Object value = entry.getValue().metricValue();
+            if (partition != null && value instanceof Number && !Double.isNaN(((Number) value).doubleValue())) {
+                currentLag.put(partition, ((Number) value).longValue());
             }
         }
+        lag = Collections.unmodifiableMap(currentLag);
+    }
+
+    /**
+     * Number of messages of each partition that were emitted downstream and are not committed yet.
+     * Updated at most once a second. Always empty when {@code enable.auto.commit} is {@code true}.
+     *
+     * @return in-flight messages by partition
+     */
+    public Map<TopicPartition, Long> inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Number of records of each assigned partition that are in Kafka and were not consumed yet,
+     * as reported by the Kafka consumer. Updated at most once a second.
+     *
+     * @return consumer lag by partition
+     */
+    public Map<TopicPartition, Long> lag() {
+        return lag;
     }
 
     /**
@@ -243,6 +406,9 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     public void stop() {
         LOGGER.fine(() -> String.format("%s Requested to stop", topics));
         if (kafkaConsumer != null) {
+            if (periodicTask != null) {
+                periodicTask.cancel(false);
+            }
             // Stops pooling
             kafkaConsumer.wakeup();
             // Wait that current task finishes in case it is still running
@@ -270,8 +436,11 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         if (!stopped && isTerminated) {
             stopped = true;
             LOGGER.fine(() -> String.format("%s Pending ACKs: %s", topics, pendingCommits.size()));
+            if (!autoCommit) {
+                commitReady();
+            }
             // Terminate waiting ACKs
-            pendingCommits.values().stream().flatMap(List::stream)
+            pendingCommits.values().stream().flatMap(Deque::stream)
             .forEach(message -> message.kafkaCommit()
                     .completeExceptionally(new TimeoutException(topics + " Aborted because KafkaPublisher is terminated")));
             kafkaConsumer.close();
@@ -345,6 +514,8 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         private Boolean autoCommit;
         private long ackTimeout = Long.MAX_VALUE;
         private int limitNoAck = Integer.MAX_VALUE;
+        private int commitBatchSize = 1;
+        private long commitIntervalMillis = 0L;
         private List<String> topics;
         private Pattern topicPattern;
         private ScheduledExecutorService scheduler;
@@ -369,6 +540,8 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             config.get(ENABLE_AUTOCOMMIT).asBoolean().ifPresent(this::autoCommit);
             config.get(ACK_TIMEOUT).asLong().ifPresent(this::ackTimeout);
             config.get(LIMIT_NO_ACK).asInt().ifPresent(this::limitNoAck);
+            config.get(COMMIT_BATCH_SIZE).asInt().ifPresent(this::commitBatchSize);
+            config.get(COMMIT_INTERVAL).asLong().ifPresent(this::commitIntervalMillis);
             return this;
         }
 
@@ -428,6 +601,8 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
 
         /**
          * Specifies the period in milliseconds between successive scheduler executions.
+         * Kafka is polled continuously while there is demand from downstream, this period
+         * applies when there is none.
          * The default value is 100 milliseconds.
          *
          * @param periodExecutions
@@ -500,6 +675,36 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             return this;
         }
 
+        /**
+         * This value applies only when autoCommit is set to false.
+         * Acknowledged messages are committed to Kafka asynchronously once there is at least this number of them,
+         * or when {@link #commitIntervalMillis(long)} passed since the last commit.
+         *
+         * The default value is 1.
+         *
+         * @param commitBatchSize number of acknowledged messages to commit together
+         * @return updated builder instance
+         */
+        public Builder<K, V> commitBatchSize(int commitBatchSize) {
+            this.commitBatchSize = commitBatchSize;
+            return this;
+        }
+
+        /**
+         * This value applies only when autoCommit is set to false.
+         * Maximum time in milliseconds acknowledged messages wait to be committed to Kafka,
+         * when there are less than {@link #commitBatchSize(int)} of them.
+         *
+         * The default value is 0.
+         *
+         * @param commitIntervalMillis time to wait for more acknowledged messages
+         * @return updated builder instance
+         */
+        public Builder<K, V> commitIntervalMillis(long commitIntervalMillis) {
+            this.commitIntervalMillis = commitIntervalMillis;
+            return this;
+        }
+
         @Override
         public KafkaPublisher<K, V> build() {
             if (Objects.isNull(topicPattern) && (Objects.isNull(topics) || topics.isEmpty())) {
@@ -516,9 +721,7 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             if (Objects.isNull(consumerSupplier)) {
                 throw new IllegalArgumentException("The kafkaConsumerSupplier is a required value");
             }
-            KafkaPublisher<K, V> publisher = new KafkaPublisher<>(scheduler, consumerSupplier, topics, topicPattern,
-                    pollTimeout, periodExecutions, autoCommit, ackTimeout, limitNoAck);
-            return publisher;
+            return new KafkaPublisher<>(this);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,21 +20,35 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
 import io.helidon.config.Config;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 /**
  * Reactive streams subscriber implementation.
+ * <p>
+ * Messages are acknowledged asynchronously, so continuations of acknowledgements never run
+ * on the Kafka producer I/O thread.
+ * When {@code transaction.batch.size} is configured, messages are sent in Kafka transactions of that many messages,
+ * and are acknowledged once their transaction is committed. A failed transaction is aborted and its messages
+ * are sent again in a new transaction, up to {@code transaction.retries} times. When the retries are exhausted,
+ * the messages of the transaction are not acknowledged and the subscription is cancelled.
+ *
  * @param <K> kafka record key type
  * @param <V> kafka record value type
  */
@@ -42,19 +56,40 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
 
     private static final Logger LOGGER = Logger.getLogger(KafkaSubscriber.class.getName());
     private static final String BACKPRESSURE_SIZE_KEY = "backpressure.size";
+    private static final String TRANSACTION_BATCH_SIZE_KEY = "transaction.batch.size";
+    private static final String TRANSACTION_LINGER_KEY = "transaction.linger.millis";
+    private static final String TRANSACTION_RETRIES_KEY = "transaction.retries";
 
     private final long backpressure;
+    private final int transactionBatchSize;
+    private final long transactionLinger;
+    private final int transactionRetries;
     private final Supplier<Producer<K, V>> producerSupplier;
     private final List<String> topics;
     private final AtomicLong backpressureCounter = new AtomicLong();
+    private final ScheduledExecutorService executor;
+    // guards the current transaction and its messages
+    private final Object transactionLock = new Object();
+    private final List<Message<V>> transactionMessages = new ArrayList<>();
+    private final AtomicReference<Exception> transactionFailure = new AtomicReference<>();
 
     private Subscription subscription;
     private Producer<K, V> kafkaProducer;
+    private ScheduledFuture<?> lingerTask;
 
-    private KafkaSubscriber(Supplier<Producer<K, V>> producerSupplier, List<String> topics, long backpressure){
-        this.backpressure = backpressure;
-        this.producerSupplier = producerSupplier;
-        this.topics = topics;
+    private KafkaSubscriber(Builder<K, V> builder) {
+        this.backpressure = builder.backpressure;
+        this.transactionBatchSize = builder.transactionBatchSize;
+        this.transactionLinger = builder.transactionLinger;
+        this.transactionRetries = builder.transactionRetries;
+        this.producerSupplier = builder.producerSupplier;
+        this.topics = builder.topics;
+        // acknowledges messages and commits transactions, never on the Kafka producer I/O thread
+        this.executor = ScheduledThreadPoolSupplier.builder()
+                .threadNamePrefix("kafka-subscriber-")
+                .corePoolSize(1)
+                .build()
+                .get();
     }
 
     @Override
@@ -63,7 +98,12 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             if (this.subscription == null) {
                 this.kafkaProducer = producerSupplier.get();
                 this.subscription = subscription;
-                this.subscription.request(backpressure);
+                if (transactionBatchSize > 0) {
+                    kafkaProducer.initTransactions();
+                    this.subscription.request(transactionBatchSize);
+                } else {
+                    this.subscription.request(backpressure);
+                }
             } else {
                 subscription.cancel();
             }
@@ -76,24 +116,15 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
     @Override
     public void onNext(Message<V> message) {
         Objects.requireNonNull(message);
+        if (transactionBatchSize > 0) {
+            sendInTransaction(message);
+            return;
+        }
         List<CompletableFuture<Void>> futureList = new ArrayList<>(topics.size());
         for (String topic : topics) {
             CompletableFuture<Void> completableFuture = new CompletableFuture<>();
             futureList.add(completableFuture);
-            ProducerRecord<K, V> record;
-            if (message instanceof KafkaMessage) {
-                KafkaMessage<K, V> kafkaMessage = (KafkaMessage<K, V>) message;
-                record = new ProducerRecord<>(
-                        topic,
-                        null,
-                        null,
-                        kafkaMessage.getKey().orElse(null),
-                        kafkaMessage.getPayload(),
-                        kafkaMessage.getHeaders());
-            } else {
-                record = new ProducerRecord<>(topic, message.getPayload());
-            }
-            kafkaProducer.send(record, (metadata, exception) -> {
+            kafkaProducer.send(record(topic, message), (metadata, exception) -> {
                 if (exception != null) {
                     subscription.cancel();
                     LOGGER.log(Level.WARNING, "Error when sending kafka message to topic: " + topic, exception);
@@ -104,7 +135,8 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             });
         }
         CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0]))
-                .whenComplete((success, exception) -> {
+                // do not run the acknowledgement on the Kafka producer I/O thread
+                .whenCompleteAsync((success, exception) -> {
                     if (exception == null) {
                         message.ack().whenComplete((a, b) -> {
                             // Atomically increment
@@ -116,20 +148,151 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
                             }
                         });
                     }
-                });
+                }, executor);
+    }
+
+    private ProducerRecord<K, V> record(String topic, Message<V> message) {
+        if (message instanceof KafkaMessage) {
+            KafkaMessage<K, V> kafkaMessage = (KafkaMessage<K, V>) message;
+            return new ProducerRecord<>(
+                    topic,
+                    null,
+                    null,
+                    kafkaMessage.getKey().orElse(null),
+                    kafkaMessage.getPayload(),
+                    kafkaMessage.getHeaders());
+        } else {
+            return new ProducerRecord<>(topic, message.getPayload());
+        }
+    }
+
+    private void sendInTransaction(Message<V> message) {
+        synchronized (transactionLock) {
+            if (transactionMessages.isEmpty()) {
+                kafkaProducer.beginTransaction();
+                if (transactionLinger > 0) {
+                    lingerTask = executor.schedule(this::commitTransaction, transactionLinger, TimeUnit.MILLISECONDS);
+                }
+            }
+            transactionMessages.add(message);
+            sendRecords(message);
+            if (transactionMessages.size() >= transactionBatchSize) {
+                if (lingerTask != null) {
+                    lingerTask.cancel(false);
+                }
+                executor.execute(this::commitTransaction);
+            }
+        }
+    }
+
+    private void sendRecords(Message<V> message) {
+        for (String topic : topics) {
+            kafkaProducer.send(record(topic, message), (metadata, exception) -> {
+                if (exception != null) {
+                    LOGGER.log(Level.WARNING, "Error when sending kafka message to topic: " + topic, exception);
+                    // set from the producer I/O thread, must not wait for the transaction lock
+                    transactionFailure.compareAndSet(null, exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * Commits the current transaction, then acknowledges its messages and requests the same number of messages.
+     * A failed transaction is retried, messages of a transaction that cannot be committed are not acknowledged.
+     */
+    private void commitTransaction() {
+        List<Message<V>> committed;
+        synchronized (transactionLock) {
+            if (transactionMessages.isEmpty()) {
+                return;
+            }
+            boolean success = commitWithRetries();
+            committed = new ArrayList<>(transactionMessages);
+            transactionMessages.clear();
+            if (!success) {
+                committed.forEach(message -> LOGGER.severe(() -> "Message was not sent to Kafka and is not acknowledged: "
+                        + message.getPayload()));
+                subscription.cancel();
+                return;
+            }
+        }
+        // acknowledge all messages of the transaction before requesting more
+        CompletableFuture.allOf(committed.stream()
+                                        .map(message -> message.ack().toCompletableFuture())
+                                        .toArray(CompletableFuture[]::new))
+                .whenCompleteAsync((result, exception) -> subscription.request(committed.size()), executor);
+    }
+
+    private boolean commitWithRetries() {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                if (attempt > 0) {
+                    kafkaProducer.beginTransaction();
+                    transactionMessages.forEach(this::sendRecords);
+                }
+                // flushes all records of the transaction
+                kafkaProducer.commitTransaction();
+                Exception failure = transactionFailure.getAndSet(null);
+                if (failure != null) {
+                    throw failure;
+                }
+                return true;
+            } catch (Exception e) {
+                transactionFailure.set(null);
+                // fatal errors, such as a fenced producer, do not allow to abort and retry
+                if (!abortTransaction() || attempt >= transactionRetries) {
+                    LOGGER.log(Level.SEVERE, "Kafka transaction of " + transactionMessages.size() + " messages failed", e);
+                    return false;
+                }
+                int retry = attempt + 1;
+                LOGGER.log(Level.WARNING, e, () -> "Kafka transaction of " + transactionMessages.size()
+                        + " messages failed, retry " + retry + " of " + transactionRetries);
+            }
+        }
+    }
+
+    private boolean abortTransaction() {
+        try {
+            kafkaProducer.abortTransaction();
+            return true;
+        } catch (KafkaException | IllegalStateException e) {
+            LOGGER.log(Level.FINE, "Kafka transaction cannot be aborted", e);
+            return false;
+        }
     }
 
     @Override
     public void onError(Throwable t) {
         Objects.requireNonNull(t);
         LOGGER.log(Level.SEVERE, "The Kafka subscription has failed", t);
-        kafkaProducer.close();
+        if (transactionBatchSize > 0) {
+            synchronized (transactionLock) {
+                if (!transactionMessages.isEmpty()) {
+                    abortTransaction();
+                    transactionMessages.clear();
+                }
+            }
+        }
+        close();
     }
 
     @Override
     public void onComplete() {
         LOGGER.fine(() -> "Subscriber has finished");
+        if (transactionBatchSize > 0) {
+            commitTransaction();
+        }
+        close();
+    }
+
+    private void close() {
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+        }
+        // completes the pending sends, whose acknowledgements are still handed to the executor
         kafkaProducer.close();
+        executor.shutdown();
     }
 
     /**
@@ -165,6 +328,9 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
         private Supplier<Producer<K, V>> producerSupplier;
         private List<String> topics;
         private long backpressure = 5L;
+        private int transactionBatchSize = 0;
+        private long transactionLinger = 0L;
+        private int transactionRetries = 3;
 
         private Builder() {
         }
@@ -177,7 +343,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             if (Objects.isNull(producerSupplier)) {
                 throw new IllegalArgumentException("The producerSupplier is a required value");
             }
-            return new KafkaSubscriber<>(producerSupplier, topics, backpressure);
+            return new KafkaSubscriber<>(this);
         }
 
         /**
@@ -191,6 +357,9 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             producerSupplier(() -> new KafkaProducer<>(kafkaConfig.asMap()));
             topics(kafkaConfig.topics());
             config.get(BACKPRESSURE_SIZE_KEY).asLong().ifPresent(this::backpressure);
+            config.get(TRANSACTION_BATCH_SIZE_KEY).asInt().ifPresent(this::transactionBatchSize);
+            config.get(TRANSACTION_LINGER_KEY).asLong().ifPresent(this::transactionLinger);
+            config.get(TRANSACTION_RETRIES_KEY).asInt().ifPresent(this::transactionRetries);
             return this;
         }
 
@@ -221,6 +390,50 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             return this;
         }
 
+        /**
+         * Number of messages sent in one Kafka transaction.
+         * The messages are acknowledged when the transaction is committed, and the same number of messages is
+         * requested again, so up to this number of messages is requested at once.
+         * The producer must be configured with {@code transactional.id}, which also enables idempotence.
+         *
+         * The default value is 0, messages are not sent in transactions.
+         *
+         * @param transactionBatchSize number of messages in a transaction
+         * @return updated builder instance
+         */
+        public Builder<K, V> transactionBatchSize(int transactionBatchSize) {
+            this.transactionBatchSize = transactionBatchSize;
+            return this;
+        }
+
+        /**
+         * Maximum time in milliseconds a transaction waits for more messages, before it is committed
+         * with less than {@link #transactionBatchSize(int)} messages.
+         *
+         * The default value is 0, transactions are only committed when full or when upstream completes.
+         *
+         * @param transactionLinger time to wait for more messages
+         * @return updated builder instance
+         */
+        public Builder<K, V> transactionLinger(long transactionLinger) {
+            this.transactionLinger = transactionLinger;
+            return this;
+        }
+
+        /**
+         * Number of times a failed transaction is aborted and its messages are sent again in a new transaction.
+         * Messages of a transaction that still fails are not acknowledged, and the subscription is cancelled.
+         *
+         * The default value is 3.
+         *
+         * @param transactionRetries number of retries of a failed transaction
+         * @return updated builder instance
+         */
+        public Builder<K, V> transactionRetries(int transactionRetries) {
+            this.transactionRetries = transactionRetries;
+            return this;
+        }
+
         /**
          * The list of topics the messages should be sent to.
          *
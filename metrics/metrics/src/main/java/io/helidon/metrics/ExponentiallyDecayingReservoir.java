@@ -44,7 +44,7 @@ import static java.lang.Math.min;
  * Cormode et al. Forward Decay: A Practical Time Decay Model for Streaming Systems. ICDE '09:
  * Proceedings of the 2009 IEEE International Conference on Data Engineering (2009)</a>
  */
-class ExponentiallyDecayingReservoir {
+class ExponentiallyDecayingReservoir implements Reservoir {
     private static final int DEFAULT_SIZE = 1028;
     private static final double DEFAULT_ALPHA = 0.015;
     private static final long RESCALE_THRESHOLD = TimeUnit.HOURS.toNanos(1);
@@ -89,6 +89,7 @@ class ExponentiallyDecayingReservoir {
         return (int) min(size, count.get());
     }
 
+    @Override
     public void update(long value, String label) {
         update(value, currentTimeInSeconds(), label);
     }
@@ -100,6 +101,7 @@ class ExponentiallyDecayingReservoir {
      * @param timestamp the epoch timestamp of {@code value} in seconds
      * @param label     the optional label associated with the sample
      */
+    @Override
     public void update(long value, long timestamp, String label) {
         rescaleIfNeeded();
         lockForRegularUsage();
@@ -133,6 +135,7 @@ class ExponentiallyDecayingReservoir {
         }
     }
 
+    @Override
     public WeightedSnapshot getSnapshot() {
         rescaleIfNeeded();
         lockForRegularUsage();
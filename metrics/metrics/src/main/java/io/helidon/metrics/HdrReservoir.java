@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.helidon.metrics.WeightedSnapshot.WeightedSample;
+
+/**
+ * A reservoir counting values in a fixed size log-linear histogram, in the style of HdrHistogram.
+ * <p>
+ * Each power of two range of values is split into {@value #SUB_BUCKETS} buckets of equal width, so a value
+ * reported by the snapshot differs from the recorded one by less than 1%. Minimal and maximal values are
+ * tracked exactly. The memory used does not depend on the number of recorded values.
+ * <p>
+ * Updates never lock. A count is incremented by compare and set in one of the stripes of buckets, and
+ * the number of stripes grows when updates from concurrent threads collide, up to the number of processors.
+ * The snapshot contains all values recorded since the reservoir was created, values do not decay in time.
+ * <p>
+ * The buckets of a power of two range are allocated when the first value in the range is recorded.
+ * A stripe takes about 300 bytes, plus about 550 bytes for each range with recorded values. Durations
+ * of a timer from one microsecond to one second, in nanoseconds, fall into 21 ranges, which is about 12 KB
+ * per stripe. An uncontended metric has a single stripe.
+ */
+class HdrReservoir implements Reservoir {
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values up to 2 * SUB_BUCKETS are counted exactly, each higher power of two adds SUB_BUCKETS buckets
+    static final int RANGES = Long.SIZE - SUB_BUCKET_BITS;
+    static final int BUCKETS = RANGES * SUB_BUCKETS;
+
+    private static final int MAX_STRIPES = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+
+    private final AtomicReference<Stripe[]> stripes = new AtomicReference<>(new Stripe[] {new Stripe()});
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    @Override
+    public void update(long value, String label) {
+        // min and max are updated before the count, so a snapshot never sees a count out of their range
+        if (value < min.get()) {
+            min.accumulateAndGet(value, Math::min);
+        }
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        int index = index(value);
+        int bucket = index & (SUB_BUCKETS - 1);
+        Stripe[] current = stripes.get();
+        AtomicLongArray counts = current[stripe(current.length)].range(index >>> SUB_BUCKET_BITS);
+        long count = counts.get(bucket);
+        if (!counts.compareAndSet(bucket, count, count + 1)) {
+            counts.getAndIncrement(bucket);
+            grow(current);
+        }
+    }
+
+    @Override
+    public void update(long value, long timestamp, String label) {
+        update(value, label);
+    }
+
+    @Override
+    public WeightedSnapshot getSnapshot() {
+        long[] counts = new long[BUCKETS];
+        for (Stripe stripe : stripes.get()) {
+            stripe.addTo(counts);
+        }
+        long minValue = min.get();
+        long maxValue = max.get();
+        long now = System.currentTimeMillis();
+
+        List<WeightedSample> samples = new ArrayList<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts[i];
+            if (count > 0) {
+                long value = Math.min(Math.max(representative(i), minValue), maxValue);
+                samples.add(new WeightedSample(value, count, now, ""));
+            }
+        }
+        if (samples.isEmpty()) {
+            return new WeightedSnapshot(samples);
+        }
+
+        // report exact min and max, replacing the representative values of the lowest and the highest bucket
+        int last = samples.size() - 1;
+        WeightedSample lowest = samples.get(0);
+        WeightedSample highest = samples.get(last);
+        if (last == 0 && lowest.getWeight() > 1 && minValue != maxValue) {
+            samples.set(0, new WeightedSample(minValue, 1, now, ""));
+            samples.add(new WeightedSample(maxValue, lowest.getWeight() - 1, now, ""));
+        } else {
+            samples.set(0, new WeightedSample(minValue, lowest.getWeight(), now, ""));
+            samples.set(last, new WeightedSample(maxValue, highest.getWeight(), now, ""));
+        }
+        return new WeightedSnapshot(samples);
+    }
+
+    /**
+     * Index of the bucket counting the value.
+     *
+     * @param value value
+     * @return bucket index
+     */
+    static int index(long value) {
+        if (value < 0) {
+            return 0;
+        }
+        int shift = Math.max(0, (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    /**
+     * The lowest value counted by the bucket.
+     *
+     * @param index bucket index
+     * @return the lowest value
+     */
+    static long lowestValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return ((long) (index - (shift << SUB_BUCKET_BITS))) << shift;
+    }
+
+    /**
+     * The value reported for the values counted by the bucket, which is the middle of the bucket.
+     *
+     * @param index bucket index
+     * @return the reported value
+     */
+    static long representative(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return lowestValue(index) + (1L << shift >>> 1);
+    }
+
+    private static int stripe(int stripes) {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (stripes - 1);
+    }
+
+    private void grow(Stripe[] current) {
+        if (current.length < MAX_STRIPES) {
+            Stripe[] grown = Arrays.copyOf(current, current.length * 2);
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = new Stripe();
+            }
+            stripes.compareAndSet(current, grown);
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Counts of all buckets, with the buckets of each power of two range allocated on first use.
+     */
+    private static final class Stripe {
+        private final AtomicReferenceArray<AtomicLongArray> ranges = new AtomicReferenceArray<>(RANGES);
+
+        AtomicLongArray range(int range) {
+            AtomicLongArray counts = ranges.get(range);
+            if (counts == null) {
+                counts = new AtomicLongArray(SUB_BUCKETS);
+                if (!ranges.compareAndSet(range, null, counts)) {
+                    counts = ranges.get(range);
+                }
+            }
+            return counts;
+        }
+
+        void addTo(long[] counts) {
+            for (int range = 0; range < RANGES; range++) {
+                AtomicLongArray rangeCounts = ranges.get(range);
+                if (rangeCounts != null) {
+                    int offset = range << SUB_BUCKET_BITS;
+                    for (int i = 0; i < SUB_BUCKETS; i++) {
+                        counts[offset + i] += rangeCounts.get(i);
+                    }
+                }
+            }
+        }
+    }
+}
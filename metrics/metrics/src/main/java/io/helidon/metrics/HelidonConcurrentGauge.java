@@ -100,19 +100,19 @@ final class HelidonConcurrentGauge extends MetricImpl implements ConcurrentGauge
             prometheusType(sb, nameCurrent, metadata().getType());
             prometheusHelp(sb, nameCurrent);
         }
-        sb.append(nameCurrent).append(prometheusTags(metricID.getTags()))
+        sb.append(nameCurrent).append(prometheusTags(metricID))
                 .append(" ").append(prometheusValue()).append('\n');
         final String nameMin = name + "_min";
         if (withHelpType) {
             prometheusType(sb, nameMin, metadata().getType());
         }
-        sb.append(nameMin).append(prometheusTags(metricID.getTags()))
+        sb.append(nameMin).append(prometheusTags(metricID))
                 .append(" ").append(getMin()).append('\n');
         final String nameMax = name + "_max";
         if (withHelpType) {
             prometheusType(sb, nameMax, metadata().getType());
         }
-        sb.append(nameMax).append(prometheusTags(metricID.getTags()))
+        sb.append(nameMax).append(prometheusTags(metricID))
                 .append(" ").append(getMax()).append('\n');
     }
 
@@ -77,7 +77,7 @@ final class HelidonCounter extends MetricImpl implements Counter {
             prometheusHelp(sb, prometheusName);
         }
         sb.append(prometheusName)
-                .append(prometheusTags(metricID.getTags()))
+                .append(prometheusTags(metricID))
                 .append(" ")
                 .append(prometheusValue());
         if (delegate instanceof CounterImpl) {
@@ -42,7 +42,7 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
     }
 
     static HelidonHistogram create(String type, Metadata metadata, Clock clock) {
-        return new HelidonHistogram(type, metadata, new HistogramImpl(clock));
+        return new HelidonHistogram(type, metadata, new HistogramImpl(Reservoir.create(metadata.getName(), clock)));
     }
 
     static HelidonHistogram create(String type, Metadata metadata, Histogram delegate) {
@@ -117,10 +117,10 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
 
     static final class HistogramImpl implements Histogram {
         private final LongAdder counter = new LongAdder();
-        private final ExponentiallyDecayingReservoir reservoir;
+        private final Reservoir reservoir;
 
-        private HistogramImpl(Clock clock) {
-            this.reservoir = new ExponentiallyDecayingReservoir(clock);
+        private HistogramImpl(Reservoir reservoir) {
+            this.reservoir = reservoir;
         }
 
         public void update(int value) {
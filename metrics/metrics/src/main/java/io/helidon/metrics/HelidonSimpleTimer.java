@@ -87,7 +87,7 @@ final class HelidonSimpleTimer extends MetricImpl implements SimpleTimer {
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
         String promName;
         String name = metricID.getName();
-        String tags = prometheusTags(metricID.getTags());
+        String tags = prometheusTags(metricID);
         promName = prometheusName(name) + "_total";
         if (withHelpType) {
             prometheusType(sb, promName, "counter");
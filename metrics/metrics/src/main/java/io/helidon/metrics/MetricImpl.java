@@ -124,6 +124,13 @@ abstract class MetricImpl implements HelidonMetric {
 
     private final String registryType;
     private final Metadata metadata;
+    // Prometheus forms of the metric name, tags and HELP/TYPE lines do not change, they are computed on first scrape.
+    // Racy single-check: fields are only set to immutable values, computing them twice is harmless.
+    private String prometheusName;
+    private CachedTags prometheusTags;
+    // lines by the Prometheus names of this metric, replaced by a copy when a line is added
+    private Map<String, String> prometheusTypeLines = Map.of();
+    private Map<String, String> prometheusHelpLines = Map.of();
 
     MetricImpl(String registryType, Metadata metadata) {
         this.metadata = metadata;
@@ -215,19 +222,34 @@ abstract class MetricImpl implements HelidonMetric {
     }
 
     void prometheusType(StringBuilder sb, String nameWithUnits, String type) {
-        sb.append("# TYPE ")
-                .append(nameWithUnits)
-                .append(" ")
-                .append(type)
-                .append('\n');
+        Map<String, String> lines = prometheusTypeLines;
+        String line = lines.get(nameWithUnits);
+        if (line == null) {
+            line = "# TYPE " + nameWithUnits + " " + type + '\n';
+            prometheusTypeLines = withLine(lines, nameWithUnits, line);
+        }
+        sb.append(line);
     }
 
     void prometheusHelp(StringBuilder sb, String nameWithUnits) {
-        sb.append("# HELP ")
-                .append(nameWithUnits)
-                .append(" ")
-                .append(metadata.getDescription().orElse(""))
-                .append('\n');
+        Map<String, String> lines = prometheusHelpLines;
+        String line = lines.get(nameWithUnits);
+        if (line == null) {
+            line = "# HELP " + nameWithUnits + " " + prometheusHelpText(metadata.getDescription().orElse("")) + '\n';
+            prometheusHelpLines = withLine(lines, nameWithUnits, line);
+        }
+        sb.append(line);
+    }
+
+    private static Map<String, String> withLine(Map<String, String> lines, String name, String line) {
+        Map<String, String> result = new HashMap<>(lines);
+        result.put(name, line);
+        return Map.copyOf(result);
+    }
+
+    private static String prometheusHelpText(String description) {
+        return description.replace("\\", "\\\\")
+                .replace("\n", "\\n");
     }
 
     @Override
@@ -237,7 +259,7 @@ abstract class MetricImpl implements HelidonMetric {
             prometheusType(sb, nameWithUnits, metadata.getType());
             prometheusHelp(sb, nameWithUnits);
         }
-        sb.append(nameWithUnits).append(prometheusTags(metricID.getTags())).append(" ").append(prometheusValue()).append('\n');
+        sb.append(nameWithUnits).append(prometheusTags(metricID)).append(" ").append(prometheusValue()).append('\n');
     }
 
     @Override
@@ -388,7 +410,16 @@ abstract class MetricImpl implements HelidonMetric {
     }
 
     final String prometheusName(String name) {
-        return prometheusClean(name, registryType + "_");
+        if (!name.equals(metadata.getName())) {
+            // derived names, such as the elapsed time of a simple timer
+            return prometheusClean(name, registryType + "_");
+        }
+        String result = prometheusName;
+        if (result == null) {
+            result = prometheusClean(name, registryType + "_");
+            prometheusName = result;
+        }
+        return result;
     }
 
     static String prometheusClean(String name, String prefix) {
@@ -414,6 +445,16 @@ abstract class MetricImpl implements HelidonMetric {
 
         return name;
     }
+
+    final String prometheusTags(MetricID metricID) {
+        CachedTags cached = prometheusTags;
+        if (cached == null || !cached.metricID.equals(metricID)) {
+            cached = new CachedTags(metricID, prometheusTags(metricID.getTags()));
+            prometheusTags = cached;
+        }
+        return cached.tags;
+    }
+
     final String prometheusTags(Map<String, String> tags) {
         return (tags == null || tags.isEmpty() ? "" : tags.entrySet().stream()
                 .filter(entry -> entry.getKey() != null)
@@ -455,6 +496,16 @@ abstract class MetricImpl implements HelidonMetric {
         }
     }
 
+    private static final class CachedTags {
+        private final MetricID metricID;
+        private final String tags;
+
+        private CachedTags(MetricID metricID, String tags) {
+            this.metricID = metricID;
+            this.tags = tags;
+        }
+    }
+
     private static final class LengthUnits extends Units {
         private LengthUnits(String metricUnit, double ratio) {
             super(metricUnit, "meters", o -> ((Number) o).doubleValue() * ratio);
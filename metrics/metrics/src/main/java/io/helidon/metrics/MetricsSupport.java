@@ -106,6 +106,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
     private static final MessageBodyWriter<JsonStructure> JSONP_WRITER = JsonpSupport.writer();
 
     private final RegistryFactory rf;
+    private final boolean gzip;
 
     private static KeyPerformanceIndicatorMetricsSettings kpiSettings;
 
@@ -114,6 +115,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
     protected MetricsSupport(Builder builder) {
         super(LOGGER, builder, SERVICE_NAME);
         this.rf = builder.registryFactory.get();
+        this.gzip = builder.gzip;
         kpiSettings = builder.kpiSettingsBuilder.build();
     }
 
@@ -173,7 +175,23 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
     }
 
 
-    private static void getAll(ServerRequest req, ServerResponse res, Registry registry) {
+    private void sendPrometheus(ServerRequest req, ServerResponse res, Registry... registries) {
+        boolean compress = gzip && req.headers()
+                .first(Http.Header.ACCEPT_ENCODING)
+                .map(it -> it.contains("gzip"))
+                .orElse(false);
+
+        res.headers().contentType(MediaType.TEXT_PLAIN);
+        if (gzip) {
+            res.headers().add(Http.Header.VARY, Http.Header.ACCEPT_ENCODING);
+        }
+        if (compress) {
+            res.headers().put(Http.Header.CONTENT_ENCODING, "gzip");
+        }
+        res.send(PrometheusWriter.create(compress, registries));
+    }
+
+    private void getAll(ServerRequest req, ServerResponse res, Registry registry) {
         if (registry.empty()) {
             res.status(Http.Status.NO_CONTENT_204);
             res.send();
@@ -184,7 +202,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
         if (mediaType == MediaType.APPLICATION_JSON) {
             sendJson(res, toJsonData(registry));
         } else if (mediaType == MediaType.TEXT_PLAIN) {
-            res.send(toPrometheusData(registry));
+            sendPrometheus(req, res, registry);
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
@@ -481,7 +499,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
         if (mediaType == MediaType.APPLICATION_JSON) {
             sendJson(res, toJsonData(registries));
         } else if (mediaType == MediaType.TEXT_PLAIN) {
-            res.send(toPrometheusData(registries));
+            sendPrometheus(req, res, registries);
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
@@ -525,6 +543,7 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
         private Supplier<RegistryFactory> registryFactory;
         private KeyPerformanceIndicatorMetricsSettings.Builder kpiSettingsBuilder =
                 KeyPerformanceIndicatorMetricsSettings.builder();
+        private boolean gzip;
 
         protected Builder() {
             super(Builder.class, DEFAULT_CONTEXT);
@@ -563,6 +582,19 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
                 LOGGER.finest("Metrics support for base metrics is disabled in configuration");
             }
             config.get(KEY_PERFORMANCE_INDICATORS_CONFIG_KEY).ifExists(this::keyPerformanceIndicatorsMetricsConfig);
+            config.get("prometheus.gzip").asBoolean().ifPresent(this::gzip);
+            return this;
+        }
+
+        /**
+         * Whether to compress metrics in Prometheus format with gzip for clients that accept it.
+         * Defaults to {@code false}.
+         *
+         * @param gzip whether to compress Prometheus data
+         * @return updated builder instance
+         */
+        public Builder gzip(boolean gzip) {
+            this.gzip = gzip;
             return this;
         }
 
@@ -47,7 +47,7 @@ class PrometheusName {
         this.metricID = metricID;
         this.units = units;
         prometheusName = MetricImpl.prometheusClean(metricID.getName(), metricImpl.registryType() + "_");
-        this.prometheusTags = metricImpl.prometheusTags(metricID.getTags());
+        this.prometheusTags = metricImpl.prometheusTags(metricID);
         prometheusNameWithUnits = nameUnits(units);
 
         prometheusUnit = units
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+import org.eclipse.microprofile.metrics.MetricID;
+
+/**
+ * Writes metrics of registries in Prometheus text format as a stream of data chunks.
+ * <p>
+ * Metrics are formatted lazily, as chunks are requested by the response, into a buffer reused for all chunks,
+ * so the whole scrape is never held in memory. Buffers of chunks are returned to a pool of the scrape
+ * once written. The output is optionally compressed with gzip.
+ */
+final class PrometheusWriter implements Iterator<DataChunk> {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    // maximal number of bytes of a char of UTF-8 encoded StringBuilder, surrogate pairs take 4 bytes for 2 chars
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final Iterator<Registry> registries;
+    private final StringBuilder buffer = new StringBuilder(2 * CHUNK_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final CompressedOutput compressed;
+    private final GZIPOutputStream gzip;
+    // encoded chunk before compression, reused for all chunks
+    private ByteBuffer encoded;
+
+    private Iterator<Map.Entry<MetricID, HelidonMetric>> metrics = Collections.emptyIterator();
+    private String lastName;
+    private boolean done;
+
+    private PrometheusWriter(boolean gzip, Registry... registries) {
+        this.registries = Arrays.asList(registries).iterator();
+        if (gzip) {
+            try {
+                this.compressed = new CompressedOutput();
+                this.gzip = new GZIPOutputStream(compressed, CHUNK_SIZE, true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            this.compressed = null;
+            this.gzip = null;
+        }
+    }
+
+    /**
+     * Creates a publisher of Prometheus data, each subscription writes current values of metrics.
+     *
+     * @param gzip whether to compress the output with gzip
+     * @param registries registries to write
+     * @return publisher of data chunks
+     */
+    static Multi<DataChunk> create(boolean gzip, Registry... registries) {
+        return Multi.create(() -> new PrometheusWriter(gzip, registries));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !done;
+    }
+
+    @Override
+    public DataChunk next() {
+        if (done) {
+            throw new NoSuchElementException();
+        }
+        buffer.setLength(0);
+        while (buffer.length() < CHUNK_SIZE) {
+            if (!writeNext()) {
+                done = true;
+                break;
+            }
+        }
+        return gzip == null ? encode() : compress();
+    }
+
+    private boolean writeNext() {
+        while (!metrics.hasNext()) {
+            if (!registries.hasNext()) {
+                return false;
+            }
+            // sorted, so metrics of the same name follow each other
+            metrics = registries.next()
+                    .stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .iterator();
+            lastName = null;
+        }
+        Map.Entry<MetricID, HelidonMetric> entry = metrics.next();
+        String name = entry.getKey().getName();
+        // HELP and TYPE only for the first metric of a name
+        entry.getValue().prometheusData(buffer, entry.getKey(), !name.equals(lastName));
+        lastName = name;
+        return true;
+    }
+
+    private DataChunk encode() {
+        ByteBuffer data = pooledBuffer(buffer.length() * MAX_BYTES_PER_CHAR);
+        encode(data);
+        return DataChunk.create(false, () -> release(data), data);
+    }
+
+    private DataChunk compress() {
+        if (encoded == null || encoded.capacity() < buffer.length() * MAX_BYTES_PER_CHAR) {
+            encoded = ByteBuffer.allocate(Math.max(buffer.length() * MAX_BYTES_PER_CHAR, 2 * CHUNK_SIZE));
+        }
+        encoded.clear();
+        encode(encoded);
+        try {
+            gzip.write(encoded.array(), 0, encoded.limit());
+            if (done) {
+                gzip.finish();
+            } else {
+                gzip.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer data = pooledBuffer(compressed.size());
+        compressed.drainTo(data);
+        return DataChunk.create(false, () -> release(data), data);
+    }
+
+    private void encode(ByteBuffer target) {
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(buffer), target, true);
+        encoder.flush(target);
+        target.flip();
+    }
+
+    private ByteBuffer pooledBuffer(int capacity) {
+        ByteBuffer pooled = pool.poll();
+        if (pooled == null || pooled.capacity() < capacity) {
+            return ByteBuffer.allocate(Math.max(capacity, 2 * CHUNK_SIZE));
+        }
+        pooled.clear();
+        return pooled;
+    }
+
+    private void release(ByteBuffer data) {
+        pool.offer(data);
+    }
+
+    private static final class CompressedOutput extends ByteArrayOutputStream {
+        private CompressedOutput() {
+            super(CHUNK_SIZE);
+        }
+
+        private void drainTo(ByteBuffer target) {
+            target.put(buf, 0, count);
+            target.flip();
+            reset();
+        }
+    }
+}
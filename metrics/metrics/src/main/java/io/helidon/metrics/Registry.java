@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,12 @@ import org.eclipse.microprofile.metrics.Timer;
 
 /**
  * Metrics registry.
+ * <p>
+ * Lookups of existing metrics do not lock. Registration and removal of metrics of the same name are serialized
+ * by an atomic compute on the name, so metrics of different names are registered concurrently. Metadata is checked
+ * for consistency only when a metric is registered. Code that updates metrics with tags computed at runtime can keep
+ * the {@link MetricID}s it uses and pass them to {@link #counter(MetricID)} and similar methods to skip the parsing of
+ * the tags on each call.
  */
 public class Registry extends MetricRegistry {
 
@@ -60,6 +66,7 @@ public class Registry extends MetricRegistry {
 
     private final MetricRegistry.Type type;
     private final Map<MetricID, HelidonMetric> allMetrics = new ConcurrentHashMap<>();
+    // values are immutable lists, replaced under compute of the name, which guards all registration of that name
     private final Map<String, List<MetricID>> allMetricIDsByName = new ConcurrentHashMap<>();
     private final Map<String, Metadata> allMetadata = new ConcurrentHashMap<>(); // metric name -> metadata
 
@@ -218,45 +225,110 @@ public class Registry extends MetricRegistry {
     }
 
     /**
-     * Removes a metric by name. Synchronized for atomic update of more than one internal map.
+     * Returns an existing counter or registers a new one.
+     * The metric ID can be kept by the caller and reused, to avoid parsing tags on each call.
+     *
+     * @param metricID ID of the counter
+     * @return the existing or newly-created counter
+     */
+    public Counter counter(MetricID metricID) {
+        return getOrRegisterMetric(metricID, HelidonCounter::create, HelidonCounter.class);
+    }
+
+    /**
+     * Returns an existing histogram or registers a new one.
+     * The metric ID can be kept by the caller and reused, to avoid parsing tags on each call.
+     *
+     * @param metricID ID of the histogram
+     * @return the existing or newly-created histogram
+     */
+    public Histogram histogram(MetricID metricID) {
+        return getOrRegisterMetric(metricID, HelidonHistogram::create, HelidonHistogram.class);
+    }
+
+    /**
+     * Returns an existing meter or registers a new one.
+     * The metric ID can be kept by the caller and reused, to avoid parsing tags on each call.
+     *
+     * @param metricID ID of the meter
+     * @return the existing or newly-created meter
+     */
+    public Meter meter(MetricID metricID) {
+        return getOrRegisterMetric(metricID, HelidonMeter::create, HelidonMeter.class);
+    }
+
+    /**
+     * Returns an existing timer or registers a new one.
+     * The metric ID can be kept by the caller and reused, to avoid parsing tags on each call.
+     *
+     * @param metricID ID of the timer
+     * @return the existing or newly-created timer
+     */
+    public Timer timer(MetricID metricID) {
+        return getOrRegisterMetric(metricID, HelidonTimer::create, HelidonTimer.class);
+    }
+
+    /**
+     * Returns an existing concurrent gauge or registers a new one.
+     * The metric ID can be kept by the caller and reused, to avoid parsing tags on each call.
+     *
+     * @param metricID ID of the concurrent gauge
+     * @return the existing or newly-created concurrent gauge
+     */
+    public ConcurrentGauge concurrentGauge(MetricID metricID) {
+        return getOrRegisterMetric(metricID, HelidonConcurrentGauge::create, HelidonConcurrentGauge.class);
+    }
+
+    /**
+     * Returns an existing simple timer or registers a new one.
+     * The metric ID can be kept by the caller and reused, to avoid parsing tags on each call.
+     *
+     * @param metricID ID of the simple timer
+     * @return the existing or newly-created simple timer
+     */
+    public SimpleTimer simpleTimer(MetricID metricID) {
+        return getOrRegisterMetric(metricID, HelidonSimpleTimer::create, HelidonSimpleTimer.class);
+    }
+
+    /**
+     * Removes a metric by name. Atomic with respect to registration of metrics of the same name.
      *
      * @param name Name of the metric.
      * @return Outcome of removal.
      */
     @Override
-    public synchronized boolean remove(String name) {
-        final List<MetricID> metricIDs = allMetricIDsByName.get(name);
-        if (metricIDs == null) {
-            return false;
-        }
-        final boolean result = metricIDs.stream()
-                .map(metricID -> allMetrics.remove(metricID) != null)
-                .reduce((a, b) -> a || b)
-                .orElse(false);
-        allMetricIDsByName.remove(name);
-        allMetadata.remove(name);
-        return result;
+    public boolean remove(String name) {
+        boolean[] result = new boolean[1];
+        allMetricIDsByName.computeIfPresent(name, (metricName, metricIDs) -> {
+            for (MetricID metricID : metricIDs) {
+                result[0] |= allMetrics.remove(metricID) != null;
+            }
+            allMetadata.remove(metricName);
+            return null;
+        });
+        return result[0];
     }
 
     /**
-     * Removes a metric by ID. Synchronized for atomic update of more than one internal map.
+     * Removes a metric by ID. Atomic with respect to registration of metrics of the same name.
      *
      * @param metricID ID of metric.
      * @return Outcome of removal.
      */
     @Override
-    public synchronized boolean remove(MetricID metricID) {
-        final List<MetricID> metricIDS = allMetricIDsByName.get(metricID.getName());
-        if (metricIDS == null) {
-            return false;
-        }
-        metricIDS.remove(metricID);
-        if (metricIDS.isEmpty()) {
-            allMetricIDsByName.remove(metricID.getName());
-            allMetadata.remove(metricID.getName());
-        }
-
-        return allMetrics.remove(metricID) != null;
+    public boolean remove(MetricID metricID) {
+        boolean[] result = new boolean[1];
+        allMetricIDsByName.computeIfPresent(metricID.getName(), (metricName, metricIDs) -> {
+            result[0] = allMetrics.remove(metricID) != null;
+            List<MetricID> remaining = new ArrayList<>(metricIDs);
+            remaining.remove(metricID);
+            if (remaining.isEmpty()) {
+                allMetadata.remove(metricName);
+                return null;
+            }
+            return Collections.unmodifiableList(remaining);
+        });
+        return result[0];
     }
 
     @Override
@@ -425,25 +497,31 @@ public class Registry extends MetricRegistry {
         }
         List<Map.Entry<MetricID, HelidonMetric>> result = new ArrayList<>();
         for (MetricID metricID : metricIDs) {
-            result.add(new AbstractMap.SimpleEntry<>(metricID, allMetrics.get(metricID)));
+            HelidonMetric metric = allMetrics.get(metricID);
+            if (metric != null) {
+                result.add(new AbstractMap.SimpleEntry<>(metricID, metric));
+            }
         }
         return result;
     }
 
     /**
-     * Get internal map entry given a metric name. Synchronized for atomic access of more than
-     * one internal map.
+     * Get internal map entry given a metric name. The list of IDs is an immutable snapshot.
      *
      * @param metricName The metric name.
      * @return Optional map entry..
      */
-    public synchronized Optional<Map.Entry<? extends Metric, List<MetricID>>> getOptionalMetricWithIDsEntry(String metricName) {
+    public Optional<Map.Entry<? extends Metric, List<MetricID>>> getOptionalMetricWithIDsEntry(String metricName) {
         final List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
         if (metricIDs == null || metricIDs.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(
-                new AbstractMap.SimpleEntry<>(allMetrics.get(metricIDs.get(0)), metricIDs));
+        final HelidonMetric metric = allMetrics.get(metricIDs.get(0));
+        if (metric == null) {
+            // removed concurrently
+            return Optional.empty();
+        }
+        return Optional.of(new AbstractMap.SimpleEntry<>(metric, metricIDs));
     }
 
     <T extends HelidonMetric> Optional<T> getOptionalMetric(MetricID metricID, Class<T> clazz) {
@@ -494,10 +572,10 @@ public class Registry extends MetricRegistry {
         return enforceConsistentMetadata(existingMetric.metadata(), newMetadata, tags);
     }
 
-    private static boolean enforceConsistentMetadataType(Metadata existingMetadata, MetricType newType, Tag... tags) {
+    private static boolean enforceConsistentMetadataType(Metadata existingMetadata, MetricType newType, MetricID metricID) {
         if (!existingMetadata.getTypeRaw().equals(newType)) {
             throw new IllegalArgumentException("Attempting to register a new metric "
-                    + new MetricID(existingMetadata.getName(), tags) + " of type " + newType.toString()
+                    + metricID + " of type " + newType.toString()
                     + " found pre-existing metadata with conflicting type "
                     + existingMetadata.getTypeRaw().toString());
         }
@@ -508,7 +586,6 @@ public class Registry extends MetricRegistry {
      * Returns an existing metric (if one is already registered with the name
      * from the metadata plus the tags, and if the existing metadata is
      * consistent with the new metadata) or a new metric, registered using the metadata and tags.
-     * Synchronized for atomic access of more than one internal map.
      *
      * @param <T> type of the metric
      * @param newMetadata metadata describing the metric
@@ -521,32 +598,32 @@ public class Registry extends MetricRegistry {
      * previously-registered metadata or if the metric is being reused and the
      * metadata prohibits reuse
      */
-    private synchronized <T extends HelidonMetric> T getOrRegisterMetric(Metadata newMetadata,
+    private <T extends HelidonMetric> T getOrRegisterMetric(Metadata newMetadata,
             BiFunction<String, Metadata, T> metricFactory,
             Class<T> clazz,
             Tag... tags) throws IllegalArgumentException {
         final String metricName = newMetadata.getName();
+        final MetricID metricID = new MetricID(metricName, tags);
         /*
          * If there is an existing compatible metric then there's really nothing
          * new to register; the existing registration is enough so return that
          * previously-registered metric.
          */
-        return getOptionalMetric(metricName, clazz, tags)
-                .filter(existingMetric -> enforceConsistentMetadata(existingMetric, newMetadata, tags))
-                .orElseGet(() -> {
-                    final Metadata metadata = getOrRegisterMetadata(metricName, newMetadata, tags);
-                    return registerMetric(metricName,
-                                    metricFactory.apply(type.getName(), metadata),
-                                    tags);
-                });
+        HelidonMetric metric = allMetrics.get(metricID);
+        if (metric == null) {
+            metric = registerMetric(metricID, false, () -> {
+                final Metadata metadata = getOrRegisterMetadata(metricName, newMetadata, tags);
+                return metricFactory.apply(type.getName(), metadata);
+            });
+        }
+        T result = toType(metric, clazz);
+        enforceConsistentMetadata(result, newMetadata, tags);
+        return result;
     }
 
     /**
      * Returns an existing metric with the requested name and tags, or if none
-     * is already registered registers a new metric using the name and type. If
-     * metadata with the same name already exists it is used and checked for
-     * consistency with the metric type {@code T}.
-     * Synchronized for atomic access of more than one internal map.
+     * is already registered registers a new metric using the name and type.
      *
      * @param <T> type of the metric
      * @param metricName name of the metric
@@ -555,21 +632,43 @@ public class Registry extends MetricRegistry {
      * @param tags tags for refining the identity of the metric
      * @return the existing or newly-created metric
      */
-    private synchronized <T extends HelidonMetric> T getOrRegisterMetric(String metricName,
+    private <T extends HelidonMetric> T getOrRegisterMetric(String metricName,
             BiFunction<String, Metadata, T> metricFactory,
             Class<T> clazz,
             Tag... tags) {
-        final MetricType newType = METRIC_TO_TYPE_MAP.get(clazz);
-        return getOptionalMetric(metricName, clazz, tags)
-                .orElseGet(() -> {
-                    final Metadata metadata = getOrRegisterMetadata(metricName, newType,
-                            () ->  Metadata.builder()
-                                    .withName(metricName)
-                                    .withType(newType)
-                                    .build(), tags);
-                    return registerMetric(metricName, metricFactory.apply(type.getName(), metadata),
-                            tags);
-                });
+        return getOrRegisterMetric(new MetricID(metricName, tags), metricFactory, clazz);
+    }
+
+    /**
+     * Returns an existing metric with the requested ID, or if none
+     * is already registered registers a new metric using the ID and type. If
+     * metadata with the same name already exists it is used and checked for
+     * consistency with the metric type {@code T}.
+     * The lookup of an existing metric does not lock.
+     *
+     * @param <T> type of the metric
+     * @param metricID ID of the metric
+     * @param metricFactory factory for creating a new instance of the metric type
+     * @param clazz class of the metric to find or create
+     * @return the existing or newly-created metric
+     */
+    private <T extends HelidonMetric> T getOrRegisterMetric(MetricID metricID,
+            BiFunction<String, Metadata, T> metricFactory,
+            Class<T> clazz) {
+        HelidonMetric metric = allMetrics.get(metricID);
+        if (metric == null) {
+            final String metricName = metricID.getName();
+            final MetricType newType = METRIC_TO_TYPE_MAP.get(clazz);
+            metric = registerMetric(metricID, false, () -> {
+                final Metadata metadata = getOrRegisterMetadata(metricName, newType,
+                        () ->  Metadata.builder()
+                                .withName(metricName)
+                                .withType(newType)
+                                .build(), metricID);
+                return metricFactory.apply(type.getName(), metadata);
+            });
+        }
+        return toType(metric, clazz);
     }
 
     /**
@@ -577,7 +676,6 @@ public class Registry extends MetricRegistry {
      * or, if none, creating new metadata based on the metric's name and type,
      * returning the metric itself. Throws an exception if the metric is already
      * registered or if the metric and existing metadata are incompatible.
-     * Synchronized for atomic access of more than one internal map.
      *
      * @param <T> type of the metric
      * @param metricName name of the metric
@@ -586,27 +684,26 @@ public class Registry extends MetricRegistry {
      * @throws IllegalArgumentException if the metric is already registered and
      * its metadata prohibits reuse
      */
-    private synchronized <T extends Metric> T registerUniqueMetric(String metricName, T metric) throws IllegalArgumentException {
-
-        enforceMetricUniqueness(metricName);
+    private <T extends Metric> T registerUniqueMetric(String metricName, T metric) throws IllegalArgumentException {
+        final MetricID metricID = new MetricID(metricName);
         final MetricType metricType = MetricType.from(metric.getClass());
 
-        final Metadata metadata = getOrRegisterMetadata(metricName, metricType,
-                () -> Metadata.builder()
-                        .withName(metricName)
-                        .withType(metricType)
-                        .build(), NO_TAGS);
-        registerMetric(metricName, toImpl(metadata, metric), NO_TAGS);
+        registerMetric(metricID, true, () -> {
+            final Metadata metadata = getOrRegisterMetadata(metricName, metricType,
+                    () -> Metadata.builder()
+                            .withName(metricName)
+                            .withType(metricType)
+                            .build(), metricID);
+            return toImpl(metadata, metric);
+        });
         return metric;
     }
 
-
     /**
      * Registers a new metric, using the metadata's name and the tags, described
      * by the given metadata, returning the metric itself. Throws an exception
      * if the metric is already registered or if incompatible metadata is
      * already registered.
-     * Synchronized for atomic access of more than one internal map.
      *
      * @param <T> type of the metric
      * @param metadata metadata describing the metric
@@ -615,32 +712,15 @@ public class Registry extends MetricRegistry {
      * @return the newly-registered metric
      * @throws IllegalArgumentException if the specified metadata is incompatible with previously-registered metadata
      */
-    private synchronized <T extends Metric> T registerUniqueMetric(Metadata metadata, T metric, Tag... tags)
+    private <T extends Metric> T registerUniqueMetric(Metadata metadata, T metric, Tag... tags)
             throws IllegalArgumentException {
 
         final String metricName = metadata.getName();
-        enforceMetricUniqueness(metricName, tags);
-
-        metadata = getOrRegisterMetadata(metricName, metadata, tags);
-        registerMetric(metricName, toImpl(metadata, metric), tags);
+        registerMetric(new MetricID(metricName, tags), true,
+                       () -> toImpl(getOrRegisterMetadata(metricName, metadata, tags), metric));
         return metric;
     }
 
-    private boolean enforceMetricUniqueness(String metricName) {
-        return enforceMetricUniqueness(new MetricID(metricName));
-    }
-
-    private boolean enforceMetricUniqueness(String metricName, Tag... tags) {
-        return enforceMetricUniqueness(new MetricID(metricName, tags));
-    }
-
-    private boolean enforceMetricUniqueness(MetricID metricID) {
-        if (allMetrics.containsKey(metricID)) {
-            throw new IllegalArgumentException("Attempt to reregister the existing metric " + metricID);
-        }
-        return true;
-    }
-
     private <T extends HelidonMetric, U extends HelidonMetric> U toType(T m1, Class<U> clazz) {
         MetricType type1 = toType(m1);
         MetricType type2 = toType(clazz);
@@ -654,15 +734,15 @@ public class Registry extends MetricRegistry {
     /**
      * Returns an existing metadata instance with the requested name or, if there
      * is none, registers the provided new metadata. Throws an exception if the
-     * provided new metadata is incompatible with any existing metadata
-     * Synchronized for multiple access of an internal map.
+     * provided new metadata is incompatible with any existing metadata.
+     * Must be called from {@link #registerMetric(MetricID, boolean, Supplier)}.
      *
      * @param metricName name of the metric
      * @param newMetadata new metadata to register if none exists for this name
      * @param tags tags associated with the metric being sought or created (for error messaging)
      * @return existing metadata if any; otherwise the provided new metadata
      */
-    private synchronized Metadata getOrRegisterMetadata(String metricName, Metadata newMetadata, Tag... tags) {
+    private Metadata getOrRegisterMetadata(String metricName, Metadata newMetadata, Tag... tags) {
 
         return getOptionalMetadata(metricName)
                 .filter(existingMetadata -> enforceConsistentMetadata(existingMetadata, newMetadata, tags))
@@ -673,19 +753,19 @@ public class Registry extends MetricRegistry {
      * Returns an existing metadata instance with the requested name or, if there is none,
      * registers the metadata supplied by the provided metadata factory. Throws an exception
      * if the provided new metric type is incompatible with any previously-registered
-     * metadata. Synchronized for multiple access of an internal map.
+     * metadata. Must be called from {@link #registerMetric(MetricID, boolean, Supplier)}.
      *
      * @param metricName name of the metric
      * @param newMetricType metric type of the new metric being created
      * @param metadataFactory supplier for new metadata if none is found under the specified name
-     * @param tags tags associated with the metric being sought or created (for error messaging)
+     * @param metricID ID of the metric being sought or created (for error messaging)
      * @return existing metadata if any; otherwise the metadata from the provided supplier
      */
-    private synchronized Metadata getOrRegisterMetadata(String metricName, MetricType newMetricType,
-            Supplier<Metadata> metadataFactory, Tag... tags) {
+    private Metadata getOrRegisterMetadata(String metricName, MetricType newMetricType,
+            Supplier<Metadata> metadataFactory, MetricID metricID) {
 
         return getOptionalMetadata(metricName)
-                .filter(existingMetadata -> enforceConsistentMetadataType(existingMetadata, newMetricType, tags))
+                .filter(existingMetadata -> enforceConsistentMetadataType(existingMetadata, newMetricType, metricID))
                 .orElseGet(() -> registerMetadata(metadataFactory.get()));
     }
 
@@ -699,27 +779,41 @@ public class Registry extends MetricRegistry {
     }
 
     /**
-     * Register a metric using name and tags. Synchronized for atomic access of more than
-     * one internal map.
+     * Register a metric using its ID, unless a metric with the same ID got registered concurrently.
+     * Runs in compute of the metric name, so the metric, its metadata and the IDs of the name are updated
+     * atomically with respect to other registrations and removals of the same name.
      *
-     * @param metricName Name of metric.
-     * @param metric The metric instance.
-     * @param tags The metric tags.
-     * @param <T> Metric subtype.
-     * @return The metric instance.
+     * @param metricID ID of metric.
+     * @param unique whether to fail if the metric is already registered
+     * @param metricFactory creates the metric instance, registering its metadata if needed
+     * @return The registered metric instance.
+     * @throws IllegalArgumentException if the metric is already registered and {@code unique} is {@code true},
+     * or if the metadata is not consistent
      */
-    private synchronized <T extends HelidonMetric> T registerMetric(String metricName, T metric, Tag... tags) {
-        final MetricID metricID = new MetricID(metricName, tags);
-        allMetrics.put(metricID, metric);
-        List<MetricID> metricIDsWithSameName = allMetricIDsByName.get(metricName);
-        if (metricIDsWithSameName == null) {
-            metricIDsWithSameName = new ArrayList<>();
-            allMetricIDsByName.put(metricName, metricIDsWithSameName);
-        }
-        metricIDsWithSameName.add(metricID);
-        return metric;
-    }
+    private HelidonMetric registerMetric(MetricID metricID, boolean unique, Supplier<HelidonMetric> metricFactory) {
+        HelidonMetric[] result = new HelidonMetric[1];
+        allMetricIDsByName.compute(metricID.getName(), (metricName, metricIDs) -> {
+            HelidonMetric existing = allMetrics.get(metricID);
+            if (existing != null) {
+                if (unique) {
+                    throw new IllegalArgumentException("Attempt to reregister the existing metric " + metricID);
+                }
+                result[0] = existing;
+                return metricIDs;
+            }
+            HelidonMetric metric = metricFactory.get();
+            allMetrics.put(metricID, metric);
+            result[0] = metric;
 
+            List<MetricID> newMetricIDs = new ArrayList<>(metricIDs == null ? 1 : metricIDs.size() + 1);
+            if (metricIDs != null) {
+                newMetricIDs.addAll(metricIDs);
+            }
+            newMetricIDs.add(metricID);
+            return Collections.unmodifiableList(newMetricIDs);
+        });
+        return result[0];
+    }
 
     private <T extends Metric> HelidonMetric toImpl(Metadata metadata, T metric) {
 
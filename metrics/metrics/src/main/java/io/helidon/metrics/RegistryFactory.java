@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,7 @@ public final class RegistryFactory {
         registries.put(Type.VENDOR, registry);
 
         this.config = new AtomicReference<>(config);
+        ReservoirSettings.configure(config);
     }
 
 
@@ -126,6 +127,7 @@ public final class RegistryFactory {
 
     private void update(Config config) {
         this.config.set(config);
+        ReservoirSettings.configure(config);
     }
 
     private synchronized void ensureBase() {
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+/**
+ * Reservoir of values recorded by a histogram, providing the snapshot of their distribution.
+ *
+ * @see ReservoirSettings
+ */
+interface Reservoir {
+
+    /**
+     * Create a reservoir for a histogram or a timer, of the type configured for the metric.
+     *
+     * @param metricName name of the metric
+     * @param clock clock to use
+     * @return a new reservoir
+     */
+    static Reservoir create(String metricName, Clock clock) {
+        return ReservoirSettings.current().create(metricName, clock);
+    }
+
+    /**
+     * Adds a value to the reservoir.
+     *
+     * @param value the value to be added
+     * @param label the optional label associated with the sample
+     */
+    void update(long value, String label);
+
+    /**
+     * Adds an old value with a fixed timestamp to the reservoir.
+     *
+     * @param value     the value to be added
+     * @param timestamp the epoch timestamp of {@code value} in seconds
+     * @param label     the optional label associated with the sample
+     */
+    void update(long value, long timestamp, String label);
+
+    /**
+     * Snapshot of the values in the reservoir.
+     *
+     * @return snapshot
+     */
+    WeightedSnapshot getSnapshot();
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import io.helidon.config.Config;
+
+/**
+ * Selects the {@link Reservoir} of histograms and timers, either for all of them or by metric name.
+ * <p>
+ * Configuration options (under the {@code metrics} node):
+ * <table class="config">
+ * <caption>Reservoir configuration ({@value #CONFIG_KEY})</caption>
+ * <tr>
+ *     <th>Key</th>
+ *     <th>Default</th>
+ *     <th>Description</th>
+ * </tr>
+ * <tr>
+ *     <td>{@code type}</td>
+ *     <td>{@code exponentially-decaying}</td>
+ *     <td>Reservoir of all histograms and timers, {@code exponentially-decaying} or {@code hdr}</td>
+ * </tr>
+ * <tr>
+ *     <td>{@code metrics}</td>
+ *     <td>&nbsp;</td>
+ *     <td>List of {@code name} and {@code type} pairs, to select the reservoir of a single metric</td>
+ * </tr>
+ * </table>
+ * The configuration is applied to metrics created after the {@link RegistryFactory} was configured.
+ */
+final class ReservoirSettings {
+    static final String CONFIG_KEY = "reservoir";
+
+    private static volatile ReservoirSettings current = new ReservoirSettings(Type.EXPONENTIALLY_DECAYING, Map.of());
+
+    private final Type defaultType;
+    private final Map<String, Type> metricTypes;
+
+    ReservoirSettings(Type defaultType, Map<String, Type> metricTypes) {
+        this.defaultType = defaultType;
+        this.metricTypes = Map.copyOf(metricTypes);
+    }
+
+    /**
+     * Create settings from configuration.
+     *
+     * @param config the {@value #CONFIG_KEY} configuration node
+     * @return new settings
+     */
+    static ReservoirSettings create(Config config) {
+        Type defaultType = config.get("type").asString().map(Type::parse).orElse(Type.EXPONENTIALLY_DECAYING);
+        Map<String, Type> metricTypes = new HashMap<>();
+        config.get("metrics").asNodeList().ifPresent(nodes -> nodes.forEach(
+                node -> metricTypes.put(node.get("name").asString().get(),
+                                        Type.parse(node.get("type").asString().get()))));
+        return new ReservoirSettings(defaultType, metricTypes);
+    }
+
+    /**
+     * Configure reservoirs of histograms and timers created from now on, if the metrics configuration
+     * contains the {@value #CONFIG_KEY} node.
+     *
+     * @param metricsConfig metrics configuration
+     */
+    static void configure(Config metricsConfig) {
+        Config config = metricsConfig.get(CONFIG_KEY);
+        if (config.exists()) {
+            current = create(config);
+        }
+    }
+
+    static ReservoirSettings current() {
+        return current;
+    }
+
+    static void current(ReservoirSettings settings) {
+        current = settings;
+    }
+
+    /**
+     * Type of reservoir of the metric.
+     *
+     * @param metricName name of the metric
+     * @return reservoir type
+     */
+    Type type(String metricName) {
+        return metricTypes.getOrDefault(metricName, defaultType);
+    }
+
+    Reservoir create(String metricName, Clock clock) {
+        switch (type(metricName)) {
+            case HDR:
+                return new HdrReservoir();
+            case EXPONENTIALLY_DECAYING:
+            default:
+                return new ExponentiallyDecayingReservoir(clock);
+        }
+    }
+
+    /**
+     * Types of reservoirs.
+     */
+    enum Type {
+        /**
+         * Samples biased towards the last five minutes, see {@link ExponentiallyDecayingReservoir}.
+         */
+        EXPONENTIALLY_DECAYING,
+        /**
+         * Lock-free log-linear histogram of all values, see {@link HdrReservoir}.
+         */
+        HDR;
+
+        static Type parse(String value) {
+            switch (value.toLowerCase(Locale.ROOT)) {
+                case "exponentially-decaying":
+                    return EXPONENTIALLY_DECAYING;
+                case "hdr":
+                    return HDR;
+                default:
+                    throw new IllegalArgumentException("Unknown reservoir type \"" + value
+                                                               + "\", supported are exponentially-decaying and hdr");
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link HdrReservoir}.
+ */
+class HdrReservoirTest {
+
+    @Test
+    void testBuckets() {
+        for (int i = 0; i < HdrReservoir.BUCKETS; i++) {
+            long lowest = HdrReservoir.lowestValue(i);
+            assertThat("Bucket of value " + lowest, HdrReservoir.index(lowest), is(i));
+            assertThat("Bucket of value " + HdrReservoir.representative(i),
+                       HdrReservoir.index(HdrReservoir.representative(i)), is(i));
+        }
+        assertThat(HdrReservoir.index(Long.MAX_VALUE), is(HdrReservoir.BUCKETS - 1));
+        assertThat(HdrReservoir.index(-1), is(0));
+    }
+
+    @Test
+    void testPercentiles() {
+        HdrReservoir reservoir = new HdrReservoir();
+        for (long i = 1; i <= 100_000; i++) {
+            reservoir.update(i, "");
+        }
+        WeightedSnapshot snapshot = reservoir.getSnapshot();
+
+        assertThat(snapshot.getMin(), is(1L));
+        assertThat(snapshot.getMax(), is(100_000L));
+        assertThat(snapshot.getMedian(), closeTo(50_000, 500));
+        assertThat(snapshot.get75thPercentile(), closeTo(75_000, 750));
+        assertThat(snapshot.get99thPercentile(), closeTo(99_000, 990));
+        assertThat(snapshot.get999thPercentile(), closeTo(99_900, 999));
+        assertThat(snapshot.getMean(), closeTo(50_000, 500));
+    }
+
+    @Test
+    void testEmpty() {
+        WeightedSnapshot snapshot = new HdrReservoir().getSnapshot();
+
+        assertThat(snapshot.size(), is(0));
+        assertThat(snapshot.getMax(), is(0L));
+        assertThat(snapshot.getMedian(), is(0.0));
+    }
+
+    @Test
+    void testSingleBucket() {
+        HdrReservoir reservoir = new HdrReservoir();
+        reservoir.update(1_000_000, "");
+        reservoir.update(1_000_001, "");
+        reservoir.update(1_000_002, "");
+        WeightedSnapshot snapshot = reservoir.getSnapshot();
+
+        assertThat(snapshot.getMin(), is(1_000_000L));
+        assertThat(snapshot.getMax(), is(1_000_002L));
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        int threadCount = 8;
+        int updates = 100_000;
+        HdrReservoir reservoir = new HdrReservoir();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 1; i <= threadCount; i++) {
+            long value = i * 1000L;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < updates; j++) {
+                    reservoir.update(value, "");
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        WeightedSnapshot snapshot = reservoir.getSnapshot();
+
+        // each value was recorded the same number of times
+        assertThat(snapshot.getMean(), closeTo(4500, 45));
+        assertThat(snapshot.getMin(), is(1000L));
+        assertThat(snapshot.getMax(), is(8000L));
+    }
+
+    @Test
+    void testSettings() {
+        Config config = Config.builder()
+                .sources(ConfigSources.create(Map.of(
+                        "reservoir.type", "hdr",
+                        "reservoir.metrics.0.name", "decaying",
+                        "reservoir.metrics.0.type", "exponentially-decaying")))
+                .build();
+        ReservoirSettings settings = ReservoirSettings.create(config.get(ReservoirSettings.CONFIG_KEY));
+
+        assertThat(settings.type("any"), is(ReservoirSettings.Type.HDR));
+        assertThat(settings.type("decaying"), is(ReservoirSettings.Type.EXPONENTIALLY_DECAYING));
+        assertThat(settings.create("any", Clock.system()), instanceOf(HdrReservoir.class));
+    }
+
+    @Test
+    void testHistogramWithHdrReservoir() {
+        ReservoirSettings original = ReservoirSettings.current();
+        ReservoirSettings.current(new ReservoirSettings(ReservoirSettings.Type.HDR, Map.of()));
+        try {
+            HelidonHistogram histogram = HelidonHistogram.create(MetricRegistry.Type.APPLICATION.getName(),
+                                                                 Metadata.builder()
+                                                                         .withName("hdr_histogram")
+                                                                         .withType(MetricType.HISTOGRAM)
+                                                                         .build());
+            for (int i = 1; i <= 100; i++) {
+                histogram.update(i);
+            }
+
+            assertThat(histogram.getCount(), is(100L));
+            assertThat(histogram.getSnapshot().getMax(), is(100L));
+            assertThat(histogram.getSnapshot().getMedian(), closeTo(50, 1));
+        } finally {
+            ReservoirSettings.current(original);
+        }
+    }
+}
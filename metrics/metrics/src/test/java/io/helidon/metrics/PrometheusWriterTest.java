@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import io.helidon.common.http.DataChunk;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link PrometheusWriter}.
+ */
+class PrometheusWriterTest {
+
+    private static Registry registry;
+
+    @BeforeAll
+    static void initClass() {
+        registry = Registry.create(MetricRegistry.Type.APPLICATION);
+        // enough metrics to span several chunks
+        for (int i = 0; i < 1000; i++) {
+            registry.counter("writerCounter" + i, new Tag("color", "red")).inc(i);
+            registry.counter("writerCounter" + i, new Tag("color", "blue")).inc();
+        }
+    }
+
+    @Test
+    void testSameAsPrometheusData() {
+        List<DataChunk> chunks = PrometheusWriter.create(false, registry)
+                .collectList()
+                .await();
+
+        assertThat(chunks.size(), greaterThan(1));
+        assertThat(new String(bytes(chunks), StandardCharsets.UTF_8), is(MetricsSupport.toPrometheusData(registry)));
+    }
+
+    @Test
+    void testHelpEscaped() {
+        Registry escapeRegistry = Registry.create(MetricRegistry.Type.APPLICATION);
+        escapeRegistry.counter(Metadata.builder()
+                                       .withName("escapedCounter")
+                                       .withDescription("First line\nC:\\temp")
+                                       .withType(MetricType.COUNTER)
+                                       .build())
+                .inc();
+
+        for (int i = 0; i < 2; i++) {
+            String data = new String(bytes(PrometheusWriter.create(false, escapeRegistry)
+                                                   .collectList()
+                                                   .await()), StandardCharsets.UTF_8);
+            assertThat(data, is("# TYPE application_escapedCounter_total counter\n"
+                                        + "# HELP application_escapedCounter_total First line\\nC:\\\\temp\n"
+                                        + "application_escapedCounter_total 1\n"));
+        }
+    }
+
+    @Test
+    void testGzip() throws IOException {
+        byte[] compressed = bytes(PrometheusWriter.create(true, registry)
+                                          .collectList()
+                                          .await());
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8),
+                       is(MetricsSupport.toPrometheusData(registry)));
+        }
+    }
+
+    private static byte[] bytes(List<DataChunk> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DataChunk chunk : chunks) {
+            out.writeBytes(chunk.bytes());
+            chunk.release();
+        }
+        return out.toByteArray();
+    }
+}
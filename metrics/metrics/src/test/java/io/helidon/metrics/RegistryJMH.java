@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures throughput of {@link Registry#counter(String, Tag...)} with tags computed per call, as when counting
+ * responses by status code, shared by 1, 8 and 32 threads, and of the same lookup through cached {@link MetricID}s.
+ */
+@State(Scope.Benchmark)
+public class RegistryJMH {
+
+    private static final int[] STATUS_CODES = {200, 201, 204, 301, 304, 400, 401, 403, 404, 500};
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 8, 32}) {
+            Options opt = new OptionsBuilder()
+                    .include(RegistryJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    private Registry registry;
+    private MetricID[] metricIDs;
+
+    @Setup
+    public void setup() {
+        registry = Registry.create(MetricRegistry.Type.APPLICATION);
+        metricIDs = new MetricID[STATUS_CODES.length];
+        for (int i = 0; i < STATUS_CODES.length; i++) {
+            metricIDs[i] = new MetricID("requests", new Tag("status", String.valueOf(STATUS_CODES[i])));
+        }
+    }
+
+    @Benchmark
+    public void counterByTags() {
+        int status = STATUS_CODES[ThreadLocalRandom.current().nextInt(STATUS_CODES.length)];
+        registry.counter("requests", new Tag("status", String.valueOf(status))).inc();
+    }
+
+    @Benchmark
+    public void counterByMetricID() {
+        registry.counter(metricIDs[ThreadLocalRandom.current().nextInt(metricIDs.length)]).inc();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,7 +29,14 @@ import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -200,6 +207,46 @@ public class RegistryTest {
         assertThat(result, is(false));
     }
 
+    @Test
+    void testMetricIDHandle() {
+        MetricID metricID = new MetricID("counter8", tag1, tag2);
+        Counter c1 = registry.counter(metricID);
+        Counter c2 = registry.counter("counter8", tag2, tag1);
+        assertThat(c1, IsSame.sameInstance(c2));
+        assertThrows(IllegalArgumentException.class, () -> registry.meter(metricID));
+    }
+
+    @Test
+    void testConcurrentRegistration() throws Exception {
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < perThread; j++) {
+                        registry.counter("counter9", new Tag("status", String.valueOf(j % 10))).inc();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<MetricID, Counter> counters = registry.getCounters(new MetricNameFilter("counter9"));
+        assertThat(counters.size(), is(10));
+        assertThat(registry.metricIDsForName("counter9").size(), is(10));
+        assertThat(counters.values().stream().mapToLong(Counter::getCount).sum(), is((long) threads * perThread));
+    }
+
     private static class MetricNameFilter implements MetricFilter {
 
         private final String name;
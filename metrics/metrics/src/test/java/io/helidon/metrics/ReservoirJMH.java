@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares throughput of updates of a single {@link ExponentiallyDecayingReservoir} and a single {@link HdrReservoir}
+ * shared by 1, 8 and 32 threads, as when timing a hot endpoint.
+ */
+@State(Scope.Benchmark)
+public class ReservoirJMH {
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 8, 32}) {
+            Options opt = new OptionsBuilder()
+                    .include(ReservoirJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    @Param({"exponentially-decaying", "hdr"})
+    String type;
+
+    private Reservoir reservoir;
+
+    @Setup
+    public void setup() {
+        reservoir = new ReservoirSettings(ReservoirSettings.Type.parse(type), Map.of())
+                .create("benchmark", Clock.system());
+    }
+
+    @Benchmark
+    public void update() {
+        // durations between 10 microseconds and 10 milliseconds, in nanoseconds
+        reservoir.update(ThreadLocalRandom.current().nextLong(10_000, 10_000_000), "");
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,10 +47,8 @@ class CommandInterceptor {
             LOGGER.fine("Interceptor called for '" + context.getTarget().getClass()
                         + "::" + context.getMethod().getName() + "'");
 
-            // Create method introspector and executer retrier
-            MethodIntrospector introspector = new MethodIntrospector(context.getTarget().getClass(),
-                    context.getMethod());
-            MethodInvoker runner = new MethodInvoker(context, introspector);
+            // Create executer retrier, method introspector is cached by the invoker
+            MethodInvoker runner = new MethodInvoker(context);
             return runner.get();
         } catch (Throwable t) {
             LOGGER.fine("Throwable caught by interceptor '" + t.getMessage() + "'");
@@ -50,6 +50,8 @@ class MethodIntrospector {
 
     private final Bulkhead bulkhead;
 
+    private final boolean asynchronous;
+
     /**
      * Constructor.
      *
@@ -65,6 +67,7 @@ class MethodIntrospector {
         this.timeout = isAnnotationEnabled(Timeout.class) ? new TimeoutAntn(beanClass, method) : null;
         this.bulkhead = isAnnotationEnabled(Bulkhead.class) ? new BulkheadAntn(beanClass, method) : null;
         this.fallback = isAnnotationEnabled(Fallback.class) ? new FallbackAntn(beanClass, method) : null;
+        this.asynchronous = isAnnotationEnabled(Asynchronous.class);
     }
 
     Method method() {
@@ -108,7 +111,7 @@ class MethodIntrospector {
     }
 
     boolean isAsynchronous() {
-        return isAnnotationEnabled(Asynchronous.class);
+        return asynchronous;
     }
 
     /**
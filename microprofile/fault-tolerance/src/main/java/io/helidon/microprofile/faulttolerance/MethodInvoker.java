@@ -47,6 +47,7 @@ import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
 import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
 import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
 
 import static io.helidon.microprofile.faulttolerance.FaultToleranceExtension.isFaultToleranceMetricsEnabled;
 import static io.helidon.microprofile.faulttolerance.FaultToleranceMetrics.BREAKER_CALLS_FAILED_TOTAL;
@@ -82,7 +83,9 @@ import static io.helidon.microprofile.faulttolerance.ThrowableMapper.mapTypes;
 /**
  * Invokes a FT method applying semantics based on method annotations. An instance
  * of this class is created for each method invocation. Some state is shared across
- * all invocations of a method, including for circuit breakers and bulkheads.
+ * all invocations of a method, including for circuit breakers and bulkheads. The
+ * method introspector, the FT handlers (except fallback) and the metrics of a method
+ * are created once and kept in its method state.
  */
 class MethodInvoker implements FtSupplier<Object> {
 
@@ -144,6 +147,11 @@ class MethodInvoker implements FtSupplier<Object> {
      * FT handler created for the method.
      */
     private static class MethodState {
+        private final Method method;
+        private final MethodIntrospector introspector;
+        private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+        private FtHandlerTyped<Object> handler;
         private Retry retry;
         private Bulkhead bulkhead;
         private CircuitBreaker breaker;
@@ -153,12 +161,32 @@ class MethodInvoker implements FtSupplier<Object> {
         private long breakerTimerClosed;
         private long breakerTimerHalfOpen;
         private long startNanos;
-    }
 
-    /**
-     * FT handler for this invoker.
-     */
-    private FtHandlerTyped<Object> handler;
+        MethodState(Method method, MethodIntrospector introspector) {
+            this.method = method;
+            this.introspector = introspector;
+        }
+
+        /**
+         * Counter of this method, looked up once.
+         *
+         * @param name The counter's name.
+         * @return The counter.
+         */
+        Counter counter(String name) {
+            return counters.computeIfAbsent(name, it -> getCounter(method, it));
+        }
+
+        /**
+         * Histogram of this method, looked up once.
+         *
+         * @param name The histogram's name.
+         * @return The histogram.
+         */
+        Histogram histogram(String name) {
+            return histograms.computeIfAbsent(name, it -> getHistogram(method, it));
+        }
+    }
 
     /**
      * A key used to lookup {@code MethodState} instances, which include FT handlers.
@@ -269,68 +297,24 @@ class MethodInvoker implements FtSupplier<Object> {
      * Constructor.
      *
      * @param context The invocation context.
-     * @param introspector The method introspector.
      */
-    MethodInvoker(InvocationContext context, MethodIntrospector introspector) {
+    MethodInvoker(InvocationContext context) {
         this.context = context;
-        this.introspector = introspector;
         this.method = context.getMethod();
         this.helidonContext = Contexts.context().orElseGet(Context::create);
 
         // Create method state using CCL to support multiples apps (like in TCKs)
         ClassLoader ccl = Thread.currentThread().getContextClassLoader();
         Objects.requireNonNull(ccl);
-        MethodStateKey methodStateKey = new MethodStateKey(ccl, context.getTarget().getClass(), method);
-        this.methodState = METHOD_STATES.computeIfAbsent(methodStateKey, key -> {
-            MethodState methodState = new MethodState();
-            methodState.lastBreakerState = State.CLOSED;
-            if (introspector.hasCircuitBreaker()) {
-                methodState.breakerTimerOpen = 0L;
-                methodState.breakerTimerClosed = 0L;
-                methodState.breakerTimerHalfOpen = 0L;
-                methodState.startNanos = System.nanoTime();
-            }
-            initMethodHandler(methodState);
-            return methodState;
-        });
-
-        // Create a new method handler to ensure correct context in fallback
-        handler = createMethodHandler(methodState);
+        Class<?> beanClass = context.getTarget().getClass();
+        MethodStateKey methodStateKey = new MethodStateKey(ccl, beanClass, method);
+        this.methodState = METHOD_STATES.computeIfAbsent(methodStateKey,
+                key -> createMethodState(new MethodIntrospector(beanClass, method)));
+        this.introspector = methodState.introspector;
 
         // Gather information about current request scope if active
         requestScopeHelper = new RequestScopeHelper();
         requestScopeHelper.saveScope();
-
-        // Gauges and other metrics for bulkhead and circuit breakers
-        if (isFaultToleranceMetricsEnabled()) {
-            if (introspector.hasCircuitBreaker()) {
-                registerGauge(method, BREAKER_OPEN_TOTAL,
-                        "Amount of time the circuit breaker has spent in open state",
-                        () -> methodState.breakerTimerOpen);
-                registerGauge(method, BREAKER_HALF_OPEN_TOTAL,
-                        "Amount of time the circuit breaker has spent in half-open state",
-                        () -> methodState.breakerTimerHalfOpen);
-                registerGauge(method, BREAKER_CLOSED_TOTAL,
-                        "Amount of time the circuit breaker has spent in closed state",
-                        () -> methodState.breakerTimerClosed);
-            }
-            if (introspector.hasBulkhead()) {
-                registerGauge(method, BULKHEAD_CONCURRENT_EXECUTIONS,
-                        "Number of currently running executions",
-                        () -> methodState.bulkhead.stats().concurrentExecutions());
-                if (introspector.isAsynchronous()) {
-                    registerGauge(method, BULKHEAD_WAITING_QUEUE_POPULATION,
-                            "Number of executions currently waiting in the queue",
-                            () -> methodState.bulkhead.stats().waitingQueueSize());
-                    registerHistogram(
-                            String.format(METRIC_NAME_TEMPLATE,
-                                    method.getDeclaringClass().getName(),
-                                    method.getName(),
-                                    BULKHEAD_WAITING_DURATION),
-                            "Histogram of the time executions spend waiting in the queue.");
-                }
-            }
-        }
     }
 
     @Override
@@ -363,8 +347,7 @@ class MethodInvoker implements FtSupplier<Object> {
         // Wrap method call with Helidon context
         Supplier<Single<?>> supplier = () -> {
             try {
-                return Contexts.runInContextWithThrow(helidonContext,
-                        () -> handler.invoke(toCompletionStageSupplier(context::proceed)));
+                return Contexts.runInContextWithThrow(helidonContext, this::invokeHandler);
             } catch (Exception e) {
                 return Single.error(e);
             }
@@ -441,13 +424,29 @@ class MethodInvoker implements FtSupplier<Object> {
     }
 
     /**
-     * Initializes method state by creating handlers for all FT annotations
-     * except fallbacks. A fallback can reference the current invocation context
-     * (via fallback method parameters) and cannot be cached.
+     * Creates method state with handlers for all FT annotations except fallbacks,
+     * composed as follows:
+     *
+     *  retry(circuitbreaker(timeout(bulkhead(method))))
      *
-     * @param methodState State related to this invocation's method.
+     * A fallback can reference the current invocation context (via fallback method
+     * parameters) and cannot be cached. Also registers gauges and histograms of the
+     * method.
+     *
+     * @param introspector The method introspector.
+     * @return The new method state.
      */
-    private void initMethodHandler(MethodState methodState) {
+    private static MethodState createMethodState(MethodIntrospector introspector) {
+        Method method = introspector.method();
+        MethodState methodState = new MethodState(method, introspector);
+        methodState.lastBreakerState = State.CLOSED;
+        if (introspector.hasCircuitBreaker()) {
+            methodState.breakerTimerOpen = 0L;
+            methodState.breakerTimerClosed = 0L;
+            methodState.breakerTimerHalfOpen = 0L;
+            methodState.startNanos = System.nanoTime();
+        }
+
         if (introspector.hasBulkhead()) {
             methodState.bulkhead = Bulkhead.builder()
                     .limit(introspector.getBulkhead().value())
@@ -489,19 +488,7 @@ class MethodInvoker implements FtSupplier<Object> {
                     .skipOn(mapTypes(introspector.getRetry().abortOn()))
                     .build();
         }
-    }
 
-    /**
-     * Creates a FT handler for this invocation. Handlers are composed as follows:
-     *
-     *  fallback(retry(circuitbreaker(timeout(bulkhead(method)))))
-     *
-     * Uses the cached handlers defined in the method state for this invocation's
-     * method, except for fallback.
-     *
-     * @param methodState State related to this invocation's method.
-     */
-    private FtHandlerTyped<Object> createMethodHandler(MethodState methodState) {
         FaultTolerance.TypedBuilder<Object> builder = FaultTolerance.typedBuilder();
 
         if (methodState.bulkhead != null) {
@@ -519,22 +506,65 @@ class MethodInvoker implements FtSupplier<Object> {
         if (methodState.retry != null) {
             builder.addRetry(methodState.retry);
         }
+        methodState.handler = builder.build();
 
-        // Create and add fallback handler for this invocation
-        if (introspector.hasFallback()) {
-            Fallback<Object> fallback = Fallback.builder()
-                    .fallback(throwable -> {
-                        // Execute callback logic
-                        CommandFallback cfb = new CommandFallback(context, introspector, throwable);
-                        return toCompletionStageSupplier(cfb::execute).get();
-                    })
-                    .applyOn(mapTypes(introspector.getFallback().applyOn()))
-                    .skipOn(mapTypes(introspector.getFallback().skipOn()))
-                    .build();
-            builder.addFallback(fallback);
+        // Gauges and other metrics for bulkhead and circuit breakers
+        if (isFaultToleranceMetricsEnabled()) {
+            if (introspector.hasCircuitBreaker()) {
+                registerGauge(method, BREAKER_OPEN_TOTAL,
+                        "Amount of time the circuit breaker has spent in open state",
+                        () -> methodState.breakerTimerOpen);
+                registerGauge(method, BREAKER_HALF_OPEN_TOTAL,
+                        "Amount of time the circuit breaker has spent in half-open state",
+                        () -> methodState.breakerTimerHalfOpen);
+                registerGauge(method, BREAKER_CLOSED_TOTAL,
+                        "Amount of time the circuit breaker has spent in closed state",
+                        () -> methodState.breakerTimerClosed);
+            }
+            if (introspector.hasBulkhead()) {
+                registerGauge(method, BULKHEAD_CONCURRENT_EXECUTIONS,
+                        "Number of currently running executions",
+                        () -> methodState.bulkhead.stats().concurrentExecutions());
+                if (introspector.isAsynchronous()) {
+                    registerGauge(method, BULKHEAD_WAITING_QUEUE_POPULATION,
+                            "Number of executions currently waiting in the queue",
+                            () -> methodState.bulkhead.stats().waitingQueueSize());
+                    registerHistogram(
+                            String.format(METRIC_NAME_TEMPLATE,
+                                    method.getDeclaringClass().getName(),
+                                    method.getName(),
+                                    BULKHEAD_WAITING_DURATION),
+                            "Histogram of the time executions spend waiting in the queue.");
+                }
+            }
         }
+        return methodState;
+    }
 
-        return builder.build();
+    /**
+     * Invokes the cached FT handler of this invocation's method. If the method
+     * has a fallback, the cached handler is wrapped by a fallback handler created
+     * for this invocation, as follows:
+     *
+     *  fallback(retry(circuitbreaker(timeout(bulkhead(method)))))
+     *
+     * @return Single for the result of the invocation.
+     */
+    private Single<Object> invokeHandler() {
+        Supplier<? extends CompletionStage<Object>> supplier = toCompletionStageSupplier(context::proceed);
+        if (!introspector.hasFallback()) {
+            return methodState.handler.invoke(supplier);
+        }
+        Fallback<Object> fallback = Fallback.builder()
+                .fallback(throwable -> {
+                    // Execute callback logic
+                    CommandFallback cfb = new CommandFallback(context, introspector, throwable);
+                    return toCompletionStageSupplier(cfb::execute).get();
+                })
+                .applyOn(mapTypes(introspector.getFallback().applyOn()))
+                .skipOn(mapTypes(introspector.getFallback().skipOn()))
+                .build();
+        return fallback.invoke(() -> methodState.handler.invoke(supplier));
     }
 
     /**
@@ -647,24 +677,24 @@ class MethodInvoker implements FtSupplier<Object> {
             if (introspector.hasRetry()) {
                 // Have retried the last call?
                 long newValue = methodState.retry.retryCounter();
-                if (updateCounter(method, RETRY_RETRIES_TOTAL, newValue)) {
+                if (updateCounter(RETRY_RETRIES_TOTAL, newValue)) {
                     if (cause == null) {
-                        getCounter(method, RETRY_CALLS_SUCCEEDED_RETRIED_TOTAL).inc();
+                        methodState.counter(RETRY_CALLS_SUCCEEDED_RETRIED_TOTAL).inc();
                     }
                 } else {
-                    getCounter(method, RETRY_CALLS_SUCCEEDED_NOT_RETRIED_TOTAL).inc();
+                    methodState.counter(RETRY_CALLS_SUCCEEDED_NOT_RETRIED_TOTAL).inc();
                 }
 
                 // Update failed calls
                 if (cause != null) {
-                    getCounter(method, RETRY_CALLS_FAILED_TOTAL).inc();
+                    methodState.counter(RETRY_CALLS_FAILED_TOTAL).inc();
                 }
             }
 
             // Timeout
             if (introspector.hasTimeout()) {
-                getHistogram(method, TIMEOUT_EXECUTION_DURATION).update(executionTime);
-                getCounter(method, cause instanceof TimeoutException
+                methodState.histogram(TIMEOUT_EXECUTION_DURATION).update(executionTime);
+                methodState.counter(cause instanceof TimeoutException
                         ? TIMEOUT_CALLS_TIMED_OUT_TOTAL
                         : TIMEOUT_CALLS_NOT_TIMED_OUT_TOTAL).inc();
             }
@@ -675,14 +705,14 @@ class MethodInvoker implements FtSupplier<Object> {
 
                 // Update counters based on state changes
                 if (methodState.lastBreakerState == State.OPEN) {
-                    getCounter(method, BREAKER_CALLS_PREVENTED_TOTAL).inc();
+                    methodState.counter(BREAKER_CALLS_PREVENTED_TOTAL).inc();
                 } else if (methodState.breaker.state() == State.OPEN) {     // closed -> open
-                    getCounter(method, BREAKER_OPENED_TOTAL).inc();
+                    methodState.counter(BREAKER_OPENED_TOTAL).inc();
                 }
 
                 // Update succeeded and failed
                 if (cause == null) {
-                    getCounter(method, BREAKER_CALLS_SUCCEEDED_TOTAL).inc();
+                    methodState.counter(BREAKER_CALLS_SUCCEEDED_TOTAL).inc();
                 } else if (!(cause instanceof CircuitBreakerOpenException)) {
                     boolean failure = false;
                     Class<? extends Throwable>[] failOn = introspector.getCircuitBreaker().failOn();
@@ -693,7 +723,7 @@ class MethodInvoker implements FtSupplier<Object> {
                         }
                     }
 
-                    getCounter(method, failure ? BREAKER_CALLS_FAILED_TOTAL
+                    methodState.counter(failure ? BREAKER_CALLS_FAILED_TOTAL
                             : BREAKER_CALLS_SUCCEEDED_TOTAL).inc();
                 }
 
@@ -721,23 +751,23 @@ class MethodInvoker implements FtSupplier<Object> {
             if (introspector.hasBulkhead()) {
                 Objects.requireNonNull(methodState.bulkhead);
                 Bulkhead.Stats stats = methodState.bulkhead.stats();
-                updateCounter(method, BULKHEAD_CALLS_ACCEPTED_TOTAL, stats.callsAccepted());
-                updateCounter(method, BULKHEAD_CALLS_REJECTED_TOTAL, stats.callsRejected());
+                updateCounter(BULKHEAD_CALLS_ACCEPTED_TOTAL, stats.callsAccepted());
+                updateCounter(BULKHEAD_CALLS_REJECTED_TOTAL, stats.callsRejected());
 
                 // Update histograms if task accepted
                 if (!(cause instanceof BulkheadException)) {
                     long waitingTime = invocationStartNanos - handlerStartNanos;
-                    getHistogram(method, BULKHEAD_EXECUTION_DURATION).update(executionTime - waitingTime);
+                    methodState.histogram(BULKHEAD_EXECUTION_DURATION).update(executionTime - waitingTime);
                     if (introspector.isAsynchronous()) {
-                        getHistogram(method, BULKHEAD_WAITING_DURATION).update(waitingTime);
+                        methodState.histogram(BULKHEAD_WAITING_DURATION).update(waitingTime);
                     }
                 }
             }
 
             // Global method counters
-            getCounter(method, INVOCATIONS_TOTAL).inc();
+            methodState.counter(INVOCATIONS_TOTAL).inc();
             if (cause != null) {
-                getCounter(method, INVOCATIONS_FAILED_TOTAL).inc();
+                methodState.counter(INVOCATIONS_FAILED_TOTAL).inc();
             }
         }
     }
@@ -745,13 +775,12 @@ class MethodInvoker implements FtSupplier<Object> {
     /**
      * Sets the value of a monotonically increasing counter using {@code inc()}.
      *
-     * @param method The method.
      * @param name The counter's name.
      * @param newValue The new value.
      * @return A value of {@code true} if counter updated, {@code false} otherwise.
      */
-    private static boolean updateCounter(Method method, String name, long newValue) {
-        Counter counter = getCounter(method, name);
+    private boolean updateCounter(String name, long newValue) {
+        Counter counter = methodState.counter(name);
         long oldValue = counter.getCount();
         if (newValue > oldValue) {
             counter.inc(newValue - oldValue);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.faulttolerance;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.se.SeContainer;
+import javax.enterprise.inject.se.SeContainerInitializer;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures the overhead of calling a bean method annotated with {@code @Retry @CircuitBreaker @Bulkhead}
+ * compared to a call of a method of the same bean without fault tolerance annotations.
+ */
+@State(Scope.Benchmark)
+public class FaultToleranceJMH {
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 8}) {
+            Options opt = new OptionsBuilder()
+                    .include(FaultToleranceJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    private SeContainer container;
+    private BenchmarkBean bean;
+
+    @Setup
+    public void setup() {
+        // to allow SeContainerInitializer and run on random port
+        System.setProperty("mp.initializer.allow", "true");
+        System.setProperty("mp.initializer.no-warn", "true");
+        System.setProperty("server.port", "0");
+
+        container = SeContainerInitializer.newInstance()
+                .disableDiscovery()
+                .addBeanClasses(BenchmarkBean.class)
+                .initialize();
+        bean = container.select(BenchmarkBean.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+    }
+
+    @Benchmark
+    public String bare() {
+        return bean.bare();
+    }
+
+    @Benchmark
+    public String faultTolerant() {
+        return bean.faultTolerant();
+    }
+
+    @ApplicationScoped
+    public static class BenchmarkBean {
+
+        public String bare() {
+            return "bare";
+        }
+
+        @Retry(maxRetries = 2, delay = 10, delayUnit = ChronoUnit.MILLIS)
+        @CircuitBreaker(requestVolumeThreshold = 10, failureRatio = 0.5)
+        @Bulkhead(100)
+        public String faultTolerant() {
+            return "faultTolerant";
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,6 @@
 
 package io.helidon.microprofile.grpc.core;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Objects;
@@ -86,6 +85,7 @@ abstract class AbstractMethodHandlerSupplier
         private final MethodDescriptor.MethodType methodType;
         private Class<?> requestType = Empty.class;
         private Class<?> responseType = Empty.class;
+        private boolean emptyRequest = true;
 
         /**
          * Create a handler.
@@ -114,7 +114,7 @@ abstract class AbstractMethodHandlerSupplier
         public void invoke(ReqT request, StreamObserver<RespT> observer) {
             StreamObserver<RespT> safe = SafeStreamObserver.ensureSafeObserver(observer);
 
-            if (Empty.class.equals(requestType)) {
+            if (emptyRequest) {
                 safe = new NullHandlingResponseObserver<>(observer);
             }
 
@@ -132,11 +132,10 @@ abstract class AbstractMethodHandlerSupplier
          * @param instance  the service instance to invoke the method on
          * @param request   the method request
          * @param observer  the method response observer
-         * @throws InvocationTargetException if an error occurs invoking the method
-         * @throws IllegalAccessException    if the method cannot be accessed
+         * @throws Throwable if an error occurs invoking the method
          */
         protected abstract void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException;
+                throws Throwable;
 
         @Override
         public StreamObserver<ReqT> invoke(StreamObserver<RespT> observer) {
@@ -155,11 +154,10 @@ abstract class AbstractMethodHandlerSupplier
          * @param instance  the service instance to invoke the method on
          * @param observer  the method response observer
          * @return  the {@link StreamObserver} to receive requests from the client
-         * @throws InvocationTargetException if an error occurs invoking the method
-         * @throws IllegalAccessException    if the method cannot be accessed
+         * @throws Throwable if an error occurs invoking the method
          */
         protected abstract StreamObserver<ReqT> invoke(Method method, Object instance, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException;
+                throws Throwable;
 
         @Override
         public Class<?> getRequestType() {
@@ -178,6 +176,7 @@ abstract class AbstractMethodHandlerSupplier
          */
         protected void setRequestType(Class<?> requestType) {
             this.requestType = requestType;
+            this.emptyRequest = Empty.class.equals(requestType);
         }
 
         @Override
@@ -16,7 +16,6 @@
 
 package io.helidon.microprofile.grpc.core;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.function.Supplier;
@@ -149,8 +148,11 @@ public class BidirectionalMethodHandlerSupplier
     public static class BidiStreaming<ReqT, RespT>
             extends AbstractServerStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call1 invoker;
+
         BidiStreaming(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call1(method.declaredMethod());
             setRequestType(getGenericResponseType(method.genericReturnType()));
             setResponseType(getGenericResponseType(method.genericParameterTypes()[0]));
         }
@@ -158,8 +160,8 @@ public class BidirectionalMethodHandlerSupplier
         @Override
         @SuppressWarnings("unchecked")
         protected StreamObserver<ReqT> invoke(Method method, Object instance, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            return (StreamObserver<ReqT>) method.invoke(instance, observer);
+                throws Throwable {
+            return (StreamObserver<ReqT>) invoker.call(instance, observer);
         }
 
         @Override
@@ -202,8 +202,11 @@ public class ClientStreamingMethodHandlerSupplier
     public static class ClientStreaming<ReqT, RespT>
             extends AbstractClientStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call1 invoker;
+
         ClientStreaming(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call1(method.declaredMethod());
             setRequestType(getGenericResponseType(method.genericReturnType()));
             setResponseType(getGenericResponseType(method.genericParameterTypes()[0]));
         }
@@ -211,8 +214,8 @@ public class ClientStreamingMethodHandlerSupplier
         @Override
         @SuppressWarnings("unchecked")
         protected StreamObserver<ReqT> invoke(Method method, Object instance, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            return (StreamObserver<ReqT>) method.invoke(instance, observer);
+                throws Throwable {
+            return (StreamObserver<ReqT>) invoker.call(instance, observer);
         }
 
         @Override
@@ -237,8 +240,11 @@ public class ClientStreamingMethodHandlerSupplier
     public static class FutureResponse<ReqT, RespT>
             extends AbstractClientStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call1 invoker;
+
         FutureResponse(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call1(method.declaredMethod());
             setRequestType(getGenericResponseType(method.genericReturnType()));
             setResponseType(getGenericResponseType(method.genericParameterTypes()[0]));
         }
@@ -246,10 +252,10 @@ public class ClientStreamingMethodHandlerSupplier
         @Override
         @SuppressWarnings("unchecked")
         protected StreamObserver<ReqT> invoke(Method method, Object instance, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
+                throws Throwable {
             CompletableFuture<RespT> future = new CompletableFuture<>();
             completeAsync(observer, future);
-            return (StreamObserver<ReqT>) method.invoke(instance, future);
+            return (StreamObserver<ReqT>) invoker.call(instance, future);
         }
 
         @Override
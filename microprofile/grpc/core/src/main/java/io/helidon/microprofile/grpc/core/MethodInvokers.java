@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.grpc.core;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Factories of invokers of annotated gRPC methods, one per call shape.
+ * <p>
+ * Invokers are created once per method when the handler is created, so that calls do not
+ * go through {@link Method#invoke(Object, Object...)}. If the method is accessible from this class,
+ * the invoker is spun by the {@link LambdaMetafactory} and calls the method directly, so the JIT compiler
+ * can inline it. Otherwise, the invoker calls an exactly typed {@link MethodHandle} of the method.
+ * <p>
+ * Exceptions thrown by the method are propagated as they are, they are not wrapped in an
+ * {@link java.lang.reflect.InvocationTargetException}.
+ */
+final class MethodInvokers {
+    private static final Logger LOGGER = Logger.getLogger(MethodInvokers.class.getName());
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CALL_0 = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CALL_1 = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType RUN_0 = MethodType.methodType(void.class, Object.class);
+    private static final MethodType RUN_1 = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType RUN_2 = MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+    private static final MethodHandle METHOD_INVOKE;
+
+    static {
+        try {
+            METHOD_INVOKE = LOOKUP.findVirtual(Method.class,
+                                               "invoke",
+                                               MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MethodInvokers() {
+    }
+
+    /**
+     * Invoker of a method without parameters returning a value.
+     */
+    @FunctionalInterface
+    interface Call0 {
+        Object call(Object instance) throws Throwable;
+    }
+
+    /**
+     * Invoker of a method with one parameter returning a value.
+     */
+    @FunctionalInterface
+    interface Call1 {
+        Object call(Object instance, Object arg) throws Throwable;
+    }
+
+    /**
+     * Invoker of a method without parameters, ignoring any returned value.
+     */
+    @FunctionalInterface
+    interface Run0 {
+        void run(Object instance) throws Throwable;
+    }
+
+    /**
+     * Invoker of a method with one parameter, ignoring any returned value.
+     */
+    @FunctionalInterface
+    interface Run1 {
+        void run(Object instance, Object arg) throws Throwable;
+    }
+
+    /**
+     * Invoker of a method with two parameters, ignoring any returned value.
+     */
+    @FunctionalInterface
+    interface Run2 {
+        void run(Object instance, Object arg1, Object arg2) throws Throwable;
+    }
+
+    /**
+     * Create an invoker of a method without parameters returning a value.
+     *
+     * @param method  the method to invoke
+     * @return an invoker of the method
+     */
+    static Call0 call0(Method method) {
+        Call0 invoker = spin(method, Call0.class, "call", CALL_0);
+        if (invoker == null) {
+            MethodHandle handle = handle(method, CALL_0);
+            invoker = instance -> handle.invokeExact(instance);
+        }
+        return invoker;
+    }
+
+    /**
+     * Create an invoker of a method with one parameter returning a value.
+     *
+     * @param method  the method to invoke
+     * @return an invoker of the method
+     */
+    static Call1 call1(Method method) {
+        Call1 invoker = spin(method, Call1.class, "call", CALL_1);
+        if (invoker == null) {
+            MethodHandle handle = handle(method, CALL_1);
+            invoker = (instance, arg) -> handle.invokeExact(instance, arg);
+        }
+        return invoker;
+    }
+
+    /**
+     * Create an invoker of a method without parameters.
+     *
+     * @param method  the method to invoke
+     * @return an invoker of the method
+     */
+    static Run0 run0(Method method) {
+        Run0 invoker = spin(method, Run0.class, "run", RUN_0);
+        if (invoker == null) {
+            MethodHandle handle = handle(method, RUN_0);
+            invoker = instance -> {
+                handle.invokeExact(instance);
+            };
+        }
+        return invoker;
+    }
+
+    /**
+     * Create an invoker of a method with one parameter.
+     *
+     * @param method  the method to invoke
+     * @return an invoker of the method
+     */
+    static Run1 run1(Method method) {
+        Run1 invoker = spin(method, Run1.class, "run", RUN_1);
+        if (invoker == null) {
+            MethodHandle handle = handle(method, RUN_1);
+            invoker = (instance, arg) -> {
+                handle.invokeExact(instance, arg);
+            };
+        }
+        return invoker;
+    }
+
+    /**
+     * Create an invoker of a method with two parameters.
+     *
+     * @param method  the method to invoke
+     * @return an invoker of the method
+     */
+    static Run2 run2(Method method) {
+        Run2 invoker = spin(method, Run2.class, "run", RUN_2);
+        if (invoker == null) {
+            MethodHandle handle = handle(method, RUN_2);
+            invoker = (instance, arg1, arg2) -> {
+                handle.invokeExact(instance, arg1, arg2);
+            };
+        }
+        return invoker;
+    }
+
+    /**
+     * Spin an implementation of a functional interface calling the method directly.
+     *
+     * @param method         the method to call
+     * @param type           the functional interface
+     * @param name           the name of the method of the functional interface
+     * @param interfaceType  the erased type of the method of the functional interface
+     * @param <T>            the type of the functional interface
+     * @return the implementation, or {@code null} if the method cannot be called directly from this class
+     */
+    private static <T> T spin(Method method, Class<T> type, String name, MethodType interfaceType) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!isVisible(declaringClass) || !isVisible(method.getReturnType())) {
+            return null;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return null;
+            }
+        }
+
+        try {
+            MethodInvokers.class.getModule().addReads(declaringClass.getModule());
+            // findVirtual checks access, unlike unreflect of a method made accessible
+            MethodHandle target = LOOKUP.findVirtual(declaringClass,
+                                                     method.getName(),
+                                                     MethodType.methodType(method.getReturnType(),
+                                                                           method.getParameterTypes()));
+            MethodType instantiatedType = target.type()
+                    .wrap()
+                    .changeReturnType(interfaceType.returnType());
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP,
+                                                          name,
+                                                          MethodType.methodType(type),
+                                                          interfaceType,
+                                                          target,
+                                                          instantiatedType);
+            return type.cast(site.getTarget().invoke());
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINEST, e, () -> "Cannot spin an invoker of " + method + ", using a method handle");
+            return null;
+        }
+    }
+
+    /**
+     * Obtain a method handle of the method, adapted to the specified type.
+     *
+     * @param method  the method
+     * @param type    the type of the handle, the instance followed by the parameters
+     * @return the method handle
+     */
+    private static MethodHandle handle(Method method, MethodType type) {
+        MethodHandle handle;
+        try {
+            MethodInvokers.class.getModule().addReads(method.getDeclaringClass().getModule());
+            handle = LOOKUP.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // ignore the instance, as reflection does
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+        } catch (IllegalAccessException e) {
+            // not accessible, call the method reflectively, so the failure is reported the same way as before
+            handle = METHOD_INVOKE.bindTo(method).asCollector(Object[].class, method.getParameterCount());
+        }
+        return handle.asType(type);
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodInvokers.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
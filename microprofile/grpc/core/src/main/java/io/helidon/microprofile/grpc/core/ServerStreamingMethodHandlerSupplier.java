@@ -16,7 +16,6 @@
 
 package io.helidon.microprofile.grpc.core;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -207,16 +206,19 @@ public class ServerStreamingMethodHandlerSupplier
     public static class ServerStreaming<ReqT, RespT>
             extends AbstractServerStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run2 invoker;
+
         ServerStreaming(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run2(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
             setResponseType(getGenericResponseType(method.genericParameterTypes()[1]));
         }
 
         @Override
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            method.invoke(instance, request, observer);
+                throws Throwable {
+            invoker.run(instance, request, observer);
         }
 
         @Override
@@ -246,15 +248,18 @@ public class ServerStreamingMethodHandlerSupplier
     public static class ServerStreamingNoRequest<ReqT, RespT>
             extends AbstractServerStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run1 invoker;
+
         ServerStreamingNoRequest(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run1(method.declaredMethod());
             setResponseType(getGenericResponseType(method.genericParameterTypes()[0]));
         }
 
         @Override
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            method.invoke(instance, observer);
+                throws Throwable {
+            invoker.run(instance, observer);
         }
 
         @Override
@@ -284,8 +289,11 @@ public class ServerStreamingMethodHandlerSupplier
     public static class StreamResponse<ReqT, RespT>
             extends AbstractServerStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call1 invoker;
+
         StreamResponse(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call1(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
             setResponseType(getGenericResponseType(method.genericReturnType()));
         }
@@ -293,8 +301,8 @@ public class ServerStreamingMethodHandlerSupplier
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            Stream<RespT> stream = (Stream<RespT>) method.invoke(instance, request);
+                throws Throwable {
+            Stream<RespT> stream = (Stream<RespT>) invoker.call(instance, request);
             stream(observer, stream);
         }
 
@@ -325,16 +333,19 @@ public class ServerStreamingMethodHandlerSupplier
     public static class StreamResponseNoRequest<ReqT, RespT>
             extends AbstractServerStreamingHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call0 invoker;
+
         StreamResponseNoRequest(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call0(method.declaredMethod());
             setResponseType(getGenericResponseType(method.genericReturnType()));
         }
 
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            Stream<RespT> stream = (Stream<RespT>) method.invoke(instance);
+                throws Throwable {
+            Stream<RespT> stream = (Stream<RespT>) invoker.call(instance);
             stream(observer, stream);
         }
 
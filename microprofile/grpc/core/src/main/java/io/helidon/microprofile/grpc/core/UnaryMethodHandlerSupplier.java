@@ -16,7 +16,6 @@
 
 package io.helidon.microprofile.grpc.core;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
@@ -357,8 +356,11 @@ public class UnaryMethodHandlerSupplier
     public static class RequestResponse<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call1 invoker;
+
         RequestResponse(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call1(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
             setResponseType(method.returnType());
         }
@@ -366,8 +368,8 @@ public class UnaryMethodHandlerSupplier
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            RespT response = (RespT) method.invoke(instance, request);
+                throws Throwable {
+            RespT response = (RespT) invoker.call(instance, request);
             observer.onNext(response);
             observer.onCompleted();
         }
@@ -406,16 +408,19 @@ public class UnaryMethodHandlerSupplier
     public static class ResponseOnly<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call0 invoker;
+
         ResponseOnly(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call0(method.declaredMethod());
             setResponseType(method.returnType());
         }
 
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            RespT response = (RespT) method.invoke(instance);
+                throws Throwable {
+            RespT response = (RespT) invoker.call(instance);
             observer.onNext(response);
             observer.onCompleted();
         }
@@ -458,16 +463,19 @@ public class UnaryMethodHandlerSupplier
     public static class RequestNoResponse<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run1 invoker;
+
         RequestNoResponse(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run1(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
         }
 
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            method.invoke(instance, request);
+                throws Throwable {
+            invoker.run(instance, request);
             observer.onNext((RespT) EMPTY);
             observer.onCompleted();
         }
@@ -511,15 +519,18 @@ public class UnaryMethodHandlerSupplier
     public static class NoRequestNoResponse<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run0 invoker;
+
         NoRequestNoResponse(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run0(method.declaredMethod());
         }
 
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            method.invoke(instance);
+                throws Throwable {
+            invoker.run(instance);
             observer.onNext((RespT) EMPTY);
             observer.onCompleted();
         }
@@ -566,8 +577,11 @@ public class UnaryMethodHandlerSupplier
     public static class FutureResponse<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call1 invoker;
+
         FutureResponse(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call1(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
             setResponseType(getGenericResponseType(method.genericReturnType()));
         }
@@ -575,8 +589,8 @@ public class UnaryMethodHandlerSupplier
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            CompletableFuture<RespT> future = (CompletableFuture<RespT>) method.invoke(instance, request);
+                throws Throwable {
+            CompletableFuture<RespT> future = (CompletableFuture<RespT>) invoker.call(instance, request);
             future.handle((response, thrown) -> handleFuture(response, thrown, observer));
         }
 
@@ -621,16 +635,19 @@ public class UnaryMethodHandlerSupplier
     public static class FutureResponseNoRequest<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Call0 invoker;
+
         FutureResponseNoRequest(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.call0(method.declaredMethod());
             setResponseType(getGenericResponseType(method.genericReturnType()));
         }
 
         @Override
         @SuppressWarnings("unchecked")
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            CompletableFuture<RespT> future = (CompletableFuture<RespT>) method.invoke(instance);
+                throws Throwable {
+            CompletableFuture<RespT> future = (CompletableFuture<RespT>) invoker.call(instance);
             future.handle((response, thrown) -> handleFuture(response, thrown, observer));
         }
 
@@ -670,16 +687,19 @@ public class UnaryMethodHandlerSupplier
     public static class Unary<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run2 invoker;
+
         Unary(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run2(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
             setResponseType(getGenericResponseType(method.genericParameterTypes()[1]));
         }
 
         @Override
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            method.invoke(instance, request, observer);
+                throws Throwable {
+            invoker.run(instance, request, observer);
         }
 
         /**
@@ -721,15 +741,18 @@ public class UnaryMethodHandlerSupplier
     public static class UnaryNoRequest<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run1 invoker;
+
         UnaryNoRequest(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run1(method.declaredMethod());
             setResponseType(getGenericResponseType(method.genericParameterTypes()[0]));
         }
 
         @Override
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
-            method.invoke(instance, observer);
+                throws Throwable {
+            invoker.run(instance, observer);
         }
 
         /**
@@ -776,18 +799,21 @@ public class UnaryMethodHandlerSupplier
     public static class UnaryFuture<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run2 invoker;
+
         UnaryFuture(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run2(method.declaredMethod());
             setRequestType(method.parameterTypes()[0]);
             setResponseType(getGenericResponseType(method.genericParameterTypes()[1]));
         }
 
         @Override
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
+                throws Throwable {
             CompletableFuture<RespT> future = new CompletableFuture<>();
             future.handleAsync((response, thrown) -> handleFuture(response, thrown, observer));
-            method.invoke(instance, request, future);
+            invoker.run(instance, request, future);
         }
 
         /**
@@ -834,17 +860,20 @@ public class UnaryMethodHandlerSupplier
     public static class UnaryFutureNoRequest<ReqT, RespT>
             extends AbstractUnaryHandler<ReqT, RespT> {
 
+        private final MethodInvokers.Run1 invoker;
+
         UnaryFutureNoRequest(String methodName, AnnotatedMethod method, Supplier<?> instance) {
             super(methodName, method, instance);
+            invoker = MethodInvokers.run1(method.declaredMethod());
             setResponseType(getGenericResponseType(method.genericParameterTypes()[0]));
         }
 
         @Override
         protected void invoke(Method method, Object instance, ReqT request, StreamObserver<RespT> observer)
-                throws InvocationTargetException, IllegalAccessException {
+                throws Throwable {
             CompletableFuture<RespT> future = new CompletableFuture<>();
             future.handleAsync((response, thrown) -> handleFuture(response, thrown, observer));
-            method.invoke(instance, future);
+            invoker.run(instance, future);
         }
 
         /**
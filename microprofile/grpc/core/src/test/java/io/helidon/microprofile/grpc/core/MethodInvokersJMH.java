@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.grpc.core;
+
+import java.lang.reflect.Method;
+
+import io.helidon.grpc.core.MethodHandler;
+
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares a reflective call of a trivial unary service method with a call through
+ * the invoker created by {@link MethodInvokers} and with a call of the whole unary {@link MethodHandler}.
+ */
+@State(Scope.Benchmark)
+public class MethodInvokersJMH {
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : new int[] {1, 8}) {
+            Options opt = new OptionsBuilder()
+                    .include(MethodInvokersJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    private final EchoService service = new EchoService();
+    private Method method;
+    private MethodInvokers.Run2 invoker;
+    private MethodHandler<String, String> handler;
+
+    @Setup
+    public void setup() throws Exception {
+        method = EchoService.class.getMethod("echo", String.class, StreamObserver.class);
+        invoker = MethodInvokers.run2(method);
+        handler = new UnaryMethodHandlerSupplier().get("echo", AnnotatedMethod.create(method), () -> service);
+    }
+
+    @Benchmark
+    public void reflection(Blackhole blackhole) throws Exception {
+        method.invoke(service, "foo", new BlackholeObserver(blackhole));
+    }
+
+    @Benchmark
+    public void invoker(Blackhole blackhole) throws Throwable {
+        invoker.run(service, "foo", new BlackholeObserver(blackhole));
+    }
+
+    @Benchmark
+    public void handler(Blackhole blackhole) {
+        handler.invoke("foo", new BlackholeObserver(blackhole));
+    }
+
+    /**
+     * A service with a trivial unary method.
+     */
+    public static class EchoService {
+        @Unary
+        public void echo(String request, StreamObserver<String> observer) {
+            observer.onNext(request);
+            observer.onCompleted();
+        }
+    }
+
+    private static final class BlackholeObserver implements StreamObserver<String> {
+        private final Blackhole blackhole;
+
+        private BlackholeObserver(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onNext(String value) {
+            blackhole.consume(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            blackhole.consume(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            blackhole.consume(true);
+        }
+    }
+}
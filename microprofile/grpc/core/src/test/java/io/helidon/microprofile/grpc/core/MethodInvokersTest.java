@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.microprofile.grpc.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link MethodInvokers} unit tests.
+ */
+public class MethodInvokersTest {
+
+    @Test
+    public void shouldCallMethodWithoutParameters() throws Throwable {
+        MethodInvokers.Call0 invoker = MethodInvokers.call0(method("noArgs"));
+
+        assertThat(invoker.call(new Service()), is("none"));
+    }
+
+    @Test
+    public void shouldCallMethodWithParameter() throws Throwable {
+        MethodInvokers.Call1 invoker = MethodInvokers.call1(method("oneArg", String.class));
+
+        assertThat(invoker.call(new Service(), "foo"), is("FOO"));
+    }
+
+    @Test
+    public void shouldCallMethodWithPrimitives() throws Throwable {
+        MethodInvokers.Call1 invoker = MethodInvokers.call1(method("primitive", int.class));
+
+        assertThat(invoker.call(new Service(), 19), is(20L));
+    }
+
+    @Test
+    public void shouldRunMethods() throws Throwable {
+        Service service = new Service();
+
+        MethodInvokers.run0(method("noArgs")).run(service);
+        MethodInvokers.run1(method("record", String.class)).run(service, "one");
+        MethodInvokers.run2(method("record", String.class, String.class)).run(service, "two", "three");
+
+        assertThat(service.calls, contains("noArgs", "one", "two", "three"));
+    }
+
+    @Test
+    public void shouldCallStaticMethod() throws Throwable {
+        MethodInvokers.Call1 invoker = MethodInvokers.call1(method("staticMethod", String.class));
+
+        assertThat(invoker.call(null, "foo"), is("static foo"));
+    }
+
+    @Test
+    public void shouldCallAccessiblePrivateMethod() throws Throwable {
+        Method method = Service.class.getDeclaredMethod("privateMethod", String.class);
+        method.setAccessible(true);
+        MethodInvokers.Call1 invoker = MethodInvokers.call1(method);
+
+        assertThat(invoker.call(new Service(), "foo"), is("private foo"));
+    }
+
+    @Test
+    public void shouldCallVoidMethodReturningNull() throws Throwable {
+        MethodInvokers.Call1 invoker = MethodInvokers.call1(method("record", String.class));
+
+        assertThat(invoker.call(new Service(), "foo"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldPropagateExceptionUnwrapped() {
+        MethodInvokers.Run0 invoker = MethodInvokers.run0(method("fail"));
+
+        assertThrows(IllegalStateException.class, () -> invoker.run(new Service()));
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) {
+        try {
+            return Service.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * A service with methods to invoke.
+     */
+    public static class Service {
+        private final List<String> calls = new ArrayList<>();
+
+        public String noArgs() {
+            calls.add("noArgs");
+            return "none";
+        }
+
+        public String oneArg(String value) {
+            return value.toUpperCase();
+        }
+
+        public long primitive(int value) {
+            return value + 1;
+        }
+
+        public void record(String value) {
+            calls.add(value);
+        }
+
+        public void record(String first, String second) {
+            calls.add(first);
+            calls.add(second);
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        public static String staticMethod(String value) {
+            return "static " + value;
+        }
+
+        private String privateMethod(String value) {
+            return "private " + value;
+        }
+    }
+}
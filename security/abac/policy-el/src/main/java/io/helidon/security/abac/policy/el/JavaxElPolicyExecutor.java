@@ -16,16 +16,29 @@
 
 package io.helidon.security.abac.policy.el;
 
+import java.beans.FeatureDescriptor;
 import java.lang.reflect.Method;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.el.ArrayELResolver;
+import javax.el.BeanELResolver;
+import javax.el.CompositeELResolver;
+import javax.el.ELContext;
 import javax.el.ELException;
+import javax.el.ELResolver;
 import javax.el.ExpressionFactory;
 import javax.el.FunctionMapper;
+import javax.el.ListELResolver;
+import javax.el.MapELResolver;
+import javax.el.PropertyNotWritableException;
+import javax.el.ResourceBundleELResolver;
 import javax.el.StandardELContext;
+import javax.el.StaticFieldELResolver;
 import javax.el.ValueExpression;
 import javax.el.VariableMapper;
 
@@ -39,6 +52,9 @@ import io.helidon.security.abac.policy.spi.PolicyExecutor;
 
 /**
  * {@link PolicyExecutor} for Java EE Expression Language (EL).
+ * <p>
+ * Each policy statement is parsed only once, the parsed expression is then evaluated for each request
+ * with variables of that request.
  *
  * See tutorial for details of the EL: <a href="https://docs.oracle.com/javaee/7/tutorial/jsf-el005.htm#BNAIK">https://docs
  * .oracle.com/javaee/7/tutorial/jsf-el005.htm#BNAIK</a>
@@ -49,10 +65,18 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
 
     private final ExpressionFactory ef;
     private final List<CustomFunction> customMethods = new LinkedList<>();
+    private final ConcurrentHashMap<String, ValueExpression> expressions = new ConcurrentHashMap<>();
+    private final ELResolver resolver;
+    private final FunctionMapper functions;
 
     private JavaxElPolicyExecutor(Builder builder) {
         this.ef = builder.expressionFactory;
         this.customMethods.addAll(builder.customMethods);
+        this.functions = new StandardELContext(ef).getFunctionMapper();
+        this.customMethods.forEach(customFunction -> functions.mapFunction(customFunction.prefix,
+                                                                           customFunction.localName,
+                                                                           customFunction.method));
+        this.resolver = resolver(ef);
     }
 
     /**
@@ -85,28 +109,9 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
 
     @Override
     public void executePolicy(String policyStatement, Errors.Collector collector, ProviderRequest request) {
-        StandardELContext context = new StandardELContext(ef);
-        context.addELResolver(ATTRIBUTE_RESOLVER);
-
-        FunctionMapper functions = context.getFunctionMapper();
-        VariableMapper variables = context.getVariableMapper();
-
-        customMethods.forEach(customFunction -> functions.mapFunction(customFunction.prefix,
-                                                                      customFunction.localName,
-                                                                      customFunction.method));
-
-        Subject userSubject = request.subject().orElse(SecurityContext.ANONYMOUS);
-
-        variable(variables, "user", userSubject, Subject.class);
-        variable(variables, "subject", userSubject, Subject.class);
-        variable(variables, "service", request.service().orElse(SecurityContext.ANONYMOUS), Subject.class);
-        variable(variables, "env", request.env(), SecurityEnvironment.class);
-        variable(variables, "object", request.getObject().orElse(null), Object.class);
-        variable(variables, "request", request, ProviderRequest.class);
-
         try {
-            ValueExpression expression = ef.createValueExpression(context, policyStatement, boolean.class);
-            boolean value = (boolean) expression.getValue(context);
+            ValueExpression expression = expressions.computeIfAbsent(policyStatement, this::parse);
+            boolean value = (boolean) expression.getValue(new PolicyContext(resolver, functions, request));
             if (!value) {
                 collector.fatal(this, "Policy statement \"" + policyStatement + "\" evaluated to false");
             }
@@ -116,9 +121,28 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
         }
     }
 
-    private <T> void variable(VariableMapper variables, String varName, T object, Class<T> objectClass) {
-        ValueExpression variable = ef.createValueExpression(object, objectClass);
-        variables.setVariable(varName, variable);
+    private ValueExpression parse(String policyStatement) {
+        // variables are not mapped, so they are resolved when evaluated by the VariablesResolver
+        ELContext context = new PolicyContext(resolver, functions, null);
+        return ef.createValueExpression(context, policyStatement, boolean.class);
+    }
+
+    // same resolvers as used by StandardELContext
+    private static ELResolver resolver(ExpressionFactory ef) {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new VariablesResolver());
+        resolver.add(ATTRIBUTE_RESOLVER);
+        ELResolver streamResolver = ef.getStreamELResolver();
+        if (null != streamResolver) {
+            resolver.add(streamResolver);
+        }
+        resolver.add(new StaticFieldELResolver());
+        resolver.add(new MapELResolver());
+        resolver.add(new ResourceBundleELResolver());
+        resolver.add(new ListELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.add(new BeanELResolver());
+        return resolver;
     }
 
     /**
@@ -221,6 +245,153 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
         }
     }
 
+    /**
+     * Context of a single evaluation of a policy statement. Provides the variables of the request.
+     */
+    private static final class PolicyContext extends ELContext {
+        private static final Object NOT_A_VARIABLE = new Object();
+        private static final VariableMapper NO_VARIABLES = new VariableMapper() {
+            @Override
+            public ValueExpression resolveVariable(String variable) {
+                return null;
+            }
+
+            @Override
+            public ValueExpression setVariable(String variable, ValueExpression expression) {
+                throw new UnsupportedOperationException("Variables of security expressions cannot be defined");
+            }
+        };
+
+        private final ELResolver resolver;
+        private final FunctionMapper functions;
+        private final ProviderRequest request;
+
+        private PolicyContext(ELResolver resolver, FunctionMapper functions, ProviderRequest request) {
+            this.resolver = resolver;
+            this.functions = functions;
+            this.request = request;
+        }
+
+        @Override
+        public ELResolver getELResolver() {
+            return resolver;
+        }
+
+        @Override
+        public FunctionMapper getFunctionMapper() {
+            return functions;
+        }
+
+        @Override
+        public VariableMapper getVariableMapper() {
+            return NO_VARIABLES;
+        }
+
+        @Override
+        public Object getContext(Class<?> key) {
+            if (key == PolicyContext.class) {
+                return this;
+            }
+            return super.getContext(key);
+        }
+
+        private Object variable(String name) {
+            switch (name) {
+                case "user":
+                case "subject":
+                    return request.subject().orElse(SecurityContext.ANONYMOUS);
+                case "service":
+                    return request.service().orElse(SecurityContext.ANONYMOUS);
+                case "env":
+                    return request.env();
+                case "object":
+                    return request.getObject().orElse(null);
+                case "request":
+                    return request;
+                default:
+                    return NOT_A_VARIABLE;
+            }
+        }
+    }
+
+    /**
+     * Resolves the top level variables ({@code user}, {@code subject}, {@code service}, {@code env}, {@code object}
+     * and {@code request}) of a {@link PolicyContext}.
+     */
+    private static final class VariablesResolver extends ELResolver {
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            if (null != base || !(property instanceof String)) {
+                return null;
+            }
+            Object policyContext = context.getContext(PolicyContext.class);
+            if (!(policyContext instanceof PolicyContext) || null == ((PolicyContext) policyContext).request) {
+                return null;
+            }
+            Object value = ((PolicyContext) policyContext).variable((String) property);
+            if (value == PolicyContext.NOT_A_VARIABLE) {
+                return null;
+            }
+            context.setPropertyResolved(true);
+            return value;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base, Object property) {
+            if (null == base && property instanceof String) {
+                Class<?> type = variableType((String) property);
+                if (null != type) {
+                    context.setPropertyResolved(true);
+                }
+                return type;
+            }
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object property, Object value) {
+            if (null == base && property instanceof String && null != variableType((String) property)) {
+                throw new PropertyNotWritableException("Cannot write: " + property + ", as security expressions are read-only");
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base, Object property) {
+            if (null == base && property instanceof String && null != variableType((String) property)) {
+                context.setPropertyResolved(true);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public Class<?> getCommonPropertyType(ELContext context, Object base) {
+            return (null == base) ? String.class : null;
+        }
+
+        private static Class<?> variableType(String name) {
+            switch (name) {
+                case "user":
+                case "subject":
+                case "service":
+                    return Subject.class;
+                case "env":
+                    return SecurityEnvironment.class;
+                case "object":
+                    return Object.class;
+                case "request":
+                    return ProviderRequest.class;
+                default:
+                    return null;
+            }
+        }
+    }
+
     private static final class CustomFunction {
         private final String prefix;
         private final String localName;
@@ -83,6 +83,38 @@ public class JavaxElPolicyExecutorTest {
         collector.collect().checkValid();
     }
 
+    @Test
+    public void testParsedExpressionUsesRequestVariables() {
+        JavaxElPolicyExecutor ex = JavaxElPolicyExecutor.create();
+        String statement = "${user.principal.id == object.owner}";
+
+        ProviderRequest ownerRequest = request("owner", new MyResource("owner"));
+        ProviderRequest otherRequest = request("other", new MyResource("owner"));
+
+        Errors.Collector collector = Errors.collector();
+        ex.executePolicy(statement, collector, ownerRequest);
+        collector.collect().checkValid();
+
+        collector = Errors.collector();
+        ex.executePolicy(statement, collector, otherRequest);
+        if (collector.collect().isValid()) {
+            fail("Should have failed, as the user is not the owner of the object");
+        }
+
+        collector = Errors.collector();
+        ex.executePolicy(statement, collector, ownerRequest);
+        collector.collect().checkValid();
+    }
+
+    private static ProviderRequest request(String userId, Object object) {
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.service()).thenReturn(Optional.empty());
+        when(request.subject()).thenReturn(Optional.of(Subject.create(Principal.create(userId))));
+        when(request.env()).thenReturn(SecurityEnvironment.create());
+        when(request.getObject()).thenReturn(Optional.of(object));
+        return request;
+    }
+
     // bean must be public, as otherwise EL cannot access properties
     public static class MyResource {
         private String owner;
@@ -71,6 +71,8 @@ abstract class JwkPki extends Jwk {
     private final Optional<List<X509Certificate>> certificateChain;
     private final Optional<byte[]> sha1Thumbprint;
     private final Optional<byte[]> sha256Thumbprint;
+    // signature instances initialized with the public key, reused by each thread
+    private final ThreadLocal<Signature> verifiers = new ThreadLocal<>();
 
     JwkPki(Builder<?> builder, PrivateKey privKey, PublicKey pubKey, String defaultAlgorithm) {
         super(builder, defaultAlgorithm);
@@ -112,13 +114,23 @@ abstract class JwkPki extends Jwk {
             return verifyNoneAlg(signatureToVerify);
         }
 
-        Signature signature = JwtUtil.getSignature(alg);
+        Signature signature = verifiers.get();
+        boolean initialized = (null != signature);
+        if (!initialized) {
+            signature = JwtUtil.getSignature(alg);
+        }
 
         try {
-            signature.initVerify(publicKey);
+            if (!initialized) {
+                signature.initVerify(publicKey);
+                verifiers.set(signature);
+            }
+            // verify resets the signature to the state after initVerify, so it can be used again
             signature.update(signedBytes);
             return signature.verify(signatureToVerify);
         } catch (Exception e) {
+            // the signature may be in an inconsistent state
+            verifiers.remove();
             throw new JwtException("Failed to verify signature. It may still be valid, but an exception was thrown", e);
         }
     }
@@ -27,8 +27,8 @@ import io.helidon.config.Config;
 
 /**
  * Generic cache with eviction support.
- * Default implementation is backed by {@link java.util.concurrent.ConcurrentHashMap} and provides
- * configuration to set this map up, as can be done through {@link #builder()}, and {@link #create(io.helidon.config.Config)}.
+ * Default implementation is backed by a {@link io.helidon.common.configurable.ConcurrentCache} and provides
+ * configuration to set this cache up, as can be done through {@link #builder()}, and {@link #create(io.helidon.config.Config)}.
  *
  * Cache timeouts:
  * <ul>
@@ -180,7 +180,7 @@ public interface EvictableCache<K, V> {
 
     /**
      * Builder to create instances of {@link EvictableCache} using the default implementation backed by
-     * a {@link java.util.concurrent.ConcurrentHashMap}.
+     * a {@link io.helidon.common.configurable.ConcurrentCache}.
      *
      * @param <K> types of keys used in the cache
      * @param <V> types of values used in the cache
@@ -266,6 +266,7 @@ public interface EvictableCache<K, V> {
 
         /**
          * Configure parallelism threshold.
+         * The default implementation no longer scans records in parallel, so this value is ignored.
          *
          * @param parallelismThreshold see {@link ConcurrentHashMap#forEachKey(long, Consumer)}
          * @return updated builder instance
@@ -277,7 +278,7 @@ public interface EvictableCache<K, V> {
 
         /**
          * Configure evictor to check if a record is still valid.
-         * This should be a fast way to check, as it is happening in a {@link ConcurrentHashMap#forEachKey(long, Consumer)}.
+         * This should be a fast way to check, as it is called for each record during scheduled eviction.
          * This is also called during all get and remove operations to only return valid records.
          *
          * @param evictor evictor to use, return {@code true} for records that should be evicted, {@code false} for records
@@ -15,18 +15,20 @@
  */
 package io.helidon.security.providers.common;
 
+import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import io.helidon.common.configurable.ConcurrentCache;
+
 /**
  * Default implementation of {@link EvictableCache}.
+ * Records are stored in a {@link io.helidon.common.configurable.ConcurrentCache}, so cache hits do not block.
  */
 class EvictableCacheImpl<K, V> implements EvictableCache<K, V> {
     /**
@@ -53,20 +55,19 @@ class EvictableCacheImpl<K, V> implements EvictableCache<K, V> {
         EXECUTOR = new ScheduledThreadPoolExecutor(EVICT_THREAD_COUNT, jf);
     }
 
-    private final ConcurrentHashMap<K, CacheRecord<K, V>> cacheMap = new ConcurrentHashMap<>();
-    private final long cacheTimeoutNanos;
-    private final long overallTimeoutNanos;
+    private final ConcurrentCache<K, V> cache;
     private final long cacheMaxSize;
-    private final long evictParallelismThreshold;
     private final ScheduledFuture<?> evictionFuture;
     private final BiFunction<K, V, Boolean> evictor;
 
     EvictableCacheImpl(Builder<K, V> builder) {
         cacheMaxSize = builder.cacheMaxSize();
-        cacheTimeoutNanos = TimeUnit.NANOSECONDS.convert(builder.cacheTimeout(), builder.cacheTimeoutUnit());
-        overallTimeoutNanos = TimeUnit.NANOSECONDS.convert(builder.overallTimeout(), builder.overallTimeoutUnit());
-        evictParallelismThreshold = builder.parallelismThreshold();
         evictor = builder.evictor();
+        cache = ConcurrentCache.<K, V>builder()
+                .capacity(cacheMaxSize)
+                .expireAfterAccess(Duration.ofNanos(builder.cacheTimeoutUnit().toNanos(builder.cacheTimeout())))
+                .expireAfterWrite(Duration.ofNanos(builder.overallTimeoutUnit().toNanos(builder.overallTimeout())))
+                .build();
 
         evictionFuture = EXECUTOR.scheduleAtFixedRate(
                 this::evict,
@@ -78,120 +79,47 @@ class EvictableCacheImpl<K, V> implements EvictableCache<K, V> {
 
     @Override
     public Optional<V> remove(K key) {
-        CacheRecord<K, V> removed = cacheMap.remove(key);
-        if (null == removed) {
-            return Optional.empty();
-        }
-
-        return validate(removed).map(CacheRecord::getValue);
+        return cache.remove(key)
+                .filter(value -> !evictor.apply(key, value));
     }
 
     @Override
     public Optional<V> get(K key) {
-        return getRecord(key).flatMap(this::validate).map(CacheRecord::getValue);
+        Optional<V> value = cache.get(key);
+        if (value.isPresent() && evictor.apply(key, value.get())) {
+            cache.remove(key);
+            return Optional.empty();
+        }
+        return value;
     }
 
     @Override
     public int size() {
-        return cacheMap.size();
+        return cache.size();
     }
 
     @Override
     public Optional<V> computeValue(K key, Supplier<Optional<V>> valueSupplier) {
-        try {
-            return doComputeValue(key, valueSupplier);
-        } catch (CacheFullException e) {
-            return valueSupplier.get();
+        Optional<V> current = get(key);
+        if (current.isPresent()) {
+            return current;
+        }
+        Optional<V> newValue = valueSupplier.get();
+        if (cache.size() < cacheMaxSize) {
+            // when the cache is full, values are not cached
+            newValue.ifPresent(value -> cache.put(key, value));
         }
+        return newValue;
     }
 
     @Override
     public void close() {
         evictionFuture.cancel(true);
-        cacheMap.clear();
+        cache.clear();
     }
 
     void evict() {
-        cacheMap.forEachKey(evictParallelismThreshold, key -> cacheMap.compute(key, (key1, cacheRecord) -> {
-            if ((null == cacheRecord) || evictor.apply(cacheRecord.getKey(), cacheRecord.getValue())) {
-                return null;
-            } else {
-                if (cacheRecord.isValid(cacheTimeoutNanos, overallTimeoutNanos)) {
-                    return cacheRecord;
-                } else {
-                    return null;
-                }
-            }
-        }));
-    }
-
-    private Optional<CacheRecord<K, V>> validate(CacheRecord<K, V> record) {
-        if (record.isValid(cacheTimeoutNanos, overallTimeoutNanos) && !evictor.apply(record.getKey(), record.getValue())) {
-            return Optional.of(record);
-        }
-        cacheMap.remove(record.key);
-        return Optional.empty();
-    }
-
-    private Optional<V> doComputeValue(K key, Supplier<Optional<V>> valueSupplier) {
-        CacheRecord<K, V> record = cacheMap.compute(key, (s, cacheRecord) -> {
-            if ((null != cacheRecord) && cacheRecord.isValid(cacheTimeoutNanos, overallTimeoutNanos)) {
-                cacheRecord.accessed();
-                return cacheRecord;
-            }
-
-            if (cacheMap.size() >= cacheMaxSize) {
-                throw new CacheFullException();
-            }
-
-            return valueSupplier.get()
-                    .map(v -> new CacheRecord<>(key, v))
-                    .orElse(null);
-        });
-
-        if (null == record) {
-            return Optional.empty();
-        } else {
-            return Optional.of(record.value);
-        }
-    }
-
-    private Optional<CacheRecord<K, V>> getRecord(K key) {
-        return Optional.ofNullable(cacheMap.get(key));
-    }
-
-    private static final class CacheRecord<K, V> {
-        private final K key;
-        private final V value;
-        private final long created = System.nanoTime();
-        private volatile long lastAccess = System.nanoTime();
-
-        private CacheRecord(K key, V value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        private void accessed() {
-            lastAccess = System.nanoTime();
-        }
-
-        private boolean isValid(long timeoutNanos, long overallTimeout) {
-            long nano = System.nanoTime();
-
-            return ((nano - created) < overallTimeout) && ((nano - lastAccess) < timeoutNanos);
-        }
-
-        private K getKey() {
-            return key;
-        }
-
-        private V getValue() {
-            return value;
-        }
-    }
-
-    private static final class CacheFullException extends RuntimeException {
-        private CacheFullException() {
-        }
+        cache.cleanUp();
+        cache.removeIf(evictor::apply);
     }
 }
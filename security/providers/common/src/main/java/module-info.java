@@ -21,6 +21,7 @@ module io.helidon.security.providers.common {
     requires transitive io.helidon.config;
     requires transitive io.helidon.security;
     requires transitive io.helidon.common;
+    requires io.helidon.common.configurable;
 
     exports io.helidon.security.providers.common;
     exports io.helidon.security.providers.common.spi;
@@ -16,8 +16,12 @@
 
 package io.helidon.security.providers.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -45,6 +49,7 @@ import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.SignedJwt;
 import io.helidon.security.jwt.jwk.Jwk;
 import io.helidon.security.jwt.jwk.JwkKeys;
+import io.helidon.security.providers.common.EvictableCache;
 import io.helidon.security.providers.common.OutboundConfig;
 import io.helidon.security.providers.common.OutboundTarget;
 import io.helidon.security.providers.common.TokenCredential;
@@ -63,6 +68,13 @@ import io.helidon.security.util.TokenHandler;
  */
 public final class JwtProvider extends SynchronousProvider implements AuthenticationProvider, OutboundSecurityProvider {
     private static final Logger LOGGER = Logger.getLogger(JwtProvider.class.getName());
+    private static final ThreadLocal<MessageDigest> TOKEN_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new JwtException("SHA-256 digest is not available", e);
+        }
+    });
 
     /**
      * Configure this for outbound requests to override user to use.
@@ -85,6 +97,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
     private final Map<OutboundTarget, JwtOutboundTarget> targetToJwtConfig = new IdentityHashMap<>();
     private final Jwk defaultJwk;
     private final boolean useJwtGroups;
+    private final EvictableCache<String, SignedJwt> tokenCache;
 
     private JwtProvider(Builder builder) {
         this.optional = builder.optional;
@@ -100,6 +113,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         this.expectedAudience = builder.expectedAudience;
         this.verifySignature = builder.verifySignature;
         this.useJwtGroups = builder.useJwtGroups;
+        this.tokenCache = builder.tokenCache;
 
         if (null == atnTokenHandler) {
             defaultTokenHandler = TokenHandler.builder()
@@ -158,6 +172,18 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
     }
 
     private AuthenticationResponse authenticateToken(String token) {
+        String key = cacheKey(token);
+        Optional<SignedJwt> cached = tokenCache.get(key);
+        if (cached.isPresent()) {
+            // signature was already verified, time claims and audience must be validated again
+            SignedJwt signedJwt = cached.get();
+            Jwt jwt = signedJwt.getJwt();
+            if (!verifySignature || jwt.validate(null, expectedAudience).isValid()) {
+                return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
+            }
+            tokenCache.remove(key);
+        }
+
         SignedJwt signedJwt;
         try {
             signedJwt = SignedJwt.parseToken(token);
@@ -172,6 +198,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
                 // verify the audience is correct
                 Errors validate = jwt.validate(null, expectedAudience);
                 if (validate.isValid()) {
+                    cacheToken(key, signedJwt);
                     return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
                 } else {
                     return failOrAbstain("Audience is invalid or missing: " + expectedAudience);
@@ -180,10 +207,31 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
                 return failOrAbstain(errors.toString());
             }
         } else {
+            cacheToken(key, signedJwt);
             return AuthenticationResponse.success(buildSubject(signedJwt.getJwt(), signedJwt));
         }
     }
 
+    private void cacheToken(String key, SignedJwt signedJwt) {
+        tokenCache.computeValue(key, () -> Optional.of(signedJwt));
+    }
+
+    private String cacheKey(String token) {
+        if (tokenCache == EvictableCache.<String, SignedJwt>noCache()) {
+            return token;
+        }
+        // do not keep the tokens themselves in memory
+        byte[] hash = TOKEN_DIGEST.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static boolean expired(SignedJwt signedJwt) {
+        return signedJwt.getJwt()
+                .expirationTime()
+                .map(exp -> exp.isBefore(Instant.now()))
+                .orElse(false);
+    }
+
     private AuthenticationResponse failOrAbstain(String message) {
         if (optional) {
             return AuthenticationResponse.builder()
@@ -609,6 +657,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
         private String issuer;
         private String expectedAudience;
         private boolean useJwtGroups = true;
+        private EvictableCache<String, SignedJwt> tokenCache = EvictableCache.noCache();
 
         private Builder() {
         }
@@ -800,6 +849,7 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             config.get("sign-token").ifExists(this::outbound);
             config.get("allow-unsigned").asBoolean().ifPresent(this::allowUnsigned);
             config.get("use-jwt-groups").asBoolean().ifPresent(this::useJwtGroups);
+            config.get("atn-token.cache").ifExists(this::tokenCache);
 
             return this;
         }
@@ -825,6 +875,30 @@ public final class JwtProvider extends SynchronousProvider implements Authentica
             return this;
         }
 
+        /**
+         * Cache of tokens that were already parsed and successfully verified, so the same token sent again
+         * does not have to be parsed and its signature verified. Expiration and not before claims and
+         * audience are validated for each request also for cached tokens.
+         * Tokens are cached by their SHA-256 hash.
+         * <p>
+         * Disabled by default. Configurable through {@code atn-token.cache}, see
+         * {@link EvictableCache.Builder#config(Config)} for the configuration options.
+         *
+         * @param tokenCache cache to use
+         * @return updated builder instance
+         */
+        public Builder tokenCache(EvictableCache<String, SignedJwt> tokenCache) {
+            this.tokenCache = tokenCache;
+            return this;
+        }
+
+        private void tokenCache(Config config) {
+            tokenCache(EvictableCache.<String, SignedJwt>builder()
+                               .evictor((key, signedJwt) -> expired(signedJwt))
+                               .config(config)
+                               .build());
+        }
+
         private void verifyKeys(Config config) {
             config.get("jwk.resource").as(Resource::create).ifPresent(this::verifyJwk);
 
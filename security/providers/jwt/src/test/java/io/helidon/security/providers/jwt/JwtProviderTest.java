@@ -41,6 +41,7 @@ import io.helidon.security.jwt.jwk.JwkEC;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.jwt.jwk.JwkOctet;
 import io.helidon.security.jwt.jwk.JwkRSA;
+import io.helidon.security.providers.common.EvictableCache;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -489,4 +490,43 @@ public class JwtProviderTest {
                     assertThat(atnPrincipal.abacAttribute("locale"), is(Optional.of(locale)));
                 }, () -> fail("User must be present in response"));
     }
+
+    @Test
+    public void testTokenCache() {
+        EvictableCache<String, SignedJwt> tokenCache = EvictableCache.create();
+        JwtProvider provider = JwtProvider.builder()
+                .config(providersConfig.get("jwt"))
+                .tokenCache(tokenCache)
+                .build();
+
+        Subject subject = Subject.create(Principal.create("user1"));
+        SecurityContext context = Mockito.mock(SecurityContext.class);
+        when(context.user()).thenReturn(Optional.of(subject));
+
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.securityContext()).thenReturn(context);
+        SecurityEnvironment outboundEnv = SecurityEnvironment.builder()
+                .path("/rsa")
+                .transport("http")
+                .targetUri(URI.create("http://localhost:8080/rsa"))
+                .build();
+
+        OutboundSecurityResponse response = provider.syncOutbound(request, outboundEnv, EndpointConfig.create());
+        String signedToken = response.requestHeaders().get("Authorization").get(0);
+
+        ProviderRequest atnRequest = mock(ProviderRequest.class);
+        SecurityEnvironment se = SecurityEnvironment.builder()
+                .header("Authorization", signedToken)
+                .build();
+        when(atnRequest.env()).thenReturn(se);
+
+        for (int i = 0; i < 2; i++) {
+            AuthenticationResponse authenticationResponse = provider.syncAuthenticate(atnRequest);
+            assertThat(authenticationResponse.status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+            assertThat(authenticationResponse.user().map(Subject::principal).map(Principal::getName),
+                       is(Optional.of("user1")));
+            assertThat(tokenCache.size(), is(1));
+        }
+        tokenCache.close();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c)  2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,11 +19,18 @@ package io.helidon.messaging.connectors.jms;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import javax.jms.Connection;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+
 import io.helidon.common.configurable.ScheduledThreadPoolSupplier;
 import io.helidon.common.reactive.Multi;
 import io.helidon.messaging.Channel;
@@ -128,4 +135,65 @@ public class JmsSeTest extends AbstractJmsTest {
 
         assertThat(threadNameFuture.get(2, TimeUnit.SECONDS), startsWith(testThread));
     }
+
+    @Test
+    void messageListenerCancelTest() throws Exception {
+        final String destination = "listener-cancel-test-dest";
+        final String factoryName = "custom-connection-factory-2";
+        List<String> testData = List.of("1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+
+        MessageProducer producer = session.createProducer(session.createQueue(destination));
+        for (String payload : testData) {
+            producer.send(session.createTextMessage(payload));
+        }
+        producer.close();
+
+        JmsConnector jmsConnector = JmsConnector.builder()
+                .connectionFactory(factoryName, connectionFactory)
+                .build();
+
+        Channel<String> fromJms = Channel.<String>builder()
+                .name("from-jms")
+                .publisherConfig(JmsConnector.configBuilder()
+                        .namedFactory(factoryName)
+                        .destination(destination)
+                        .type(Type.QUEUE)
+                        .messageListener(true)
+                        .build())
+                .build();
+
+        CountDownLatch cdl = new CountDownLatch(3);
+        List<String> result = new CopyOnWriteArrayList<>();
+
+        Messaging messaging = Messaging.builder()
+                .connector(jmsConnector)
+                .subscriber(fromJms, multi -> multi
+                        .limit(3)
+                        .forEach(message -> {
+                            result.add(String.valueOf(message.getPayload()));
+                            message.ack();
+                            cdl.countDown();
+                        }))
+                .build();
+        messaging.start();
+
+        assertTrue(cdl.await(2, TimeUnit.SECONDS));
+        // the listener waiting for demand when the channel was cancelled must not lose its message
+        Thread.sleep(500);
+        messaging.stop();
+
+        Connection connection = connectionFactory.createConnection();
+        try {
+            connection.start();
+            Session consumerSession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageConsumer consumer = consumerSession.createConsumer(consumerSession.createQueue(destination));
+            javax.jms.Message message;
+            while ((message = consumer.receive(2000)) != null) {
+                result.add(((TextMessage) message).getText());
+            }
+        } finally {
+            connection.close();
+        }
+        assertThat(result, containsInAnyOrder(testData.toArray()));
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class KafkaPublisherTest extends AbstractKafkaTest {
+
+    private static final String TEST_TOPIC_ORDER = "publisher-topic-order";
+    private static final String TEST_TOPIC_COMMIT = "publisher-topic-commit";
+    private static final String TEST_TOPIC_BUFFERED = "publisher-topic-buffered";
+    private static final long TIMEOUT_MILLIS = 20000;
+
+    @BeforeAll
+    static void prepareTopics() {
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_ORDER, 1, (short) 2);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_COMMIT, 2, (short) 2);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_BUFFERED, 1, (short) 2);
+        KAFKA_SERVER = kafkaResource.getKafkaConnectString();
+    }
+
+    @Test
+    void orderPerPartition() throws Exception {
+        List<String> testData = IntStream.range(0, 200).mapToObj(String::valueOf).collect(Collectors.toList());
+        produceInOrder(TEST_TOPIC_ORDER, testData);
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        KafkaPublisher<Long, String> publisher = publisher(TEST_TOPIC_ORDER, "group-order", scheduler, 1, 0);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        try {
+            publisher.subscribe(subscriber);
+            awaitUntil(() -> subscriber.messages.size() >= testData.size());
+            List<String> received = subscriber.messages.stream()
+                    .map(KafkaMessage::getPayload)
+                    .collect(Collectors.toList());
+            assertThat(received, is(testData));
+        } finally {
+            stop(publisher, scheduler);
+        }
+    }
+
+    @Test
+    void acknowledgedMessagesAreCommittedInBatches() throws Exception {
+        List<String> testData = IntStream.range(0, 50).mapToObj(String::valueOf).collect(Collectors.toList());
+        produceInOrder(TEST_TOPIC_COMMIT, testData);
+
+        String group = "group-commit";
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        KafkaPublisher<Long, String> publisher = publisher(TEST_TOPIC_COMMIT, group, scheduler, 7, 200);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        try {
+            publisher.subscribe(subscriber);
+            awaitUntil(() -> subscriber.messages.size() >= testData.size());
+            // acknowledgements complete once the offsets are committed
+            CompletableFuture.allOf(subscriber.messages.stream()
+                                            .map(message -> message.ack().toCompletableFuture())
+                                            .toArray(CompletableFuture[]::new))
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+            Map<TopicPartition, OffsetAndMetadata> committed = kafkaResource.getKafkaTestUtils().getAdminClient()
+                    .listConsumerGroupOffsets(group)
+                    .partitionsToOffsetAndMetadata()
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            long committedRecords = committed.values().stream().mapToLong(OffsetAndMetadata::offset).sum();
+            assertThat(committedRecords, is((long) testData.size()));
+        } finally {
+            stop(publisher, scheduler);
+        }
+    }
+
+    @Test
+    void commitsCompleteWhileRecordsAreBuffered() throws Exception {
+        List<String> testData = IntStream.range(0, 20).mapToObj(String::valueOf).collect(Collectors.toList());
+        produceInOrder(TEST_TOPIC_BUFFERED, testData);
+
+        TopicPartition partition = new TopicPartition(TEST_TOPIC_BUFFERED, 0);
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        KafkaPublisher<Long, String> publisher = publisher(TEST_TOPIC_BUFFERED, "group-buffered", scheduler, 1, 0);
+        // there is no more demand, the rest of the polled records stays in the buffer
+        TestSubscriber subscriber = new TestSubscriber(5);
+        try {
+            publisher.subscribe(subscriber);
+            awaitUntil(() -> subscriber.messages.size() == 5);
+            awaitUntil(() -> Long.valueOf(5).equals(publisher.inFlight().get(partition)));
+            awaitUntil(() -> publisher.lag().containsKey(partition));
+
+            CompletableFuture.allOf(subscriber.messages.stream()
+                                            .map(message -> message.ack().toCompletableFuture())
+                                            .toArray(CompletableFuture[]::new))
+                    .get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            awaitUntil(() -> Long.valueOf(0).equals(publisher.inFlight().get(partition)));
+            assertThat(subscriber.messages.size(), is(5));
+        } finally {
+            stop(publisher, scheduler);
+        }
+    }
+
+    private static KafkaPublisher<Long, String> publisher(String topic,
+                                                          String group,
+                                                          ScheduledExecutorService scheduler,
+                                                          int commitBatchSize,
+                                                          long commitIntervalMillis) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", KAFKA_SERVER);
+        config.put("group.id", group);
+        config.put("auto.offset.reset", "earliest");
+        config.put("enable.auto.commit", Boolean.toString(false));
+        config.put("key.deserializer", LongDeserializer.class.getName());
+        config.put("value.deserializer", StringDeserializer.class.getName());
+        return KafkaPublisher.<Long, String>builder()
+                .consumerSupplier(() -> new KafkaConsumer<>(config))
+                .topics(List.of(topic))
+                .scheduler(scheduler)
+                .autoCommit(false)
+                .pollTimeout(50)
+                .periodExecutions(100)
+                .ackTimeout(TIMEOUT_MILLIS)
+                .commitBatchSize(commitBatchSize)
+                .commitIntervalMillis(commitIntervalMillis)
+                .build();
+    }
+
+    private static void produceInOrder(String topic, List<String> testData) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", KAFKA_SERVER);
+        config.put("key.serializer", LongSerializer.class.getName());
+        config.put("value.serializer", StringSerializer.class.getName());
+        // retries must not reorder records of a partition
+        config.put("max.in.flight.requests.per.connection", "1");
+        try (Producer<Long, String> producer = new KafkaProducer<>(config)) {
+            testData.forEach(value -> producer.send(new ProducerRecord<>(topic, value)));
+            producer.flush();
+        }
+    }
+
+    private static void stop(KafkaPublisher<?, ?> publisher, ScheduledExecutorService scheduler) {
+        scheduler.shutdown();
+        publisher.stop();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(100);
+        }
+        assertTrue(condition.getAsBoolean(), "Timeout waiting for the condition");
+    }
+
+    private static final class TestSubscriber implements Subscriber<KafkaMessage<Long, String>> {
+
+        private final List<KafkaMessage<Long, String>> messages = new CopyOnWriteArrayList<>();
+        private final long requested;
+
+        private TestSubscriber(long requested) {
+            this.requested = requested;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(requested);
+        }
+
+        @Override
+        public void onNext(KafkaMessage<Long, String> message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,8 +32,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -47,6 +49,7 @@ import io.helidon.messaging.Messaging;
 import io.helidon.messaging.connectors.kafka.AbstractSampleBean.Channel6;
 import io.helidon.messaging.connectors.kafka.AbstractSampleBean.Channel8;
 
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.IntegerDeserializer;
 import org.apache.kafka.common.serialization.IntegerSerializer;
 import org.apache.kafka.common.serialization.LongDeserializer;
@@ -66,6 +69,7 @@ public class KafkaSeTest extends AbstractKafkaTest {
     private static final String TEST_SE_TOPIC_5 = "special-se-topic-4";
     private static final String TEST_SE_TOPIC_6 = "special-se-topic-6";
     private static final String TEST_SE_TOPIC_7 = "special-se-topic-7";
+    private static final String TEST_SE_TOPIC_8 = "special-se-topic-8";
     private static final String TEST_SE_TOPIC_PATTERN_34 = "special-se-topic-[3-4]";
 
 
@@ -78,6 +82,7 @@ public class KafkaSeTest extends AbstractKafkaTest {
         kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_5, 4, (short) 2);
         kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_6, 1, (short) 2);
         kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_7, 2, (short) 2);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_SE_TOPIC_8, 1, (short) 2);
         KAFKA_SERVER = kafkaResource.getKafkaConnectString();
     }
 
@@ -171,6 +176,54 @@ public class KafkaSeTest extends AbstractKafkaTest {
         }
     }
 
+    @Test
+    void channelInFlightAndLag() throws InterruptedException {
+        List<String> testData = IntStream.range(0, 10).mapToObj(String::valueOf).collect(Collectors.toList());
+        TopicPartition partition = new TopicPartition(TEST_SE_TOPIC_8, 0);
+        List<Message<String>> received = new CopyOnWriteArrayList<>();
+
+        Channel<String> fromKafka = Channel.<String>builder()
+                .name("from-kafka-statistics")
+                .publisherConfig(KafkaConnector.configBuilder()
+                        .bootstrapServers(KAFKA_SERVER)
+                        .groupId("test-group-statistics")
+                        .topic(TEST_SE_TOPIC_8)
+                        .autoOffsetReset(KafkaConfigBuilder.AutoOffsetReset.EARLIEST)
+                        .enableAutoCommit(false)
+                        .keyDeserializer(StringDeserializer.class)
+                        .valueDeserializer(StringDeserializer.class)
+                        .build()
+                )
+                .build();
+
+        KafkaConnector kafkaConnector = KafkaConnector.create();
+
+        Messaging messaging = Messaging.builder()
+                .connector(kafkaConnector)
+                .subscriber(fromKafka, ReactiveStreams.<Message<String>>builder().forEach(received::add))
+                .build();
+
+        try {
+            messaging.start();
+            Map<byte[], byte[]> rawTestData = testData.stream()
+                    .collect(Collectors.toMap(String::getBytes, String::getBytes));
+            kafkaResource.getKafkaTestUtils().produceRecords(rawTestData, TEST_SE_TOPIC_8, 0);
+
+            awaitUntil(() -> received.size() == testData.size());
+            // nothing is acknowledged yet
+            awaitUntil(() -> Long.valueOf(testData.size()).equals(kafkaConnector.inFlight("from-kafka-statistics")
+                                                                          .get(partition)));
+            awaitUntil(() -> kafkaConnector.lag("from-kafka-statistics").containsKey(partition));
+            assertThat(kafkaConnector.inFlight("unknown-channel").isEmpty(), is(true));
+
+            received.forEach(Message::ack);
+            awaitUntil(() -> Long.valueOf(0).equals(kafkaConnector.inFlight("from-kafka-statistics").get(partition)));
+        } finally {
+            messaging.stop();
+        }
+        assertThat(kafkaConnector.inFlight("from-kafka-statistics").isEmpty(), is(true));
+    }
+
     @Test
     void consumeKafkaMultipleTopics() throws InterruptedException {
         Set<String> testData1 = Set.of("0", "2", "3", "4", "5");
@@ -498,4 +551,12 @@ public class KafkaSeTest extends AbstractKafkaTest {
         List<String> messages = readTopic(TOPIC, uncommited, GROUP);
         assertEquals(uncommited, messages.size(), "Received messages are " + messages);
     }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + 20000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(100);
+        }
+        assertTrue(condition.getAsBoolean(), "Timeout waiting for the condition");
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.helidon.common.reactive.Multi;
+
+import com.salesforce.kafka.test.KafkaTestCluster;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * Throughput and acknowledgement latency of {@link KafkaSubscriber} against an embedded broker,
+ * sending each message on its own and in transactions.
+ * Not a test, run the {@code main} method.
+ */
+public class KafkaSubscriberBenchmark {
+
+    private static final String TOPIC = "benchmark";
+    private static final int MESSAGES = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        Properties brokerProperties = new Properties();
+        brokerProperties.setProperty("transaction.state.log.replication.factor", "1");
+        brokerProperties.setProperty("transaction.state.log.min.isr", "1");
+        try (KafkaTestCluster cluster = new KafkaTestCluster(1, brokerProperties)) {
+            cluster.start();
+            cluster.getKafkaTestUtils().createTopic(TOPIC, 4, (short) 1);
+            String servers = cluster.getKafkaConnectString();
+            // warm up
+            run(servers, 0, 0);
+            for (int batchSize : Arrays.asList(0, 100, 1000)) {
+                run(servers, batchSize, 5);
+            }
+        }
+    }
+
+    private static void run(String servers, int batchSize, long linger) throws InterruptedException {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", servers);
+        config.put("key.serializer", StringSerializer.class.getName());
+        config.put("value.serializer", StringSerializer.class.getName());
+        config.put("linger.ms", "5");
+        if (batchSize > 0) {
+            config.put("transactional.id", "benchmark-" + batchSize);
+        }
+        KafkaSubscriber<String, String> subscriber = KafkaSubscriber.<String, String>builder()
+                .producerSupplier(() -> new KafkaProducer<>(config))
+                .topics(Collections.singletonList(TOPIC))
+                .backpressure(1000)
+                .transactionBatchSize(batchSize)
+                .transactionLinger(linger)
+                .build();
+
+        long[] latencies = new long[MESSAGES];
+        CountDownLatch acked = new CountDownLatch(MESSAGES);
+        long start = System.nanoTime();
+        Multi.create(IntStream.range(0, MESSAGES).boxed())
+                .map(i -> {
+                    long created = System.nanoTime();
+                    return Message.of(String.valueOf(i), () -> {
+                        latencies[i] = System.nanoTime() - created;
+                        acked.countDown();
+                        return CompletableFuture.completedFuture(null);
+                    });
+                })
+                .subscribe(subscriber);
+        if (!acked.await(5, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Not all messages were acknowledged, missing " + acked.getCount());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        List<String> result = Arrays.asList(
+                batchSize == 0 ? "no transactions" : "transaction batch " + batchSize,
+                String.format("%.0f msgs/s", MESSAGES / (elapsed / 1_000_000_000.0)),
+                String.format("p99 ack %.2f ms", latencies[(int) (MESSAGES * 0.99)] / 1_000_000.0));
+        System.out.println(String.join(", ", result));
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.helidon.common.reactive.Multi;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.FlowAdapters;
+
+public class KafkaSubscriberTest extends AbstractKafkaTest {
+
+    private static final String TEST_TOPIC_TRANSACTION = "subscriber-topic-transaction";
+    private static final String TOPIC = "topic";
+    private static final long TIMEOUT_MILLIS = 20000;
+
+    @BeforeAll
+    static void prepareTopics() {
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_TRANSACTION, 2, (short) 2);
+        KAFKA_SERVER = kafkaResource.getKafkaConnectString();
+    }
+
+    @Test
+    void transactionalBatches() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", KAFKA_SERVER);
+        config.put("transactional.id", "subscriber-transaction");
+        config.put("key.serializer", LongSerializer.class.getName());
+        config.put("value.serializer", StringSerializer.class.getName());
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> new KafkaProducer<>(config))
+                .topics(List.of(TEST_TOPIC_TRANSACTION))
+                .transactionBatchSize(10)
+                .transactionLinger(200)
+                .build();
+        List<String> testData = IntStream.range(0, 25).mapToObj(String::valueOf).collect(Collectors.toList());
+        Map<String, Boolean> acked = new ConcurrentHashMap<>();
+
+        Multi.create(testData)
+                .map(value -> Message.of(value, () -> {
+                    acked.put(value, true);
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        awaitUntil(() -> acked.size() == testData.size());
+        assertThat(readCommitted(TEST_TOPIC_TRANSACTION, testData.size()), containsInAnyOrder(testData.toArray()));
+    }
+
+    @Test
+    void messagesAcknowledgedWhenTheirTransactionCommits() throws Exception {
+        Producer<Long, String> producer = mockProducer();
+        AtomicInteger commits = new AtomicInteger();
+        doAnswer(invocation -> commits.incrementAndGet()).when(producer).commitTransaction();
+        KafkaSubscriber<Long, String> subscriber = subscriber(producer, 10);
+        Map<Integer, Integer> commitsAtAck = new ConcurrentHashMap<>();
+
+        Multi.range(0, 25)
+                .map(i -> Message.of(String.valueOf(i), () -> {
+                    commitsAtAck.put(i, commits.get());
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        awaitUntil(() -> commitsAtAck.size() == 25);
+        commitsAtAck.forEach((i, commitsBeforeAck) -> assertThat("Commits before ack of message " + i,
+                                                                 commitsBeforeAck, is(i / 10 + 1)));
+        verify(producer, times(3)).beginTransaction();
+        verify(producer, times(3)).commitTransaction();
+    }
+
+    @Test
+    void messagesAcknowledgedOnSubscriberPool() throws Exception {
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(KafkaSubscriberTest::mockProducer)
+                .topics(List.of(TOPIC))
+                .build();
+        Map<Integer, String> ackThreads = new ConcurrentHashMap<>();
+
+        Multi.range(0, 5)
+                .map(i -> Message.of(String.valueOf(i), () -> {
+                    ackThreads.put(i, Thread.currentThread().getName());
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        awaitUntil(() -> ackThreads.size() == 5);
+        ackThreads.forEach((i, thread) -> assertThat("Thread of ack of message " + i,
+                                                     thread, startsWith("kafka-subscriber-")));
+    }
+
+    @Test
+    void failedTransactionIsRetried() throws Exception {
+        Producer<Long, String> producer = mockProducer();
+        doThrow(new KafkaException("Commit failed")).doNothing().when(producer).commitTransaction();
+        KafkaSubscriber<Long, String> subscriber = subscriber(producer, 5);
+        Map<Integer, Boolean> acked = new ConcurrentHashMap<>();
+
+        Multi.range(0, 5)
+                .map(i -> Message.of(String.valueOf(i), () -> {
+                    acked.put(i, true);
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        awaitUntil(() -> acked.size() == 5);
+        verify(producer).abortTransaction();
+        verify(producer, times(2)).beginTransaction();
+        verify(producer, times(2)).commitTransaction();
+        // all messages of the aborted transaction are sent again
+        verify(producer, times(10)).send(any(), any());
+    }
+
+    @Test
+    void failedTransactionIsNotAcknowledged() throws Exception {
+        Producer<Long, String> producer = mockProducer();
+        doThrow(new KafkaException("Commit failed")).when(producer).commitTransaction();
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TOPIC))
+                .transactionBatchSize(5)
+                .transactionRetries(2)
+                .build();
+        List<Integer> acked = new ArrayList<>();
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        Multi.range(0, 10)
+                .onCancel(cancelled::countDown)
+                .map(i -> Message.of(String.valueOf(i), () -> {
+                    acked.add(i);
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        assertThat(cancelled.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(true));
+        assertThat(acked, is(empty()));
+        verify(producer, times(3)).commitTransaction();
+        verify(producer, times(3)).abortTransaction();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Producer<Long, String> mockProducer() {
+        Producer<Long, String> producer = mock(Producer.class);
+        when(producer.send(any(), any())).thenAnswer(invocation -> {
+            invocation.<Callback>getArgument(1).onCompletion(null, null);
+            return CompletableFuture.completedFuture(null);
+        });
+        return producer;
+    }
+
+    private static KafkaSubscriber<Long, String> subscriber(Producer<Long, String> producer, int transactionBatchSize) {
+        return KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TOPIC))
+                .transactionBatchSize(transactionBatchSize)
+                .build();
+    }
+
+    private static List<String> readCommitted(String topic, int expected) {
+        List<String> events = new ArrayList<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", KAFKA_SERVER);
+        config.put("group.id", "read-committed");
+        config.put("auto.offset.reset", "earliest");
+        config.put("isolation.level", "read_committed");
+        config.put("key.deserializer", LongDeserializer.class.getName());
+        config.put("value.deserializer", StringDeserializer.class.getName());
+        try (Consumer<Long, String> consumer = new KafkaConsumer<>(config)) {
+            consumer.subscribe(List.of(topic));
+            long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (events.size() < expected && System.currentTimeMillis() < end) {
+                consumer.poll(Duration.ofSeconds(1)).forEach(record -> events.add(record.value()));
+            }
+        }
+        return events;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            Thread.sleep(100);
+        }
+        assertTrue(condition.getAsBoolean(), "Timeout waiting for the condition");
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.webclient.WebClientConnectionPool;
+import io.helidon.webclient.WebClientServiceRequest;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetadataBuilder;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricType;
+
+/**
+ * Gauges of active, idle and pending connections of the connection pool of each requested host.
+ * The name format gets two parameters: the state ({@code active}, {@code idle} or {@code pending}) and the hostname.
+ */
+class WebClientConnectionPoolGauges extends WebClientMetric {
+
+    private final Set<String> registeredHosts = ConcurrentHashMap.newKeySet();
+
+    WebClientConnectionPoolGauges(Builder builder) {
+        super(builder);
+    }
+
+    @Override
+    MetricType metricType() {
+        return MetricType.GAUGE;
+    }
+
+    @Override
+    public Single<WebClientServiceRequest> request(WebClientServiceRequest request) {
+        String host = request.uri().getHost();
+        if (registeredHosts.add(host)) {
+            register(host, "active", WebClientConnectionPool.Stats::active);
+            register(host, "idle", WebClientConnectionPool.Stats::idle);
+            register(host, "pending", WebClientConnectionPool.Stats::pending);
+        }
+        return Single.just(request);
+    }
+
+    private void register(String host, String state, ToIntFunction<WebClientConnectionPool.Stats> value) {
+        String name = String.format(nameFormat(), state, host);
+        if (metricRegistry().getGauges().containsKey(new MetricID(name))) {
+            // registered by another client
+            return;
+        }
+        MetadataBuilder builder = Metadata.builder().withName(name).withType(metricType());
+        if (description() != null) {
+            builder = builder.withDescription(description());
+        }
+        Gauge<Integer> gauge = () -> WebClientConnectionPool.stats()
+                .stream()
+                .filter(stats -> host.equals(stats.base().getHost()))
+                .mapToInt(value)
+                .sum();
+        metricRegistry().register(builder.build(), gauge);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,7 +37,11 @@ enum WebClientMetricType {
     /**
      * Client meter metric.
      */
-    METER(WebClientMeter::new);
+    METER(WebClientMeter::new),
+    /**
+     * Client connection pool gauges.
+     */
+    CONNECTION_POOL(WebClientConnectionPoolGauges::new);
 
     private final Function<WebClientMetric.Builder, WebClientMetric> function;
 
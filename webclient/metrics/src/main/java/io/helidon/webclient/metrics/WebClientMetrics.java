@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,6 +73,17 @@ public class WebClientMetrics implements WebClientService {
         return WebClientMetric.builder(WebClientMetricType.GAUGE_IN_PROGRESS);
     }
 
+    /**
+     * Creates new connection pool gauges client metric.
+     * Gauges of active, idle and pending connections are registered for each requested host.
+     * Name format gets the state ({@code active}, {@code idle} or {@code pending}) and the hostname.
+     *
+     * @return client metric builder
+     */
+    public static WebClientMetric.Builder connectionPool() {
+        return WebClientMetric.builder(WebClientMetricType.CONNECTION_POOL);
+    }
+
     /**
      * Creates new client metrics based on config.
      *
@@ -98,6 +109,8 @@ public class WebClientMetrics implements WebClientService {
             return timer().config(metricConfig).build();
         case "GAUGE_IN_PROGRESS":
             return gaugeInProgress().config(metricConfig).build();
+        case "CONNECTION_POOL":
+            return connectionPool().config(metricConfig).build();
         default:
             throw new WebClientException("Metrics type " + type + " is not supported through service loader");
         }
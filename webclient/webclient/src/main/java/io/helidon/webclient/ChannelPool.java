@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
+import static io.helidon.webclient.WebClientRequestBuilderImpl.RETURN;
+
+/**
+ * Pool of kept alive connections to a single host.
+ * <p>
+ * Idle connections are kept in a lock-free stack, so the most recently used connection is reused first and the least
+ * recently used connections are closed by the idle timeout. When the maximal number of connections is reached,
+ * requests wait in a queue and get the next returned connection (or a new one, if a connection is closed).
+ */
+final class ChannelPool implements WebClientConnectionPool.Stats {
+
+    private static final Logger LOGGER = Logger.getLogger(ChannelPool.class.getName());
+    private static final Map<WebClientRequestBuilderImpl.ConnectionIdent, ChannelPool> POOLS = new ConcurrentHashMap<>();
+    private static final AttributeKey<PooledChannel> POOLED_CHANNEL = AttributeKey.valueOf("pooledChannel");
+
+    private final WebClientRequestBuilderImpl.ConnectionIdent connectionIdent;
+    private final URI base;
+    private final int maxConnections;
+    private final long acquireTimeoutNanos;
+    private final long maxLifetimeNanos;
+    private final int prewarm;
+    private final ConcurrentLinkedDeque<PooledChannel> idle = new ConcurrentLinkedDeque<>();
+    private final Queue<Waiter> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean prewarmed = new AtomicBoolean();
+
+    private ChannelPool(WebClientRequestBuilderImpl.ConnectionIdent connectionIdent, WebClientConnectionPool config) {
+        this.connectionIdent = connectionIdent;
+        this.base = connectionIdent.base();
+        this.maxConnections = config.maxConnectionsPerHost();
+        this.acquireTimeoutNanos = config.acquireTimeout().toNanos();
+        this.maxLifetimeNanos = config.maxLifetime().toNanos();
+        this.prewarm = config.prewarm();
+    }
+
+    /**
+     * Obtain a connection for the request, either from the pool or a new one.
+     *
+     * @param configuration request configuration
+     * @param bootstrap     bootstrap to open new connections
+     * @return future completed with a connection ready to be used
+     */
+    static Future<Channel> acquire(RequestConfiguration configuration, Bootstrap bootstrap) {
+        WebClientRequestBuilderImpl.ConnectionIdent connectionIdent = new WebClientRequestBuilderImpl.ConnectionIdent(
+                configuration);
+        ChannelPool pool = POOLS.computeIfAbsent(connectionIdent,
+                                                 ident -> new ChannelPool(ident, configuration.connectionPool()));
+        return pool.acquire(bootstrap);
+    }
+
+    /**
+     * Return a connection to its pool, once the response was fully read.
+     *
+     * @param channel connection to return
+     */
+    static void release(Channel channel) {
+        PooledChannel pooled = channel.attr(POOLED_CHANNEL).get();
+        if (pooled != null) {
+            pooled.pool.release(pooled);
+        }
+    }
+
+    /**
+     * Remove a closed connection from its pool.
+     *
+     * @param channel closed connection
+     */
+    static void remove(Channel channel) {
+        PooledChannel pooled = channel.attr(POOLED_CHANNEL).get();
+        if (pooled != null) {
+            pooled.pool.remove(pooled);
+        }
+    }
+
+    static List<WebClientConnectionPool.Stats> pools() {
+        return new ArrayList<>(POOLS.values());
+    }
+
+    @Override
+    public URI base() {
+        return base;
+    }
+
+    @Override
+    public int active() {
+        return Math.max(0, total.get() - idleCount.get());
+    }
+
+    @Override
+    public int idle() {
+        return idleCount.get();
+    }
+
+    @Override
+    public int pending() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ChannelPool{"
+                + "connectionIdent=" + connectionIdent
+                + ", active=" + active()
+                + ", idle=" + idle()
+                + ", pending=" + pending()
+                + '}';
+    }
+
+    private Future<Channel> acquire(Bootstrap bootstrap) {
+        // listeners run on the thread completing the promise, so a new connection is set up for the request
+        // on its event loop before anything else (such as a failed TLS handshake) happens on it
+        Promise<Channel> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+
+        PooledChannel pooled = pollIdle();
+        if (pooled != null) {
+            LOGGER.finest(() -> "Reusing -> " + pooled.channel.hashCode());
+            promise.setSuccess(pooled.channel);
+        } else if (tryReserve()) {
+            LOGGER.finest(() -> "New connection to -> " + connectionIdent);
+            connect(bootstrap, promise);
+        } else {
+            LOGGER.finest(() -> "Waiting for a connection to -> " + connectionIdent);
+            Waiter waiter = new Waiter(bootstrap, promise);
+            pendingCount.incrementAndGet();
+            pending.add(waiter);
+            waiter.timeout = bootstrap.config()
+                    .group()
+                    .schedule(() -> timeout(waiter), acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+            // a connection may have been returned while we were enqueuing
+            drainPending();
+        }
+
+        if (prewarm > 1 && prewarmed.compareAndSet(false, true)) {
+            prewarm(bootstrap);
+        }
+        return promise;
+    }
+
+    private void prewarm(Bootstrap bootstrap) {
+        for (int i = total.get(); i < prewarm && tryReserve(); i++) {
+            Promise<Channel> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+            connect(bootstrap, promise);
+            promise.addListener(future -> {
+                if (future.isSuccess()) {
+                    release((Channel) future.getNow());
+                }
+            });
+        }
+    }
+
+    private void release(PooledChannel pooled) {
+        Channel channel = pooled.channel;
+        if (!channel.isActive() || isExpired(pooled, System.nanoTime())) {
+            LOGGER.finest(() -> "Closing expired connection -> " + channel.hashCode());
+            channel.close();
+            return;
+        }
+        Waiter waiter = pollWaiter();
+        if (waiter != null && waiter.promise.trySuccess(channel)) {
+            LOGGER.finest(() -> "Handing over connection -> " + channel.hashCode());
+            return;
+        }
+        LOGGER.finest(() -> "Returning connection to the pool -> " + channel.hashCode());
+        channel.attr(IN_USE).get().set(false);
+        idle.offerFirst(pooled);
+        idleCount.incrementAndGet();
+        drainPending();
+    }
+
+    private void remove(PooledChannel pooled) {
+        if (pooled.removed.compareAndSet(false, true)) {
+            LOGGER.finest(() -> "Removing from the pool -> " + pooled.channel.hashCode());
+            if (idle.remove(pooled)) {
+                idleCount.decrementAndGet();
+            }
+            total.decrementAndGet();
+            // a waiting request may now open a new connection
+            drainPending();
+        }
+    }
+
+    private void connect(Bootstrap bootstrap, Promise<Channel> promise) {
+        ChannelFuture connect = bootstrap.connect(base.getHost(), base.getPort());
+        Channel channel = connect.channel();
+        PooledChannel pooled = new PooledChannel(this, channel);
+        channel.attr(POOLED_CHANNEL).set(pooled);
+        channel.attr(IN_USE).set(new AtomicBoolean(true));
+        channel.attr(RETURN).set(new AtomicBoolean(false));
+        connect.addListener(future -> {
+            if (future.isSuccess()) {
+                promise.trySuccess(channel);
+            } else {
+                // a channel that never connected is not reported as inactive
+                remove(pooled);
+                promise.tryFailure(future.cause());
+            }
+        });
+    }
+
+    private PooledChannel pollIdle() {
+        PooledChannel pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            Channel channel = pooled.channel;
+            if (channel.isActive()
+                    && !isExpired(pooled, System.nanoTime())
+                    && channel.attr(IN_USE).get().compareAndSet(false, true)) {
+                return pooled;
+            }
+            // closed, too old, or just being closed by the idle timeout
+            channel.close();
+        }
+        return null;
+    }
+
+    private Waiter pollWaiter() {
+        Waiter waiter;
+        while ((waiter = pending.poll()) != null) {
+            if (waiter.claim()) {
+                pendingCount.decrementAndGet();
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    private void drainPending() {
+        while (pendingCount.get() > 0) {
+            PooledChannel pooled = pollIdle();
+            if (pooled == null && !tryReserve()) {
+                return;
+            }
+            Waiter waiter = pollWaiter();
+            if (waiter == null) {
+                // waiters timed out or were served by another thread
+                if (pooled == null) {
+                    total.decrementAndGet();
+                } else {
+                    pooled.channel.attr(IN_USE).get().set(false);
+                    idle.offerFirst(pooled);
+                    idleCount.incrementAndGet();
+                }
+                continue;
+            }
+            if (pooled == null) {
+                connect(waiter.bootstrap, waiter.promise);
+            } else if (!waiter.promise.trySuccess(pooled.channel)) {
+                release(pooled);
+            }
+        }
+    }
+
+    private void timeout(Waiter waiter) {
+        if (waiter.claim()) {
+            pendingCount.decrementAndGet();
+            pending.remove(waiter);
+            waiter.promise.tryFailure(new WebClientException("Timed out waiting for a connection to " + base
+                                                                     + ", maximal number of connections is "
+                                                                     + maxConnections));
+        }
+    }
+
+    private boolean tryReserve() {
+        int current;
+        do {
+            current = total.get();
+            if (current >= maxConnections) {
+                return false;
+            }
+        } while (!total.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean isExpired(PooledChannel pooled, long now) {
+        return maxLifetimeNanos > 0 && now - pooled.created >= maxLifetimeNanos;
+    }
+
+    private static final class PooledChannel {
+        private final ChannelPool pool;
+        private final Channel channel;
+        private final long created = System.nanoTime();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private PooledChannel(ChannelPool pool, Channel channel) {
+            this.pool = pool;
+            this.channel = channel;
+        }
+    }
+
+    private static final class Waiter {
+        private final Bootstrap bootstrap;
+        private final Promise<Channel> promise;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        private Waiter(Bootstrap bootstrap, Promise<Channel> promise) {
+            this.bootstrap = bootstrap;
+            this.promise = promise;
+        }
+
+        private boolean claim() {
+            if (claimed.compareAndSet(false, true)) {
+                ScheduledFuture<?> scheduled = timeout;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
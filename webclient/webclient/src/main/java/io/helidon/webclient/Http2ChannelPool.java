@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+
+/**
+ * HTTP/2 connections to a single host.
+ * <p>
+ * Each request is sent over a new stream of an existing connection. A new connection is opened only when all existing
+ * connections reached the maximal number of concurrent streams; requests arriving while a connection is being opened
+ * wait for it instead of opening connections of their own. If the server does not negotiate HTTP/2, requests to the
+ * host are sent using HTTP/1.1 and the {@link ChannelPool}.
+ */
+final class Http2ChannelPool {
+
+    private static final Logger LOGGER = Logger.getLogger(Http2ChannelPool.class.getName());
+    private static final Map<WebClientRequestBuilderImpl.ConnectionIdent, Http2ChannelPool> POOLS = new ConcurrentHashMap<>();
+    private static final int DEFAULT_WINDOW_SIZE = 65535;
+
+    private final WebClientRequestBuilderImpl.ConnectionIdent connectionIdent;
+    private final URI base;
+    private final int maxConcurrentStreams;
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    // guarded by this
+    private Promise<Connection> connecting;
+    private volatile boolean http1;
+
+    private Http2ChannelPool(WebClientRequestBuilderImpl.ConnectionIdent connectionIdent, WebClientHttp2 config) {
+        this.connectionIdent = connectionIdent;
+        this.base = connectionIdent.base();
+        this.maxConcurrentStreams = config.maxConcurrentStreams();
+    }
+
+    /**
+     * Open a new stream for the request, or a connection if the server does not support HTTP/2.
+     *
+     * @param configuration request configuration
+     * @param bootstrap     bootstrap to open new HTTP/1 connections
+     * @return future completed with a channel ready to be used
+     */
+    static Future<Channel> acquire(RequestConfiguration configuration, Bootstrap bootstrap) {
+        WebClientRequestBuilderImpl.ConnectionIdent connectionIdent = new WebClientRequestBuilderImpl.ConnectionIdent(
+                configuration);
+        Http2ChannelPool pool = POOLS.computeIfAbsent(connectionIdent,
+                                                      ident -> new Http2ChannelPool(ident, configuration.http2()));
+        Promise<Channel> promise = ImmediateEventExecutor.INSTANCE.newPromise();
+        pool.acquire(configuration, bootstrap, promise);
+        return promise;
+    }
+
+    @Override
+    public String toString() {
+        return "Http2ChannelPool{"
+                + "connectionIdent=" + connectionIdent
+                + ", connections=" + connections.size()
+                + ", http1=" + http1
+                + '}';
+    }
+
+    private void acquire(RequestConfiguration configuration, Bootstrap bootstrap, Promise<Channel> promise) {
+        if (http1) {
+            cascade(configuration.keepAlive()
+                            ? ChannelPool.acquire(configuration, bootstrap)
+                            : WebClientRequestBuilderImpl.connect(bootstrap, configuration.requestURI()),
+                    promise);
+            return;
+        }
+        Connection connection = reserve();
+        if (connection != null) {
+            connection.openStream(configuration, promise);
+            return;
+        }
+        Promise<Connection> pending;
+        boolean connect = false;
+        synchronized (this) {
+            // a connection may have been opened or released a stream meanwhile
+            connection = reserve();
+            if (connection == null) {
+                if (connecting == null) {
+                    connecting = ImmediateEventExecutor.INSTANCE.newPromise();
+                    connect = true;
+                }
+                pending = connecting;
+            } else {
+                pending = null;
+            }
+        }
+        if (connection != null) {
+            connection.openStream(configuration, promise);
+            return;
+        }
+        if (connect) {
+            LOGGER.finest(() -> "New HTTP/2 connection to -> " + connectionIdent);
+            connect(configuration, bootstrap, pending);
+        }
+        pending.addListener((FutureListener<Connection>) future -> {
+            if (future.isSuccess()) {
+                // try again, the new connection may already be full or the server may not support HTTP/2
+                acquire(configuration, bootstrap, promise);
+            } else {
+                promise.tryFailure(future.cause());
+            }
+        });
+    }
+
+    private Connection reserve() {
+        for (Connection connection : connections) {
+            if (connection.tryReserve()) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    private void connect(RequestConfiguration configuration, Bootstrap bootstrap, Promise<Connection> promise) {
+        Promise<String> protocol = ImmediateEventExecutor.INSTANCE.newPromise();
+        ChannelFuture connect = bootstrap.clone()
+                .handler(new NettyClientInitializer(configuration, protocol))
+                .connect(base.getHost(), base.getPort());
+        Channel channel = connect.channel();
+        connect.addListener(connectFuture -> {
+            if (!connectFuture.isSuccess()) {
+                connected(promise, connectFuture.cause(), null);
+                return;
+            }
+            protocol.addListener((FutureListener<String>) protocolFuture -> {
+                if (!protocolFuture.isSuccess()) {
+                    channel.close();
+                    connected(promise, protocolFuture.cause(), null);
+                } else if (ApplicationProtocolNames.HTTP_2.equals(protocolFuture.getNow())) {
+                    Connection connection = new Connection(channel, maxConcurrentStreams);
+                    connections.add(connection);
+                    channel.closeFuture().addListener(it -> connections.remove(connection));
+                    int windowIncrement = configuration.http2().connectionWindowSize() - DEFAULT_WINDOW_SIZE;
+                    if (windowIncrement > 0) {
+                        channel.writeAndFlush(new DefaultHttp2WindowUpdateFrame(windowIncrement));
+                    }
+                    connected(promise, null, connection);
+                } else {
+                    LOGGER.finest(() -> "HTTP/2 not supported by -> " + connectionIdent);
+                    http1 = true;
+                    channel.close();
+                    connected(promise, null, null);
+                }
+            });
+        });
+    }
+
+    private void connected(Promise<Connection> promise, Throwable cause, Connection connection) {
+        synchronized (this) {
+            if (connecting == promise) {
+                connecting = null;
+            }
+        }
+        if (cause == null) {
+            promise.trySuccess(connection);
+        } else {
+            promise.tryFailure(cause);
+        }
+    }
+
+    private static <T extends Channel> void cascade(Future<T> future, Promise<Channel> promise) {
+        future.addListener((FutureListener<T>) it -> {
+            if (it.isSuccess()) {
+                promise.trySuccess(it.getNow());
+            } else {
+                promise.tryFailure(it.cause());
+            }
+        });
+    }
+
+    private static final class Connection {
+
+        private final Channel channel;
+        private final Http2Connection http2Connection;
+        private final int maxConcurrentStreams;
+        private final AtomicInteger streams = new AtomicInteger();
+
+        private Connection(Channel channel, int maxConcurrentStreams) {
+            this.channel = channel;
+            this.http2Connection = channel.pipeline().get(Http2FrameCodec.class).connection();
+            this.maxConcurrentStreams = maxConcurrentStreams;
+        }
+
+        private boolean tryReserve() {
+            if (!channel.isActive() || http2Connection.goAwayReceived()) {
+                return false;
+            }
+            // the limit announced by the server may change with each settings frame
+            int limit = Math.min(maxConcurrentStreams, http2Connection.local().maxActiveStreams());
+            int current;
+            do {
+                current = streams.get();
+                if (current >= limit) {
+                    return false;
+                }
+            } while (!streams.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void openStream(RequestConfiguration configuration, Promise<Channel> promise) {
+            new Http2StreamChannelBootstrap(channel)
+                    .handler(new NettyClientInitializer.StreamInitializer(configuration))
+                    .open()
+                    .addListener((FutureListener<Http2StreamChannel>) future -> {
+                        if (future.isSuccess()) {
+                            Http2StreamChannel stream = future.getNow();
+                            LOGGER.finest(() -> "New stream of -> " + channel.hashCode());
+                            stream.closeFuture().addListener(it -> streams.decrementAndGet());
+                            promise.trySuccess(stream);
+                        } else {
+                            streams.decrementAndGet();
+                            promise.tryFailure(future.cause());
+                        }
+                    });
+        }
+    }
+}
@@ -43,10 +43,10 @@ import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.util.AttributeKey;
 
 import static io.helidon.webclient.WebClientRequestBuilderImpl.COMPLETED;
-import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.RECEIVED;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.REQUEST;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.REQUEST_ID;
@@ -87,10 +87,10 @@ class NettyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             channel.read();
         }
         if (channel.hasAttr(RETURN) && channel.attr(RETURN).get().compareAndSet(true, false)) {
-            LOGGER.finest(() -> "(client reqID: " + requestId + ") Returning channel " + channel.hashCode() + " to the cache");
-            channel.attr(IN_USE).get().set(false);
+            LOGGER.finest(() -> "(client reqID: " + requestId + ") Returning channel " + channel.hashCode() + " to the pool");
             responseCloser.cf.complete(null);
             publisher.complete();
+            ChannelPool.release(channel);
         }
     }
 
@@ -111,7 +111,7 @@ class NettyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
             responseBuilder.contentPublisher(publisher)
                     .readerContext(requestConfiguration.readerContext())
                     .status(helidonStatus(response.status()))
-                    .httpVersion(Http.Version.create(response.protocolVersion().toString()))
+                    .httpVersion(httpVersion(channel, response))
                     .responseCloser(responseCloser)
                     .lastEndpointURI(requestConfiguration.requestURI());
 
@@ -232,7 +232,10 @@ class NettyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
         CompletableFuture<WebClientResponse> responseFuture = ctx.channel().attr(RESULT).get();
-        if (responseFuture.isDone()) {
+        if (responseFuture == null) {
+            // failure of a pooled connection that was not used yet
+            LOGGER.log(Level.FINEST, "Unused connection failed", cause);
+        } else if (responseFuture.isDone()) {
             // we failed during entity processing
             publisher.fail(cause);
         } else {
@@ -242,6 +245,14 @@ class NettyClientHandler extends SimpleChannelInboundHandler<HttpObject> {
         ctx.close();
     }
 
+    private static Http.Version httpVersion(Channel channel, HttpResponse response) {
+        if (channel instanceof Http2StreamChannel) {
+            // stream frames are converted to HTTP/1.1 objects
+            return Http.Version.V2_0;
+        }
+        return Http.Version.create(response.protocolVersion().toString());
+    }
+
     private Http.ResponseStatus helidonStatus(HttpResponseStatus nettyStatus) {
         final int statusCode = nettyStatus.code();
 
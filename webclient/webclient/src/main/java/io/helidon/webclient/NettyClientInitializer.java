@@ -25,22 +25,32 @@ import javax.net.ssl.SSLParameters;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.proxy.ProxyHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
 
-import static io.helidon.webclient.WebClientRequestBuilderImpl.CONNECTION_IDENT;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.RESULT;
 
@@ -49,15 +59,31 @@ import static io.helidon.webclient.WebClientRequestBuilderImpl.RESULT;
  */
 class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
 
+    private static final ChannelHandler PUSH_REJECTING_HANDLER = new PushRejectingHandler();
+
     private final RequestConfiguration configuration;
+    private final Promise<String> protocol;
 
     /**
-     * Creates new instance.
+     * Creates new instance of an HTTP/1 connection initializer.
      *
      * @param configuration request configuration
      */
     NettyClientInitializer(RequestConfiguration configuration) {
         this.configuration = configuration;
+        this.protocol = null;
+    }
+
+    /**
+     * Creates new instance of an HTTP/2 connection initializer.
+     * Requests are not sent over the connection itself, but over its {@link Http2StreamChannel streams}.
+     *
+     * @param configuration request configuration
+     * @param protocol      completed with the negotiated application protocol, once known
+     */
+    NettyClientInitializer(RequestConfiguration configuration, Promise<String> protocol) {
+        this.configuration = configuration;
+        this.protocol = protocol;
     }
 
     @Override
@@ -65,10 +91,14 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
         ChannelPipeline pipeline = channel.pipeline();
 
         URI address = configuration.requestURI();
+        boolean http2 = protocol != null;
 
-        // read timeout (we also want to timeout waiting on a proxy)
-        Duration readTimeout = configuration.readTimout();
-        pipeline.addLast("readTimeout", new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        if (!http2) {
+            // read timeout (we also want to timeout waiting on a proxy)
+            // streams of HTTP/2 connections time out on their own, as the connection is shared
+            Duration readTimeout = configuration.readTimout();
+            pipeline.addLast("readTimeout", new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
 
         // proxy configuration
         configuration.proxy()
@@ -81,7 +111,7 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
 
         // TLS configuration
         if (address.toString().startsWith("https")) {
-            configuration.sslContext().ifPresent(ctx -> {
+            configuration.sslContext(http2).ifPresent(ctx -> {
                 SslHandler sslHandler = ctx.newHandler(channel.alloc(), address.getHost(), address.getPort());
 
                 //This is how to enable hostname verification in netty
@@ -97,7 +127,12 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
                     //Check if ssl handshake has been successful. Without this check will this exception be replaced by
                     //netty and therefore it will be lost.
                     if (channelFuture.cause() != null) {
-                        channel.attr(RESULT).get().completeExceptionally(channelFuture.cause());
+                        if (channel.hasAttr(RESULT)) {
+                            channel.attr(RESULT).get().completeExceptionally(channelFuture.cause());
+                        }
+                        if (http2) {
+                            protocol.tryFailure(channelFuture.cause());
+                        }
                         channel.close();
                     }
                 });
@@ -105,11 +140,112 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
         }
 
         pipeline.addLast("logger", new LoggingHandler(ClientNettyLog.class, LogLevel.TRACE));
-        pipeline.addLast("httpCodec", new HttpClientCodec());
-        pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
-        pipeline.addLast("idleStateHandler", new IdleStateHandler(0, 0, 50));
-        pipeline.addLast("idleConnectionHandler", new IdleConnectionHandler());
-        pipeline.addLast("helidonHandler", new NettyClientHandler());
+        if (!http2) {
+            pipeline.addLast("httpCodec", new HttpClientCodec());
+            pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
+            pipeline.addLast("idleStateHandler", new IdleStateHandler(0,
+                                                                      0,
+                                                                      configuration.connectionPool().idleTimeout().toMillis(),
+                                                                      TimeUnit.MILLISECONDS));
+            pipeline.addLast("idleConnectionHandler", new IdleConnectionHandler());
+            pipeline.addLast("helidonHandler", new NettyClientHandler());
+        } else if (pipeline.get("ssl") != null) {
+            pipeline.addLast("alpn", new AlpnHandler());
+        } else {
+            // cleartext HTTP/2 with prior knowledge
+            addHttp2(pipeline);
+            protocol.trySuccess(ApplicationProtocolNames.HTTP_2);
+        }
+    }
+
+    private void addHttp2(ChannelPipeline pipeline) {
+        WebClientHttp2 http2 = configuration.http2();
+        Http2Settings settings = Http2Settings.defaultSettings()
+                .pushEnabled(false)
+                .initialWindowSize(http2.initialWindowSize())
+                .maxFrameSize(http2.maxFrameSize())
+                .maxHeaderListSize(http2.maxHeaderListSize());
+
+        // idle state handlers must see the connection traffic, which does not pass beyond the multiplex handler
+        pipeline.addLast("idleStateHandler", new IdleStateHandler(0,
+                                                                  0,
+                                                                  configuration.connectionPool().idleTimeout().toMillis(),
+                                                                  TimeUnit.MILLISECONDS));
+        pipeline.addLast("idleConnectionHandler", new Http2IdleConnectionHandler());
+        pipeline.addLast("http2Codec", Http2FrameCodecBuilder.forClient()
+                .initialSettings(settings)
+                .validateHeaders(configuration.validateHeaders())
+                .build());
+        pipeline.addLast("http2Multiplex", new Http2MultiplexHandler(PUSH_REJECTING_HANDLER));
+    }
+
+    /**
+     * Initializer of a single HTTP/2 stream, which is used to send one request.
+     * Stream frames are converted to HTTP/1 objects, so the rest of the pipeline is shared with HTTP/1 connections.
+     */
+    static final class StreamInitializer extends ChannelInitializer<Channel> {
+
+        private final RequestConfiguration configuration;
+
+        StreamInitializer(RequestConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        protected void initChannel(Channel channel) {
+            ChannelPipeline pipeline = channel.pipeline();
+            Duration readTimeout = configuration.readTimout();
+            pipeline.addLast("readTimeout", new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            pipeline.addLast("httpCodec", new Http2StreamFrameToHttpObjectCodec(false, configuration.validateHeaders()));
+            pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
+            pipeline.addLast("helidonHandler", new NettyClientHandler());
+        }
+    }
+
+    private final class AlpnHandler extends ApplicationProtocolNegotiationHandler {
+
+        private AlpnHandler() {
+            super(ApplicationProtocolNames.HTTP_1_1);
+        }
+
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String negotiated) {
+            if (ApplicationProtocolNames.HTTP_2.equals(negotiated)) {
+                addHttp2(ctx.pipeline());
+            }
+            // connections which did not negotiate HTTP/2 are closed by the pool
+            protocol.trySuccess(negotiated);
+        }
+
+        @Override
+        protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
+            // already reported by the handshake listener
+            ctx.close();
+        }
+    }
+
+    private static class Http2IdleConnectionHandler extends ChannelDuplexHandler {
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                Http2FrameCodec codec = ctx.pipeline().get(Http2FrameCodec.class);
+                if (codec != null && codec.connection().numActiveStreams() == 0) {
+                    ctx.close();
+                }
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    // push is disabled in settings, a server must not open any stream
+    @ChannelHandler.Sharable
+    private static final class PushRejectingHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            ctx.close();
+        }
     }
 
     private static class IdleConnectionHandler extends ChannelDuplexHandler {
@@ -129,14 +265,9 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
 
         @Override
         public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-            if (ctx.channel().hasAttr(CONNECTION_IDENT)) {
-                Channel channel = ctx.channel();
-                WebClientRequestBuilderImpl.ConnectionIdent key = channel.attr(CONNECTION_IDENT).get();
-                LOGGER.finest(() -> "Channel closed -> " + channel.hashCode());
-                if (key != null) {
-                    WebClientRequestBuilderImpl.removeChannelFromCache(key, channel);
-                }
-            }
+            Channel channel = ctx.channel();
+            LOGGER.finest(() -> "Channel closed -> " + channel.hashCode());
+            ChannelPool.remove(channel);
             super.channelInactive(ctx);
         }
     }
@@ -287,6 +287,28 @@ public interface WebClient {
             return this;
         }
 
+        /**
+         * Sets configuration of the pool of kept alive connections.
+         *
+         * @param connectionPool connection pool configuration
+         * @return updated builder instance
+         */
+        public Builder connectionPool(WebClientConnectionPool connectionPool) {
+            configuration.connectionPool(connectionPool);
+            return this;
+        }
+
+        /**
+         * Sets configuration of HTTP/2.
+         *
+         * @param http2 HTTP/2 configuration
+         * @return updated builder instance
+         */
+        public Builder http2(WebClientHttp2 http2) {
+            configuration.http2(http2);
+            return this;
+        }
+
         /**
          * Sets specific context which should be used in requests.
          *
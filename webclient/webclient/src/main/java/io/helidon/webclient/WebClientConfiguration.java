@@ -49,6 +49,8 @@ import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.common.ParentingMediaContextBuilder;
 import io.helidon.webclient.spi.WebClientService;
 
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
@@ -62,6 +64,13 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  */
 class WebClientConfiguration {
 
+    private static final ApplicationProtocolConfig ALPN_HTTP2 = new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2,
+            ApplicationProtocolNames.HTTP_1_1);
+
     private final WebClientRequestHeaders clientHeaders;
     private final WebClientCookieManager cookieManager;
     private final CookiePolicy cookiePolicy;
@@ -79,6 +88,8 @@ class WebClientConfiguration {
     private final MessageBodyReaderContext readerContext;
     private final MessageBodyWriterContext writerContext;
     private final WebClientTls webClientTls;
+    private final WebClientConnectionPool connectionPool;
+    private final WebClientHttp2 http2;
     private final URI uri;
     private final boolean validateHeaders;
 
@@ -94,6 +105,8 @@ class WebClientConfiguration {
         this.userAgent = builder.userAgent;
         this.proxy = builder.proxy;
         this.webClientTls = builder.webClientTls;
+        this.connectionPool = builder.connectionPool;
+        this.http2 = builder.http2;
         this.maxRedirects = builder.maxRedirects;
         this.clientHeaders = builder.clientHeaders;
         this.cookiePolicy = builder.cookiePolicy;
@@ -131,14 +144,26 @@ class WebClientConfiguration {
     }
 
     Optional<SslContext> sslContext() {
+        return sslContext(false);
+    }
+
+    /**
+     * Creates SSL context, optionally negotiating HTTP/2 using ALPN.
+     *
+     * @param http2 whether to offer HTTP/2 to the server
+     * @return ssl context
+     */
+    Optional<SslContext> sslContext(boolean http2) {
+        ApplicationProtocolConfig protocolConfig = http2 ? ALPN_HTTP2 : null;
         SslContext sslContext;
         try {
             if (webClientTls.sslContext().isPresent()) {
-                sslContext = nettySslFromJavaNet(webClientTls.sslContext().get());
+                sslContext = nettySslFromJavaNet(webClientTls.sslContext().get(), protocolConfig);
             } else {
                 SslContextBuilder sslContextBuilder = SslContextBuilder
                         .forClient()
-                        .sslProvider(SslProvider.JDK);
+                        .sslProvider(SslProvider.JDK)
+                        .applicationProtocolConfig(protocolConfig);
                 if (webClientTls.certificates().size() > 0) {
                     sslContextBuilder.trustManager(webClientTls.certificates().toArray(new X509Certificate[0]));
                 }
@@ -162,11 +187,11 @@ class WebClientConfiguration {
         return Optional.of(sslContext);
     }
 
-    private SslContext nettySslFromJavaNet(SSLContext javaNetContext) {
+    private SslContext nettySslFromJavaNet(SSLContext javaNetContext, ApplicationProtocolConfig protocolConfig) {
         Set<String> allowedCipherSuite = webClientTls.allowedCipherSuite();
         return new JdkSslContext(
                 javaNetContext, true, allowedCipherSuite.isEmpty() ? null : allowedCipherSuite,
-                IdentityCipherSuiteFilter.INSTANCE, null,
+                IdentityCipherSuiteFilter.INSTANCE, protocolConfig,
                 ClientAuth.OPTIONAL, null, false);
     }
 
@@ -274,6 +299,24 @@ class WebClientConfiguration {
         return keepAlive;
     }
 
+    /**
+     * Returns configuration of the connection pool.
+     *
+     * @return connection pool configuration
+     */
+    WebClientConnectionPool connectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Returns configuration of HTTP/2.
+     *
+     * @return HTTP/2 configuration
+     */
+    WebClientHttp2 http2() {
+        return http2;
+    }
+
     boolean validateHeaders() {
         return validateHeaders;
     }
@@ -302,6 +345,8 @@ class WebClientConfiguration {
         private boolean enableAutomaticCookieStore;
         private boolean keepAlive;
         private WebClientTls webClientTls;
+        private WebClientConnectionPool connectionPool = WebClientConnectionPool.builder().build();
+        private WebClientHttp2 http2 = WebClientHttp2.builder().build();
         private URI uri;
         private MessageBodyReaderContext readerContext;
         private MessageBodyWriterContext writerContext;
@@ -401,6 +446,28 @@ class WebClientConfiguration {
             return me;
         }
 
+        /**
+         * New connection pool configuration.
+         *
+         * @param connectionPool connection pool configuration
+         * @return updated builder instance
+         */
+        public B connectionPool(WebClientConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return me;
+        }
+
+        /**
+         * New HTTP/2 configuration.
+         *
+         * @param http2 HTTP/2 configuration
+         * @return updated builder instance
+         */
+        public B http2(WebClientHttp2 http2) {
+            this.http2 = http2;
+            return me;
+        }
+
         /**
          * Sets max number of followed redirects.
          *
@@ -628,6 +695,14 @@ class WebClientConfiguration {
          *     <td>proxy</td>
          *     <td>Proxy configuration. See {@link Proxy.Builder#config(Config)}</td>
          * </tr>
+         * <tr>
+         *     <td>connection-pool</td>
+         *     <td>Connection pool configuration. See {@link WebClientConnectionPool.Builder#config(Config)}</td>
+         * </tr>
+         * <tr>
+         *     <td>http2</td>
+         *     <td>HTTP/2 configuration. See {@link WebClientHttp2.Builder#config(Config)}</td>
+         * </tr>
          * </table>
          *
          * @param config config
@@ -653,6 +728,12 @@ class WebClientConfiguration {
                     .as(Proxy.builder()::config)
                     .map(Proxy.Builder::build)
                     .ifPresent(this::proxy);
+            config.get("connection-pool")
+                    .as(WebClientConnectionPool::create)
+                    .ifPresent(this::connectionPool);
+            config.get("http2")
+                    .as(WebClientHttp2::create)
+                    .ifPresent(this::http2);
             config.get("media-support").as(MediaContext::create).ifPresent(this::mediaContext);
             return me;
         }
@@ -670,6 +751,8 @@ class WebClientConfiguration {
             userAgent(configuration.userAgent);
             proxy(configuration.proxy);
             tls(configuration.webClientTls);
+            connectionPool(configuration.connectionPool);
+            http2(configuration.http2);
             maxRedirects(configuration.maxRedirects);
             clientHeaders(configuration.clientHeaders);
             enableAutomaticCookieStore(configuration.enableAutomaticCookieStore);
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import io.helidon.config.Config;
+
+/**
+ * Configuration of the pool of kept alive connections.
+ * <p>
+ * A separate pool is maintained for each combination of host, port, proxy, TLS and timeout configuration. Connections
+ * are only pooled when keep alive is enabled.
+ */
+public final class WebClientConnectionPool {
+
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = Integer.MAX_VALUE;
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(50);
+
+    private final int maxConnectionsPerHost;
+    private final Duration acquireTimeout;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+    private final int prewarm;
+
+    private WebClientConnectionPool(Builder builder) {
+        this.maxConnectionsPerHost = builder.maxConnectionsPerHost;
+        this.acquireTimeout = builder.acquireTimeout;
+        this.idleTimeout = builder.idleTimeout;
+        this.maxLifetime = builder.maxLifetime;
+        this.prewarm = builder.prewarm;
+    }
+
+    /**
+     * Fluent API builder for new instances.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the connection pool
+     * @return a new instance
+     * @see Builder#config(Config)
+     */
+    public static WebClientConnectionPool create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Statistics of all connection pools created so far.
+     * Returned statistics are live views, their values change as connections are used.
+     *
+     * @return statistics of each pool
+     */
+    public static List<Stats> stats() {
+        return ChannelPool.pools();
+    }
+
+    /**
+     * Maximal number of open connections to a single host.
+     *
+     * @return maximal number of connections
+     */
+    int maxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * How long to wait for a connection when the maximal number of connections is reached.
+     *
+     * @return acquire timeout
+     */
+    Duration acquireTimeout() {
+        return acquireTimeout;
+    }
+
+    /**
+     * How long an unused connection stays in the pool.
+     *
+     * @return idle timeout
+     */
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * How long a connection may be reused since it was opened, {@link Duration#ZERO} for unlimited.
+     *
+     * @return maximal lifetime of a connection
+     */
+    Duration maxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * Number of connections to open when the first connection to a host is requested.
+     *
+     * @return number of connections to open in advance
+     */
+    int prewarm() {
+        return prewarm;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebClientConnectionPool that = (WebClientConnectionPool) o;
+        return maxConnectionsPerHost == that.maxConnectionsPerHost
+                && prewarm == that.prewarm
+                && acquireTimeout.equals(that.acquireTimeout)
+                && idleTimeout.equals(that.idleTimeout)
+                && maxLifetime.equals(that.maxLifetime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxConnectionsPerHost, acquireTimeout, idleTimeout, maxLifetime, prewarm);
+    }
+
+    @Override
+    public String toString() {
+        return "WebClientConnectionPool{"
+                + "maxConnectionsPerHost=" + maxConnectionsPerHost
+                + ", acquireTimeout=" + acquireTimeout
+                + ", idleTimeout=" + idleTimeout
+                + ", maxLifetime=" + maxLifetime
+                + ", prewarm=" + prewarm
+                + '}';
+    }
+
+    /**
+     * Statistics of a connection pool of a single host.
+     */
+    public interface Stats {
+        /**
+         * Base URI of the pooled connections (scheme, host and port).
+         *
+         * @return base URI
+         */
+        URI base();
+
+        /**
+         * Number of connections currently used by requests, including connections being opened.
+         *
+         * @return number of active connections
+         */
+        int active();
+
+        /**
+         * Number of open connections waiting in the pool.
+         *
+         * @return number of idle connections
+         */
+        int idle();
+
+        /**
+         * Number of requests waiting for a connection, because the maximal number of connections was reached.
+         *
+         * @return number of pending requests
+         */
+        int pending();
+    }
+
+    /**
+     * Fluent API builder for {@link WebClientConnectionPool} instance.
+     */
+    public static final class Builder implements io.helidon.common.Builder<WebClientConnectionPool> {
+
+        private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+        private Duration acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+        private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private Duration maxLifetime = Duration.ZERO;
+        private int prewarm = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximal number of open connections to a single host.
+         * When reached, requests wait for a connection to be returned to the pool.
+         * Unlimited by default.
+         *
+         * @param maxConnectionsPerHost maximal number of connections
+         * @return updated builder instance
+         */
+        public Builder maxConnectionsPerHost(int maxConnectionsPerHost) {
+            if (maxConnectionsPerHost < 1) {
+                throw new IllegalArgumentException("Maximal number of connections must be positive, but is "
+                                                           + maxConnectionsPerHost);
+            }
+            this.maxConnectionsPerHost = maxConnectionsPerHost;
+            return this;
+        }
+
+        /**
+         * How long a request waits for a connection when the maximal number of connections is reached.
+         * The request fails with {@link WebClientException} when the timeout elapses.
+         * Defaults to 30 seconds.
+         *
+         * @param acquireTimeout acquire timeout
+         * @return updated builder instance
+         */
+        public Builder acquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = Objects.requireNonNull(acquireTimeout);
+            return this;
+        }
+
+        /**
+         * How long an unused connection stays open in the pool.
+         * Defaults to 50 seconds.
+         *
+         * @param idleTimeout idle timeout
+         * @return updated builder instance
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = Objects.requireNonNull(idleTimeout);
+            return this;
+        }
+
+        /**
+         * How long a connection may be reused since it was opened.
+         * Connections older than this are closed instead of being returned to the pool.
+         * Unlimited by default.
+         *
+         * @param maxLifetime maximal lifetime of a connection, {@link Duration#ZERO} for unlimited
+         * @return updated builder instance
+         */
+        public Builder maxLifetime(Duration maxLifetime) {
+            this.maxLifetime = Objects.requireNonNull(maxLifetime);
+            return this;
+        }
+
+        /**
+         * Number of connections to open in advance when the first connection to a host is requested.
+         * Defaults to {@code 0}.
+         *
+         * @param prewarm number of connections to open in advance
+         * @return updated builder instance
+         */
+        public Builder prewarm(int prewarm) {
+            this.prewarm = prewarm;
+            return this;
+        }
+
+        /**
+         * Configure the connection pool from configuration.
+         * <table>
+         * <caption>Connection pool configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>max-connections-per-host</td>
+         *     <td>{@code unlimited}</td>
+         *     <td>Maximal number of open connections to a single host</td>
+         * </tr>
+         * <tr>
+         *     <td>acquire-timeout-millis</td>
+         *     <td>{@code 30000}</td>
+         *     <td>How long a request waits for a connection when the maximal number of connections is reached</td>
+         * </tr>
+         * <tr>
+         *     <td>idle-timeout-millis</td>
+         *     <td>{@code 50000}</td>
+         *     <td>How long an unused connection stays open in the pool</td>
+         * </tr>
+         * <tr>
+         *     <td>max-lifetime-millis</td>
+         *     <td>{@code unlimited}</td>
+         *     <td>How long a connection may be reused since it was opened</td>
+         * </tr>
+         * <tr>
+         *     <td>prewarm</td>
+         *     <td>{@code 0}</td>
+         *     <td>Number of connections to open in advance when the first connection to a host is requested</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the connection pool
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("max-connections-per-host").asInt().ifPresent(this::maxConnectionsPerHost);
+            config.get("acquire-timeout-millis").asLong().ifPresent(millis -> acquireTimeout(Duration.ofMillis(millis)));
+            config.get("idle-timeout-millis").asLong().ifPresent(millis -> idleTimeout(Duration.ofMillis(millis)));
+            config.get("max-lifetime-millis").asLong().ifPresent(millis -> maxLifetime(Duration.ofMillis(millis)));
+            config.get("prewarm").asInt().ifPresent(this::prewarm);
+            return this;
+        }
+
+        @Override
+        public WebClientConnectionPool build() {
+            return new WebClientConnectionPool(this);
+        }
+    }
+}
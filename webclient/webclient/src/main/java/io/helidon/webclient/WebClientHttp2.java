@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.util.Objects;
+
+import io.helidon.config.Config;
+
+/**
+ * Configuration of HTTP/2 support.
+ * <p>
+ * When enabled, {@code https} requests negotiate the protocol using ALPN and fall back to HTTP/1.1 if the server does
+ * not support HTTP/2. Cleartext {@code http} requests use HTTP/2 with prior knowledge ({@code h2c}), so the server must
+ * support it. Concurrent requests to the same host are sent as streams of a single connection; a new connection is only
+ * opened when all streams of existing connections are in use.
+ */
+public final class WebClientHttp2 {
+
+    private static final int DEFAULT_WINDOW_SIZE = 65535;
+    private static final int DEFAULT_MAX_FRAME_SIZE = 16384;
+    private static final int DEFAULT_MAX_HEADER_LIST_SIZE = 8192;
+    private static final int MIN_MAX_FRAME_SIZE = 16384;
+    private static final int MAX_MAX_FRAME_SIZE = 16777215;
+
+    private final boolean enabled;
+    private final int initialWindowSize;
+    private final int connectionWindowSize;
+    private final int maxFrameSize;
+    private final int maxHeaderListSize;
+    private final int maxConcurrentStreams;
+
+    private WebClientHttp2(Builder builder) {
+        this.enabled = builder.enabled;
+        this.initialWindowSize = builder.initialWindowSize;
+        this.connectionWindowSize = builder.connectionWindowSize;
+        this.maxFrameSize = builder.maxFrameSize;
+        this.maxHeaderListSize = builder.maxHeaderListSize;
+        this.maxConcurrentStreams = builder.maxConcurrentStreams;
+    }
+
+    /**
+     * Fluent API builder for new instances.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of HTTP/2
+     * @return a new instance
+     * @see Builder#config(Config)
+     */
+    public static WebClientHttp2 create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Whether HTTP/2 is used.
+     *
+     * @return whether HTTP/2 is enabled
+     */
+    boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Initial flow control window of each stream.
+     *
+     * @return stream window size in bytes
+     */
+    int initialWindowSize() {
+        return initialWindowSize;
+    }
+
+    /**
+     * Flow control window of the whole connection.
+     *
+     * @return connection window size in bytes
+     */
+    int connectionWindowSize() {
+        return connectionWindowSize;
+    }
+
+    /**
+     * Largest frame the server may send.
+     *
+     * @return maximal frame size in bytes
+     */
+    int maxFrameSize() {
+        return maxFrameSize;
+    }
+
+    /**
+     * Largest header list the server may send.
+     *
+     * @return maximal header list size in bytes
+     */
+    int maxHeaderListSize() {
+        return maxHeaderListSize;
+    }
+
+    /**
+     * Maximal number of concurrent streams opened on a single connection.
+     * The limit announced by the server applies as well.
+     *
+     * @return maximal number of concurrent streams
+     */
+    int maxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebClientHttp2 that = (WebClientHttp2) o;
+        return enabled == that.enabled
+                && initialWindowSize == that.initialWindowSize
+                && connectionWindowSize == that.connectionWindowSize
+                && maxFrameSize == that.maxFrameSize
+                && maxHeaderListSize == that.maxHeaderListSize
+                && maxConcurrentStreams == that.maxConcurrentStreams;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled,
+                            initialWindowSize,
+                            connectionWindowSize,
+                            maxFrameSize,
+                            maxHeaderListSize,
+                            maxConcurrentStreams);
+    }
+
+    @Override
+    public String toString() {
+        return "WebClientHttp2{"
+                + "enabled=" + enabled
+                + ", initialWindowSize=" + initialWindowSize
+                + ", connectionWindowSize=" + connectionWindowSize
+                + ", maxFrameSize=" + maxFrameSize
+                + ", maxHeaderListSize=" + maxHeaderListSize
+                + ", maxConcurrentStreams=" + maxConcurrentStreams
+                + '}';
+    }
+
+    /**
+     * Fluent API builder for {@link WebClientHttp2} instance.
+     */
+    public static final class Builder implements io.helidon.common.Builder<WebClientHttp2> {
+
+        private boolean enabled = false;
+        private int initialWindowSize = DEFAULT_WINDOW_SIZE;
+        private int connectionWindowSize = DEFAULT_WINDOW_SIZE;
+        private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+        private int maxHeaderListSize = DEFAULT_MAX_HEADER_LIST_SIZE;
+        private int maxConcurrentStreams = Integer.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Whether to use HTTP/2.
+         * Disabled by default.
+         *
+         * @param enabled whether HTTP/2 is enabled
+         * @return updated builder instance
+         */
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Initial flow control window of each stream, that is how many bytes of a response the server may send
+         * before the client consumes them.
+         * Defaults to {@code 65535}.
+         *
+         * @param initialWindowSize stream window size in bytes
+         * @return updated builder instance
+         */
+        public Builder initialWindowSize(int initialWindowSize) {
+            if (initialWindowSize < 0) {
+                throw new IllegalArgumentException("Window size must not be negative, but is " + initialWindowSize);
+            }
+            this.initialWindowSize = initialWindowSize;
+            return this;
+        }
+
+        /**
+         * Flow control window of the whole connection, shared by all its streams.
+         * Defaults to {@code 65535}.
+         *
+         * @param connectionWindowSize connection window size in bytes
+         * @return updated builder instance
+         */
+        public Builder connectionWindowSize(int connectionWindowSize) {
+            if (connectionWindowSize < DEFAULT_WINDOW_SIZE) {
+                throw new IllegalArgumentException("Connection window size must be at least " + DEFAULT_WINDOW_SIZE
+                                                           + ", but is " + connectionWindowSize);
+            }
+            this.connectionWindowSize = connectionWindowSize;
+            return this;
+        }
+
+        /**
+         * Largest frame the server may send.
+         * Defaults to {@code 16384}.
+         *
+         * @param maxFrameSize maximal frame size in bytes
+         * @return updated builder instance
+         */
+        public Builder maxFrameSize(int maxFrameSize) {
+            if (maxFrameSize < MIN_MAX_FRAME_SIZE || maxFrameSize > MAX_MAX_FRAME_SIZE) {
+                throw new IllegalArgumentException("Maximal frame size must be between " + MIN_MAX_FRAME_SIZE
+                                                           + " and " + MAX_MAX_FRAME_SIZE + ", but is " + maxFrameSize);
+            }
+            this.maxFrameSize = maxFrameSize;
+            return this;
+        }
+
+        /**
+         * Largest header list the server may send.
+         * Defaults to {@code 8192}.
+         *
+         * @param maxHeaderListSize maximal header list size in bytes
+         * @return updated builder instance
+         */
+        public Builder maxHeaderListSize(int maxHeaderListSize) {
+            if (maxHeaderListSize < 1) {
+                throw new IllegalArgumentException("Maximal header list size must be positive, but is "
+                                                           + maxHeaderListSize);
+            }
+            this.maxHeaderListSize = maxHeaderListSize;
+            return this;
+        }
+
+        /**
+         * Maximal number of concurrent streams opened on a single connection. When all streams of all connections
+         * are in use, a new connection is opened.
+         * Limited only by the server by default.
+         *
+         * @param maxConcurrentStreams maximal number of concurrent streams
+         * @return updated builder instance
+         */
+        public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+            if (maxConcurrentStreams < 1) {
+                throw new IllegalArgumentException("Maximal number of concurrent streams must be positive, but is "
+                                                           + maxConcurrentStreams);
+            }
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        /**
+         * Configure HTTP/2 from configuration.
+         * <table>
+         * <caption>HTTP/2 configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>enabled</td>
+         *     <td>{@code false}</td>
+         *     <td>Whether to use HTTP/2</td>
+         * </tr>
+         * <tr>
+         *     <td>initial-window-size</td>
+         *     <td>{@code 65535}</td>
+         *     <td>Initial flow control window of each stream</td>
+         * </tr>
+         * <tr>
+         *     <td>connection-window-size</td>
+         *     <td>{@code 65535}</td>
+         *     <td>Flow control window of the whole connection</td>
+         * </tr>
+         * <tr>
+         *     <td>max-frame-size</td>
+         *     <td>{@code 16384}</td>
+         *     <td>Largest frame the server may send</td>
+         * </tr>
+         * <tr>
+         *     <td>max-header-list-size</td>
+         *     <td>{@code 8192}</td>
+         *     <td>Largest header list the server may send</td>
+         * </tr>
+         * <tr>
+         *     <td>max-concurrent-streams</td>
+         *     <td>{@code unlimited}</td>
+         *     <td>Maximal number of concurrent streams opened on a single connection</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of HTTP/2
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("enabled").asBoolean().ifPresent(this::enabled);
+            config.get("initial-window-size").asInt().ifPresent(this::initialWindowSize);
+            config.get("connection-window-size").asInt().ifPresent(this::connectionWindowSize);
+            config.get("max-frame-size").asInt().ifPresent(this::maxFrameSize);
+            config.get("max-header-list-size").asInt().ifPresent(this::maxHeaderListSize);
+            config.get("max-concurrent-streams").asInt().ifPresent(this::maxConcurrentStreams);
+            return this;
+        }
+
+        @Override
+        public WebClientHttp2 build() {
+            return new WebClientHttp2(this);
+        }
+    }
+}
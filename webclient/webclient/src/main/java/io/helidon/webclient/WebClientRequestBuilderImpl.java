@@ -24,16 +24,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -60,7 +57,6 @@ import io.helidon.webclient.spi.WebClientService;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -75,6 +71,9 @@ import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
 
 /**
  * Implementation of {@link WebClientRequestBuilder}.
@@ -83,7 +82,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
 
     private static final Logger LOGGER = Logger.getLogger(WebClientRequestBuilderImpl.class.getName());
 
-    private static final Map<ConnectionIdent, Set<ChannelRecord>> CHANNEL_CACHE = new ConcurrentHashMap<>();
     static final AttributeKey<WebClientRequestImpl> REQUEST = AttributeKey.valueOf("request");
     static final AttributeKey<CompletableFuture<WebClientServiceResponse>> RECEIVED = AttributeKey.valueOf("received");
     static final AttributeKey<CompletableFuture<WebClientServiceResponse>> COMPLETED = AttributeKey.valueOf("completed");
@@ -91,7 +89,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     static final AttributeKey<AtomicBoolean> IN_USE = AttributeKey.valueOf("inUse");
     static final AttributeKey<AtomicBoolean> RETURN = AttributeKey.valueOf("finished");
     static final AttributeKey<WebClientResponse> RESPONSE = AttributeKey.valueOf("response");
-    static final AttributeKey<ConnectionIdent> CONNECTION_IDENT = AttributeKey.valueOf("connectionIdent");
     static final AttributeKey<Long> REQUEST_ID = AttributeKey.valueOf("requestID");
 
     private static final AtomicLong REQUEST_NUMBER = new AtomicLong(0);
@@ -191,40 +188,24 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         return builder;
     }
 
-    private static ChannelFuture obtainChannelFuture(RequestConfiguration configuration,
-                                                     Bootstrap bootstrap) {
-        ConnectionIdent connectionIdent = new ConnectionIdent(configuration);
-        Set<ChannelRecord> channels = CHANNEL_CACHE.computeIfAbsent(connectionIdent,
-                                                                    s -> Collections.synchronizedSet(new HashSet<>()));
-        synchronized (channels) {
-            for (ChannelRecord channelRecord : channels) {
-                Channel channel = channelRecord.channel;
-                if (channel.isOpen() && channel.attr(IN_USE).get().compareAndSet(false, true)) {
-                    LOGGER.finest(() -> "Reusing -> " + channel.hashCode());
-                    LOGGER.finest(() -> "Setting in use -> true");
-                    return channelRecord.channelFuture;
-                }
-                LOGGER.finest(() -> "Not accepted -> " + channel.hashCode());
-                LOGGER.finest(() -> "Open -> " + channel.isOpen());
-                LOGGER.finest(() -> "In use -> " + channel.attr(IN_USE).get());
+    /**
+     * Opens a new connection, which is not pooled.
+     *
+     * @param bootstrap bootstrap of the connection
+     * @param uri       uri of the request
+     * @return future completed when connected
+     */
+    static Future<Channel> connect(Bootstrap bootstrap, URI uri) {
+        ChannelFuture connect = bootstrap.connect(uri.getHost(), uri.getPort());
+        Promise<Channel> promise = connect.channel().eventLoop().newPromise();
+        connect.addListener(future -> {
+            if (future.isSuccess()) {
+                promise.trySuccess(connect.channel());
+            } else {
+                promise.tryFailure(future.cause());
             }
-            LOGGER.finest(() -> "New connection to -> " + connectionIdent);
-            URI uri = connectionIdent.base;
-            ChannelFuture connect = bootstrap.connect(uri.getHost(), uri.getPort());
-            Channel channel = connect.channel();
-            channel.attr(IN_USE).set(new AtomicBoolean(true));
-            channel.attr(RETURN).set(new AtomicBoolean(false));
-            channel.attr(CONNECTION_IDENT).set(connectionIdent);
-            channels.add(new ChannelRecord(connect));
-            return connect;
-        }
-    }
-
-    static void removeChannelFromCache(ConnectionIdent key, Channel channel) {
-        LOGGER.finest(() -> "Removing from channel cache.");
-        LOGGER.finest(() -> "Connection ident -> " + key);
-        LOGGER.finest(() -> "Channel -> " + channel.hashCode());
-        CHANNEL_CACHE.get(key).remove(new ChannelRecord(channel));
+        });
+        return promise;
     }
 
     @Override
@@ -577,22 +558,28 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
                     .option(ChannelOption.SO_KEEPALIVE, keepAlive)
                     .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
 
-            ChannelFuture channelFuture = keepAlive
-                    ? obtainChannelFuture(requestConfiguration, bootstrap)
-                    : bootstrap.connect(finalUri.getHost(), finalUri.getPort());
-
-            channelFuture.addListener((ChannelFutureListener) future -> {
-                LOGGER.finest(() -> "(client reqID: " + requestId + ") "
-                        + "Channel hashcode -> " + channelFuture.channel().hashCode());
-                channelFuture.channel().attr(REQUEST).set(clientRequest);
-                channelFuture.channel().attr(RECEIVED).set(responseReceived);
-                channelFuture.channel().attr(COMPLETED).set(complete);
-                channelFuture.channel().attr(RESULT).set(result);
-                channelFuture.channel().attr(REQUEST_ID).set(requestId);
+            Future<Channel> channelFuture;
+            if (requestConfiguration.http2().enabled()) {
+                channelFuture = Http2ChannelPool.acquire(requestConfiguration, bootstrap);
+            } else if (keepAlive) {
+                channelFuture = ChannelPool.acquire(requestConfiguration, bootstrap);
+            } else {
+                channelFuture = connect(bootstrap, finalUri);
+            }
+
+            channelFuture.addListener((FutureListener<Channel>) future -> {
                 Throwable cause = future.cause();
                 if (null == cause) {
+                    Channel channel = future.getNow();
+                    LOGGER.finest(() -> "(client reqID: " + requestId + ") "
+                            + "Channel hashcode -> " + channel.hashCode());
+                    channel.attr(REQUEST).set(clientRequest);
+                    channel.attr(RECEIVED).set(responseReceived);
+                    channel.attr(COMPLETED).set(complete);
+                    channel.attr(RESULT).set(result);
+                    channel.attr(REQUEST_ID).set(requestId);
                     RequestContentSubscriber requestContentSubscriber = new RequestContentSubscriber(request,
-                                                                                                     channelFuture.channel(),
+                                                                                                     channel,
                                                                                                      result,
                                                                                                      sent,
                                                                                                      allowChunkedEncoding);
@@ -877,53 +864,27 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         }
     }
 
-    private static class ChannelRecord {
-
-        private final ChannelFuture channelFuture;
-        private final Channel channel;
-
-        private ChannelRecord(ChannelFuture channelFuture) {
-            this.channelFuture = channelFuture;
-            this.channel = channelFuture.channel();
-        }
-
-        private ChannelRecord(Channel channel) {
-            this.channelFuture = null;
-            this.channel = channel;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            ChannelRecord that = (ChannelRecord) o;
-            //Intentional comparison without equals
-            return channel == that.channel;
-        }
-
-        @Override
-        public int hashCode() {
-            return channel.hashCode();
-        }
-    }
-
     static class ConnectionIdent {
 
         private final URI base;
         private final Duration readTimeout;
         private final Proxy proxy;
         private final WebClientTls tls;
+        private final WebClientConnectionPool connectionPool;
+        private final WebClientHttp2 http2;
 
-        private ConnectionIdent(RequestConfiguration requestConfiguration) {
+        ConnectionIdent(RequestConfiguration requestConfiguration) {
             URI uri = requestConfiguration.requestURI();
             this.base = URI.create(uri.getScheme() + "://" + uri.getAuthority());
             this.readTimeout = requestConfiguration.readTimout();
             this.proxy = requestConfiguration.proxy().orElse(null);
             this.tls = requestConfiguration.tls();
+            this.connectionPool = requestConfiguration.connectionPool();
+            this.http2 = requestConfiguration.http2();
+        }
+
+        URI base() {
+            return base;
         }
 
         @Override
@@ -938,12 +899,14 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
             return Objects.equals(base, that.base)
                     && Objects.equals(readTimeout, that.readTimeout)
                     && Objects.equals(proxy, that.proxy)
-                    && Objects.equals(tls, that.tls);
+                    && Objects.equals(tls, that.tls)
+                    && Objects.equals(connectionPool, that.connectionPool)
+                    && Objects.equals(http2, that.http2);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(base, readTimeout, proxy, tls);
+            return Objects.hash(base, readTimeout, proxy, tls, connectionPool, http2);
         }
 
         @Override
@@ -953,6 +916,8 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
                     + ", readTimeout=" + readTimeout
                     + ", proxy=" + proxy
                     + ", tls=" + tls
+                    + ", connectionPool=" + connectionPool
+                    + ", http2=" + http2
                     + '}';
         }
     }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link ChannelPool}.
+ */
+class ChannelPoolTest {
+
+    private static NioEventLoopGroup group;
+
+    private Channel server;
+    private URI uri;
+
+    @BeforeAll
+    static void startGroup() {
+        group = new NioEventLoopGroup(2);
+    }
+
+    @AfterAll
+    static void stopGroup() {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    void startServer() throws InterruptedException {
+        // each test uses a new port, so each test gets its own pool
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public boolean isSharable() {
+                        return true;
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+        uri = URI.create("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort());
+    }
+
+    @Test
+    void testReuse() throws Exception {
+        WebClientConnectionPool pool = WebClientConnectionPool.builder().build();
+
+        Channel first = acquire(pool).get(5, TimeUnit.SECONDS);
+        assertThat(stats().active(), is(1));
+        ChannelPool.release(first);
+        assertThat(stats().active(), is(0));
+        assertThat(stats().idle(), is(1));
+
+        Channel second = acquire(pool).get(5, TimeUnit.SECONDS);
+        assertThat(second, sameInstance(first));
+        assertThat(stats().active(), is(1));
+        assertThat(stats().idle(), is(0));
+        second.close().sync();
+    }
+
+    @Test
+    void testPendingAcquire() throws Exception {
+        WebClientConnectionPool pool = WebClientConnectionPool.builder()
+                .maxConnectionsPerHost(1)
+                .build();
+
+        Channel first = acquire(pool).get(5, TimeUnit.SECONDS);
+        Future<Channel> pending = acquire(pool);
+        assertThat(pending.isDone(), is(false));
+        assertThat(stats().pending(), is(1));
+
+        ChannelPool.release(first);
+        assertThat(pending.get(5, TimeUnit.SECONDS), sameInstance(first));
+        assertThat(stats().pending(), is(0));
+        assertThat(stats().active(), is(1));
+        first.close().sync();
+    }
+
+    @Test
+    void testClosedConnectionFreesCapacity() throws Exception {
+        WebClientConnectionPool pool = WebClientConnectionPool.builder()
+                .maxConnectionsPerHost(1)
+                .build();
+
+        Channel first = acquire(pool).get(5, TimeUnit.SECONDS);
+        Future<Channel> pending = acquire(pool);
+        first.close().sync();
+
+        Channel second = pending.get(5, TimeUnit.SECONDS);
+        assertThat(second, not(sameInstance(first)));
+        assertThat(stats().active(), is(1));
+        second.close().sync();
+    }
+
+    @Test
+    void testAcquireTimeout() throws Exception {
+        WebClientConnectionPool pool = WebClientConnectionPool.builder()
+                .maxConnectionsPerHost(1)
+                .acquireTimeout(Duration.ofMillis(50))
+                .build();
+
+        Channel first = acquire(pool).get(5, TimeUnit.SECONDS);
+        Future<Channel> pending = acquire(pool);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> pending.get(5, TimeUnit.SECONDS));
+        assertThat(e.getCause(), instanceOf(WebClientException.class));
+        assertThat(stats().pending(), is(0));
+        first.close().sync();
+    }
+
+    @Test
+    void testMaxLifetime() throws Exception {
+        WebClientConnectionPool pool = WebClientConnectionPool.builder()
+                .maxLifetime(Duration.ofMillis(1))
+                .build();
+
+        Channel first = acquire(pool).get(5, TimeUnit.SECONDS);
+        TimeUnit.MILLISECONDS.sleep(10);
+        ChannelPool.release(first);
+        first.closeFuture().await(5, TimeUnit.SECONDS);
+
+        assertThat(first.isOpen(), is(false));
+        assertThat(stats().idle(), is(0));
+    }
+
+    @Test
+    void testPrewarm() throws Exception {
+        WebClientConnectionPool pool = WebClientConnectionPool.builder()
+                .prewarm(3)
+                .build();
+
+        Channel first = acquire(pool).get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 50 && stats().idle() < 2; i++) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertThat(stats().idle(), is(2));
+        assertThat(stats().active(), is(1));
+        first.close().sync();
+    }
+
+    private Future<Channel> acquire(WebClientConnectionPool pool) {
+        RequestConfiguration configuration = RequestConfiguration.builder(uri)
+                .connectionPool(pool)
+                .build();
+        Bootstrap bootstrap = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public boolean isSharable() {
+                        // prewarm opens more connections with the same bootstrap
+                        return true;
+                    }
+
+                    @Override
+                    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+                        ChannelPool.remove(ctx.channel());
+                        super.channelInactive(ctx);
+                    }
+                });
+        return ChannelPool.acquire(configuration, bootstrap);
+    }
+
+    private WebClientConnectionPool.Stats stats() {
+        return WebClientConnectionPool.stats()
+                .stream()
+                .filter(it -> it.base().equals(uri))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,14 @@ public class ConfigurationTest {
                 .maxRedirects(10)
                 .userAgent("HelidonTest")
                 .defaultHeader(Http.Header.ACCEPT, List.of("application/json", "text/plain"))
+                .connectionPool(WebClientConnectionPool.builder()
+                                        .maxConnectionsPerHost(8)
+                                        .acquireTimeout(Duration.ofSeconds(1))
+                                        .build())
+                .http2(WebClientHttp2.builder()
+                               .enabled(true)
+                               .initialWindowSize(1048576)
+                               .build())
                 .build();
         validateConfiguration(wcc);
     }
@@ -66,6 +74,10 @@ public class ConfigurationTest {
         assertThat(wcc.maxRedirects(), is(10));
         assertThat(wcc.userAgent(), is("HelidonTest"));
         assertThat(wcc.headers().acceptedTypes(), containsInAnyOrder(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN));
+        assertThat(wcc.connectionPool().maxConnectionsPerHost(), is(8));
+        assertThat(wcc.connectionPool().acquireTimeout(), is(Duration.ofSeconds(1)));
+        assertThat(wcc.http2().enabled(), is(true));
+        assertThat(wcc.http2().initialWindowSize(), is(1048576));
     }
 
 }
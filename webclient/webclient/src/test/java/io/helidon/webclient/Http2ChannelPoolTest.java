@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.Http;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link Http2ChannelPool}.
+ */
+class Http2ChannelPoolTest {
+
+    private static NioEventLoopGroup group;
+
+    private Channel server;
+    private URI uri;
+
+    @BeforeAll
+    static void startGroup() {
+        group = new NioEventLoopGroup(2);
+    }
+
+    @AfterAll
+    static void stopGroup() {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    void startServer() throws InterruptedException {
+        // each test uses a new port, so each test gets its own pool
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel channel) {
+                        channel.pipeline().addLast(Http2FrameCodecBuilder.forServer().build());
+                        channel.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                            @Override
+                            protected void initChannel(Channel stream) {
+                                stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                                stream.pipeline().addLast(new HttpObjectAggregator(1024));
+                                stream.pipeline().addLast(new HelloHandler());
+                            }
+                        }));
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+        uri = URI.create("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort());
+    }
+
+    @Test
+    void testMultiplexing() throws Exception {
+        WebClientHttp2 http2 = WebClientHttp2.builder()
+                .enabled(true)
+                .build();
+
+        // the second request waits for the connection opened by the first one
+        Future<Channel> first = acquire(http2);
+        Future<Channel> second = acquire(http2);
+        Channel firstStream = first.get(5, TimeUnit.SECONDS);
+        Channel secondStream = second.get(5, TimeUnit.SECONDS);
+
+        assertThat(firstStream, instanceOf(Http2StreamChannel.class));
+        assertThat(secondStream, not(sameInstance(firstStream)));
+        assertThat(secondStream.parent(), sameInstance(firstStream.parent()));
+        firstStream.parent().close().sync();
+    }
+
+    @Test
+    void testMaxConcurrentStreams() throws Exception {
+        WebClientHttp2 http2 = WebClientHttp2.builder()
+                .enabled(true)
+                .maxConcurrentStreams(1)
+                .build();
+
+        Channel first = acquire(http2).get(5, TimeUnit.SECONDS);
+        Channel second = acquire(http2).get(5, TimeUnit.SECONDS);
+        assertThat(second.parent(), not(sameInstance(first.parent())));
+
+        first.close().sync();
+        Channel third = acquire(http2).get(5, TimeUnit.SECONDS);
+        assertThat(third.parent(), sameInstance(first.parent()));
+        first.parent().close().sync();
+        second.parent().close().sync();
+    }
+
+    @Test
+    void testRequest() {
+        WebClient webClient = WebClient.builder()
+                .baseUri(uri)
+                .http2(WebClientHttp2.builder()
+                               .enabled(true)
+                               .build())
+                .build();
+
+        WebClientResponse response = webClient.get()
+                .request()
+                .await(5, TimeUnit.SECONDS);
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.version(), is(Http.Version.V2_0));
+        assertThat(response.content().as(String.class).await(5, TimeUnit.SECONDS), is("Hello"));
+    }
+
+    private Future<Channel> acquire(WebClientHttp2 http2) {
+        RequestConfiguration configuration = RequestConfiguration.builder(uri)
+                .http2(http2)
+                .build();
+        Bootstrap bootstrap = new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new NettyClientInitializer(configuration));
+        return Http2ChannelPool.acquire(configuration, bootstrap);
+    }
+
+    private static final class HelloHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                                                    HttpResponseStatus.OK,
+                                                                    Unpooled.copiedBuffer("Hello", StandardCharsets.UTF_8));
+            HttpUtil.setContentLength(response, 5);
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content of a static resource held in memory, including its precompressed variants.
+ * <p>
+ * All buffers are read-only direct buffers, each response should use a {@link ByteBuffer#duplicate() duplicate}.
+ */
+final class CachedContent {
+
+    /**
+     * Gzip content encoding.
+     */
+    static final String GZIP = "gzip";
+
+    /**
+     * Brotli content encoding.
+     */
+    static final String BROTLI = "br";
+
+    /**
+     * Encodings of precompressed variants in order of preference.
+     */
+    static final List<String> ENCODINGS = List.of(BROTLI, GZIP);
+
+    /**
+     * Gzip variant is only kept if it saves at least this ratio of the original size.
+     */
+    private static final double MIN_COMPRESSION_RATIO = 0.9;
+
+    private final ByteBuffer content;
+    private final Map<String, ByteBuffer> variants;
+    private final Instant lastModified;
+    private final String etag;
+    private final long size;
+
+    private CachedContent(ByteBuffer content, Map<String, ByteBuffer> variants, Instant lastModified, String etag) {
+        this.content = content;
+        this.variants = variants;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        long size = content.capacity();
+        for (ByteBuffer variant : variants.values()) {
+            size += variant.capacity();
+        }
+        this.size = size;
+    }
+
+    /**
+     * Create cached content.
+     *
+     * @param content       content bytes
+     * @param lastModified  last modification time or {@code null} if not known
+     * @param precompressed variants of the content compressed at build time, keyed by content encoding
+     * @return cached content
+     */
+    static CachedContent create(byte[] content, Instant lastModified, Map<String, byte[]> precompressed) {
+        Map<String, ByteBuffer> variants = new LinkedHashMap<>();
+        for (String encoding : ENCODINGS) {
+            byte[] bytes = precompressed.get(encoding);
+            if (bytes == null && GZIP.equals(encoding)) {
+                bytes = gzip(content);
+            }
+            if (bytes != null && bytes.length < content.length * MIN_COMPRESSION_RATIO) {
+                variants.put(encoding, directBuffer(bytes));
+            }
+        }
+        return new CachedContent(directBuffer(content), variants, lastModified, etag(content));
+    }
+
+    /**
+     * Select a variant acceptable by the client.
+     *
+     * @param acceptEncoding values of the {@code Accept-Encoding} request header
+     * @return content encoding of the selected variant or {@code null} for the identity
+     */
+    String selectEncoding(List<String> acceptEncoding) {
+        if (variants.isEmpty() || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        for (String encoding : variants.keySet()) {
+            if (isAccepted(encoding, acceptEncoding)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Content of the given variant.
+     *
+     * @param encoding content encoding or {@code null} for the identity
+     * @return a new duplicate of the content buffer
+     */
+    ByteBuffer content(String encoding) {
+        ByteBuffer buffer = encoding == null ? content : variants.get(encoding);
+        return buffer.duplicate();
+    }
+
+    /**
+     * Strong entity tag of the given variant.
+     *
+     * @param encoding content encoding or {@code null} for the identity
+     * @return entity tag (unquoted)
+     */
+    String etag(String encoding) {
+        return encoding == null ? etag : etag + "-" + encoding;
+    }
+
+    /**
+     * Whether there is any precompressed variant.
+     *
+     * @return {@code true} if the content is available in more than one encoding
+     */
+    boolean hasVariants() {
+        return !variants.isEmpty();
+    }
+
+    Instant lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Number of bytes occupied by all variants of the content.
+     *
+     * @return size in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    static boolean isAccepted(String encoding, List<String> acceptEncoding) {
+        boolean wildcard = false;
+        for (String header : acceptEncoding) {
+            for (String item : header.split(",")) {
+                String[] parts = item.split(";");
+                String name = parts[0].trim();
+                boolean rejected = false;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            rejected = Double.parseDouble(param.substring(2).trim()) <= 0;
+                        } catch (NumberFormatException e) {
+                            rejected = true;
+                        }
+                    }
+                }
+                if (name.equalsIgnoreCase(encoding)) {
+                    return !rejected;
+                }
+                if ("*".equals(name)) {
+                    wildcard = !rejected;
+                }
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * File name extension of a precompressed file for the given encoding.
+     *
+     * @param encoding content encoding
+     * @return file name extension
+     */
+    static String fileExtension(String encoding) {
+        return GZIP.equals(encoding) ? "gz" : encoding;
+    }
+
+    private static ByteBuffer directBuffer(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
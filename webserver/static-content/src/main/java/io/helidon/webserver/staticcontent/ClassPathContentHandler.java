@@ -28,7 +28,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.jar.JarEntry;
@@ -150,10 +152,21 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                     String requestedResource,
                     URL url,
                     ServerRequest request,
-                    ServerResponse response) {
+                    ServerResponse response) throws IOException {
 
         LOGGER.fine(() -> "Sending static content from classpath: " + url);
 
+        if (cacheEnabled()) {
+            Optional<CachedContent> cached = cachedContent(requestedResource);
+            if (cached.isEmpty()) {
+                cached = cacheJarEntry(requestedResource, url);
+            }
+            if (cached.isPresent()) {
+                sendCached(method, cached.get(), fileName(url), request, response);
+                return true;
+            }
+        }
+
         ExtractedJarEntry extrEntry = extracted
                 .compute(requestedResource, (key, entry) -> existOrCreate(url, entry));
         if (extrEntry.tempFile == null) {
@@ -173,7 +186,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         if (method == Http.Method.HEAD) {
             response.send();
         } else {
-            send(response, extrEntry.tempFile);
+            send(request, response, extrEntry.tempFile);
         }
 
         return true;
@@ -254,6 +267,37 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
     }
 
+    private Optional<CachedContent> cacheJarEntry(String requestedResource, URL url) throws IOException {
+        long generation = cacheGeneration();
+        JarURLConnection jarUrlConnection = (JarURLConnection) url.openConnection();
+        JarFile jarFile = jarUrlConnection.getJarFile();
+        try {
+            JarEntry jarEntry = jarUrlConnection.getJarEntry();
+            if (jarEntry.isDirectory() || jarEntry.getSize() < 0 || !isCacheable(jarEntry.getSize())) {
+                return Optional.empty();
+            }
+            Map<String, byte[]> precompressed = new HashMap<>();
+            for (String encoding : CachedContent.ENCODINGS) {
+                JarEntry variant = jarFile.getJarEntry(jarEntry.getName() + "." + CachedContent.fileExtension(encoding));
+                if (variant != null && !variant.isDirectory()) {
+                    try (InputStream is = jarFile.getInputStream(variant)) {
+                        precompressed.put(encoding, is.readAllBytes());
+                    }
+                }
+            }
+            byte[] content;
+            try (InputStream is = jarFile.getInputStream(jarEntry)) {
+                content = is.readAllBytes();
+            }
+            return cacheContent(requestedResource, content, getLastModified(jarFile.getName()), precompressed,
+                                generation);
+        } finally {
+            if (!jarUrlConnection.getUseCaches()) {
+                jarFile.close();
+            }
+        }
+    }
+
     private Instant getLastModified(String path) throws IOException {
         Path file = Paths.get(path);
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded in-memory cache of static content. The least recently used entries are evicted once the
+ * total size of cached content exceeds the capacity.
+ */
+final class ContentCache {
+
+    private final long capacity;
+    private final long maxEntrySize;
+    private final LinkedHashMap<String, CachedContent> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+    private long generation;
+
+    private ContentCache(long capacity, long maxEntrySize) {
+        this.capacity = capacity;
+        this.maxEntrySize = Math.min(capacity, maxEntrySize);
+    }
+
+    /**
+     * Create a new cache.
+     *
+     * @param capacity     maximal number of bytes held by the cache
+     * @param maxEntrySize maximal size of a single resource to be cached
+     * @return a new cache
+     */
+    static ContentCache create(long capacity, long maxEntrySize) {
+        return new ContentCache(capacity, maxEntrySize);
+    }
+
+    /**
+     * Whether a resource of the given size may be cached.
+     *
+     * @param size size of the resource in bytes
+     * @return {@code true} if the resource is small enough
+     */
+    boolean isCacheable(long size) {
+        return size <= maxEntrySize;
+    }
+
+    synchronized Optional<CachedContent> get(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Current generation of the cache, incremented by each invalidation.
+     * Content read before an invalidation must not be put into the cache after it.
+     *
+     * @return current generation
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    synchronized void put(String key, CachedContent content) {
+        put(key, content, generation);
+    }
+
+    /**
+     * Put content read at the given generation. The content is dropped if the cache was invalidated meanwhile,
+     * as it may have been read before the change that caused the invalidation.
+     *
+     * @param key        cache key
+     * @param content    content to cache
+     * @param generation generation obtained from {@link #generation()} before the content was read
+     * @return {@code true} if the content was put into the cache
+     */
+    synchronized boolean put(String key, CachedContent content, long generation) {
+        if (generation != this.generation || content.size() > capacity) {
+            return false;
+        }
+        CachedContent previous = entries.put(key, content);
+        if (previous != null) {
+            size -= previous.size();
+        }
+        size += content.size();
+        Iterator<Map.Entry<String, CachedContent>> it = entries.entrySet().iterator();
+        while (size > capacity && it.hasNext()) {
+            Map.Entry<String, CachedContent> eldest = it.next();
+            if (!eldest.getKey().equals(key)) {
+                size -= eldest.getValue().size();
+                it.remove();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove the entry of a path and all entries under it.
+     *
+     * @param prefix key of a file or a directory
+     * @param separator path separator
+     */
+    synchronized void invalidate(String prefix, String separator) {
+        generation++;
+        String directory = prefix.endsWith(separator) ? prefix : prefix + separator;
+        Iterator<Map.Entry<String, CachedContent>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, CachedContent> entry = it.next();
+            String key = entry.getKey();
+            if (key.equals(prefix) || key.startsWith(directory)) {
+                size -= entry.getValue().size();
+                it.remove();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        generation++;
+        entries.clear();
+        size = 0;
+    }
+
+    synchronized long size() {
+        return size;
+    }
+}
@@ -17,18 +17,26 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.media.type.MediaTypes;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.ContentWriters;
 import io.helidon.media.common.DefaultMediaSupport;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.webserver.HttpException;
@@ -42,11 +50,13 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
     private static final MessageBodyWriter<Path> PATH_WRITER = DefaultMediaSupport.pathWriter();
 
     private final Map<String, MediaType> customMediaTypes;
+    private final ContentCache cache;
 
     FileBasedContentHandler(StaticContentSupport.FileBasedBuilder<?> builder) {
         super(builder);
 
         this.customMediaTypes = builder.specificContentTypes();
+        this.cache = builder.contentCache();
     }
 
     static String fileName(Path path) {
@@ -156,6 +166,16 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
             throw new HttpException("File is not accessible", Http.Status.FORBIDDEN_403);
         }
 
+        String cacheKey = path.toString();
+        Optional<CachedContent> cached = cachedContent(cacheKey);
+        if (cached.isEmpty()) {
+            cached = cacheFile(cacheKey, path);
+        }
+        if (cached.isPresent()) {
+            sendCached(method, cached.get(), fileName(path), request, response);
+            return;
+        }
+
         // Caching headers support
         try {
             Instant lastMod = Files.getLastModifiedTime(path).toInstant();
@@ -169,12 +189,205 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         if (method == Http.Method.HEAD) {
             response.send();
         } else {
-            send(response, path);
+            send(request, response, path);
+        }
+    }
+
+    /**
+     * Whether content may be held in memory.
+     *
+     * @return {@code true} if the memory cache is enabled
+     */
+    boolean cacheEnabled() {
+        return cache != null;
+    }
+
+    @Override
+    void releaseCache() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Find content in the memory cache.
+     *
+     * @param key cache key
+     * @return cached content or empty if not cached or the cache is disabled
+     */
+    Optional<CachedContent> cachedContent(String key) {
+        if (!cacheEnabled()) {
+            return Optional.empty();
         }
+        return cache.get(key);
+    }
+
+    /**
+     * Invalidate cached content of a file or of all files in a directory.
+     * A change of a precompressed variant (such as {@code app.js.gz}) invalidates its base file.
+     *
+     * @param path file or directory
+     */
+    void invalidateCache(Path path) {
+        if (cache == null) {
+            return;
+        }
+        String separator = path.getFileSystem().getSeparator();
+        String key = path.toString();
+        cache.invalidate(key, separator);
+        for (String encoding : CachedContent.ENCODINGS) {
+            String extension = "." + CachedContent.fileExtension(encoding);
+            if (key.endsWith(extension)) {
+                cache.invalidate(key.substring(0, key.length() - extension.length()), separator);
+            }
+        }
+    }
+
+    /**
+     * Current generation of the memory cache, to be obtained before content is read for
+     * {@link #cacheContent(String, byte[], Instant, Map, long)}.
+     *
+     * @return cache generation
+     */
+    long cacheGeneration() {
+        return cache.generation();
+    }
+
+    /**
+     * Whether a resource of the given size can be held in the memory cache.
+     *
+     * @param size size of the resource in bytes
+     * @return {@code true} if the cache is enabled and the resource is small enough
+     */
+    boolean isCacheable(long size) {
+        return cacheEnabled() && cache.isCacheable(size);
     }
 
-    void send(ServerResponse response, Path path) {
-        response.send(PATH_WRITER.marshall(path));
+    /**
+     * Read a file and its precompressed variants into the memory cache.
+     *
+     * @param key  cache key
+     * @param file the file
+     * @return cached content or empty if the file cannot be cached
+     * @throws IOException if the file cannot be read
+     */
+    Optional<CachedContent> cacheFile(String key, Path file) throws IOException {
+        if (!isCacheable(Files.size(file))) {
+            return Optional.empty();
+        }
+        long generation = cacheGeneration();
+        Instant lastModified = Files.getLastModifiedTime(file).toInstant();
+        Map<String, byte[]> precompressed = new HashMap<>();
+        for (String encoding : CachedContent.ENCODINGS) {
+            Path variant = file.resolveSibling(fileName(file) + "." + CachedContent.fileExtension(encoding));
+            if (Files.isRegularFile(variant)) {
+                precompressed.put(encoding, Files.readAllBytes(variant));
+            }
+        }
+        byte[] content = Files.readAllBytes(file);
+        if (!lastModified.equals(Files.getLastModifiedTime(file).toInstant())) {
+            // modified while being read, send it from the file system
+            return Optional.empty();
+        }
+        return cacheContent(key, content, lastModified, precompressed, generation);
+    }
+
+    /**
+     * Put content into the memory cache.
+     *
+     * @param key           cache key
+     * @param content       content bytes
+     * @param lastModified  last modification time, may be {@code null}
+     * @param precompressed precompressed variants of the content keyed by content encoding
+     * @param generation    cache generation obtained before the content was read, the content is not cached
+     *                      if the cache was invalidated since
+     * @return cached content or empty if the content cannot be cached
+     */
+    Optional<CachedContent> cacheContent(String key,
+                                         byte[] content,
+                                         Instant lastModified,
+                                         Map<String, byte[]> precompressed,
+                                         long generation) {
+        if (!isCacheable(content.length)) {
+            return Optional.empty();
+        }
+        CachedContent cached = CachedContent.create(content, lastModified, precompressed);
+        cache.put(key, cached, generation);
+        return Optional.of(cached);
+    }
+
+    /**
+     * Send content from the memory cache. Compressed variant is selected by the {@code Accept-Encoding}
+     * header, unless a range is requested.
+     *
+     * @param method   GET or HEAD HTTP method
+     * @param cached   cached content
+     * @param fileName file name used to detect content type
+     * @param request  an HTTP request
+     * @param response an HTTP response
+     */
+    void sendCached(Http.RequestMethod method,
+                    CachedContent cached,
+                    String fileName,
+                    ServerRequest request,
+                    ServerResponse response) {
+
+        RequestHeaders requestHeaders = request.headers();
+        ResponseHeaders responseHeaders = response.headers();
+        boolean ranged = requestHeaders.first(Http.Header.RANGE).isPresent();
+        String encoding = ranged ? null : cached.selectEncoding(requestHeaders.values(Http.Header.ACCEPT_ENCODING));
+
+        processEtag(cached.etag(encoding), requestHeaders, responseHeaders);
+        processModifyHeaders(cached.lastModified(), requestHeaders, responseHeaders);
+        processContentType(fileName, requestHeaders, responseHeaders);
+        if (cached.hasVariants()) {
+            responseHeaders.put(Http.Header.VARY, Http.Header.ACCEPT_ENCODING);
+        }
+        if (encoding != null) {
+            responseHeaders.put(Http.Header.CONTENT_ENCODING, encoding);
+        }
+        if (method == Http.Method.HEAD) {
+            response.send();
+            return;
+        }
+
+        ByteBuffer content = cached.content(encoding);
+        if (encoding == null) {
+            Optional<ByteRange> range = processRange(content.remaining(), requestHeaders, responseHeaders);
+            if (range.isPresent()) {
+                ByteRange byteRange = range.get();
+                response.status(Http.Status.PARTIAL_CONTENT_206);
+                responseHeaders.put(Http.Header.CONTENT_RANGE,
+                                    "bytes " + byteRange.start() + "-" + byteRange.end() + "/" + content.remaining());
+                content.limit((int) byteRange.end() + 1);
+                content.position((int) byteRange.start());
+            }
+        }
+        responseHeaders.contentLength(content.remaining());
+        response.send(Single.just(DataChunk.create(false, true, content)));
+    }
+
+    void send(ServerRequest request, ServerResponse response, Path path) throws IOException {
+        long size = Files.size(path);
+        Optional<ByteRange> range = processRange(size, request.headers(), response.headers());
+        if (range.isEmpty()) {
+            response.send(PATH_WRITER.marshall(path));
+            return;
+        }
+        ByteRange byteRange = range.get();
+        response.status(Http.Status.PARTIAL_CONTENT_206);
+        response.headers().put(Http.Header.CONTENT_RANGE,
+                               "bytes " + byteRange.start() + "-" + byteRange.end() + "/" + size);
+        response.headers().contentLength(byteRange.length());
+        // the channel is opened on subscription only, so it is not leaked if the response is never written
+        response.send(context -> Multi.<DataChunk>defer(() -> {
+            try {
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                return ContentWriters.writeFileRegion(channel, byteRange.start(), byteRange.length(), context);
+            } catch (IOException e) {
+                return Single.<DataChunk>error(e);
+            }
+        }));
     }
 
 
@@ -19,6 +19,8 @@ package io.helidon.webserver.staticcontent;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import io.helidon.common.http.Http;
@@ -32,6 +34,8 @@ class FileSystemContentHandler extends FileBasedContentHandler {
     private static final Logger LOGGER = Logger.getLogger(FileSystemContentHandler.class.getName());
 
     private final Path root;
+    private volatile FileWatcher watcher;
+    private boolean watcherFailed;
 
     FileSystemContentHandler(StaticContentSupport.FileSystemBuilder builder) {
         super(builder);
@@ -57,6 +61,13 @@ class FileSystemContentHandler extends FileBasedContentHandler {
     }
 
     boolean doHandle(Http.RequestMethod method, Path path, ServerRequest request, ServerResponse response) throws IOException {
+        // Cached content does not need any file system access
+        Optional<CachedContent> cached = cachedContent(path.toString());
+        if (cached.isPresent()) {
+            sendCached(method, cached.get(), fileName(path), request, response);
+            return true;
+        }
+
         // Check existence
         if (!Files.exists(path)) {
             return false;
@@ -67,4 +78,41 @@ class FileSystemContentHandler extends FileBasedContentHandler {
         return true;
     }
 
+    /**
+     * Cached content is only valid while the file system root is watched for changes.
+     *
+     * @return {@code true} if the memory cache is enabled and file changes are watched
+     */
+    @Override
+    boolean cacheEnabled() {
+        if (!super.cacheEnabled()) {
+            return false;
+        }
+        return watcher != null || startWatcher();
+    }
+
+    private synchronized boolean startWatcher() {
+        if (watcherFailed) {
+            return false;
+        }
+        if (watcher == null) {
+            try {
+                watcher = FileWatcher.start(root, this::invalidateCache, () -> invalidateCache(root));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Cannot watch " + root + " for changes, static content will not be cached", e);
+                watcherFailed = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    synchronized void releaseCache() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+        super.releaseCache();
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches a directory tree and reports changed paths.
+ */
+final class FileWatcher implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(FileWatcher.class.getName());
+
+    private final Path root;
+    private final Consumer<Path> changeListener;
+    private final Runnable overflowListener;
+    private final WatchService watchService;
+
+    private FileWatcher(Path root, Consumer<Path> changeListener, Runnable overflowListener) throws IOException {
+        this.root = root;
+        this.changeListener = changeListener;
+        this.overflowListener = overflowListener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Start watching a directory tree.
+     *
+     * @param root             root directory
+     * @param changeListener   called with a path that was created, modified or deleted
+     * @param overflowListener called when events may have been lost
+     * @return started watcher
+     * @throws IOException if the watch service cannot be registered
+     */
+    static FileWatcher start(Path root, Consumer<Path> changeListener, Runnable overflowListener) throws IOException {
+        FileWatcher watcher = new FileWatcher(root, changeListener, overflowListener);
+        watcher.registerTree(root);
+        Thread thread = new Thread(watcher::run, "helidon-static-content-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return watcher;
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to close watch service of " + root, e);
+        }
+    }
+
+    private void registerTree(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                dir.register(watchService,
+                             StandardWatchEventKinds.ENTRY_CREATE,
+                             StandardWatchEventKinds.ENTRY_DELETE,
+                             StandardWatchEventKinds.ENTRY_MODIFY);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        overflowListener.run();
+                        continue;
+                    }
+                    Path changed = directory.resolve((Path) event.context());
+                    LOGGER.finest(() -> "Static content changed: " + changed);
+                    changeListener.accept(changed);
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                        try {
+                            registerTree(changed);
+                        } catch (IOException e) {
+                            LOGGER.log(Level.FINE, "Failed to watch directory " + changed, e);
+                            overflowListener.run();
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    // directory is no longer accessible
+                    changeListener.accept(directory);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // watcher closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -215,6 +215,67 @@ abstract class StaticContentHandler implements StaticContentSupport {
         }
     }
 
+    /**
+     * Process the {@code Range} and {@code If-Range} headers for a content of the given size.
+     * <p>
+     * Only a single byte range is supported, requests for multiple ranges are served the whole content.
+     * If an {@code If-Range} header is present, it must match the {@code ETag} of the response.
+     *
+     * @param size            size of the content in bytes
+     * @param requestHeaders  an HTTP request headers
+     * @param responseHeaders an HTTP response headers
+     * @return the requested range or empty if the whole content should be sent
+     * @throws io.helidon.webserver.HttpException if the requested range cannot be satisfied
+     */
+    static Optional<ByteRange> processRange(long size, RequestHeaders requestHeaders, ResponseHeaders responseHeaders) {
+        responseHeaders.put(Http.Header.ACCEPT_RANGES, "bytes");
+        Optional<String> range = requestHeaders.first(Http.Header.RANGE);
+        if (range.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<String> ifRange = requestHeaders.first(Http.Header.IF_RANGE);
+        if (ifRange.isPresent() && !ifRange.equals(responseHeaders.first(Http.Header.ETAG))) {
+            return Optional.empty();
+        }
+        String value = range.get().trim();
+        if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+        int dash = value.indexOf('-');
+        if (dash < 0) {
+            return Optional.empty();
+        }
+        String first = value.substring("bytes=".length(), dash).trim();
+        String last = value.substring(dash + 1).trim();
+        long start;
+        long end;
+        try {
+            if (first.isEmpty()) {
+                // suffix range, e.g. last 500 bytes
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return Optional.empty();
+                }
+                start = Math.max(0, size - suffix);
+                end = suffix == 0 ? -1 : size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return Optional.empty();
+                }
+                end = Math.min(end, size - 1);
+            }
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        if (start >= size || end < start) {
+            responseHeaders.put(Http.Header.CONTENT_RANGE, "bytes */" + size);
+            throw new HttpException("Requested range not satisfiable!", Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416);
+        }
+        return Optional.of(new ByteRange(start, end));
+    }
+
     /**
      * If provided {@code condition} is {@code true} then throws not found {@link io.helidon.webserver.HttpException}.
      *
@@ -251,4 +312,29 @@ abstract class StaticContentHandler implements StaticContentSupport {
     String welcomePageName() {
         return welcomeFilename;
     }
+
+    /**
+     * A single range of bytes of a content, both positions are inclusive.
+     */
+    static final class ByteRange {
+        private final long start;
+        private final long end;
+
+        ByteRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        long start() {
+            return start;
+        }
+
+        long end() {
+            return end;
+        }
+
+        long length() {
+            return end - start + 1;
+        }
+    }
 }
@@ -187,7 +187,11 @@ public interface StaticContentSupport extends Service {
      */
     @SuppressWarnings("unchecked")
     abstract class FileBasedBuilder<T extends FileBasedBuilder<T>> extends StaticContentSupport.Builder<FileBasedBuilder<T>> {
+        private static final long DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE = 256 * 1024;
+
         private final Map<String, MediaType> specificContentTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private long memoryCacheCapacity;
+        private long memoryCacheMaxFileSize = DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE;
 
         /**
          * Maps a filename extension to the response content type.
@@ -217,9 +221,53 @@ public interface StaticContentSupport extends Service {
             return (T) this;
         }
 
+        /**
+         * Enables in-memory cache of static content. Files not bigger than {@link #memoryCacheMaxFileSize(long)}
+         * are held in memory ready to be sent, together with a strong {@code ETag} and compressed variants
+         * selected by the {@code Accept-Encoding} request header. Precompressed files next to the original
+         * ({@code app.js.br}, {@code app.js.gz}) are used if present, a {@code gzip} variant is created otherwise.
+         * <p>
+         * File system content is invalidated when a file changes. Class path content is considered immutable.
+         * The cache is disabled by default.
+         *
+         * @param capacity maximal number of bytes held in memory, {@code 0} disables the cache
+         * @return updated builder
+         * @throws IllegalArgumentException if {@code capacity} is negative
+         */
+        public T memoryCache(long capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("Memory cache capacity cannot be negative!");
+            }
+            this.memoryCacheCapacity = capacity;
+            return (T) this;
+        }
+
+        /**
+         * Maximal size of a file to be held in the memory cache. Defaults to 256 KiB.
+         *
+         * @param maxFileSize maximal size in bytes
+         * @return updated builder
+         * @throws IllegalArgumentException if {@code maxFileSize} is negative
+         * @see #memoryCache(long)
+         */
+        public T memoryCacheMaxFileSize(long maxFileSize) {
+            if (maxFileSize < 0) {
+                throw new IllegalArgumentException("Maximal size of a cached file cannot be negative!");
+            }
+            this.memoryCacheMaxFileSize = maxFileSize;
+            return (T) this;
+        }
+
         Map<String, MediaType> specificContentTypes() {
             return specificContentTypes;
         }
+
+        ContentCache contentCache() {
+            if (memoryCacheCapacity == 0) {
+                return null;
+            }
+            return ContentCache.create(memoryCacheCapacity, memoryCacheMaxFileSize);
+        }
     }
 
     /**
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link CachedContent}.
+ */
+class CachedContentTest {
+
+    private static final byte[] COMPRESSIBLE = "static content ".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testGzipVariant() {
+        CachedContent content = CachedContent.create(COMPRESSIBLE, null, Map.of());
+
+        assertThat(content.hasVariants(), is(true));
+        assertThat(content.selectEncoding(List.of("gzip, deflate")), is(CachedContent.GZIP));
+        assertThat(content.selectEncoding(List.of("br")), nullValue());
+        assertThat(content.selectEncoding(List.of()), nullValue());
+        assertThat(content.content(CachedContent.GZIP).remaining() < COMPRESSIBLE.length, is(true));
+    }
+
+    @Test
+    void testIncompressible() {
+        CachedContent content = CachedContent.create(new byte[] {1, 2, 3}, null, Map.of());
+
+        assertThat(content.hasVariants(), is(false));
+        assertThat(content.selectEncoding(List.of("gzip")), nullValue());
+        assertThat(content.size(), is(3L));
+    }
+
+    @Test
+    void testPrecompressed() {
+        byte[] brotli = {4, 5, 6};
+        CachedContent content = CachedContent.create(COMPRESSIBLE, null, Map.of(CachedContent.BROTLI, brotli));
+
+        assertThat(content.selectEncoding(List.of("gzip, br")), is(CachedContent.BROTLI));
+        assertThat(content.selectEncoding(List.of("gzip, br;q=0")), is(CachedContent.GZIP));
+        assertThat(content.selectEncoding(List.of("*")), is(CachedContent.BROTLI));
+        assertThat(content.selectEncoding(List.of("identity")), nullValue());
+
+        ByteBuffer buffer = content.content(CachedContent.BROTLI);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertThat(bytes, is(brotli));
+        // each call returns an independent duplicate
+        assertThat(content.content(CachedContent.BROTLI).remaining(), is(brotli.length));
+    }
+
+    @Test
+    void testEtag() {
+        CachedContent first = CachedContent.create(COMPRESSIBLE, null, Map.of());
+        CachedContent second = CachedContent.create(COMPRESSIBLE, null, Map.of());
+        CachedContent other = CachedContent.create(new byte[] {1}, null, Map.of());
+
+        assertThat(first.etag(null), is(second.etag(null)));
+        assertThat(first.etag(null), is(not(other.etag(null))));
+        assertThat(first.etag(CachedContent.GZIP), is(first.etag(null) + "-gzip"));
+    }
+}
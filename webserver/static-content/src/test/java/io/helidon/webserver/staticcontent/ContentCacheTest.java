@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link ContentCache}.
+ */
+class ContentCacheTest {
+
+    private static CachedContent content(int size) {
+        return CachedContent.create(new byte[size], null, Map.of(CachedContent.GZIP, new byte[size]));
+    }
+
+    @Test
+    void testEviction() {
+        ContentCache cache = ContentCache.create(25, 10);
+        // incompressible content of 10 bytes
+        cache.put("a", CachedContent.create(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, null, Map.of()));
+        cache.put("b", CachedContent.create(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, null, Map.of()));
+        // access "a" so that "b" is the least recently used
+        assertThat(cache.get("a").isPresent(), is(true));
+        cache.put("c", CachedContent.create(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, null, Map.of()));
+
+        assertThat(cache.get("a").isPresent(), is(true));
+        assertThat(cache.get("b").isPresent(), is(false));
+        assertThat(cache.get("c").isPresent(), is(true));
+        assertThat(cache.size(), is(20L));
+    }
+
+    @Test
+    void testCacheable() {
+        ContentCache cache = ContentCache.create(100, 10);
+
+        assertThat(cache.isCacheable(10), is(true));
+        assertThat(cache.isCacheable(11), is(false));
+        assertThat(ContentCache.create(5, 10).isCacheable(6), is(false));
+    }
+
+    @Test
+    void testInvalidate() {
+        ContentCache cache = ContentCache.create(1000, 100);
+        cache.put("/root/a.txt", content(1));
+        cache.put("/root/dir/b.txt", content(1));
+        cache.put("/root/dir/c.txt", content(1));
+        cache.put("/root/directory.txt", content(1));
+
+        cache.invalidate("/root/dir", "/");
+        assertThat(cache.get("/root/a.txt").isPresent(), is(true));
+        assertThat(cache.get("/root/dir/b.txt").isPresent(), is(false));
+        assertThat(cache.get("/root/dir/c.txt").isPresent(), is(false));
+        assertThat(cache.get("/root/directory.txt").isPresent(), is(true));
+
+        cache.invalidate("/root/a.txt", "/");
+        assertThat(cache.get("/root/a.txt").isPresent(), is(false));
+        assertThat(cache.size(), is(1L));
+    }
+
+    @Test
+    void testPutAfterInvalidateDropped() {
+        ContentCache cache = ContentCache.create(1000, 100);
+        long generation = cache.generation();
+        cache.invalidate("/root/a.txt", "/");
+
+        assertThat(cache.put("/root/a.txt", content(1), generation), is(false));
+        assertThat(cache.get("/root/a.txt").isPresent(), is(false));
+        assertThat(cache.put("/root/a.txt", content(1), cache.generation()), is(true));
+        assertThat(cache.get("/root/a.txt").isPresent(), is(true));
+    }
+}
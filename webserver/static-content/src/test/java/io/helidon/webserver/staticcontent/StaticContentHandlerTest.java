@@ -142,6 +142,61 @@ class StaticContentHandlerTest {
                             Http.Status.PRECONDITION_FAILED_412);
     }
 
+    private static Optional<StaticContentHandler.ByteRange> range(String range, String ifRange, ResponseHeaders res) {
+        RequestHeaders req = mock(RequestHeaders.class);
+        when(req.first(Http.Header.RANGE)).thenReturn(Optional.ofNullable(range));
+        when(req.first(Http.Header.IF_RANGE)).thenReturn(Optional.ofNullable(ifRange));
+        return StaticContentHandler.processRange(100, req, res);
+    }
+
+    private static void assertRange(String range, long start, long end) {
+        ResponseHeaders res = mock(ResponseHeaders.class);
+        StaticContentHandler.ByteRange byteRange = range(range, null, res).orElseThrow();
+        assertThat(byteRange.start(), is(start));
+        assertThat(byteRange.end(), is(end));
+        assertThat(byteRange.length(), is(end - start + 1));
+    }
+
+    @Test
+    void range_NotRequested() {
+        ResponseHeaders res = mock(ResponseHeaders.class);
+        assertThat(range(null, null, res).isPresent(), is(false));
+        verify(res).put(Http.Header.ACCEPT_RANGES, "bytes");
+    }
+
+    @Test
+    void range_Satisfiable() {
+        assertRange("bytes=10-19", 10, 19);
+        assertRange("bytes=90-", 90, 99);
+        assertRange("bytes=50-500", 50, 99);
+        assertRange("bytes=-30", 70, 99);
+        assertRange("bytes=-300", 0, 99);
+    }
+
+    @Test
+    void range_Ignored() {
+        ResponseHeaders res = mock(ResponseHeaders.class);
+        assertThat(range("bytes=0-1,5-6", null, res).isPresent(), is(false));
+        assertThat(range("items=0-1", null, res).isPresent(), is(false));
+        assertThat(range("bytes=5-1", null, res).isPresent(), is(false));
+        assertThat(range("bytes=a-b", null, res).isPresent(), is(false));
+    }
+
+    @Test
+    void range_NotSatisfiable() {
+        ResponseHeaders res = mock(ResponseHeaders.class);
+        assertHttpException(() -> range("bytes=100-", null, res), Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416);
+        verify(res).put(Http.Header.CONTENT_RANGE, "bytes */100");
+    }
+
+    @Test
+    void range_IfRange() {
+        ResponseHeaders res = mock(ResponseHeaders.class);
+        when(res.first(Http.Header.ETAG)).thenReturn(Optional.of("\"aaa\""));
+        assertThat(range("bytes=0-9", "\"aaa\"", res).isPresent(), is(true));
+        assertThat(range("bytes=0-9", "\"bbb\"", res).isPresent(), is(false));
+    }
+
     @Test
     void redirect() {
         ResponseHeaders resh = mock(ResponseHeaders.class);
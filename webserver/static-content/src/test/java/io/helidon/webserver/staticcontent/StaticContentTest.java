@@ -16,6 +16,9 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import io.helidon.common.http.Http;
@@ -25,8 +28,10 @@ import io.helidon.webserver.testsupport.TestResponse;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class StaticContentTest {
@@ -48,4 +53,43 @@ class StaticContentTest {
 
         assertThat(testResponse.status(), is(Http.Status.OK_200));
     }
+
+    @Test
+    void testMemoryCache(@TempDir Path root) throws Exception {
+        String content = "var x = 'memory cache';\n".repeat(50);
+        Files.writeString(root.resolve("app.js"), content);
+        Files.write(root.resolve("app.js.br"), new byte[] {1, 2, 3});
+
+        TestClient client = TestClient.create(Routing.builder()
+                                                      .register("/fs", StaticContentSupport.builder(root)
+                                                              .memoryCache(1024 * 1024))
+                                                      .build());
+
+        TestResponse identity = client.path("/fs/app.js").get();
+        assertThat(identity.status(), is(Http.Status.OK_200));
+        assertThat(identity.headers().first(Http.Header.CONTENT_ENCODING).isPresent(), is(false));
+        assertThat(identity.asString().get(10, TimeUnit.SECONDS), is(content));
+        String etag = identity.headers().first(Http.Header.ETAG).orElseThrow();
+
+        TestResponse brotli = client.path("/fs/app.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip, br")
+                .get();
+        assertThat(brotli.status(), is(Http.Status.OK_200));
+        assertThat(brotli.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), is("br"));
+        assertThat(brotli.headers().first(Http.Header.ETAG).orElse(null), startsWith(etag.substring(0, etag.length() - 1)));
+        assertThat(brotli.asBytes().get(10, TimeUnit.SECONDS), is(new byte[] {1, 2, 3}));
+
+        TestResponse notModified = client.path("/fs/app.js")
+                .header(Http.Header.IF_NONE_MATCH, etag)
+                .get();
+        assertThat(notModified.status(), is(Http.Status.NOT_MODIFIED_304));
+
+        TestResponse range = client.path("/fs/app.js")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .header(Http.Header.RANGE, "bytes=4-4")
+                .get();
+        assertThat(range.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(range.headers().first(Http.Header.CONTENT_RANGE).orElse(null), is("bytes 4-4/" + content.length()));
+        assertThat(range.asString().get(10, TimeUnit.SECONDS), is("x"));
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.transport.epoll;
+
+import javax.annotation.Priority;
+
+import io.helidon.config.Config;
+import io.helidon.webserver.Transport;
+import io.helidon.webserver.spi.TransportProvider;
+
+/**
+ * Epoll transport SPI provider.
+ */
+@Priority(EpollTransportProvider.PRIORITY)
+public class EpollTransportProvider implements TransportProvider {
+    /**
+     * Priority of this provider, native io_uring transport is preferred if available.
+     */
+    public static final int PRIORITY = 200;
+
+    private static final String EPOLL = "epoll";
+
+    @Override
+    public String configKey() {
+        return EPOLL;
+    }
+
+    @Override
+    public Transport create(Config config) {
+        return EpollTransport.builder()
+                .config(config)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.transport.epoll;
+
+import java.util.Map;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import io.netty.channel.epoll.EpollChannelOption;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link EpollTransport}.
+ */
+class EpollTransportTest {
+
+    @Test
+    void testDefaults() {
+        EpollTransport transport = EpollTransport.create();
+
+        assertThat(transport.createTransportArtifact(Map.class, "serverChannelOptions", null).get().isEmpty(), is(true));
+        assertThat(transport.createTransportArtifact(Integer.class, "acceptLoops", null).get(), is(1));
+        assertThat(transport.createTransportArtifact(String.class, "unknown", null).isPresent(), is(false));
+    }
+
+    @Test
+    void testConfig() {
+        Config config = Config.create(ConfigSources.create(Map.of("reuse-port", "true",
+                                                                  "accept-loops", "4")));
+        EpollTransport transport = EpollTransport.builder()
+                .config(config)
+                .build();
+
+        Map<?, ?> options = transport.createTransportArtifact(Map.class, "serverChannelOptions", null).get();
+        assertThat(options.get(EpollChannelOption.SO_REUSEPORT), is(true));
+        assertThat(transport.createTransportArtifact(Integer.class, "acceptLoops", null).get(), is(4));
+    }
+
+    @Test
+    void testAcceptLoopsRequireReusePort() {
+        assertThrows(IllegalStateException.class, () -> EpollTransport.builder().acceptLoops(2).build());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.transport.iouring;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.helidon.config.Config;
+import io.helidon.webserver.ServerConfiguration;
+import io.helidon.webserver.Transport;
+import io.helidon.webserver.WebServer;
+
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringChannelOption;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+
+/**
+ * Native io_uring {@link Transport} for the Netty based web server.
+ * <p>
+ * Available only on Linux kernels supporting io_uring (5.9 and newer) with the native library present, otherwise the web server falls back to another transport.
+ * If {@code SO_REUSEPORT} is enabled, each server socket can be served by several accept loops sharing one port.
+ */
+public final class IoUringTransport implements Transport {
+
+    private final boolean reusePort;
+    private final int acceptLoops;
+
+    private IoUringTransport(Builder builder) {
+        this.reusePort = builder.reusePort;
+        this.acceptLoops = builder.acceptLoops;
+    }
+
+    /**
+     * Create a new transport with default configuration.
+     *
+     * @return a new transport
+     */
+    public static IoUringTransport create() {
+        return builder().build();
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean isAvailableFor(WebServer webserver) {
+        return IOUring.isAvailable();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> createTransportArtifact(Class<T> artifactType,
+                                                  String artifactName,
+                                                  ServerConfiguration config) {
+        if (EventLoopGroup.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "bossGroup":
+                return Optional.of((T) new IOUringEventLoopGroup(config.sockets().size() * acceptLoops));
+            case "workerGroup":
+                return Optional.of((T) new IOUringEventLoopGroup(Math.max(0, config.workersCount())));
+            default:
+                return Optional.empty();
+            }
+        } else if (ChannelFactory.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "serverChannelFactory":
+                ChannelFactory<? extends ServerChannel> cf = IOUringServerSocketChannel::new;
+                return Optional.of((T) cf);
+            default:
+                return Optional.empty();
+            }
+        } else if (Map.class.isAssignableFrom(artifactType) && "serverChannelOptions".equals(artifactName)) {
+            Map<ChannelOption<?>, Object> options = reusePort
+                    ? Map.of(IOUringChannelOption.SO_REUSEPORT, true)
+                    : Map.of();
+            return Optional.of((T) options);
+        } else if (Integer.class.equals(artifactType) && "acceptLoops".equals(artifactName)) {
+            return Optional.of((T) Integer.valueOf(acceptLoops));
+        } else if (Boolean.class.equals(artifactType) && "fileRegionSupport".equals(artifactName)) {
+            // io_uring channels only write byte buffers, file content is sent in chunks
+            return Optional.of((T) Boolean.FALSE);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IoUringTransport{"
+                + "reusePort=" + reusePort
+                + ", acceptLoops=" + acceptLoops
+                + '}';
+    }
+
+    /**
+     * Fluent API builder for {@link IoUringTransport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<IoUringTransport> {
+
+        private boolean reusePort;
+        private int acceptLoops = 1;
+
+        private Builder() {
+        }
+
+        @Override
+        public IoUringTransport build() {
+            if (acceptLoops > 1 && !reusePort) {
+                throw new IllegalStateException("More than one accept loop requires SO_REUSEPORT to be enabled");
+            }
+            return new IoUringTransport(this);
+        }
+
+        /**
+         * Update builder from configuration.
+         * <table class="config">
+         * <caption>Configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>reuse-port</td>
+         *     <td>{@code false}</td>
+         *     <td>{@link #reusePort(boolean)}</td>
+         * </tr>
+         * <tr>
+         *     <td>accept-loops</td>
+         *     <td>{@code 1}</td>
+         *     <td>{@link #acceptLoops(int)}</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of this transport
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("reuse-port").asBoolean().ifPresent(this::reusePort);
+            config.get("accept-loops").asInt().ifPresent(this::acceptLoops);
+            return this;
+        }
+
+        /**
+         * Whether to enable {@code SO_REUSEPORT} on server sockets.
+         *
+         * @param reusePort whether to reuse port
+         * @return updated builder instance
+         */
+        public Builder reusePort(boolean reusePort) {
+            this.reusePort = reusePort;
+            return this;
+        }
+
+        /**
+         * Number of accept loops (server channels) bound to each server socket port.
+         * Values greater than {@code 1} require {@link #reusePort(boolean)}.
+         *
+         * @param acceptLoops number of accept loops, defaults to {@code 1}
+         * @return updated builder instance
+         */
+        public Builder acceptLoops(int acceptLoops) {
+            if (acceptLoops < 1) {
+                throw new IllegalArgumentException("Number of accept loops must be positive, but is " + acceptLoops);
+            }
+            this.acceptLoops = acceptLoops;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.transport.iouring;
+
+import javax.annotation.Priority;
+
+import io.helidon.config.Config;
+import io.helidon.webserver.Transport;
+import io.helidon.webserver.spi.TransportProvider;
+
+/**
+ * io_uring transport SPI provider.
+ */
+@Priority(IoUringTransportProvider.PRIORITY)
+public class IoUringTransportProvider implements TransportProvider {
+    /**
+     * Priority of this provider, io_uring is preferred over epoll if both are available.
+     */
+    public static final int PRIORITY = 100;
+
+    private static final String IO_URING = "io_uring";
+
+    @Override
+    public String configKey() {
+        return IO_URING;
+    }
+
+    @Override
+    public Transport create(Config config) {
+        return IoUringTransport.builder()
+                .config(config)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Native io_uring transport for Helidon WebServer.
+ */
+module io.helidon.webserver.transport.iouring {
+    requires static java.annotation;
+
+    requires io.helidon.common;
+    requires io.helidon.config;
+    requires io.helidon.webserver;
+    requires io.netty.transport;
+    requires io.netty.incubator.transport.io_uring;
+
+    exports io.helidon.webserver.transport.iouring;
+
+    provides io.helidon.webserver.spi.TransportProvider with io.helidon.webserver.transport.iouring.IoUringTransportProvider;
+}
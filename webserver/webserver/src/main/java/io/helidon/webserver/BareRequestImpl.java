@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import javax.net.ssl.SSLEngine;
 
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Http;
+import io.helidon.common.http.Parameters;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpRequest;
@@ -125,6 +126,15 @@ class BareRequestImpl implements BareRequest {
         return map;
     }
 
+    /**
+     * Headers of the request as a read-only view of the Netty request headers, without copying them.
+     *
+     * @return request headers
+     */
+    Parameters headerParameters() {
+        return new NettyRequestHeaders(nettyRequest.headers());
+    }
+
     @Override
     public Flow.Publisher<DataChunk> bodyPublisher() {
         return publisher;
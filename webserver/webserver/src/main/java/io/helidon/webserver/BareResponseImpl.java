@@ -28,17 +28,23 @@ import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileRegionDataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.reactive.Single;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -46,6 +52,9 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 
@@ -63,6 +72,8 @@ class BareResponseImpl implements BareResponse {
     private static final String HTTP_2_HEADER_PREFIX = "x-http2";
     private static final String HTTP_2_STREAM_ID = "x-http2-stream-id";
     private static final SocketClosedException CLOSED = new SocketClosedException("Response channel is closed!");
+    private static final String CHUNKED_WRITE_HANDLER = "helidon-chunked-write";
+    private static final int FILE_CHUNK_SIZE = 8192;
 
     private final boolean keepAlive;
     private final ChannelHandlerContext ctx;
@@ -72,6 +83,7 @@ class BareResponseImpl implements BareResponse {
     private final CompletableFuture<BareResponse> headersFuture;
     private final BooleanSupplier requestContentConsumed;
     private final long requestId;
+    private final boolean fileRegionSupport;
     private final String http2StreamId;
     private final HttpHeaders requestHeaders;
     private final ChannelFuture channelClosedFuture;
@@ -93,17 +105,20 @@ class BareResponseImpl implements BareResponse {
      * @param requestContentConsumed whether the request content is consumed
      * @param prevRequestChunk Future that represents previous request completion for HTTP pipelining
      * @param requestId the correlation ID that is added to the log statements
+     * @param fileRegionSupport whether the channel can write file regions
      */
     BareResponseImpl(ChannelHandlerContext ctx,
                      HttpRequest request,
                      BooleanSupplier requestContentConsumed,
                      CompletableFuture<?> prevRequestChunk,
-                     long requestId) {
+                     long requestId,
+                     boolean fileRegionSupport) {
         this.requestContentConsumed = requestContentConsumed;
         this.responseFuture = new CompletableFuture<>();
         this.headersFuture = new CompletableFuture<>();
         this.ctx = ctx;
         this.requestId = requestId;
+        this.fileRegionSupport = fileRegionSupport;
         this.keepAlive = HttpUtil.isKeepAlive(request);
         this.requestHeaders = request.headers();
         this.prevRequestChunk = prevRequestChunk;
@@ -359,7 +374,7 @@ class BareResponseImpl implements BareResponse {
             return;
         }
 
-        if (lengthOptimization && firstChunk == null) {
+        if (lengthOptimization && firstChunk == null && !(data instanceof FileRegionDataChunk)) {
             firstChunk = data.isReadOnly() ? data : data.duplicate();      // cache first chunk
             subscription.request(1);
             return;
@@ -415,8 +430,10 @@ class BareResponseImpl implements BareResponse {
     private ChannelFuture sendData(DataChunk data) {
         LOGGER.finest(() -> log("Sending data chunk"));
 
-        DefaultHttpContent httpContent;
-        if (data.isBackedBy(ByteBuf.class)) {
+        Object httpContent;
+        if (data instanceof FileRegionDataChunk) {
+            httpContent = fileRegion((FileRegionDataChunk) data);
+        } else if (data.isBackedBy(ByteBuf.class)) {
             // DefaultHttpContent will call release, we retain to also call ours
             ByteBuf[] byteBufs = data.data(ByteBuf.class);
             if (byteBufs.length == 1) {
@@ -462,6 +479,27 @@ class BareResponseImpl implements BareResponse {
                 .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
+    /**
+     * Creates a message writing a file region. The region is transferred directly from the file system
+     * unless the pipeline needs to transform the content (TLS, compression, HTTP/2), in which case
+     * it is read in chunks by a {@link ChunkedWriteHandler}.
+     *
+     * @param data the file region chunk
+     * @return message to write
+     */
+    private Object fileRegion(FileRegionDataChunk data) {
+        ChannelPipeline pipeline = ctx.pipeline();
+        if (fileRegionSupport
+                && http2StreamId == null
+                && pipeline.get(SslHandler.class) == null
+                && pipeline.get(HttpContentCompressor.class) == null) {
+            return new DefaultFileRegion(data.channel(), data.position(), data.count());
+        }
+        if (pipeline.get(ChunkedWriteHandler.class) == null) {
+            pipeline.addBefore(ctx.name(), CHUNKED_WRITE_HANDLER, new ChunkedWriteHandler());
+        }
+        return new ChunkedFileRegion(data);
+    }
 
     @Override
     public void onError(Throwable thr) {
@@ -523,4 +561,79 @@ class BareResponseImpl implements BareResponse {
         list.addAll(Arrays.asList(params));
         return String.format("[Response: %s, Channel: %s, StreamID: %s] " + template, list.toArray());
     }
+
+    /**
+     * Chunked input reading a file region as a sequence of {@link HttpContent}s. Unlike
+     * {@link io.netty.handler.codec.http.HttpChunkedInput}, no last content is produced as it
+     * is written when the response completes.
+     */
+    private static final class ChunkedFileRegion implements ChunkedInput<HttpContent> {
+
+        private final FileRegionDataChunk data;
+        private final long endOffset;
+        private long offset;
+
+        private ChunkedFileRegion(FileRegionDataChunk data) {
+            this.data = data;
+            this.offset = data.position();
+            this.endOffset = data.position() + data.count();
+        }
+
+        @Override
+        public boolean isEndOfInput() {
+            return offset >= endOffset || !data.channel().isOpen();
+        }
+
+        @Override
+        public void close() {
+            // channel is closed when the data chunk is released
+        }
+
+        @Deprecated
+        @Override
+        public HttpContent readChunk(ChannelHandlerContext ctx) throws Exception {
+            return readChunk(ctx.alloc());
+        }
+
+        @Override
+        public HttpContent readChunk(ByteBufAllocator allocator) throws Exception {
+            if (offset >= endOffset) {
+                return null;
+            }
+            int chunkSize = (int) Math.min(FILE_CHUNK_SIZE, endOffset - offset);
+            ByteBuf buffer = allocator.buffer(chunkSize);
+            boolean release = true;
+            try {
+                int read = 0;
+                while (read < chunkSize) {
+                    int localRead = buffer.writeBytes(data.channel(), offset + read, chunkSize - read);
+                    if (localRead < 0) {
+                        break;
+                    }
+                    read += localRead;
+                }
+                offset += read;
+                if (read < chunkSize) {
+                    // file was truncated, there is nothing more to read
+                    offset = endOffset;
+                }
+                release = false;
+                return new DefaultHttpContent(buffer);
+            } finally {
+                if (release) {
+                    buffer.release();
+                }
+            }
+        }
+
+        @Override
+        public long length() {
+            return data.count();
+        }
+
+        @Override
+        public long progress() {
+            return offset - data.position();
+        }
+    }
 }
@@ -20,6 +20,7 @@ import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.logging.Logger;
 
 import io.helidon.common.http.DataChunk;
@@ -29,26 +30,31 @@ import io.netty.buffer.ByteBuf;
 /**
  * A {@link DataChunk} implementation that wraps {@link ByteBuf} and invokes
  * {@link ByteBuf#release()} during {@link DataChunk#release()}.
+ * <p>
+ * By default chunks are owned by the {@link HttpRequestScopedPublisher} that emitted them, and the chunks
+ * not released by the application are released when the response is completed, see {@link OwnedChunk}.
+ * When system property {@value #LEAK_DETECTION_PROPERTY} is set to {@code true}, chunks are tracked
+ * by phantom references instead, are released when garbage collected and a leak is reported,
+ * see {@link TrackedChunk}. This is intended for debugging only, as it ties the lifetime of the buffers
+ * to garbage collection.
  */
-class ByteBufRequestChunk implements DataChunk {
+abstract class ByteBufRequestChunk implements DataChunk {
+    /**
+     * System property to enable detection of request chunks that are not released.
+     */
+    static final String LEAK_DETECTION_PROPERTY = "io.helidon.webserver.leakDetection";
+    static final boolean LEAK_DETECTION = Boolean.getBoolean(LEAK_DETECTION_PROPERTY);
+
     private static final boolean IS_GRAAL_VM = Boolean.getBoolean("com.oracle.graalvm.isaot");
     private static final Logger LOGGER = Logger.getLogger(ByteBufRequestChunk.class.getName());
     private static final AtomicLong ID_INCREMENTER = new AtomicLong(1);
 
     private final long id = ID_INCREMENTER.getAndIncrement();
     private final ByteBuffer[] byteBuffers;
-    private final ReferenceHoldingQueue.ReleasableReference<DataChunk> ref;
 
-    ByteBufRequestChunk(ByteBuf byteBuf, ReferenceHoldingQueue<DataChunk> referenceHoldingQueue) {
+    private ByteBufRequestChunk(ByteBuf byteBuf) {
         Objects.requireNonNull(byteBuf, "The ByteBuf must not be null!");
         byteBuffers = new ByteBuffer[] {byteBuf.nioBuffer().asReadOnlyBuffer()};
-        ref = new ReferenceHoldingQueue.ReleasableReference<>(this, referenceHoldingQueue, byteBuf::release);
-        byteBuf.retain();
-    }
-
-    @Override
-    public boolean isReleased() {
-        return ref.isReleased();
     }
 
     @Override
@@ -59,29 +65,77 @@ class ByteBufRequestChunk implements DataChunk {
         return byteBuffers;
     }
 
-    @Override
-    public void release() {
-        ref.release();
-    }
-
     @Override
     public long id() {
         return id;
     }
 
     /**
-     * If possible, release this chunk as part of the finalization rather than
-     * through the reference queue (see {@link ReferenceHoldingQueue#release()}
-     * and from where it is called). Releasing the underlying {@link ByteBuf} as
-     * part of the finalization has a lower memory demand and performs slightly
-     * better under a heavy load.
+     * A chunk released either explicitly, or by its owner once the request is completed.
+     * The underlying {@link ByteBuf} is released exactly once.
      */
-    @SuppressWarnings("checkstyle:NoFinalizer")
-    @Override
-    protected void finalize() {
-        if (!isReleased()) {
-            OneTimeLoggerHolder.logOnce();
-            release();
+    static final class OwnedChunk extends ByteBufRequestChunk {
+        private static final AtomicReferenceFieldUpdater<OwnedChunk, ByteBuf> BYTE_BUF =
+                AtomicReferenceFieldUpdater.newUpdater(OwnedChunk.class, ByteBuf.class, "byteBuf");
+
+        private volatile ByteBuf byteBuf;
+
+        OwnedChunk(ByteBuf byteBuf) {
+            super(byteBuf);
+            this.byteBuf = byteBuf.retain();
+        }
+
+        @Override
+        public boolean isReleased() {
+            return byteBuf == null;
+        }
+
+        @Override
+        public void release() {
+            ByteBuf buf = BYTE_BUF.getAndSet(this, null);
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * A chunk tracked by a {@link ReferenceHoldingQueue}, released when garbage collected
+     * if not released explicitly.
+     */
+    static final class TrackedChunk extends ByteBufRequestChunk {
+        private final ReferenceHoldingQueue.ReleasableReference<DataChunk> ref;
+
+        TrackedChunk(ByteBuf byteBuf, ReferenceHoldingQueue<DataChunk> referenceHoldingQueue) {
+            super(byteBuf);
+            ref = new ReferenceHoldingQueue.ReleasableReference<>(this, referenceHoldingQueue, byteBuf::release);
+            byteBuf.retain();
+        }
+
+        @Override
+        public boolean isReleased() {
+            return ref.isReleased();
+        }
+
+        @Override
+        public void release() {
+            ref.release();
+        }
+
+        /**
+         * If possible, release this chunk as part of the finalization rather than
+         * through the reference queue (see {@link ReferenceHoldingQueue#release()}
+         * and from where it is called). Releasing the underlying {@link ByteBuf} as
+         * part of the finalization has a lower memory demand and performs slightly
+         * better under a heavy load.
+         */
+        @SuppressWarnings("checkstyle:NoFinalizer")
+        @Override
+        protected void finalize() {
+            if (!isReleased()) {
+                OneTimeLoggerHolder.logOnce();
+                release();
+            }
         }
     }
 
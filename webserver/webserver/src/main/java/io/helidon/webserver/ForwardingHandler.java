@@ -147,7 +147,9 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
             LOGGER.fine(() -> log("Received HttpRequest: %s", ctx, System.identityHashCode(msg)));
 
             // On new request, use chance to cleanup queues in HttpInitializer
-            clearQueues.run();
+            if (ByteBufRequestChunk.LEAK_DETECTION) {
+                clearQueues.run();
+            }
 
             // Turns off auto read
             ctx.channel().config().setAutoRead(false);
@@ -169,21 +171,29 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
             Optional.ofNullable(ctx.channel().attr(CLIENT_CERTIFICATE_NAME).get())
                     .ifPresent(name -> request.headers().set(Http.Header.X_HELIDON_CN, name));
 
-            // Context, publisher and DataChunk queue for this request/response
-            DataChunkHoldingQueue queue = new DataChunkHoldingQueue();
-            HttpRequestScopedPublisher publisher = new HttpRequestScopedPublisher(queue);
+            // Context, publisher and DataChunk queue (only used for leak detection) for this request/response
+            DataChunkHoldingQueue queue;
+            HttpRequestScopedPublisher publisher;
+            IndirectReference<HttpRequestScopedPublisher, DataChunkHoldingQueue> publisherRef;
+            if (ByteBufRequestChunk.LEAK_DETECTION) {
+                queue = new DataChunkHoldingQueue();
+                publisher = new HttpRequestScopedPublisher(queue);
+                // Creates an indirect reference between publisher and queue so that when
+                // publisher is ready for collection, we have access to queue by calling its
+                // acquire method. We shall also attempt to release queue on completion of
+                // bareResponse below.
+                publisherRef = new IndirectReference<>(publisher, queues, queue);
+            } else {
+                // chunks are owned by the publisher and released on completion of bareResponse below
+                queue = null;
+                publisher = new HttpRequestScopedPublisher();
+                publisherRef = null;
+            }
             requestContext = new RequestContext(publisher, request, Context.create(webServer.context()));
 
             // Closure local variables that cache mutable instance variables
             RequestContext requestContextRef = requestContext;
 
-            // Creates an indirect reference between publisher and queue so that when
-            // publisher is ready for collection, we have access to queue by calling its
-            // acquire method. We shall also attempt to release queue on completion of
-            // bareResponse below.
-            IndirectReference<HttpRequestScopedPublisher, DataChunkHoldingQueue> publisherRef =
-                    new IndirectReference<>(publisher, queues, queue);
-
             // Set up read strategy for channel based on consumer demand
             publisher.onRequest((n, demand) -> {
                 if (publisher.isUnbounded()) {
@@ -240,7 +250,8 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
 
             // Create response and handler for its completion
             BareResponseImpl bareResponse =
-                    new BareResponseImpl(ctx, request, publisher::isCompleted, prevRequestFuture, requestId);
+                    new BareResponseImpl(ctx, request, publisher::isCompleted, prevRequestFuture, requestId,
+                                         webServer.fileRegionSupport());
             prevRequestFuture = new CompletableFuture<>();
             CompletableFuture<?> thisResp = prevRequestFuture;
             bareResponse.whenCompleted()
@@ -254,7 +265,7 @@ public class ForwardingHandler extends SimpleChannelInboundHandler<Object> {
                             // Cleanup for these queues is done in HttpInitializer, but
                             // we try to do it here if possible to reduce memory usage,
                             // especially for keep-alive connections
-                            if (queue.release()) {
+                            if (queue != null && queue.release()) {
                                 publisherRef.acquire();      // clears reference to other
                             }
 
@@ -136,6 +136,15 @@ class HandlerRoute implements Route {
         return handler;
     }
 
+    /**
+     * Returns an effective {@link PathMatcher}.
+     *
+     * @return a path matcher, never {@code null}
+     */
+    PathMatcher pathMatcher() {
+        return pathMatcher;
+    }
+
     public Map<String, String> diagnosticEvent() {
         return diagnosticEvent;
     }
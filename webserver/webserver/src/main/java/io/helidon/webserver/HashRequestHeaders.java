@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,9 +36,9 @@ import io.helidon.common.http.ReadOnlyParameters;
 import io.helidon.common.http.Utils;
 
 /**
- * A {@link RequestHeaders} implementation on top of {@link ReadOnlyParameters}.
+ * A read-only {@link RequestHeaders} implementation on top of {@link Parameters}.
  */
-class HashRequestHeaders extends ReadOnlyParameters implements RequestHeaders {
+class HashRequestHeaders extends ReadOnlyHeaders implements RequestHeaders {
 
     /**
      * Header value of the non compliant {@code Accept} header sent by
@@ -57,6 +57,7 @@ class HashRequestHeaders extends ReadOnlyParameters implements RequestHeaders {
                 MediaType.parse("*/*; q=.2"));
 
     private final Object internalLock = new Object();
+    private final Parameters headers;
     private volatile Parameters cookies;
     private List<MediaType> acceptedtypesCache;
 
@@ -64,7 +65,7 @@ class HashRequestHeaders extends ReadOnlyParameters implements RequestHeaders {
      * Creates a new instance.
      */
     HashRequestHeaders() {
-        this(null);
+        this((Map<String, List<String>>) null);
     }
 
     /**
@@ -74,7 +75,45 @@ class HashRequestHeaders extends ReadOnlyParameters implements RequestHeaders {
      * @param initialContent initial content.
      */
     HashRequestHeaders(Map<String, List<String>> initialContent) {
-        super(initialContent);
+        this(new ReadOnlyParameters(initialContent));
+    }
+
+    /**
+     * Creates a new instance on top of provided headers.
+     * Headers are not copied and must not be modified.
+     *
+     * @param headers headers of the request
+     */
+    HashRequestHeaders(Parameters headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Creates headers of a request. Headers received by the web server are not copied.
+     *
+     * @param bareRequest the request
+     * @return headers of the request
+     */
+    static HashRequestHeaders create(BareRequest bareRequest) {
+        if (bareRequest instanceof BareRequestImpl) {
+            return new HashRequestHeaders(((BareRequestImpl) bareRequest).headerParameters());
+        }
+        return new HashRequestHeaders(bareRequest.headers());
+    }
+
+    @Override
+    public Optional<String> first(String name) {
+        return headers.first(name);
+    }
+
+    @Override
+    public List<String> all(String name) {
+        return headers.all(name);
+    }
+
+    @Override
+    public Map<String, List<String>> toMap() {
+        return headers.toMap();
     }
 
     @Override
@@ -219,11 +258,11 @@ class HashRequestHeaders extends ReadOnlyParameters implements RequestHeaders {
          */
         public static Parameters parse(String cookieHeaderValue) {
             if (cookieHeaderValue == null) {
-                return empty();
+                return ReadOnlyParameters.empty();
             }
             cookieHeaderValue = cookieHeaderValue.trim();
             if (cookieHeaderValue.isEmpty()) {
-                return empty();
+                return ReadOnlyParameters.empty();
             }
 
             // Beware RFC2965
@@ -232,7 +271,7 @@ class HashRequestHeaders extends ReadOnlyParameters implements RequestHeaders {
                 isRfc2965 = true;
                 int ind = cookieHeaderValue.indexOf(';');
                 if (ind < 0) {
-                    return empty();
+                    return ReadOnlyParameters.empty();
                 } else {
                     cookieHeaderValue = cookieHeaderValue.substring(ind + 1);
                 }
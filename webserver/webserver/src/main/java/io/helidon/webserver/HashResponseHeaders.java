@@ -38,7 +38,7 @@ import java.util.stream.Collectors;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.http.AlreadyCompletedException;
-import io.helidon.common.http.HashParameters;
+import io.helidon.common.http.HeaderParameters;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.http.Parameters;
@@ -47,9 +47,9 @@ import io.helidon.common.http.Utils;
 import io.helidon.common.reactive.Single;
 
 /**
- * A {@link ResponseHeaders} implementation on top of {@link HashParameters}.
+ * A {@link ResponseHeaders} implementation on top of {@link HeaderParameters}.
  */
-class HashResponseHeaders extends HashParameters implements ResponseHeaders {
+class HashResponseHeaders extends HeaderParameters implements ResponseHeaders {
 
     private static final String COMPLETED_EXCEPTION_MESSAGE = "Response headers are already completed (sent to the client)!";
 
@@ -275,7 +275,7 @@ class HashResponseHeaders extends HashParameters implements ResponseHeaders {
     }
 
     // --------------------------------------------------------------------
-    // --- Limit access to HashParameters mutable methods when closed.
+    // --- Limit access to HeaderParameters mutable methods when closed.
     // ---------------------------------------------------------------------
 
     @Override
@@ -72,7 +72,7 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
 
     /**
      * Reference queue that collects ReferenceHoldingQueue's when they become
-     * ready for garbage collection. ReferenceHoldingQueue's extracted from
+     * ready for garbage collection, only used when leak detection is enabled. ReferenceHoldingQueue's extracted from
      * this collection that cannot be fully released (some buffers still in
      * use) will be added to {@code unreleasedQueues} for later retries.
      */
@@ -206,7 +206,9 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
                                         requestDecoder, soConfig.maxPayloadSize()));
 
         // Cleanup queues as part of event loop
-        ch.eventLoop().execute(this::clearQueues);
+        if (ByteBufRequestChunk.LEAK_DETECTION) {
+            ch.eventLoop().execute(this::clearQueues);
+        }
     }
 
     /**
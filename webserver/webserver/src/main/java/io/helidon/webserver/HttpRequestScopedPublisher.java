@@ -15,6 +15,9 @@
  */
 package io.helidon.webserver;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.reactive.BufferedEmittingPublisher;
 import io.helidon.common.reactive.Multi;
@@ -24,21 +27,49 @@ import io.netty.buffer.ByteBuf;
 
 /**
  * This publisher is always associated with a single http request. All data
- * chunks emitted by this publisher are linked to a reference queue for
- * proper cleanup.
+ * chunks emitted by this publisher are owned by it and the chunks not released
+ * by their consumer are released by {@link #clearAndRelease()}. When leak detection
+ * is enabled, the chunks are linked to a reference queue for cleanup instead.
  */
 class HttpRequestScopedPublisher extends BufferedEmittingPublisher<DataChunk> {
 
     private final DataChunkHoldingQueue holdingQueue;
+    // chunks that were emitted and may not be released yet, guarded by itself
+    private final Deque<ByteBufRequestChunk> ownedChunks;
+    private boolean ownedReleased;
+
+    /**
+     * Create a publisher owning the emitted chunks.
+     */
+    HttpRequestScopedPublisher() {
+        super();
+        this.holdingQueue = null;
+        this.ownedChunks = new ArrayDeque<>();
+    }
 
+    /**
+     * Create a publisher linking the emitted chunks to a reference queue.
+     *
+     * @param holdingQueue queue to detect and release chunks that were not released
+     */
     HttpRequestScopedPublisher(DataChunkHoldingQueue holdingQueue) {
         super();
         this.holdingQueue = holdingQueue;
+        this.ownedChunks = null;
     }
 
     public int emit(ByteBuf data) {
+        if (holdingQueue == null) {
+            ByteBufRequestChunk chunk = new ByteBufRequestChunk.OwnedChunk(data);
+            if (!own(chunk)) {
+                // the request is already released, nobody would release a late chunk
+                chunk.release();
+                return 0;
+            }
+            return super.emit(chunk);
+        }
         try {
-            return super.emit(new ByteBufRequestChunk(data, holdingQueue));
+            return super.emit(new ByteBufRequestChunk.TrackedChunk(data, holdingQueue));
         } finally {
             holdingQueue.release();
         }
@@ -47,7 +78,8 @@ class HttpRequestScopedPublisher extends BufferedEmittingPublisher<DataChunk> {
     /**
      * Clear and release any {@link io.helidon.common.http.DataChunk DataChunk} hanging in
      * the buffer. Try self subscribe in case no one subscribed and unreleased {@link io.netty.buffer.ByteBuf ByteBufs}
-     * are hanging in the netty pool.
+     * are hanging in the netty pool. Chunks owned by this publisher that were not released by
+     * their consumer are released as well.
      */
     public void clearAndRelease() {
         Multi.create(this)
@@ -55,6 +87,7 @@ class HttpRequestScopedPublisher extends BufferedEmittingPublisher<DataChunk> {
                 .forEach(DataChunk::release)
                 // in any case clear the buffer and release its content
                 .onTerminate(() -> super.clearBuffer(DataChunk::release));
+        releaseOwned();
     }
 
     @Override
@@ -62,7 +95,7 @@ class HttpRequestScopedPublisher extends BufferedEmittingPublisher<DataChunk> {
         try {
             super.complete();
         } finally {
-            holdingQueue.release();
+            releaseHoldingQueue();
         }
     }
 
@@ -71,6 +104,38 @@ class HttpRequestScopedPublisher extends BufferedEmittingPublisher<DataChunk> {
         try {
             super.fail(throwable);
         } finally {
+            releaseHoldingQueue();
+        }
+    }
+
+    private boolean own(ByteBufRequestChunk chunk) {
+        synchronized (ownedChunks) {
+            if (ownedReleased) {
+                return false;
+            }
+            // chunks are mostly released in order, forget the ones already released
+            while (!ownedChunks.isEmpty() && ownedChunks.peekFirst().isReleased()) {
+                ownedChunks.pollFirst();
+            }
+            ownedChunks.addLast(chunk);
+            return true;
+        }
+    }
+
+    private void releaseOwned() {
+        if (ownedChunks == null) {
+            return;
+        }
+        synchronized (ownedChunks) {
+            ownedReleased = true;
+            for (ByteBufRequestChunk chunk = ownedChunks.pollFirst(); chunk != null; chunk = ownedChunks.pollFirst()) {
+                chunk.release();
+            }
+        }
+    }
+
+    private void releaseHoldingQueue() {
+        if (holdingQueue != null) {
             holdingQueue.release();
         }
     }
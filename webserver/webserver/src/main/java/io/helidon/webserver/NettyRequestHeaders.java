@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.helidon.common.http.Parameters;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+/**
+ * A read-only {@link Parameters} view of Netty request headers.
+ * Headers are not copied, each access looks up the (case insensitive) name in the Netty headers.
+ */
+final class NettyRequestHeaders extends ReadOnlyHeaders {
+
+    private final HttpHeaders headers;
+
+    NettyRequestHeaders(HttpHeaders headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public Optional<String> first(String name) {
+        Objects.requireNonNull(name, "Parameter 'name' is null!");
+        return Optional.ofNullable(headers.get(name));
+    }
+
+    @Override
+    public List<String> all(String name) {
+        Objects.requireNonNull(name, "Parameter 'name' is null!");
+        List<String> values = headers.getAll(name);
+        return values.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public Map<String, List<String>> toMap() {
+        Map<String, List<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, String> entry : headers) {
+            result.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+        }
+        return result;
+    }
+}
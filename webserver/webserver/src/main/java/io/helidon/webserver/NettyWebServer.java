@@ -27,10 +27,13 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -45,8 +48,11 @@ import io.helidon.common.HelidonFlavor;
 import io.helidon.common.Version;
 import io.helidon.common.context.Context;
 import io.helidon.common.reactive.Single;
+import io.helidon.common.serviceloader.HelidonServiceLoader;
+import io.helidon.config.Config;
 import io.helidon.media.common.MessageBodyReaderContext;
 import io.helidon.media.common.MessageBodyWriterContext;
+import io.helidon.webserver.spi.TransportProvider;
 
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
@@ -76,10 +82,14 @@ class NettyWebServer implements WebServer {
     private static final Logger LOGGER = Logger.getLogger(NettyWebServer.class.getName());
     private static final String EXIT_ON_STARTED_KEY = "exit.on.started";
     private static final boolean EXIT_ON_STARTED = "!".equals(System.getProperty(EXIT_ON_STARTED_KEY));
+    private static final String NIO_TRANSPORT = "nio";
 
     private final Transport transport;
     private final EventLoopGroup bossGroup;
     private final EventLoopGroup workerGroup;
+    private final Map<ChannelOption<?>, Object> serverChannelOptions;
+    private final int acceptLoops;
+    private final boolean fileRegionSupport;
     private final Map<String, ServerBootstrap> bootstraps = new HashMap<>();
     private final ServerConfiguration configuration;
     private final CompletableFuture<WebServer> startFuture = new CompletableFuture<>();
@@ -89,6 +99,7 @@ class NettyWebServer implements WebServer {
     private final CompletableFuture<WebServer> threadGroupsShutdownFuture = new CompletableFuture<>();
     private final Context contextualRegistry;
     private final ConcurrentMap<String, Channel> channels = new ConcurrentHashMap<>();
+    private final Queue<Channel> acceptLoopChannels = new ConcurrentLinkedQueue<>();
     private final Map<String, HttpInitializer> initializers = new LinkedHashMap<>();
     private final MessageBodyWriterContext writerContext;
     private final MessageBodyReaderContext readerContext;
@@ -120,6 +131,11 @@ class NettyWebServer implements WebServer {
         this.transport = acquireTransport();
         this.bossGroup = bossGroup();
         this.workerGroup = workerGroup();
+        this.serverChannelOptions = serverChannelOptions();
+        this.acceptLoops = acceptLoops();
+        this.fileRegionSupport = transport()
+            .createTransportArtifact(Boolean.class, "fileRegionSupport", configuration)
+            .orElse(true);
         this.readerContext = MessageBodyReaderContext.create(readerContext);
         this.writerContext = MessageBodyWriterContext.create(writerContext);
 
@@ -145,6 +161,7 @@ class NettyWebServer implements WebServer {
             if (soConfig.receiveBufferSize() > 0) {
                 bootstrap.option(ChannelOption.SO_RCVBUF, soConfig.receiveBufferSize());
             }
+            serverChannelOptions.forEach((option, value) -> setOption(bootstrap, option, value));
 
             HttpInitializer childHandler = new HttpInitializer(soConfig,
                                                                sslContext,
@@ -208,6 +225,15 @@ class NettyWebServer implements WebServer {
         return writerContext;
     }
 
+    /**
+     * Whether channels of the current transport can write {@link io.netty.channel.FileRegion}s.
+     *
+     * @return {@code true} if file regions are supported
+     */
+    boolean fileRegionSupport() {
+        return fileRegionSupport;
+    }
+
     @Override
     public synchronized Single<WebServer> start() {
         if (shutdownThreadGroupsInitiated.get() || (startFuture.isDone() && shutdownFuture.isDone())) {
@@ -222,6 +248,7 @@ class NettyWebServer implements WebServer {
                                 if (channels.isEmpty()) {
                                     startFailureHandler(throwable);
                                 }
+                                closeAcceptLoops();
                                 for (Channel channel : channels.values()) {
                                     channel.close();
                                 }
@@ -245,11 +272,10 @@ class NettyWebServer implements WebServer {
                     // break because one of the previous channels already failed
                     break;
                 }
-                InetAddress bindAddress = socketConfig.bindAddress();
-                if (bindAddress == null) {
-                    // fall back to the server bind address
-                    bindAddress = configuration.bindAddress();
-                }
+                InetAddress bindAddress = socketConfig.bindAddress() == null
+                        // fall back to the server bind address
+                        ? configuration.bindAddress()
+                        : socketConfig.bindAddress();
 
                 try {
                     bootstrap.bind(bindAddress, port).addListener(channelFuture -> {
@@ -272,6 +298,9 @@ class NettyWebServer implements WebServer {
                         Channel channel = ((ChannelFuture) channelFuture).channel();
                         LOGGER.info(() -> "Channel '" + name + "' started: " + channel);
                         channels.put(name, channel);
+                        if (acceptLoops > 1) {
+                            bindAcceptLoops(name, bootstrap, bindAddress, channel);
+                        }
 
                         channel.closeFuture().addListener(future -> {
                             LOGGER.info(() -> "Channel '" + name + "' closed: " + channel);
@@ -322,6 +351,42 @@ class NettyWebServer implements WebServer {
         return Single.create(startFuture);
     }
 
+    /**
+     * Binds additional server channels to the port of an already started channel, so several accept loops
+     * share one port. Requires a transport supporting {@code SO_REUSEPORT}.
+     */
+    private void bindAcceptLoops(String name, ServerBootstrap bootstrap, InetAddress bindAddress, Channel channel) {
+        SocketAddress address = channel.localAddress();
+        if (!(address instanceof InetSocketAddress)) {
+            return;
+        }
+        int boundPort = ((InetSocketAddress) address).getPort();
+        for (int i = 1; i < acceptLoops; i++) {
+            bootstrap.bind(bindAddress, boundPort).addListener(channelFuture -> {
+                if (!channelFuture.isSuccess()) {
+                    LOGGER.log(Level.WARNING,
+                               "Channel '" + name + "' failed to start an additional accept loop",
+                               channelFuture.cause());
+                    return;
+                }
+                Channel acceptLoop = ((ChannelFuture) channelFuture).channel();
+                LOGGER.fine(() -> "Channel '" + name + "' accept loop started: " + acceptLoop);
+                acceptLoopChannels.add(acceptLoop);
+                acceptLoop.closeFuture().addListener(future -> acceptLoopChannels.remove(acceptLoop));
+                if (!channels.containsKey(name)) {
+                    // the main channel was closed in the meantime
+                    acceptLoop.close();
+                }
+            });
+        }
+    }
+
+    private void closeAcceptLoops() {
+        for (Channel channel : acceptLoopChannels) {
+            channel.close();
+        }
+    }
+
     private void started(WebServer server) {
         if (EXIT_ON_STARTED) {
             LOGGER.info(String.format("Exiting, -D%s set.", EXIT_ON_STARTED_KEY));
@@ -404,6 +469,7 @@ class NettyWebServer implements WebServer {
         if (channels.isEmpty()) {
             channelsCloseFuture.complete(this);
         }
+        closeAcceptLoops();
         for (Channel channel : channels.values()) {
             channel.close();
         }
@@ -457,10 +523,33 @@ class NettyWebServer implements WebServer {
     }
 
     private Transport acquireTransport() {
-        Transport transport = configuration.transport().orElse(new NioTransport());
-        // (Note that an NioTransport's isAvailableFor() method will
-        // always return true when passed this.)
-        return transport.isAvailableFor(this) ? transport : new NioTransport();
+        Optional<Transport> configured = configuration.transport();
+        if (configured.isPresent()) {
+            Transport transport = configured.get();
+            // (Note that an NioTransport's isAvailableFor() method will
+            // always return true when passed this.)
+            return transport.isAvailableFor(this) ? transport : new NioTransport();
+        }
+
+        Config transportConfig = configuration.transportConfig();
+        Optional<String> type = transportConfig.get("type").asString().asOptional();
+        if (type.isPresent() && NIO_TRANSPORT.equals(type.get())) {
+            return new NioTransport();
+        }
+        for (TransportProvider provider : HelidonServiceLoader.create(ServiceLoader.load(TransportProvider.class))) {
+            String name = provider.configKey();
+            if (type.isPresent() && !type.get().equals(name)) {
+                continue;
+            }
+            Transport transport = provider.create(transportConfig.get(name));
+            if (transport.isAvailableFor(this)) {
+                LOGGER.fine(() -> "Using transport '" + name + "': " + transport);
+                return transport;
+            }
+            LOGGER.fine(() -> "Transport '" + name + "' is not available, falling back.");
+        }
+        type.ifPresent(it -> LOGGER.warning("Configured transport '" + it + "' is not available, using NIO transport."));
+        return new NioTransport();
     }
 
     private Transport transport() {
@@ -488,6 +577,25 @@ class NettyWebServer implements WebServer {
             .orElseThrow(() -> noSuchTransportArtifact("serverChannelFactory"));
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<ChannelOption<?>, Object> serverChannelOptions() {
+        return transport()
+            .createTransportArtifact(Map.class, "serverChannelOptions", configuration)
+            .map(it -> (Map<ChannelOption<?>, Object>) it)
+            .orElseGet(Map::of);
+    }
+
+    private int acceptLoops() {
+        return transport()
+            .createTransportArtifact(Integer.class, "acceptLoops", configuration)
+            .orElse(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setOption(ServerBootstrap bootstrap, ChannelOption<?> option, Object value) {
+        bootstrap.option((ChannelOption<Object>) option, value);
+    }
+
     private NoSuchElementException noSuchTransportArtifact(String name) {
         return new NoSuchElementException("The current webserver transport, "
                                           + transport() + ", could not supply "
@@ -144,7 +144,7 @@ final class PathPattern {
         }
         try {
             if (isRegexp) {
-                return new RegexpPathMatcher(regexp.toString(), paramToGroupName);
+                return new RegexpPathMatcher(regexp.toString(), paramToGroupName, pattern.toString());
             } else {
                 return new CanonicalPathMatcher(canonical.toString());
             }
@@ -302,6 +302,15 @@ final class PathPattern {
             this.pattern = pattern;
         }
 
+        /**
+         * Returns the exact pattern.
+         *
+         * @return the pattern
+         */
+        String pattern() {
+            return pattern;
+        }
+
         @Override
         public Result match(CharSequence path) {
             Objects.requireNonNull(path, "Parameter 'path' is null!");
@@ -349,17 +358,20 @@ final class PathPattern {
         private final Map<String, String> paramToGroupName;
         private final Pattern pattern;
         private final Pattern leftPattern;
+        private final String source;
 
         /**
          * Creates new instance.
          *
          * @param regexp an regular expression.
          * @param paramToGroupName a map of pattern parameter names and it's regexp matching group names.
+         * @param source a Web Server path pattern the regular expression was compiled from.
          * @throws NullPointerException  In case of {@code null} regexp parameter.
          * @throws PatternSyntaxException If the expression's syntax is invalid.
          */
-        RegexpPathMatcher(String regexp, Map<String, String> paramToGroupName) {
+        RegexpPathMatcher(String regexp, Map<String, String> paramToGroupName, String source) {
             Objects.requireNonNull(regexp, "Parameter 'pattern' is null!");
+            this.source = source;
             this.pattern = Pattern.compile(regexp);
             this.leftPattern = Pattern.compile(regexp + "(?<" + RIGHT_PART_PARAM_NAME + ">/.+)?");
             if (paramToGroupName == null) {
@@ -369,6 +381,15 @@ final class PathPattern {
             }
         }
 
+        /**
+         * Returns a Web Server path pattern this matcher was compiled from.
+         *
+         * @return the source pattern
+         */
+        String source() {
+            return source;
+        }
+
         @Override
         public Result match(CharSequence path) {
             Matcher matcher = pattern.matcher(path);
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.helidon.common.http.Parameters;
+
+/**
+ * Base of read-only request headers, all modifications throw {@link UnsupportedOperationException}.
+ * Headers are equal if they contain the same values for the same (case insensitive) names.
+ */
+abstract class ReadOnlyHeaders implements Parameters {
+
+    @Override
+    public List<String> put(String key, String... values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> put(String key, Iterable<String> values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> putIfAbsent(String key, String... values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> putIfAbsent(String key, Iterable<String> values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> computeIfAbsent(String key, Function<String, Iterable<String>> values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> computeSingleIfAbsent(String key, Function<String, String> value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Parameters parameters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(String key, String... values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(String key, Iterable<String> values) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(Parameters parameters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> remove(String key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReadOnlyHeaders)) {
+            return false;
+        }
+        return lowerCaseNames().equals(((ReadOnlyHeaders) o).lowerCaseNames());
+    }
+
+    @Override
+    public int hashCode() {
+        return lowerCaseNames().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    private Map<String, List<String>> lowerCaseNames() {
+        Map<String, List<String>> map = toMap();
+        Map<String, List<String>> result = new HashMap<>(map.size());
+        map.forEach((name, values) -> result.put(name.toLowerCase(Locale.ROOT), values));
+        return result;
+    }
+}
@@ -18,6 +18,7 @@ package io.helidon.webserver;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -72,7 +73,7 @@ class RequestRouting implements Routing {
 
         try {
             WebServer webServer = bareRequest.webServer();
-            HashRequestHeaders requestHeaders = new HashRequestHeaders(bareRequest.headers());
+            HashRequestHeaders requestHeaders = HashRequestHeaders.create(bareRequest);
             RoutedResponse response = new RoutedResponse(
                     webServer,
                     bareResponse,
@@ -121,10 +122,12 @@ class RequestRouting implements Routing {
 
     /**
      * A deep 'iterator' without a {@code hasNext()} method for a tree of {@link Route routes} based on the routing criteria.
+     * Only routes selected by {@link RouteList#candidates(String)} are tested.
      */
     private static class Crawler {
 
-        private final List<Route> routes;
+        private final RouteList routes;
+        private final BitSet candidates;
         private final Request.Path contextPath;
         private final String path;
         private final String rawPath;
@@ -142,9 +145,10 @@ class RequestRouting implements Routing {
          * @param rawPath     not decoded URI path to route.
          * @param method      an HTTP method to route.
          */
-        private Crawler(List<Route> routes, Request.Path contextPath, String path, String rawPath,
+        private Crawler(RouteList routes, Request.Path contextPath, String path, String rawPath,
                         Http.RequestMethod method) {
             this.routes = routes;
+            this.candidates = routes.candidates(path);
             this.path = path;
             this.rawPath = rawPath;
             this.contextPath = contextPath;
@@ -159,7 +163,7 @@ class RequestRouting implements Routing {
          * @param rawPath not decoded URI path to route.
          * @param method an HTTP method to route.
          */
-        Crawler(List<Route> routes, String path, String rawPath, Http.RequestMethod method) {
+        Crawler(RouteList routes, String path, String rawPath, Http.RequestMethod method) {
             this(routes, null, path, rawPath, method);
         }
 
@@ -170,7 +174,7 @@ class RequestRouting implements Routing {
          * @return a next item.
          */
         public Item next() {
-            while ((subCrawler != null) || (++index < routes.size())) {
+            while ((subCrawler != null) || nextCandidate()) {
                 if (subCrawler != null) {
                     Item result = subCrawler.next();
                     if (result != null) {
@@ -211,6 +215,16 @@ class RequestRouting implements Routing {
             return null;
         }
 
+        private boolean nextCandidate() {
+            int next = candidates.nextSetBit(index + 1);
+            if (next < 0) {
+                index = routes.size();
+                return false;
+            }
+            index = next;
+            return true;
+        }
+
         /**
          * Represents single accepted {@link HandlerRoute} with resolved {@code path parameters}.
          */
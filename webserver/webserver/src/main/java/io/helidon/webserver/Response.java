@@ -77,6 +77,7 @@ abstract class Response implements ServerResponse {
         this.sendLockSupport = new SendLockSupport();
         this.eventListener = new MessageBodyEventListener();
         this.writerContext = MessageBodyWriterContext.create(webServer.writerContext(), eventListener, headers, acceptedTypes);
+        this.writerContext.fileRegionSupport(true);
     }
 
     /**
@@ -17,6 +17,7 @@
 package io.helidon.webserver;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -35,6 +36,7 @@ class RouteList extends ArrayList<Route> implements Route {
     // must declare transient, as ArrayList is Serializable (and we are not)
     private final transient PathMatcher pathContext;
     private final transient HttpMethodPredicate methodPredicate;
+    private final transient RouteTree routeTree;
 
     /**
      * Creates new instance.
@@ -66,6 +68,7 @@ class RouteList extends ArrayList<Route> implements Route {
             this.methodPredicate = null;
         }
         this.pathContext = pathContext;
+        this.routeTree = RouteTree.create(this);
     }
 
     /**
@@ -103,6 +106,18 @@ class RouteList extends ArrayList<Route> implements Route {
         return pathContext == null ? EMPTY_PATH_MATCHER.prefixMatch(path) : pathContext.prefixMatch(path);
     }
 
+    /**
+     * Selects indexes of routes which may match provided path. Path is the remaining part after
+     * {@link #prefixMatch(CharSequence) prefix match} of this route list.
+     * Every selected route must still be matched using its own {@link PathMatcher}.
+     *
+     * @param path resolved and normalized URI path
+     * @return indexes of candidate routes in order of registration
+     */
+    BitSet candidates(String path) {
+        return routeTree.candidates(path);
+    }
+
     // ***********************************
     // ***    Make a list immutable.   ***
     // ***********************************
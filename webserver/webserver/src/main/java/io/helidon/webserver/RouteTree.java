@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix tree of {@link Route routes} keyed on URI path segments.
+ * <p>
+ * The tree is compiled once for each {@link RouteList} and used to select routes which <i>may</i> match a given path.
+ * Lookup cost grows with the depth of the path instead of with the number of routes. Selected candidates are still
+ * verified by their own {@link PathMatcher} so routing semantic (including order of {@code next()} calls) is kept.
+ * <p>
+ * Only simple path patterns are indexed - literal segments, whole segment parameters ({@code {var}}) and a trailing
+ * greedy parameter ({@code {+var}}). Routes using any other construct (optional sections, custom regular expressions,
+ * custom {@link PathMatcher} implementations) are always selected.
+ */
+final class RouteTree {
+
+    private final int size;
+    private final Node root = new Node();
+    private final BitSet alwaysSelected = new BitSet();
+
+    private RouteTree(List<Route> routes) {
+        this.size = routes.size();
+        for (int i = 0; i < size; i++) {
+            add(i, routes.get(i));
+        }
+        root.freeze();
+    }
+
+    /**
+     * Compiles a tree for provided routes.
+     *
+     * @param routes routes to index
+     * @return compiled tree
+     */
+    static RouteTree create(List<Route> routes) {
+        return new RouteTree(routes);
+    }
+
+    /**
+     * Selects indexes of routes which may match provided path.
+     *
+     * @param path resolved and normalized URI path
+     * @return indexes of candidate routes
+     */
+    BitSet candidates(String path) {
+        BitSet result = (BitSet) alwaysSelected.clone();
+        if (path.isEmpty() || path.charAt(0) != '/' || path.indexOf(';') >= 0) {
+            // not a canonical path or a path with path parameters, consider all routes
+            result.set(0, size);
+            return result;
+        }
+        collect(root, path, path.length() == 1 ? 1 : 0, result);
+        return result;
+    }
+
+    private void add(int index, Route route) {
+        List<Segment> segments = null;
+        boolean prefix = false;
+        if (route instanceof HandlerRoute) {
+            segments = segments(((HandlerRoute) route).pathMatcher());
+        } else if (route instanceof RouteList) {
+            prefix = true;
+            PathMatcher pathContext = ((RouteList) route).pathContext();
+            if (pathContext != null) {
+                segments = segments(pathContext);
+            }
+        }
+        if (segments == null) {
+            alwaysSelected.set(index);
+            return;
+        }
+        Node node = root;
+        for (Segment segment : segments) {
+            if (segment == Segment.WILDCARD) {
+                node.wildcardRoutes.add(index);
+                return;
+            }
+            node = node.child(segment);
+        }
+        if (prefix) {
+            node.prefixRoutes.add(index);
+        } else {
+            node.exactRoutes.add(index);
+        }
+    }
+
+    /**
+     * Walks the tree.
+     *
+     * @param node   current node
+     * @param path   the whole path
+     * @param start  index of the slash starting next segment, or length of the path if there are no more segments
+     * @param result collected candidates
+     */
+    private static void collect(Node node, String path, int start, BitSet result) {
+        set(node.prefix, result);
+        if (start >= path.length()) {
+            set(node.exact, result);
+            return;
+        }
+        set(node.wildcard, result);
+        int end = path.indexOf('/', start + 1);
+        if (end < 0) {
+            end = path.length();
+        }
+        if (!node.literals.isEmpty()) {
+            Node literal = node.literals.get(path.substring(start + 1, end));
+            if (literal != null) {
+                collect(literal, path, end, result);
+            }
+        }
+        if (node.parameter != null) {
+            collect(node.parameter, path, end, result);
+        }
+    }
+
+    private static void set(int[] indexes, BitSet result) {
+        for (int index : indexes) {
+            result.set(index);
+        }
+    }
+
+    private static List<Segment> segments(PathMatcher matcher) {
+        if (matcher instanceof PathPattern.CanonicalPathMatcher) {
+            return segments(((PathPattern.CanonicalPathMatcher) matcher).pattern(), false);
+        } else if (matcher instanceof PathPattern.RegexpPathMatcher) {
+            return segments(((PathPattern.RegexpPathMatcher) matcher).source(), true);
+        }
+        return null;
+    }
+
+    /**
+     * Splits a path pattern into segments.
+     *
+     * @param pattern   a pattern
+     * @param parametrized whether the pattern may contain parameters
+     * @return list of segments or {@code null} if the pattern cannot be indexed
+     */
+    static List<Segment> segments(String pattern, boolean parametrized) {
+        if (pattern.isEmpty() || pattern.charAt(0) != '/') {
+            return null;
+        }
+        List<Segment> result = new ArrayList<>();
+        if (pattern.length() == 1) {
+            return result;
+        }
+        if (parametrized && (pattern.indexOf('\\') >= 0 || pattern.indexOf('[') >= 0)) {
+            return null;
+        }
+        int start = 0;
+        while (start < pattern.length()) {
+            int end = pattern.indexOf('/', start + 1);
+            if (end < 0) {
+                end = pattern.length();
+            }
+            String segment = pattern.substring(start + 1, end);
+            if (segment.isEmpty()) {
+                return null;
+            }
+            if (parametrized && (segment.indexOf('{') >= 0 || segment.indexOf('}') >= 0)) {
+                if (segment.charAt(0) != '{'
+                        || segment.indexOf('}') != segment.length() - 1
+                        || segment.indexOf('{', 1) >= 0
+                        || segment.indexOf(':') >= 0) {
+                    // mixed or custom regular expression segment
+                    return null;
+                }
+                if (segment.length() > 2 && segment.charAt(1) == '+') {
+                    if (end != pattern.length()) {
+                        return null;
+                    }
+                    result.add(Segment.WILDCARD);
+                } else {
+                    result.add(Segment.PARAMETER);
+                }
+            } else {
+                result.add(Segment.literal(segment));
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    /**
+     * A single segment of indexed path pattern.
+     */
+    static final class Segment {
+        static final Segment PARAMETER = new Segment(null);
+        static final Segment WILDCARD = new Segment(null);
+
+        private final String literal;
+
+        private Segment(String literal) {
+            this.literal = literal;
+        }
+
+        static Segment literal(String literal) {
+            return new Segment(literal);
+        }
+
+        @Override
+        public String toString() {
+            if (this == PARAMETER) {
+                return "{}";
+            } else if (this == WILDCARD) {
+                return "{+}";
+            }
+            return literal;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Integer> exactRoutes = new ArrayList<>();
+        private final List<Integer> prefixRoutes = new ArrayList<>();
+        private final List<Integer> wildcardRoutes = new ArrayList<>();
+        private Node parameter;
+
+        private int[] exact;
+        private int[] prefix;
+        private int[] wildcard;
+
+        Node child(Segment segment) {
+            if (segment == Segment.PARAMETER) {
+                if (parameter == null) {
+                    parameter = new Node();
+                }
+                return parameter;
+            }
+            return literals.computeIfAbsent(segment.literal, it -> new Node());
+        }
+
+        void freeze() {
+            exact = toArray(exactRoutes);
+            prefix = toArray(prefixRoutes);
+            wildcard = toArray(wildcardRoutes);
+            literals.values().forEach(Node::freeze);
+            if (parameter != null) {
+                parameter.freeze();
+            }
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            int[] result = new int[list.size()];
+            Arrays.setAll(result, list::get);
+            list.clear();
+            return result;
+        }
+    }
+}
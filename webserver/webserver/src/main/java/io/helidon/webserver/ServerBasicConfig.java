@@ -26,6 +26,7 @@ import java.util.Set;
 import javax.net.ssl.SSLContext;
 
 import io.helidon.common.context.Context;
+import io.helidon.config.Config;
 
 import io.opentracing.Tracer;
 
@@ -39,6 +40,7 @@ class ServerBasicConfig implements ServerConfiguration {
     private final Map<String, SocketConfiguration> socketConfigs;
     private final ExperimentalConfiguration experimental;
     private final Optional<Transport> transport;
+    private final Config transportConfig;
     private final Context context;
     private final boolean printFeatureDetails;
 
@@ -53,6 +55,7 @@ class ServerBasicConfig implements ServerConfiguration {
         this.tracer = builder.tracer();
         this.experimental = builder.experimental();
         this.transport = builder.transport();
+        this.transportConfig = builder.transportConfig();
         this.context = builder.context();
         this.printFeatureDetails = builder.printFeatureDetails();
 
@@ -161,6 +164,11 @@ class ServerBasicConfig implements ServerConfiguration {
         return transport;
     }
 
+    @Override
+    public Config transportConfig() {
+        return transportConfig;
+    }
+
     @Override
     public Context context() {
         return context;
@@ -211,6 +211,16 @@ public interface ServerConfiguration extends SocketConfiguration {
         return Optional.ofNullable(null);
     }
 
+    /**
+     * Returns configuration of transports discovered through {@link io.helidon.webserver.spi.TransportProvider}.
+     * Used only if no {@link #transport()} is explicitly configured.
+     *
+     * @return transport configuration, empty if not configured
+     */
+    default Config transportConfig() {
+        return Config.empty();
+    }
+
     /**
      * Whether to print details of {@link io.helidon.common.HelidonFeatures}.
      *
@@ -280,6 +290,7 @@ public interface ServerConfiguration extends SocketConfiguration {
         private Tracer tracer;
         private ExperimentalConfiguration experimental;
         private Optional<Transport> transport;
+        private Config transportConfig = Config.empty();
         private Context context;
         private boolean printFeatureDetails;
 
@@ -532,6 +543,21 @@ public interface ServerConfiguration extends SocketConfiguration {
             return this;
         }
 
+        /**
+         * Configure transports discovered through {@link io.helidon.webserver.spi.TransportProvider}.
+         * Ignored if a {@link #transport(Transport)} is configured explicitly.
+         * <p>
+         * Key {@code type} selects a transport by name ({@code nio} to always use the default NIO transport),
+         * if not defined, the first available transport is used. Each transport is configured by a node named after it.
+         *
+         * @param transportConfig transport configuration
+         * @return an updated builder
+         */
+        public Builder transportConfig(Config transportConfig) {
+            this.transportConfig = Objects.requireNonNull(transportConfig);
+            return this;
+        }
+
         /**
          * Set to {@code true} to print detailed feature information on startup.
          *
@@ -589,6 +615,11 @@ public interface ServerConfiguration extends SocketConfiguration {
 
             config.get("features.print-details").asBoolean().ifPresent(this::printFeatureDetails);
 
+            Config transportConfig = config.get("transport");
+            if (transportConfig.exists()) {
+                transportConfig(transportConfig);
+            }
+
             // sockets
             Config socketsConfig = config.get("sockets");
             if (socketsConfig.exists()) {
@@ -703,6 +734,10 @@ public interface ServerConfiguration extends SocketConfiguration {
             return transport;
         }
 
+        Config transportConfig() {
+            return transportConfig;
+        }
+
         Context context() {
             return context;
         }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.spi;
+
+import io.helidon.config.Config;
+import io.helidon.webserver.Transport;
+
+/**
+ * Java service loader interface for {@link Transport} implementations.
+ * <p>
+ * Providers are ordered by {@link javax.annotation.Priority} (lower value means higher priority). Unless a transport
+ * is configured explicitly on the server builder, the web server uses the first provided transport that is
+ * {@link Transport#isAvailableFor(io.helidon.webserver.WebServer) available}, falling back to the default NIO
+ * transport.
+ */
+public interface TransportProvider {
+    /**
+     * Name of this transport. Used to select a transport using {@code transport.type} configuration key,
+     * and as the name of the configuration node of this transport under {@code transport}.
+     *
+     * @return name of this transport
+     */
+    String configKey();
+
+    /**
+     * Create a new transport instance based on configuration.
+     *
+     * @param config configuration of this transport, never null
+     * @return a new transport
+     */
+    Transport create(Config config);
+}
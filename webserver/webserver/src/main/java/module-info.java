@@ -22,6 +22,7 @@ module io.helidon.webserver {
     requires transitive io.helidon.media.common;
     requires transitive io.helidon.common.http;
     requires io.helidon.common.mapper;
+    requires io.helidon.common.serviceloader;
     requires transitive io.helidon.common.pki;
     requires transitive io.helidon.common.reactive;
     requires transitive io.helidon.common.context;
@@ -41,4 +42,7 @@ module io.helidon.webserver {
     requires io.netty.codec.http2;
 
     exports io.helidon.webserver;
+    exports io.helidon.webserver.spi;
+
+    uses io.helidon.webserver.spi.TransportProvider;
 }
@@ -53,7 +53,8 @@ public class BareResponseSubscriberTckTest extends FlowSubscriberWhiteboxVerific
                 httpRequest,
                 () -> true,
                 CompletableFuture.completedFuture(null),
-                0L) {
+                0L,
+                true) {
             @Override
             public void onSubscribe(Flow.Subscription subscription) {
                 super.onSubscribe(subscription);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,14 +48,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.hamcrest.core.StringStartsWith.startsWith;
-import static org.junit.jupiter.api.Assertions.fail;
 
 /**
  * The BytesReuseTest verifies whether the {@link DataChunk} instances get released properly.
  * <p>
- * Note that with {@link DataChunk#finalize()} which calls {@link DataChunk#release()},
- * we no longer experience {@link OutOfMemoryError} exceptions in case the chunks aren't freed
- * as long as no references to the {@link DataChunk} instances are kept.
+ * Request chunks that are not released by the application are released once the response is completed.
  */
 public class BytesReuseTest {
 
@@ -189,25 +186,9 @@ public class BytesReuseTest {
     }
 
     @Test
-    public void requestChunkDataRemainsWhenNotReleased() throws Exception {
+    public void requestChunkDataGetsReleasedOnCompletionWhenNotReleased() throws Exception {
         doSubscriberPostRequest(false);
-        for (DataChunk chunk : chunkReference) {
-            assertThat("The chunk was released: ID " + chunk.id(), chunk.isReleased(), is(false));
-        }
-        assertThat(new String(chunkReference.peek().bytes()), startsWith("myData"));
-    }
-
-    @Test
-    @Disabled("This test takes minutes before it throws OutOfMemoryError")
-    public void requestChunkDataRemainsWhenNotReleasedOutOfMemoryError() throws Exception {
-        for (int i = 0; i < 100_000; i++) {
-            try {
-                requestChunkDataRemainsWhenNotReleased();
-            } finally {
-                LOGGER.log(Level.INFO, "Iteration reached: {0}", i);
-            }
-        }
-        fail("An assertion was expected: OutOfMemoryError");
+        assertChunkReferencesAreReleased();
     }
 
     @Test
@@ -350,7 +331,7 @@ public class BytesReuseTest {
     }
 
     /**
-     * This test shows that in case that {@link ByteBufRequestChunk#finalize()} is disabled, there would
+     * This test shows that in case that {@link ByteBufRequestChunk.TrackedChunk#finalize()} is disabled, there would
      * remain unreleased {@link io.netty.buffer.ByteBuf} instances that the {@link HttpInitializer} should
      * take care of.
      *
@@ -29,11 +29,14 @@ import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.http.Parameters;
 
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
 import org.hamcrest.number.IsCloseTo;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
@@ -190,4 +193,26 @@ public class HashRequestHeadersTest {
         HashRequestHeaders hs = withHeader(Http.Header.REFERER, "http://www.google.com");
         assertThat(hs.referer().map(URI::toString).orElse(null), is("http://www.google.com"));
     }
+
+    @Test
+    public void equalsByContent() {
+        HttpHeaders nettyHeaders = new DefaultHttpHeaders()
+                .add("foo", "val1")
+                .add("FOO", "val2");
+        HashRequestHeaders hs = withHeader("Foo", "val1", "val2");
+        HashRequestHeaders fromNetty = new HashRequestHeaders(new NettyRequestHeaders(nettyHeaders));
+
+        assertThat(fromNetty, is(hs));
+        assertThat(hs, is(fromNetty));
+        assertThat(fromNetty.hashCode(), is(hs.hashCode()));
+        assertThat(hs, is(not(withHeader("Foo", "val2", "val1"))));
+        assertThat(hs.toString(), is("{Foo=[val1, val2]}"));
+    }
+
+    @Test
+    public void readOnly() {
+        HashRequestHeaders hs = withHeader("Foo", "val1");
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> hs.add("Foo", "val2"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> hs.remove("Foo"));
+    }
 }
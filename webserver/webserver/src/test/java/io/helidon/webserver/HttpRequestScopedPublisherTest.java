@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests {@link HttpRequestScopedPublisher}.
+ */
+class HttpRequestScopedPublisherTest {
+
+    @Test
+    void ownedChunksReleased() {
+        HttpRequestScopedPublisher publisher = new HttpRequestScopedPublisher();
+        ByteBuf data = Unpooled.copiedBuffer(new byte[] {1, 2, 3});
+
+        publisher.emit(data);
+        assertThat(data.refCnt(), is(2));
+        publisher.clearAndRelease();
+
+        assertThat(data.refCnt(), is(1));
+    }
+
+    @Test
+    void lateChunkReleased() {
+        HttpRequestScopedPublisher publisher = new HttpRequestScopedPublisher();
+        publisher.clearAndRelease();
+        ByteBuf late = Unpooled.copiedBuffer(new byte[] {1, 2, 3});
+
+        publisher.emit(late);
+
+        assertThat(late.refCnt(), is(1));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import io.helidon.common.http.Http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares route selection using {@link RouteTree} with a linear scan of all routes
+ * (the way routes were crawled before the tree was introduced).
+ */
+@State(Scope.Thread)
+public class RouteTreeJMH {
+
+    private static final Handler VOID_HANDLER = (req, res) -> {};
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(RouteTreeJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"10", "100", "1000"})
+    int count;
+
+    RouteList routes;
+    String path;
+
+    @Setup
+    public void setup() {
+        List<Route> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(new HandlerRoute(null,
+                                      PathPattern.compile("/service" + i + "/items/{id}"),
+                                      VOID_HANDLER,
+                                      Http.Method.GET));
+        }
+        routes = new RouteList(list);
+        // the last registered route is the worst case for a linear scan
+        path = "/service" + (count - 1) + "/items/42";
+    }
+
+    @Benchmark
+    public void linear(Blackhole bh) {
+        for (Route route : routes) {
+            if (route.accepts(Http.Method.GET)) {
+                PathMatcher.Result result = ((HandlerRoute) route).match(path);
+                if (result.matches()) {
+                    bh.consume(result.params());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void tree(Blackhole bh) {
+        BitSet candidates = routes.candidates(path);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Route route = routes.get(i);
+            if (route.accepts(Http.Method.GET)) {
+                PathMatcher.Result result = ((HandlerRoute) route).match(path);
+                if (result.matches()) {
+                    bh.consume(result.params());
+                }
+            }
+        }
+    }
+}
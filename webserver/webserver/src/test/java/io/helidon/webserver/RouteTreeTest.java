@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link RouteTree}.
+ */
+public class RouteTreeTest {
+
+    private static final Handler VOID_HANDLER = (req, res) -> {};
+
+    private static final String[] PATTERNS = {
+            "/",
+            "/foo",
+            "/foo/bar",
+            "/foo/{id}",
+            "/foo/{}/baz",
+            "/foo/{+rest}",
+            "/foo/{id:\\d+}",
+            "/foo[/bar]",
+            "/a.b/{x}",
+            "/x{id}"
+    };
+
+    private static final String[] PATHS = {
+            "/",
+            "/foo",
+            "/foo/bar",
+            "/foo/123",
+            "/foo/123/baz",
+            "/foo/bar/baz/qux",
+            "/a.b/c",
+            "/axb/c",
+            "/x1",
+            "/other",
+            "/foo;a=b/bar"
+    };
+
+    @Test
+    public void testSegments() {
+        assertThat(RouteTree.segments("/", true).size(), is(0));
+        assertThat(RouteTree.segments("/foo/{id}/{+rest}", true).toString(), is("[foo, {}, {+}]"));
+        assertThat(RouteTree.segments("/foo/{}", true).toString(), is("[foo, {}]"));
+        assertThat(RouteTree.segments("/foo/{id}", false).toString(), is("[foo, {id}]"));
+        assertThat(RouteTree.segments("/foo/{+rest}/bar", true), nullValue());
+        assertThat(RouteTree.segments("/foo/{id:\\d+}", true), nullValue());
+        assertThat(RouteTree.segments("/foo/x{id}", true), nullValue());
+        assertThat(RouteTree.segments("/foo[/bar]", true), nullValue());
+        assertThat(RouteTree.segments("/foo//bar", true), nullValue());
+        assertThat(RouteTree.segments("/foo/", false), nullValue());
+        assertThat(RouteTree.segments("foo", false), nullValue());
+    }
+
+    @Test
+    public void testHandlerRouteCandidates() {
+        List<Route> routes = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            routes.add(new HandlerRoute(null, PathPattern.compile(pattern), VOID_HANDLER));
+        }
+        RouteTree tree = RouteTree.create(routes);
+
+        assertThat(tree.candidates("/foo/bar").toString(), is("{2, 3, 5, 6, 7, 9}"));
+        assertThat(tree.candidates("/other").toString(), is("{6, 7, 9}"));
+        assertThat(tree.candidates("/").toString(), is("{0, 6, 7, 9}"));
+
+        for (String path : PATHS) {
+            BitSet candidates = tree.candidates(path);
+            for (int i = 0; i < routes.size(); i++) {
+                HandlerRoute route = (HandlerRoute) routes.get(i);
+                if (route.match(path).matches()) {
+                    assertThat("Route " + PATTERNS[i] + " matches " + path + " but was not selected",
+                               candidates.get(i),
+                               is(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRouteListCandidates() {
+        List<Route> routes = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            routes.add(new RouteList(PathPattern.compile(pattern), List.of(new HandlerRoute(null, VOID_HANDLER))));
+        }
+        routes.add(new RouteList(List.of(new HandlerRoute(null, VOID_HANDLER))));
+        RouteTree tree = RouteTree.create(routes);
+
+        assertThat(tree.candidates("/foo/bar/baz/qux").toString(), is("{0, 1, 2, 3, 4, 5, 6, 7, 9, 10}"));
+
+        for (String path : PATHS) {
+            BitSet candidates = tree.candidates(path);
+            for (int i = 0; i < routes.size(); i++) {
+                RouteList route = (RouteList) routes.get(i);
+                if (route.prefixMatch(path).matches()) {
+                    assertThat("Route list " + i + " matches " + path + " but was not selected",
+                               candidates.get(i),
+                               is(true));
+                }
+            }
+        }
+    }
+}